@@ -4,10 +4,12 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication(scanBasePackages = {"com.tracktainment.gamemanager", "com.playground"})
 @EnableJpaAuditing
 @EnableFeignClients
+@EnableScheduling
 public class GameManagerApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,55 @@
+package com.tracktainment.gamemanager.job;
+
+import com.tracktainment.gamemanager.usecases.DispatchAssetOutboxUseCase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+@Component
+@Slf4j
+public class AssetOutboxDispatchJob {
+
+    private final DispatchAssetOutboxUseCase dispatchAssetOutboxUseCase;
+    private final String authorization;
+    private final int batchSize;
+
+    public AssetOutboxDispatchJob(
+            DispatchAssetOutboxUseCase dispatchAssetOutboxUseCase,
+            @Value("${dux-manager.service-authorization:}") String authorization,
+            @Value("${asset-outbox.dispatch.batch-size:50}") int batchSize
+    ) {
+        this.dispatchAssetOutboxUseCase = dispatchAssetOutboxUseCase;
+        this.authorization = authorization;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(
+            initialDelayString = "${asset-outbox.dispatch.interval:PT10S}",
+            fixedDelayString = "${asset-outbox.dispatch.interval:PT10S}"
+    )
+    public void dispatch() {
+        // Registrations of any digital user can only be retried with a service authorization
+        if (!StringUtils.hasText(authorization)) {
+            log.debug("Asset outbox dispatch skipped as no authorization is configured.");
+            return;
+        }
+
+        // Keep going while full batches are claimed, so a backlog drains without waiting for the next run
+        DispatchAssetOutboxUseCase.Output output;
+        do {
+            output = dispatchAssetOutboxUseCase.execute(
+                    DispatchAssetOutboxUseCase.Input.builder()
+                            .jwt(authorization)
+                            .batchSize(batchSize)
+                            .build()
+            );
+
+            if (output.getDispatched() + output.getFailed() + output.getDeadLettered() > 0) {
+                log.info("Dispatched {} asset registrations ({} failed, {} dead lettered).",
+                        output.getDispatched(), output.getFailed(), output.getDeadLettered());
+            }
+        } while (output.getDispatched() + output.getFailed() + output.getDeadLettered() >= batchSize);
+    }
+}
@@ -0,0 +1,75 @@
+package com.tracktainment.gamemanager.job;
+
+import com.tracktainment.gamemanager.dataprovider.GameOwnershipDataProvider;
+import com.tracktainment.gamemanager.usecases.ReconcileOwnershipUseCase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+@Slf4j
+public class OwnershipReconciliationJob {
+
+    private final GameOwnershipDataProvider gameOwnershipDataProvider;
+    private final ReconcileOwnershipUseCase reconcileOwnershipUseCase;
+    private final String authorization;
+    private final Duration maxAge;
+    private final int batchSize;
+
+    public OwnershipReconciliationJob(
+            GameOwnershipDataProvider gameOwnershipDataProvider,
+            ReconcileOwnershipUseCase reconcileOwnershipUseCase,
+            @Value("${dux-manager.service-authorization:}") String authorization,
+            @Value("${ownership.reconciliation.max-age:1h}") Duration maxAge,
+            @Value("${ownership.reconciliation.batch-size:100}") int batchSize
+    ) {
+        this.gameOwnershipDataProvider = gameOwnershipDataProvider;
+        this.reconcileOwnershipUseCase = reconcileOwnershipUseCase;
+        this.authorization = authorization;
+        this.maxAge = maxAge;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(
+            initialDelayString = "${ownership.reconciliation.interval:PT15M}",
+            fixedDelayString = "${ownership.reconciliation.interval:PT15M}"
+    )
+    public void reconcile() {
+        // Dux Manager can only be listed on behalf of other digital users with a service authorization
+        if (!StringUtils.hasText(authorization)) {
+            log.debug("Ownership reconciliation skipped as no authorization is configured.");
+            return;
+        }
+
+        List<String> digitalUserIds = gameOwnershipDataProvider.findDigitalUserIdsReconciledBefore(
+                LocalDateTime.now().minus(maxAge),
+                batchSize
+        );
+
+        // A failure for one digital user must not prevent the others from being reconciled
+        int failed = 0;
+        for (String digitalUserId : digitalUserIds) {
+            try {
+                reconcileOwnershipUseCase.execute(
+                        ReconcileOwnershipUseCase.Input.builder()
+                                .jwt(authorization)
+                                .digitalUserId(digitalUserId)
+                                .build()
+                );
+            } catch (Exception e) {
+                failed++;
+                log.warn("Could not reconcile ownership of digital user {}. Reason: {}", digitalUserId, e.getMessage());
+            }
+        }
+
+        if (!digitalUserIds.isEmpty()) {
+            log.info("Reconciled ownership of {} digital users ({} failed).", digitalUserIds.size() - failed, failed);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package job;
+
+import com.tracktainment.gamemanager.job.AssetOutboxDispatchJob;
+import com.tracktainment.gamemanager.usecases.DispatchAssetOutboxUseCase;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AssetOutboxDispatchJobTest {
+
+    @Mock
+    private DispatchAssetOutboxUseCase dispatchAssetOutboxUseCase;
+
+    @Test
+    void shouldDispatchDueRegistrationsWithServiceAuthorization() {
+        // Arrange
+        AssetOutboxDispatchJob job = new AssetOutboxDispatchJob(dispatchAssetOutboxUseCase, "Bearer service-token", 50);
+        when(dispatchAssetOutboxUseCase.execute(any())).thenReturn(output(3, 1, 0));
+
+        // Act
+        job.dispatch();
+
+        // Assert
+        verify(dispatchAssetOutboxUseCase, times(1)).execute(
+                DispatchAssetOutboxUseCase.Input.builder()
+                        .jwt("Bearer service-token")
+                        .batchSize(50)
+                        .build()
+        );
+    }
+
+    @Test
+    void shouldKeepDispatchingWhileFullBatchesAreClaimed() {
+        // Arrange
+        AssetOutboxDispatchJob job = new AssetOutboxDispatchJob(dispatchAssetOutboxUseCase, "Bearer service-token", 2);
+        when(dispatchAssetOutboxUseCase.execute(any()))
+                .thenReturn(output(2, 0, 0))
+                .thenReturn(output(1, 0, 1))
+                .thenReturn(output(0, 0, 0));
+
+        // Act
+        job.dispatch();
+
+        // Assert
+        verify(dispatchAssetOutboxUseCase, times(3)).execute(any());
+    }
+
+    @Test
+    void shouldSkipDispatchWhenNoAuthorizationIsConfigured() {
+        // Arrange
+        AssetOutboxDispatchJob job = new AssetOutboxDispatchJob(dispatchAssetOutboxUseCase, "", 50);
+
+        // Act
+        job.dispatch();
+
+        // Assert
+        verifyNoInteractions(dispatchAssetOutboxUseCase);
+    }
+
+    private DispatchAssetOutboxUseCase.Output output(int dispatched, int failed, int deadLettered) {
+        return DispatchAssetOutboxUseCase.Output.builder()
+                .dispatched(dispatched)
+                .failed(failed)
+                .deadLettered(deadLettered)
+                .build();
+    }
+}
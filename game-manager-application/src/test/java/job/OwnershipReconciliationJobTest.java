@@ -0,0 +1,91 @@
+package job;
+
+import com.tracktainment.gamemanager.dataprovider.GameOwnershipDataProvider;
+import com.tracktainment.gamemanager.job.OwnershipReconciliationJob;
+import com.tracktainment.gamemanager.usecases.ReconcileOwnershipUseCase;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OwnershipReconciliationJobTest {
+
+    @Mock
+    private GameOwnershipDataProvider gameOwnershipDataProvider;
+
+    @Mock
+    private ReconcileOwnershipUseCase reconcileOwnershipUseCase;
+
+    @Test
+    void shouldReconcileStaleDigitalUsers() {
+        // Arrange
+        String digitalUserId1 = UUID.randomUUID().toString();
+        String digitalUserId2 = UUID.randomUUID().toString();
+        OwnershipReconciliationJob job = createJob("Bearer service-token");
+        when(gameOwnershipDataProvider.findDigitalUserIdsReconciledBefore(any(LocalDateTime.class), eq(100)))
+                .thenReturn(List.of(digitalUserId1, digitalUserId2));
+
+        // Act
+        job.reconcile();
+
+        // Assert
+        verify(reconcileOwnershipUseCase).execute(reconcileInput(digitalUserId1));
+        verify(reconcileOwnershipUseCase).execute(reconcileInput(digitalUserId2));
+    }
+
+    @Test
+    void shouldKeepReconcilingWhenOneDigitalUserFails() {
+        // Arrange
+        String digitalUserId1 = UUID.randomUUID().toString();
+        String digitalUserId2 = UUID.randomUUID().toString();
+        OwnershipReconciliationJob job = createJob("Bearer service-token");
+        when(gameOwnershipDataProvider.findDigitalUserIdsReconciledBefore(any(LocalDateTime.class), eq(100)))
+                .thenReturn(List.of(digitalUserId1, digitalUserId2));
+        doThrow(new RuntimeException("API connection error"))
+                .when(reconcileOwnershipUseCase).execute(reconcileInput(digitalUserId1));
+
+        // Act
+        job.reconcile();
+
+        // Assert
+        verify(reconcileOwnershipUseCase).execute(reconcileInput(digitalUserId2));
+    }
+
+    @Test
+    void shouldSkipReconciliationWithoutAuthorization() {
+        // Arrange
+        OwnershipReconciliationJob job = createJob("");
+
+        // Act
+        job.reconcile();
+
+        // Assert
+        verifyNoInteractions(gameOwnershipDataProvider, reconcileOwnershipUseCase);
+    }
+
+    private OwnershipReconciliationJob createJob(String authorization) {
+        return new OwnershipReconciliationJob(
+                gameOwnershipDataProvider,
+                reconcileOwnershipUseCase,
+                authorization,
+                Duration.ofHours(1),
+                100
+        );
+    }
+
+    private ReconcileOwnershipUseCase.Input reconcileInput(String digitalUserId) {
+        return ReconcileOwnershipUseCase.Input.builder()
+                .jwt("Bearer service-token")
+                .digitalUserId(digitalUserId)
+                .build();
+    }
+}
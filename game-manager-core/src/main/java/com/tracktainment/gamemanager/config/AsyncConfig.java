@@ -0,0 +1,115 @@
+package com.tracktainment.gamemanager.config;
+
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    /* Dispatches asset registrations right after a game is created. Work rejected when the queue is full is not lost,
+    it stays in the outbox for the scheduled dispatcher
+     */
+    @Bean("assetOutboxExecutor")
+    public ThreadPoolTaskExecutor assetOutboxExecutor(
+            @Value("${asset-outbox.executor.core-size:2}") int coreSize,
+            @Value("${asset-outbox.executor.max-size:4}") int maxSize,
+            @Value("${asset-outbox.executor.queue-capacity:1000}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("asset-outbox-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.setTaskDecorator(mdcTaskDecorator());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    /* Runs the Dux Manager ownership check of a request while the request thread reads the game, unless the Dux Manager
+    client is non-blocking. When saturated the check runs on the request thread, which falls back to issuing both calls
+    sequentially
+     */
+    @Bean("ownershipCheckExecutor")
+    public ThreadPoolTaskExecutor ownershipCheckExecutor(
+            @Value("${ownership.check.executor.core-size:8}") int coreSize,
+            @Value("${ownership.check.executor.max-size:32}") int maxSize,
+            @Value("${ownership.check.executor.queue-capacity:100}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("ownership-check-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(mdcTaskDecorator());
+        return executor;
+    }
+
+    /* Sends the hedged Dux Manager lookups, both the first call and its hedge. It does not queue, a lookup refused
+    when saturated is made on the request thread without hedging
+     */
+    @Bean("duxManagerHedgingExecutor")
+    public ThreadPoolTaskExecutor duxManagerHedgingExecutor(
+            @Value("${dux-manager.hedging.executor.core-size:16}") int coreSize,
+            @Value("${dux-manager.hedging.executor.max-size:64}") int maxSize
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("dux-manager-hedging-");
+        executor.setTaskDecorator(mdcTaskDecorator());
+        return executor;
+    }
+
+    /* Streams the games:export responses. Every export holds a database connection while it streams, so they are
+    bounded by the pool size and queued beyond it
+     */
+    @Bean("gameExportExecutor")
+    public ThreadPoolTaskExecutor gameExportExecutor(
+            @Value("${game-export.executor.size:4}") int size,
+            @Value("${game-export.executor.queue-capacity:100}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(size);
+        executor.setMaxPoolSize(size);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("game-export-");
+        executor.setTaskDecorator(mdcTaskDecorator());
+        return executor;
+    }
+
+    // Keeps the transaction and trace ids of the originating request in the logs of the asynchronous work
+    private TaskDecorator mdcTaskDecorator() {
+        return runnable -> {
+            Map<String, String> contextMap = MDC.getCopyOfContextMap();
+            return () -> {
+                Map<String, String> previousContextMap = MDC.getCopyOfContextMap();
+                if (contextMap != null) {
+                    MDC.setContextMap(contextMap);
+                } else {
+                    MDC.clear();
+                }
+
+                try {
+                    runnable.run();
+                } finally {
+                    if (previousContextMap != null) {
+                        MDC.setContextMap(previousContextMap);
+                    } else {
+                        MDC.clear();
+                    }
+                }
+            };
+        };
+    }
+}
@@ -0,0 +1,19 @@
+package com.tracktainment.gamemanager.dataprovider;
+
+import com.tracktainment.gamemanager.domain.AssetOutboxEntry;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface AssetOutboxDataProvider {
+
+    List<AssetOutboxEntry> claimDue(String digitalUserId, int limit, Duration lease);
+
+    // False when the entry was already gone, i.e. its game was deleted while the asset was being registered
+    boolean markDispatched(Long id);
+
+    void markFailed(Long id, int attempts, LocalDateTime nextAttemptAt, String error);
+
+    void markDeadLetter(Long id, int attempts, String error);
+}
@@ -2,9 +2,18 @@ package com.tracktainment.gamemanager.dataprovider;
 
 import com.tracktainment.gamemanager.dto.duxmanager.request.AssetRequest;
 import com.tracktainment.gamemanager.dto.duxmanager.response.AssetResponse;
+import com.tracktainment.gamemanager.util.UuidSet;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
 
 public interface DuxManagerDataProvider {
 
@@ -26,9 +35,123 @@ public interface DuxManagerDataProvider {
             LocalDate to
     );
 
+    /* External ids of the assets found, for the callers needing nothing else (i.e. restricting a listing to the owned
+    games). Implementations may read them straight from the Dux Manager answer without building the assets
+     */
+    default Set<UUID> findAssetExternalIdsByCriteria(
+            String jwt,
+            String digitalUserId,
+            String externalIds,
+            String groupId,
+            String artifactId,
+            String type,
+            LocalDate createdAt,
+            LocalDate from,
+            LocalDate to
+    ) {
+        List<AssetResponse> assetResponseList = findAssetsByCriteria(
+                jwt, digitalUserId, externalIds, groupId, artifactId, type, createdAt, from, to
+        );
+        if (assetResponseList == null) {
+            return new UuidSet();
+        }
+
+        UuidSet assetExternalIds = new UuidSet(assetResponseList.size());
+        assetResponseList.stream()
+                .map(AssetResponse::getExternalId)
+                .filter(Objects::nonNull)
+                .forEach(assetExternalIds::add);
+        return assetExternalIds;
+    }
+
     void deleteAsset(
             String jwt,
             String digitalUserId,
-            String externalId
+            UUID externalId
     );
+
+    /* The variants below return before Dux Manager answered. Implementations on a blocking client make the call on the
+    given executor, those on a non-blocking client ignore it and hold no thread while waiting
+     */
+    default CompletableFuture<AssetResponse> createAssetAsync(
+            String jwt,
+            String digitalUserId,
+            AssetRequest assetRequest,
+            Executor executor
+    ) {
+        return submit(
+                () -> createAsset(jwt, digitalUserId, assetRequest),
+                executor
+        );
+    }
+
+    default CompletableFuture<List<AssetResponse>> findAssetsByCriteriaAsync(
+            String jwt,
+            String digitalUserId,
+            String externalIds,
+            String groupId,
+            String artifactId,
+            String type,
+            LocalDate createdAt,
+            LocalDate from,
+            LocalDate to,
+            Executor executor
+    ) {
+        return submit(
+                () -> findAssetsByCriteria(
+                        jwt, digitalUserId, externalIds, groupId, artifactId, type, createdAt, from, to
+                ),
+                executor
+        );
+    }
+
+    default CompletableFuture<Void> deleteAssetAsync(
+            String jwt,
+            String digitalUserId,
+            UUID externalId,
+            Executor executor
+    ) {
+        return submit(
+                () -> {
+                    deleteAsset(jwt, digitalUserId, externalId);
+                    return null;
+                },
+                executor
+        );
+    }
+
+    /* Runs the call on the executor. Unlike CompletableFuture.supplyAsync, cancelling the returned future cancels the
+    task: a call still queued never runs and a running one is interrupted (which a blocking HTTP client only notices
+    between reads, so a call already waiting for its answer still ends at its read timeout)
+     */
+    private static <T> CompletableFuture<T> submit(Callable<T> call, Executor executor) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        FutureTask<T> task = new FutureTask<>(call) {
+
+            @Override
+            protected void done() {
+                if (isCancelled()) {
+                    return;
+                }
+
+                try {
+                    result.complete(get());
+                } catch (ExecutionException e) {
+                    result.completeExceptionally(e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    result.completeExceptionally(e);
+                }
+            }
+        };
+
+        result.whenComplete((value, failure) -> {
+            if (result.isCancelled()) {
+                task.cancel(true);
+            }
+        });
+
+        executor.execute(task);
+        return result;
+    }
 }
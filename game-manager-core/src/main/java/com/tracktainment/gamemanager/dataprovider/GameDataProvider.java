@@ -1,21 +1,32 @@
 package com.tracktainment.gamemanager.dataprovider;
 
 import com.tracktainment.gamemanager.domain.Game;
+import com.tracktainment.gamemanager.domain.GamePage;
 import com.tracktainment.gamemanager.dto.GameCreate;
 import com.tracktainment.gamemanager.dto.GameUpdate;
 import com.tracktainment.gamemanager.usecases.ListByCriteriaUseCase;
 
 import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface GameDataProvider {
 
-    Game create(GameCreate gameCreate);
+    Game create(GameCreate gameCreate, String digitalUserId);
 
-    Game findById(String id);
+    List<Game> createMany(List<GameCreate> gameCreates, String digitalUserId);
 
-    List<Game> listByCriteria(ListByCriteriaUseCase.Input input);
+    Game findById(UUID id);
 
-    Game update(String id, GameUpdate gameUpdate);
+    Game findByIdAndDigitalUserId(UUID id, String digitalUserId);
 
-    void delete(String id);
+    GamePage listByCriteria(ListByCriteriaUseCase.Input input);
+
+    void exportByCriteria(ListByCriteriaUseCase.Input input, Consumer<Game> gameConsumer);
+
+    Game update(UUID id, GameUpdate gameUpdate);
+
+    Game updateByIdAndDigitalUserId(UUID id, String digitalUserId, GameUpdate gameUpdate);
+
+    void delete(UUID id, String digitalUserId, boolean assetDeleted);
 }
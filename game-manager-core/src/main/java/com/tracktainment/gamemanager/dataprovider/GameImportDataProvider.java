@@ -0,0 +1,11 @@
+package com.tracktainment.gamemanager.dataprovider;
+
+import com.tracktainment.gamemanager.domain.GameImport;
+
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+public interface GameImportDataProvider {
+
+    GameImport importGames(GameImport gameImport, InputStream content, Consumer<GameImport> progressListener);
+}
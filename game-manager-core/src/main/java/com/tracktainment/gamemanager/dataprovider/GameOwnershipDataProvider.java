@@ -0,0 +1,15 @@
+package com.tracktainment.gamemanager.dataprovider;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+public interface GameOwnershipDataProvider {
+
+    boolean isReconciled(String digitalUserId);
+
+    List<String> findDigitalUserIdsReconciledBefore(LocalDateTime reconciledBefore, int limit);
+
+    void reconcile(String digitalUserId, Set<UUID> gameIds, LocalDateTime reconciliationStartedAt);
+}
@@ -0,0 +1,25 @@
+package com.tracktainment.gamemanager.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class AssetOutboxEntry {
+
+    private Long id;
+    private UUID gameId;
+    private String digitalUserId;
+    private AssetOutboxStatus status;
+    private int attempts;
+    private LocalDateTime nextAttemptAt;
+    private String lastError;
+    private LocalDateTime createdAt;
+}
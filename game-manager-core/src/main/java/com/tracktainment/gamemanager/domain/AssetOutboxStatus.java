@@ -0,0 +1,6 @@
+package com.tracktainment.gamemanager.domain;
+
+public enum AssetOutboxStatus {
+    PENDING,
+    DEAD_LETTER
+}
@@ -9,6 +9,7 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 @AllArgsConstructor
 @NoArgsConstructor
@@ -19,7 +20,7 @@ import java.time.LocalDateTime;
 public class Game {
 
     @Schema(description = "Unique identifier of the game", example = "123e4567-e89b-12d3-a456-426614174000")
-    private String id;
+    private UUID id;
 
     @Schema(description = "Title of the game", example = "The Last of Us Part II")
     private String title;
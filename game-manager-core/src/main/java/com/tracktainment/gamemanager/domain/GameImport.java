@@ -0,0 +1,56 @@
+package com.tracktainment.gamemanager.domain;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder(toBuilder = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Progress of a bulk import of games")
+public class GameImport {
+
+    @Schema(description = "Unique identifier of the import", example = "123e4567-e89b-12d3-a456-426614174000")
+    private String id;
+
+    @Schema(description = "Digital user owning the imported games", example = "123e4567-e89b-12d3-a456-426614174001")
+    private String digitalUserId;
+
+    @Schema(description = "Format of the imported file", example = "NDJSON")
+    private GameImportFormat format;
+
+    @Schema(description = "Status of the import", example = "COMPLETED")
+    private GameImportStatus status;
+
+    @Schema(description = "Number of records read so far", example = "1000000")
+    private long read;
+
+    @Schema(description = "Number of games created so far", example = "999000")
+    private long imported;
+
+    @Schema(description = "Number of valid records skipped because their title already exists", example = "900")
+    private long skipped;
+
+    @Schema(description = "Number of invalid records", example = "100")
+    private long rejected;
+
+    @Schema(description = "Reasons of the first rejected records")
+    private List<String> rejections;
+
+    @Schema(description = "Reason of the failure of the import")
+    private String error;
+
+    @Schema(description = "Import start timestamp", example = "2023-04-15T14:30:45")
+    private LocalDateTime startedAt;
+
+    @Schema(description = "Import end timestamp", example = "2023-04-15T14:31:45")
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,21 @@
+package com.tracktainment.gamemanager.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+@RequiredArgsConstructor
+@Getter
+@ToString
+@Schema(description = "Formats of the game import files")
+public enum GameImportFormat {
+
+    @Schema(description = "One JSON game per line")
+    NDJSON("application/x-ndjson"),
+
+    @Schema(description = "Comma separated games, with a header line naming the columns")
+    CSV("text/csv");
+
+    private final String mediaType;
+}
@@ -0,0 +1,7 @@
+package com.tracktainment.gamemanager.domain;
+
+public enum GameImportStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,20 @@
+package com.tracktainment.gamemanager.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class GamePage {
+
+    private List<Game> games;
+
+    // Opaque keyset cursor pointing after the last game of the page. Null when there are no more games
+    private String nextCursor;
+}
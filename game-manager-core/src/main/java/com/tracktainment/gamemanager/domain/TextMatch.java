@@ -0,0 +1,24 @@
+package com.tracktainment.gamemanager.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+@RequiredArgsConstructor
+@Getter
+@ToString
+@Schema(description = "Text filter matching options")
+public enum TextMatch {
+
+    @Schema(description = "Match values containing the filter")
+    CONTAINS("contains"),
+
+    @Schema(description = "Match values starting with the filter")
+    PREFIX("prefix"),
+
+    @Schema(description = "Match values equal to the filter")
+    EXACT("exact");
+
+    private final String value;
+}
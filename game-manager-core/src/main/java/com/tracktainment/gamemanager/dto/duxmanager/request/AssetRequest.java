@@ -4,6 +4,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 
+import java.util.UUID;
+
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
@@ -13,7 +15,7 @@ import lombok.*;
 public class AssetRequest {
 
     @Schema(description = "External ID from the source system", example = "123e4567-e89b-12d3-a456-426614174000")
-    private String externalId;
+    private UUID externalId;
 
     @Schema(description = "Type of asset", example = "game")
     private String type;
@@ -5,6 +5,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 @NoArgsConstructor
 @AllArgsConstructor
@@ -24,7 +25,7 @@ public class AssetResponse {
     private LocalDateTime updatedAt;
 
     @Schema(description = "External ID from the source system", example = "123e4567-e89b-12d3-a456-426614174000")
-    private String externalId;
+    private UUID externalId;
 
     @Schema(description = "Type of asset", example = "game")
     private String type;
@@ -16,7 +16,8 @@ public enum ExceptionCode {
     CLIENT_NOT_AUTHENTICATED("E-004", HttpStatus.UNAUTHORIZED.value(), "Client not authenticated."),
     CLIENT_NOT_AUTHORIZED("E-005", HttpStatus.FORBIDDEN.value(), "Client not authorized."),
     CONFIGURATION_ERROR("E-006", HttpStatus.INTERNAL_SERVER_ERROR.value(), "Configuration error."),
-    PARAMETER_VALIDATION_ERROR("E-007", HttpStatus.BAD_REQUEST.value(), "Parameter validation error.");
+    PARAMETER_VALIDATION_ERROR("E-007", HttpStatus.BAD_REQUEST.value(), "Parameter validation error."),
+    SERVICE_UNAVAILABLE("E-008", HttpStatus.SERVICE_UNAVAILABLE.value(), "Service unavailable.");
 
     private final String code;
     private final int httpStatusCode;
@@ -0,0 +1,11 @@
+package com.tracktainment.gamemanager.exception;
+
+public class ServiceUnavailableException extends BusinessException {
+
+    public ServiceUnavailableException(String message) {
+        super(
+                ExceptionCode.SERVICE_UNAVAILABLE,
+                message
+        );
+    }
+}
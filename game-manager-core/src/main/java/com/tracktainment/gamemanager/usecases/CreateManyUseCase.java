@@ -0,0 +1,83 @@
+package com.tracktainment.gamemanager.usecases;
+
+import com.tracktainment.gamemanager.dataprovider.GameDataProvider;
+import com.tracktainment.gamemanager.domain.Game;
+import com.tracktainment.gamemanager.dto.GameCreate;
+import com.tracktainment.gamemanager.security.context.DigitalUser;
+import com.tracktainment.gamemanager.security.util.SecurityUtil;
+import lombok.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CreateManyUseCase {
+
+    private final GameDataProvider gameDataProvider;
+    private final SecurityUtil securityUtil;
+    private final DispatchAssetOutboxUseCase dispatchAssetOutboxUseCase;
+
+    @Qualifier("assetOutboxExecutor")
+    private final TaskExecutor assetOutboxExecutor;
+
+    @Value("${asset-outbox.dispatch.batch-size:50}")
+    private int dispatchBatchSize;
+
+    public Output execute(Input input) {
+        // Get digital user from jwt
+        DigitalUser digitalUser = securityUtil.getDigitalUser();
+
+        /* Create all games at once. Either every game is created, along with its ownership and the registration of its
+        asset in dux-manager, or none is
+         */
+        List<Game> games = gameDataProvider.createMany(input.getGameCreates(), digitalUser.getId());
+
+        /* Dux-manager registers one asset per request, so the registrations are split into batches that are claimed
+        and dispatched concurrently. Anything not registered here is retried by the scheduled dispatcher
+         */
+        DispatchAssetOutboxUseCase.Input dispatchInput = DispatchAssetOutboxUseCase.Input.builder()
+                .jwt(input.getJwt())
+                .digitalUserId(digitalUser.getId())
+                .batchSize(dispatchBatchSize)
+                .build();
+
+        int batches = (games.size() + dispatchBatchSize - 1) / dispatchBatchSize;
+        for (int i=0; i<batches; i++) {
+            assetOutboxExecutor.execute(() -> {
+                try {
+                    dispatchAssetOutboxUseCase.execute(dispatchInput);
+                } catch (Exception e) {
+                    log.warn("Could not dispatch asset registrations of digital user {}. Reason: {}",
+                            digitalUser.getId(), e.getMessage());
+                }
+            });
+        }
+
+        return Output.builder()
+                .games(games)
+                .build();
+    }
+
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Data
+    @Builder
+    public static class Input {
+        private String jwt;
+        private List<GameCreate> gameCreates;
+    }
+
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Data
+    @Builder
+    public static class Output {
+        private List<Game> games;
+    }
+}
@@ -1,14 +1,15 @@
 package com.tracktainment.gamemanager.usecases;
 
-import com.tracktainment.gamemanager.dataprovider.DuxManagerDataProvider;
 import com.tracktainment.gamemanager.dataprovider.GameDataProvider;
 import com.tracktainment.gamemanager.domain.Game;
 import com.tracktainment.gamemanager.dto.GameCreate;
-import com.tracktainment.gamemanager.mapper.AssetMapper;
 import com.tracktainment.gamemanager.security.context.DigitalUser;
 import com.tracktainment.gamemanager.security.util.SecurityUtil;
 import lombok.*;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -17,29 +18,41 @@ import org.springframework.stereotype.Service;
 public class CreateUseCase {
 
     private final GameDataProvider gameDataProvider;
-    private final DuxManagerDataProvider duxManagerDataProvider;
     private final SecurityUtil securityUtil;
+    private final DispatchAssetOutboxUseCase dispatchAssetOutboxUseCase;
+
+    @Qualifier("assetOutboxExecutor")
+    private final TaskExecutor assetOutboxExecutor;
+
+    @Value("${asset-outbox.dispatch.batch-size:50}")
+    private int dispatchBatchSize;
 
     public Output execute(Input input) {
-        // Create game
-        Game game = gameDataProvider.create(input.getGameCreate());
+        // Get digital user from jwt
+        DigitalUser digitalUser = securityUtil.getDigitalUser();
 
-        // Get digital user from jwt and create game asset in dux-manager
-        try {
-            DigitalUser digitalUser = securityUtil.getDigitalUser();
+        /* Create game. Its ownership and the registration of the game asset in dux-manager are recorded in the same
+        transaction, so the request does not depend on dux-manager being available
+         */
+        Game game = gameDataProvider.create(input.getGameCreate(), digitalUser.getId());
 
-            duxManagerDataProvider.createAsset(
-                    input.getJwt(),
-                    digitalUser.getId(),
-                    AssetMapper.toAssetRequest(game)
-            );
+        /* Register the asset in dux-manager right away on behalf of the digital user, without holding the request.
+        Anything not registered here is retried by the scheduled dispatcher
+         */
+        DispatchAssetOutboxUseCase.Input dispatchInput = DispatchAssetOutboxUseCase.Input.builder()
+                .jwt(input.getJwt())
+                .digitalUserId(digitalUser.getId())
+                .batchSize(dispatchBatchSize)
+                .build();
 
-        // If asset cannot be created on dux-manager then rollback create game
-        } catch (Exception e) {
-            log.error("Could not create game in Dux Manager. Reason: {}", e.getMessage());
-            gameDataProvider.delete(game.getId()); // Rollback save operation if it is not possible to save asset
-            throw e;
-        }
+        assetOutboxExecutor.execute(() -> {
+            try {
+                dispatchAssetOutboxUseCase.execute(dispatchInput);
+            } catch (Exception e) {
+                log.warn("Could not dispatch asset registrations of digital user {}. Reason: {}",
+                        digitalUser.getId(), e.getMessage());
+            }
+        });
 
         return Output.builder()
                 .game(game)
@@ -2,13 +2,20 @@ package com.tracktainment.gamemanager.usecases;
 
 import com.tracktainment.gamemanager.dataprovider.DuxManagerDataProvider;
 import com.tracktainment.gamemanager.dataprovider.GameDataProvider;
+import com.tracktainment.gamemanager.domain.Game;
+import com.tracktainment.gamemanager.exception.ResourceNotFoundException;
+import com.tracktainment.gamemanager.mapper.AssetMapper;
 import com.tracktainment.gamemanager.security.context.DigitalUser;
 import com.tracktainment.gamemanager.security.util.SecurityUtil;
 import lombok.*;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.UUID;
+
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class DeleteUseCase {
 
     private final GameDataProvider gameDataProvider;
@@ -19,17 +26,46 @@ public class DeleteUseCase {
         // Get digital user from jwt
         DigitalUser digitalUser = securityUtil.getDigitalUser();
 
-        // Delete the asset from dux-manager
-        duxManagerDataProvider.deleteAsset(
-                input.getJwt(),
-                digitalUser.getId(),
-                input.getId()
-        );
+        /* Delete the asset from dux-manager first, as it decides whether the digital user owns the game. An asset that
+        is not found may still be queued for registration, which is checked when deleting the game
+         */
+        boolean assetDeleted = deleteAsset(input.getJwt(), digitalUser.getId(), input.getId());
+
+        // Delete the game together with its ownership and outbox entries
+        try {
+            gameDataProvider.delete(input.getId(), digitalUser.getId(), assetDeleted);
+        } catch (ResourceNotFoundException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            // The game is still there, so the digital user must keep owning it
+            if (assetDeleted) {
+                restoreAsset(input.getJwt(), digitalUser.getId(), input.getId());
+            }
 
-        // TODO: Should there not be a condition to verify if asset was deleted? Like checking the HTTP status code?
+            throw e;
+        }
+    }
+
+    private boolean deleteAsset(String jwt, String digitalUserId, UUID gameId) {
+        try {
+            duxManagerDataProvider.deleteAsset(jwt, digitalUserId, gameId);
+            return true;
+        } catch (ResourceNotFoundException e) {
+            return false;
+        }
+    }
 
-        // Delete the game
-        gameDataProvider.delete(input.getId());
+    private void restoreAsset(String jwt, String digitalUserId, UUID gameId) {
+        try {
+            duxManagerDataProvider.createAsset(
+                    jwt,
+                    digitalUserId,
+                    AssetMapper.toAssetRequest(Game.builder().id(gameId).build())
+            );
+        } catch (RuntimeException e) {
+            log.error("Could not restore asset of game {} owned by digital user {} after its deletion failed.",
+                    gameId, digitalUserId, e);
+        }
     }
 
     @AllArgsConstructor
@@ -38,6 +74,6 @@ public class DeleteUseCase {
     @Builder
     public static class Input {
         private String jwt;
-        private String id;
+        private UUID id;
     }
 }
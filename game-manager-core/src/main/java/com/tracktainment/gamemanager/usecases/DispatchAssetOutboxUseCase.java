@@ -0,0 +1,156 @@
+package com.tracktainment.gamemanager.usecases;
+
+import com.tracktainment.gamemanager.dataprovider.AssetOutboxDataProvider;
+import com.tracktainment.gamemanager.dataprovider.DuxManagerDataProvider;
+import com.tracktainment.gamemanager.domain.AssetOutboxEntry;
+import com.tracktainment.gamemanager.domain.Game;
+import com.tracktainment.gamemanager.exception.ResourceAlreadyExistsException;
+import com.tracktainment.gamemanager.exception.ResourceNotFoundException;
+import com.tracktainment.gamemanager.mapper.AssetMapper;
+import lombok.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DispatchAssetOutboxUseCase {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final AssetOutboxDataProvider assetOutboxDataProvider;
+    private final DuxManagerDataProvider duxManagerDataProvider;
+
+    @Value("${asset-outbox.dispatch.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${asset-outbox.dispatch.initial-backoff:5s}")
+    private Duration initialBackoff;
+
+    @Value("${asset-outbox.dispatch.max-backoff:15m}")
+    private Duration maxBackoff;
+
+    // How long claimed entries are hidden from other dispatchers while being registered
+    @Value("${asset-outbox.dispatch.lease:1m}")
+    private Duration lease;
+
+    public Output execute(Input input) {
+        // Claim the registrations that are due, optionally only those of a given digital user
+        List<AssetOutboxEntry> assetOutboxEntries = assetOutboxDataProvider.claimDue(
+                input.getDigitalUserId(),
+                input.getBatchSize(),
+                lease
+        );
+
+        int dispatched = 0;
+        int failed = 0;
+        int deadLettered = 0;
+        for (AssetOutboxEntry assetOutboxEntry : assetOutboxEntries) {
+            try {
+                duxManagerDataProvider.createAsset(
+                        input.getJwt(),
+                        assetOutboxEntry.getDigitalUserId(),
+                        AssetMapper.toAssetRequest(Game.builder().id(assetOutboxEntry.getGameId()).build())
+                );
+
+                markDispatched(input.getJwt(), assetOutboxEntry);
+                dispatched++;
+
+            // A previous attempt may have registered the asset without the response making it back
+            } catch (ResourceAlreadyExistsException e) {
+                markDispatched(input.getJwt(), assetOutboxEntry);
+                dispatched++;
+
+            } catch (Exception e) {
+                if (handleFailure(assetOutboxEntry, e)) {
+                    deadLettered++;
+                } else {
+                    failed++;
+                }
+            }
+        }
+
+        return Output.builder()
+                .dispatched(dispatched)
+                .failed(failed)
+                .deadLettered(deadLettered)
+                .build();
+    }
+
+    /* Removes the entry once its asset is registered. The entry is already gone when the game was deleted while the
+    asset was being registered (the lease does not lock it), in which case the asset is deleted again so that it does
+    not outlive the game
+     */
+    private void markDispatched(String jwt, AssetOutboxEntry assetOutboxEntry) {
+        if (assetOutboxDataProvider.markDispatched(assetOutboxEntry.getId())) {
+            return;
+        }
+
+        log.info("Game {} was deleted while its asset was being registered, deleting the asset of digital user {}.",
+                assetOutboxEntry.getGameId(), assetOutboxEntry.getDigitalUserId());
+        try {
+            duxManagerDataProvider.deleteAsset(jwt, assetOutboxEntry.getDigitalUserId(), assetOutboxEntry.getGameId());
+        } catch (ResourceNotFoundException e) {
+            // Already deleted, i.e. by the delete itself once the registration went through
+        } catch (RuntimeException e) {
+            // There is no entry left to retry from
+            log.error("Could not delete asset of deleted game {} owned by digital user {}, delete it manually.",
+                    assetOutboxEntry.getGameId(), assetOutboxEntry.getDigitalUserId(), e);
+        }
+    }
+
+    // Schedules a retry with backoff, or moves the entry to dead letter once attempts are exhausted
+    private boolean handleFailure(AssetOutboxEntry assetOutboxEntry, Exception e) {
+        int attempts = assetOutboxEntry.getAttempts() + 1;
+        String error = truncate(e.getClass().getSimpleName() + ": " + e.getMessage());
+
+        if (attempts >= maxAttempts) {
+            log.error("Could not register game {} in Dux Manager after {} attempts, moving it to dead letter. Reason: {}",
+                    assetOutboxEntry.getGameId(), attempts, e.getMessage());
+            assetOutboxDataProvider.markDeadLetter(assetOutboxEntry.getId(), attempts, error);
+            return true;
+        }
+
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plus(backoff(attempts));
+        log.warn("Could not register game {} in Dux Manager (attempt {}), retrying at {}. Reason: {}",
+                assetOutboxEntry.getGameId(), attempts, nextAttemptAt, e.getMessage());
+        assetOutboxDataProvider.markFailed(assetOutboxEntry.getId(), attempts, nextAttemptAt, error);
+        return false;
+    }
+
+    // Exponential backoff: initial, 2 x initial, 4 x initial, ... capped at the maximum
+    private Duration backoff(int attempts) {
+        int exponent = Math.min(attempts - 1, 30);
+        Duration backoff = initialBackoff.multipliedBy(1L << exponent);
+        return backoff.compareTo(maxBackoff) > 0 || backoff.isNegative() ? maxBackoff : backoff;
+    }
+
+    private String truncate(String error) {
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Data
+    @Builder
+    public static class Input {
+        private String jwt;
+        private String digitalUserId;
+        private int batchSize;
+    }
+
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Data
+    @Builder
+    public static class Output {
+        private int dispatched;
+        private int failed;
+        private int deadLettered;
+    }
+}
@@ -0,0 +1,80 @@
+package com.tracktainment.gamemanager.usecases;
+
+import com.tracktainment.gamemanager.dataprovider.DuxManagerDataProvider;
+import com.tracktainment.gamemanager.dataprovider.GameDataProvider;
+import com.tracktainment.gamemanager.dataprovider.GameOwnershipDataProvider;
+import com.tracktainment.gamemanager.domain.Game;
+import com.tracktainment.gamemanager.security.context.DigitalUser;
+import com.tracktainment.gamemanager.security.util.SecurityUtil;
+import lombok.*;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+@Service
+@RequiredArgsConstructor
+public class ExportUseCase {
+
+    private final GameDataProvider gameDataProvider;
+    private final DuxManagerDataProvider duxManagerDataProvider;
+    private final SecurityUtil securityUtil;
+    private final GameOwnershipDataProvider gameOwnershipDataProvider;
+    private final ReconcileOwnershipUseCase reconcileOwnershipUseCase;
+
+    @Value("${ownership.replica.reads-enabled:true}")
+    private boolean ownershipReplicaReadsEnabled;
+
+    public void execute(Input input) {
+        // Get digital user from jwt
+        DigitalUser digitalUser = securityUtil.getDigitalUser();
+        ListByCriteriaUseCase.Input criteria = ListByCriteriaUseCase.Input.builder().build();
+
+        // Check ownership against the local replica, which is populated from dux-manager on the first read
+        if (ownershipReplicaReadsEnabled) {
+            if (!gameOwnershipDataProvider.isReconciled(digitalUser.getId())) {
+                reconcileOwnershipUseCase.execute(
+                        ReconcileOwnershipUseCase.Input.builder()
+                                .jwt(input.getJwt())
+                                .digitalUserId(digitalUser.getId())
+                                .build()
+                );
+            }
+
+            criteria.setDigitalUserId(digitalUser.getId());
+        } else {
+            // Get the ids of every game owned by the digital user from dux-manager
+            Set<UUID> ownedGameIds = duxManagerDataProvider.findAssetExternalIdsByCriteria(
+                    input.getJwt(),
+                    digitalUser.getId(),
+                    null,
+                    "com.tracktainment",
+                    "game-manager",
+                    "game",
+                    null,
+                    null,
+                    null
+            );
+
+            if (ownedGameIds.isEmpty()) {
+                return;
+            }
+
+            criteria.setOwnedGameIds(ownedGameIds);
+        }
+
+        // Hand every owned game to the consumer as it is read, so that the library is never held in memory
+        gameDataProvider.exportByCriteria(criteria, input.getGameConsumer());
+    }
+
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Data
+    @Builder
+    public static class Input {
+        private String jwt;
+        private Consumer<Game> gameConsumer;
+    }
+}
@@ -2,16 +2,23 @@ package com.tracktainment.gamemanager.usecases;
 
 import com.tracktainment.gamemanager.dataprovider.DuxManagerDataProvider;
 import com.tracktainment.gamemanager.dataprovider.GameDataProvider;
+import com.tracktainment.gamemanager.dataprovider.GameOwnershipDataProvider;
 import com.tracktainment.gamemanager.domain.Game;
 import com.tracktainment.gamemanager.dto.duxmanager.response.AssetResponse;
 import com.tracktainment.gamemanager.exception.ResourceNotFoundException;
 import com.tracktainment.gamemanager.security.context.DigitalUser;
 import com.tracktainment.gamemanager.security.util.SecurityUtil;
 import lombok.*;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
 
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Service
 @RequiredArgsConstructor
@@ -20,42 +27,88 @@ public class FindByIdUseCase {
     private final GameDataProvider gameDataProvider;
     private final DuxManagerDataProvider duxManagerDataProvider;
     private final SecurityUtil securityUtil;
+    private final GameOwnershipDataProvider gameOwnershipDataProvider;
+    private final ReconcileOwnershipUseCase reconcileOwnershipUseCase;
+
+    @Qualifier("ownershipCheckExecutor")
+    private final TaskExecutor ownershipCheckExecutor;
+
+    @Value("${ownership.replica.reads-enabled:true}")
+    private boolean ownershipReplicaReadsEnabled;
 
     public Output execute(Input input) {
         // Get digital user from jwt
         DigitalUser digitalUser = securityUtil.getDigitalUser();
 
-        // Get asset from dux-manager
-        List<AssetResponse> assetResponseList = duxManagerDataProvider.findAssetsByCriteria(
-                input.getJwt(),
-                digitalUser.getId(),
-                input.getId(),
-                "com.tracktainment",
-                "game-manager",
-                "game",
-                null,
-                null,
-                null
-        );
-
-        // If asset does not exist then throw exception
-        if (CollectionUtils.isEmpty(assetResponseList)) {
-            throw new ResourceNotFoundException(Game.class, input.getId());
+        // Check ownership against the local replica, which is populated from dux-manager on the first read
+        if (ownershipReplicaReadsEnabled) {
+            if (!gameOwnershipDataProvider.isReconciled(digitalUser.getId())) {
+                reconcileOwnershipUseCase.execute(
+                        ReconcileOwnershipUseCase.Input.builder()
+                                .jwt(input.getJwt())
+                                .digitalUserId(digitalUser.getId())
+                                .build()
+                );
+            }
+
+            return Output.builder()
+                    .game(gameDataProvider.findByIdAndDigitalUserId(input.getId(), digitalUser.getId()))
+                    .build();
+        }
+
+        // Get asset from dux-manager while the game is read, as neither call depends on the other
+        CompletableFuture<List<AssetResponse>> assetResponseListFuture =
+                duxManagerDataProvider.findAssetsByCriteriaAsync(
+                        input.getJwt(),
+                        digitalUser.getId(),
+                        input.getId().toString(),
+                        "com.tracktainment",
+                        "game-manager",
+                        "game",
+                        null,
+                        null,
+                        null,
+                        ownershipCheckExecutor
+                );
+
+        Game game;
+        try {
+            game = gameDataProvider.findById(input.getId());
+        } catch (RuntimeException e) {
+            // The ownership check of a game that cannot be returned is not waited for, and is stopped where possible
+            assetResponseListFuture.cancel(true);
+            throw e;
+        }
+
+        // If asset does not exist then the game that was read is discarded and an exception is thrown
+        if (CollectionUtils.isEmpty(awaitAssetResponseList(assetResponseListFuture))) {
+            throw new ResourceNotFoundException(Game.class, input.getId().toString());
         }
 
-        // Find and return the game
         return Output.builder()
-                .game(gameDataProvider.findById(input.getId()))
+                .game(game)
                 .build();
     }
 
+    private List<AssetResponse> awaitAssetResponseList(CompletableFuture<List<AssetResponse>> assetResponseListFuture) {
+        try {
+            return assetResponseListFuture.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            throw e;
+        }
+    }
+
     @AllArgsConstructor
     @NoArgsConstructor
     @Data
     @Builder
     public static class Input {
         private String jwt;
-        private String id;
+        private UUID id;
     }
 
     @AllArgsConstructor
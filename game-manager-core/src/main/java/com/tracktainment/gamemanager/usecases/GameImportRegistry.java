@@ -0,0 +1,36 @@
+package com.tracktainment.gamemanager.usecases;
+
+import com.tracktainment.gamemanager.domain.GameImport;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/* Latest progress of the imports run by this instance, most recent last. Only the latest imports are kept so that
+memory does not grow with the number of imports
+ */
+@Component
+public class GameImportRegistry {
+
+    private final Map<String, GameImport> gameImports;
+
+    public GameImportRegistry(@Value("${game-import.history-size:20}") int historySize) {
+        gameImports = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, GameImport> eldest) {
+                return size() > historySize;
+            }
+        };
+    }
+
+    public synchronized void update(GameImport gameImport) {
+        gameImports.put(gameImport.getId(), gameImport);
+    }
+
+    public synchronized List<GameImport> findAll() {
+        return new ArrayList<>(gameImports.values());
+    }
+}
@@ -0,0 +1,83 @@
+package com.tracktainment.gamemanager.usecases;
+
+import com.tracktainment.gamemanager.dataprovider.GameImportDataProvider;
+import com.tracktainment.gamemanager.domain.GameImport;
+import com.tracktainment.gamemanager.domain.GameImportFormat;
+import com.tracktainment.gamemanager.domain.GameImportStatus;
+import lombok.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ImportGamesUseCase {
+
+    private final GameImportDataProvider gameImportDataProvider;
+    private final GameImportRegistry gameImportRegistry;
+
+    public Output execute(Input input) {
+        GameImport gameImport = GameImport.builder()
+                .id(UUID.randomUUID().toString())
+                .digitalUserId(input.getDigitalUserId())
+                .format(input.getFormat())
+                .status(GameImportStatus.RUNNING)
+                .rejections(List.of())
+                .startedAt(LocalDateTime.now())
+                .build();
+        gameImportRegistry.update(gameImport);
+
+        /* Imported games are owned by the digital user of the import, and their assets are registered in dux-manager by
+        the scheduled outbox dispatcher. Games are committed in chunks, so a failed import keeps the games imported
+        before the failure and can be resumed by importing the same file again
+         */
+        AtomicReference<GameImport> latestProgress = new AtomicReference<>(gameImport);
+        try {
+            gameImport = gameImportDataProvider.importGames(gameImport, input.getContent(), progress -> {
+                log.info("Game import {}: {} records read, {} games imported, {} skipped, {} rejected.",
+                        progress.getId(), progress.getRead(), progress.getImported(), progress.getSkipped(),
+                        progress.getRejected());
+                latestProgress.set(progress);
+                gameImportRegistry.update(progress);
+            });
+        } catch (RuntimeException e) {
+            gameImportRegistry.update(
+                    latestProgress.get().toBuilder()
+                            .status(GameImportStatus.FAILED)
+                            .error(e.getMessage())
+                            .finishedAt(LocalDateTime.now())
+                            .build()
+            );
+            throw e;
+        }
+
+        gameImportRegistry.update(gameImport);
+        return Output.builder()
+                .gameImport(gameImport)
+                .build();
+    }
+
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Data
+    @Builder
+    public static class Input {
+        private String digitalUserId;
+        private GameImportFormat format;
+        private InputStream content;
+    }
+
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Data
+    @Builder
+    public static class Output {
+        private GameImport gameImport;
+    }
+}
@@ -2,19 +2,23 @@ package com.tracktainment.gamemanager.usecases;
 
 import com.tracktainment.gamemanager.dataprovider.DuxManagerDataProvider;
 import com.tracktainment.gamemanager.dataprovider.GameDataProvider;
+import com.tracktainment.gamemanager.dataprovider.GameOwnershipDataProvider;
 import com.tracktainment.gamemanager.domain.Game;
+import com.tracktainment.gamemanager.domain.GamePage;
 import com.tracktainment.gamemanager.domain.OrderBy;
 import com.tracktainment.gamemanager.domain.OrderDirection;
-import com.tracktainment.gamemanager.dto.duxmanager.response.AssetResponse;
+import com.tracktainment.gamemanager.domain.TextMatch;
 import com.tracktainment.gamemanager.security.context.DigitalUser;
 import com.tracktainment.gamemanager.security.util.SecurityUtil;
 import lombok.*;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.util.StringUtils;
 
 import java.time.LocalDate;
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -23,13 +27,33 @@ public class ListByCriteriaUseCase {
     private final GameDataProvider gameDataProvider;
     private final DuxManagerDataProvider duxManagerDataProvider;
     private final SecurityUtil securityUtil;
+    private final GameOwnershipDataProvider gameOwnershipDataProvider;
+    private final ReconcileOwnershipUseCase reconcileOwnershipUseCase;
+
+    @Value("${ownership.replica.reads-enabled:true}")
+    private boolean ownershipReplicaReadsEnabled;
 
     public Output execute(Input input) {
         // Get digital user from jwt
         DigitalUser digitalUser = securityUtil.getDigitalUser();
 
-        // Get assets by criteria from dux-manger
-        List<AssetResponse> assetResponseList = duxManagerDataProvider.findAssetsByCriteria(
+        // Check ownership against the local replica, which is populated from dux-manager on the first read
+        if (ownershipReplicaReadsEnabled) {
+            if (!gameOwnershipDataProvider.isReconciled(digitalUser.getId())) {
+                reconcileOwnershipUseCase.execute(
+                        ReconcileOwnershipUseCase.Input.builder()
+                                .jwt(input.getJwt())
+                                .digitalUserId(digitalUser.getId())
+                                .build()
+                );
+            }
+
+            input.setDigitalUserId(digitalUser.getId());
+            return toOutput(gameDataProvider.listByCriteria(input));
+        }
+
+        // Get the ids of the owned games from dux-manger, only those are needed to restrict the listing
+        Set<UUID> ownedGameIds = duxManagerDataProvider.findAssetExternalIdsByCriteria(
                 input.getJwt(),
                 digitalUser.getId(),
                 input.getIds(),
@@ -41,26 +65,23 @@ public class ListByCriteriaUseCase {
                 input.getTo()
         );
 
-        // Convert list of assets to String so that it can be replaced in "ids" input
-        String assetIds = assetResponseList.stream()
-                .map(AssetResponse::getExternalId)
-                .collect(Collectors.joining(","));
-
-        // Check if "ids" input is empty because no assets match or, because that criteria was never inputted
-        boolean idsInputIsEmpty = input.getIds() == null;
-        if (!StringUtils.hasText(assetIds)) {
-            if (!idsInputIsEmpty) {
-                assetIds = input.getIds();
-            } else {
-                assetIds = null;
-            }
+        // If the digital user owns none there is nothing to look up
+        if (ownedGameIds.isEmpty()) {
+            return Output.builder()
+                    .games(Collections.emptyList())
+                    .build();
         }
 
-        input.setIds(assetIds);
+        input.setOwnedGameIds(ownedGameIds);
 
         // List the games
+        return toOutput(gameDataProvider.listByCriteria(input));
+    }
+
+    private Output toOutput(GamePage gamePage) {
         return Output.builder()
-                .games(gameDataProvider.listByCriteria(input))
+                .games(gamePage.getGames())
+                .nextCursor(gamePage.getNextCursor())
                 .build();
     }
 
@@ -70,13 +91,18 @@ public class ListByCriteriaUseCase {
     @Builder
     public static class Input {
         private String jwt;
+        private String digitalUserId;
+        private Set<UUID> ownedGameIds;
         private Integer offset;
         private Integer limit;
+        private String cursor;
         private String ids;
+        private String search;
         private String title;
         private String platform;
         private String genre;
         private String developer;
+        private TextMatch match;
         private LocalDate releaseDate;
         private LocalDate createdAt;
         private LocalDate from;
@@ -91,5 +117,6 @@ public class ListByCriteriaUseCase {
     @Builder
     public static class Output {
         private List<Game> games;
+        private String nextCursor;
     }
 }
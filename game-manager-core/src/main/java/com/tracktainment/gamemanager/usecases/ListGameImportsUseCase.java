@@ -0,0 +1,28 @@
+package com.tracktainment.gamemanager.usecases;
+
+import com.tracktainment.gamemanager.domain.GameImport;
+import lombok.*;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class ListGameImportsUseCase {
+
+    private final GameImportRegistry gameImportRegistry;
+
+    public Output execute() {
+        return Output.builder()
+                .gameImports(gameImportRegistry.findAll())
+                .build();
+    }
+
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Data
+    @Builder
+    public static class Output {
+        private List<GameImport> gameImports;
+    }
+}
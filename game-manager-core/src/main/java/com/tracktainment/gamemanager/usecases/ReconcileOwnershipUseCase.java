@@ -0,0 +1,62 @@
+package com.tracktainment.gamemanager.usecases;
+
+import com.tracktainment.gamemanager.dataprovider.DuxManagerDataProvider;
+import com.tracktainment.gamemanager.dataprovider.GameOwnershipDataProvider;
+import com.tracktainment.gamemanager.dto.duxmanager.response.AssetResponse;
+import lombok.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReconcileOwnershipUseCase {
+
+    private final DuxManagerDataProvider duxManagerDataProvider;
+    private final GameOwnershipDataProvider gameOwnershipDataProvider;
+
+    public void execute(Input input) {
+        /* Captured before listing the assets so that ownership rows written concurrently (i.e. by a game being created
+        while reconciling) are not removed because Dux Manager did not report them yet
+         */
+        LocalDateTime reconciliationStartedAt = LocalDateTime.now();
+
+        // Get every asset owned by the digital user from dux-manager
+        List<AssetResponse> assetResponseList = duxManagerDataProvider.findAssetsByCriteria(
+                input.getJwt(),
+                input.getDigitalUserId(),
+                null,
+                "com.tracktainment",
+                "game-manager",
+                "game",
+                null,
+                null,
+                null
+        );
+
+        Set<UUID> gameIds = assetResponseList.stream()
+                .map(AssetResponse::getExternalId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        // Make the local ownership replica match dux-manager
+        log.debug("Reconciling {} games owned by digital user {}.", gameIds.size(), input.getDigitalUserId());
+        gameOwnershipDataProvider.reconcile(input.getDigitalUserId(), gameIds, reconciliationStartedAt);
+    }
+
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Data
+    @Builder
+    public static class Input {
+        private String jwt;
+        private String digitalUserId;
+    }
+}
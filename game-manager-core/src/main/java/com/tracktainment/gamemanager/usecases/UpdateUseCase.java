@@ -1,32 +1,80 @@
 package com.tracktainment.gamemanager.usecases;
 
+import com.tracktainment.gamemanager.dataprovider.DuxManagerDataProvider;
 import com.tracktainment.gamemanager.dataprovider.GameDataProvider;
+import com.tracktainment.gamemanager.dataprovider.GameOwnershipDataProvider;
 import com.tracktainment.gamemanager.domain.Game;
 import com.tracktainment.gamemanager.dto.GameUpdate;
+import com.tracktainment.gamemanager.dto.duxmanager.response.AssetResponse;
+import com.tracktainment.gamemanager.exception.ResourceNotFoundException;
+import com.tracktainment.gamemanager.security.context.DigitalUser;
+import com.tracktainment.gamemanager.security.util.SecurityUtil;
 import lombok.*;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.util.CollectionUtils;
+
+import java.util.List;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class UpdateUseCase {
 
     private final GameDataProvider gameDataProvider;
-    private final FindByIdUseCase findByIdUseCase;
+    private final DuxManagerDataProvider duxManagerDataProvider;
+    private final SecurityUtil securityUtil;
+    private final GameOwnershipDataProvider gameOwnershipDataProvider;
+    private final ReconcileOwnershipUseCase reconcileOwnershipUseCase;
+
+    @Value("${ownership.replica.reads-enabled:true}")
+    private boolean ownershipReplicaReadsEnabled;
 
     public Output execute(Input input) {
-        /* Finds the game to update. Conditions necessary to retrieve the asset from Dux Manager, i.e. authenticate the
-        digital user, etc. are already being processed in FindByIdUseCase
-         */
-        Game game = findByIdUseCase.execute(
-                FindByIdUseCase.Input.builder()
-                        .jwt(input.getJwt())
-                        .id(input.getId())
-                        .build()
-        ).getGame();
+        // Get digital user from jwt
+        DigitalUser digitalUser = securityUtil.getDigitalUser();
 
         /* Update and return the updated game. No action is necessary on Dux Manager as it only stores information on
         what assets each digital user has. It does not contain information of the game itself.
          */
+        if (ownershipReplicaReadsEnabled) {
+            if (!gameOwnershipDataProvider.isReconciled(digitalUser.getId())) {
+                reconcileOwnershipUseCase.execute(
+                        ReconcileOwnershipUseCase.Input.builder()
+                                .jwt(input.getJwt())
+                                .digitalUserId(digitalUser.getId())
+                                .build()
+                );
+            }
+
+            // Ownership is checked by the update statement itself against the local replica
+            return Output.builder()
+                    .game(gameDataProvider.updateByIdAndDigitalUserId(
+                            input.getId(),
+                            digitalUser.getId(),
+                            input.getGameUpdate()
+                    ))
+                    .build();
+        }
+
+        // Get asset from dux-manager
+        List<AssetResponse> assetResponseList = duxManagerDataProvider.findAssetsByCriteria(
+                input.getJwt(),
+                digitalUser.getId(),
+                input.getId().toString(),
+                "com.tracktainment",
+                "game-manager",
+                "game",
+                null,
+                null,
+                null
+        );
+
+        // If asset does not exist then throw exception
+        if (CollectionUtils.isEmpty(assetResponseList)) {
+            throw new ResourceNotFoundException(Game.class, input.getId().toString());
+        }
+
         return Output.builder()
                 .game(gameDataProvider.update(input.getId(), input.getGameUpdate()))
                 .build();
@@ -38,7 +86,7 @@ public class UpdateUseCase {
     @Builder
     public static class Input {
         private String jwt;
-        private String id;
+        private UUID id;
         private GameUpdate gameUpdate;
     }
 
@@ -12,8 +12,12 @@ public class Constants {
     public static final int MIN_OFFSET = 0;
     public static final int MIN_LIMIT = 1;
     public static final int MAX_LIMIT = 100;
+    public static final int MIN_BATCH_SIZE = 1;
+    public static final int MAX_BATCH_SIZE = 1000;
     public static final String DEFAULT_ORDER = "TITLE";
     public static final String DEFAULT_DIRECTION = "ASC";
+    public static final String DEFAULT_MATCH = "CONTAINS";
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
 
 
     // Required fields validation
@@ -27,6 +31,8 @@ public class Constants {
     public static final String PLATFORM_REGEX = "^[A-Za-z0-9\\\\-\\\\s]{1,50}$";
     public static final String GENRE_REGEX = "^[A-Za-z\\\\s\\\\-]{1,50}$";
     public static final String DEVELOPER_REGEX = "^[A-Za-z0-9&.,'\\-\\s]{1,150}$";
+    public static final String SEARCH_REGEX = "^[A-Za-z0-9\\s\\-,\\.\\'\\\";:!?()&]{1,200}$";
+    public static final String CURSOR_REGEX = "^[A-Za-z0-9_-]{1,2048}$";
 
 
     // Dux Manager Regex
@@ -46,7 +52,11 @@ public class Constants {
     public static final String GENRE_INVALID_MSG = "'genre' must match: " + GENRE_REGEX + ".";
     public static final String DEVELOPER_INVALID_MSG = "'developer' must match: " + DEVELOPER_REGEX + ".";
     public static final String OFFSET_INVALID_MSG = "'offset' must be positive.";
+    public static final String SEARCH_INVALID_MSG = "'search' must match: " + SEARCH_REGEX + ".";
+    public static final String CURSOR_INVALID_MSG = "'cursor' is invalid or was issued for a different ordering.";
     public static final String LIMIT_INVALID_MSG = "'limit' must be in the range [" + MIN_LIMIT + ", " + MAX_LIMIT + "]";
+    public static final String BATCH_SIZE_INVALID_MSG =
+            "The number of games must be in the range [" + MIN_BATCH_SIZE + ", " + MAX_BATCH_SIZE + "]";
 
 
     // Dux Manager fields validation
@@ -0,0 +1,157 @@
+package com.tracktainment.gamemanager.util;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+/*
+ * Set of UUIDs stored as pairs of longs in open-addressing tables, i.e. 16 bytes per id instead of a UUID object plus a
+ * HashMap node. Meant for large id sets built once and then only read, such as the games a digital user owns: ids can
+ * be added but not removed, and UUID objects are only created when iterating.
+ */
+public class UuidSet extends AbstractSet<UUID> {
+
+    private static final int MIN_CAPACITY = 16;
+    private static final double MAX_LOAD_FACTOR = 0.6;
+
+    // The nil UUID (0, 0) marks the empty slots, so it is tracked apart
+    private long[] mostSignificantBits;
+    private long[] leastSignificantBits;
+    private boolean containsNil;
+    private int size;
+
+    public UuidSet() {
+        this(MIN_CAPACITY);
+    }
+
+    public UuidSet(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity * MAX_LOAD_FACTOR < expectedSize) {
+            capacity <<= 1;
+        }
+
+        mostSignificantBits = new long[capacity];
+        leastSignificantBits = new long[capacity];
+    }
+
+    @Override
+    public boolean add(UUID uuid) {
+        return add(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    public boolean add(long mostSignificantBits, long leastSignificantBits) {
+        if (mostSignificantBits == 0 && leastSignificantBits == 0) {
+            if (containsNil) {
+                return false;
+            }
+
+            containsNil = true;
+            size++;
+            return true;
+        }
+
+        if (size + 1 > this.mostSignificantBits.length * MAX_LOAD_FACTOR) {
+            resize();
+        }
+
+        int slot = slot(this.mostSignificantBits, this.leastSignificantBits, mostSignificantBits, leastSignificantBits);
+        if (this.mostSignificantBits[slot] != 0 || this.leastSignificantBits[slot] != 0) {
+            return false;
+        }
+
+        this.mostSignificantBits[slot] = mostSignificantBits;
+        this.leastSignificantBits[slot] = leastSignificantBits;
+        size++;
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object object) {
+        return object instanceof UUID uuid && contains(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    public boolean contains(long mostSignificantBits, long leastSignificantBits) {
+        if (mostSignificantBits == 0 && leastSignificantBits == 0) {
+            return containsNil;
+        }
+
+        int slot = slot(this.mostSignificantBits, this.leastSignificantBits, mostSignificantBits, leastSignificantBits);
+        return this.mostSignificantBits[slot] != 0 || this.leastSignificantBits[slot] != 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<UUID> iterator() {
+        return new Iterator<>() {
+
+            private int nextSlot = containsNil ? -1 : nextUsedSlot(0);
+
+            @Override
+            public boolean hasNext() {
+                return nextSlot < mostSignificantBits.length;
+            }
+
+            @Override
+            public UUID next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                UUID uuid = nextSlot < 0 ?
+                        new UUID(0, 0) : new UUID(mostSignificantBits[nextSlot], leastSignificantBits[nextSlot]);
+                nextSlot = nextUsedSlot(nextSlot + 1);
+                return uuid;
+            }
+        };
+    }
+
+    private int nextUsedSlot(int from) {
+        int slot = from;
+        while (slot < mostSignificantBits.length && mostSignificantBits[slot] == 0 && leastSignificantBits[slot] == 0) {
+            slot++;
+        }
+
+        return slot;
+    }
+
+    // Slot holding the given id, or the empty slot where it belongs when absent (linear probing)
+    private static int slot(long[] mostSignificantBitsTable, long[] leastSignificantBitsTable,
+                            long mostSignificantBits, long leastSignificantBits) {
+        int mask = mostSignificantBitsTable.length - 1;
+        int slot = hash(mostSignificantBits, leastSignificantBits) & mask;
+        while ((mostSignificantBitsTable[slot] != 0 || leastSignificantBitsTable[slot] != 0)
+                && (mostSignificantBitsTable[slot] != mostSignificantBits
+                || leastSignificantBitsTable[slot] != leastSignificantBits)) {
+            slot = (slot + 1) & mask;
+        }
+
+        return slot;
+    }
+
+    // Random UUIDs are already well spread, the mixing only guards against ids differing in a few bits
+    private static int hash(long mostSignificantBits, long leastSignificantBits) {
+        long hash = (mostSignificantBits ^ leastSignificantBits) * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private void resize() {
+        long[] oldMostSignificantBits = mostSignificantBits;
+        long[] oldLeastSignificantBits = leastSignificantBits;
+        mostSignificantBits = new long[oldMostSignificantBits.length << 1];
+        leastSignificantBits = new long[oldLeastSignificantBits.length << 1];
+
+        for (int i=0; i<oldMostSignificantBits.length; i++) {
+            if (oldMostSignificantBits[i] != 0 || oldLeastSignificantBits[i] != 0) {
+                int slot = slot(mostSignificantBits, leastSignificantBits, oldMostSignificantBits[i],
+                        oldLeastSignificantBits[i]);
+                mostSignificantBits[slot] = oldMostSignificantBits[i];
+                leastSignificantBits[slot] = oldLeastSignificantBits[i];
+            }
+        }
+    }
+}
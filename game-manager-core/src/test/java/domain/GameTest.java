@@ -14,7 +14,7 @@ class GameTest {
     @Test
     void shouldCreateGameUsingBuilder() {
         // Arrange
-        String id = UUID.randomUUID().toString();
+        UUID id = UUID.randomUUID();
         String title = "The Last of Us Part II";
         String platform = "PlayStation 5";
         String genre = "Action";
@@ -66,7 +66,7 @@ class GameTest {
     void shouldUseSettersAndGetters() {
         // Arrange
         Game game = new Game();
-        String id = UUID.randomUUID().toString();
+        UUID id = UUID.randomUUID();
         String title = "The Last of Us Part II";
         String platform = "PlayStation 5";
         String genre = "Action";
@@ -98,8 +98,8 @@ class GameTest {
     @Test
     void shouldImplementEqualsAndHashCode() {
         // Arrange
-        String id1 = UUID.randomUUID().toString();
-        String id2 = UUID.randomUUID().toString();
+        UUID id1 = UUID.randomUUID();
+        UUID id2 = UUID.randomUUID();
 
         Game game1 = Game.builder().id(id1).title("Game 1").build();
         Game game2 = Game.builder().id(id1).title("Game 1").build(); // Same ID
@@ -115,7 +115,7 @@ class GameTest {
     @Test
     void shouldImplementToString() {
         // Arrange
-        String id = UUID.randomUUID().toString();
+        UUID id = UUID.randomUUID();
         Game game = Game.builder()
                 .id(id)
                 .title("The Last of Us Part II")
@@ -128,7 +128,7 @@ class GameTest {
         assertNotNull(toString);
         assertFalse(toString.isEmpty());
         assertTrue(toString.contains("Game"));
-        assertTrue(toString.contains(id));
+        assertTrue(toString.contains(id.toString()));
         assertTrue(toString.contains("The Last of Us Part II"));
     }
 }
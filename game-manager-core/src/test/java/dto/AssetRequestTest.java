@@ -5,6 +5,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.UUID;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -13,7 +15,7 @@ class AssetRequestTest {
     @Test
     void shouldCreateAssetRequestUsingBuilder() {
         // Arrange
-        String externalId = "123e4567-e89b-12d3-a456-426614174000";
+        UUID externalId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
         String type = "game";
         AssetRequest.PermissionPolicy permissionPolicy = AssetRequest.PermissionPolicy.OWNER;
         AssetRequest.ArtifactInformation artifactInformation = new AssetRequest.ArtifactInformation(
@@ -52,7 +54,7 @@ class AssetRequestTest {
     @Test
     void shouldCreateAssetRequestUsingAllArgsConstructor() {
         // Arrange
-        String externalId = "123e4567-e89b-12d3-a456-426614174000";
+        UUID externalId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
         String type = "game";
         AssetRequest.PermissionPolicy permissionPolicy = AssetRequest.PermissionPolicy.OWNER;
         AssetRequest.ArtifactInformation artifactInformation = new AssetRequest.ArtifactInformation(
@@ -75,7 +77,7 @@ class AssetRequestTest {
     void shouldUseSettersAndGetters() {
         // Arrange
         AssetRequest assetRequest = new AssetRequest();
-        String externalId = "123e4567-e89b-12d3-a456-426614174000";
+        UUID externalId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
         String type = "game";
         AssetRequest.PermissionPolicy permissionPolicy = AssetRequest.PermissionPolicy.OWNER;
         AssetRequest.ArtifactInformation artifactInformation = new AssetRequest.ArtifactInformation(
@@ -101,7 +103,7 @@ class AssetRequestTest {
     void shouldImplementEqualsAndHashCode() {
         // Arrange
         AssetRequest assetRequest1 = AssetRequest.builder()
-                .externalId("123e4567-e89b-12d3-a456-426614174000")
+                .externalId(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"))
                 .type("game")
                 .permissionPolicy(AssetRequest.PermissionPolicy.OWNER)
                 .artifactInformation(new AssetRequest.ArtifactInformation(
@@ -112,7 +114,7 @@ class AssetRequestTest {
                 .build();
 
         AssetRequest assetRequest2 = AssetRequest.builder()
-                .externalId("123e4567-e89b-12d3-a456-426614174000")
+                .externalId(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"))
                 .type("game")
                 .permissionPolicy(AssetRequest.PermissionPolicy.OWNER)
                 .artifactInformation(new AssetRequest.ArtifactInformation(
@@ -123,7 +125,7 @@ class AssetRequestTest {
                 .build();
 
         AssetRequest assetRequest3 = AssetRequest.builder()
-                .externalId("different-id")
+                .externalId(UUID.fromString("456e7890-e12b-34d5-a678-426614174000"))
                 .type("game")
                 .permissionPolicy(AssetRequest.PermissionPolicy.OWNER)
                 .artifactInformation(new AssetRequest.ArtifactInformation(
@@ -144,7 +146,7 @@ class AssetRequestTest {
     void shouldImplementToString() {
         // Arrange
         AssetRequest assetRequest = AssetRequest.builder()
-                .externalId("123e4567-e89b-12d3-a456-426614174000")
+                .externalId(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"))
                 .type("game")
                 .permissionPolicy(AssetRequest.PermissionPolicy.OWNER)
                 .artifactInformation(new AssetRequest.ArtifactInformation(
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -18,7 +19,7 @@ class AssetResponseTest {
         String id = "123e4567-e89b-12d3-a456-426614174000";
         LocalDateTime createdAt = LocalDateTime.now();
         LocalDateTime updatedAt = LocalDateTime.now().plusDays(1);
-        String externalId = "456e7890-e12b-34d5-a678-426614174000";
+        UUID externalId = UUID.fromString("456e7890-e12b-34d5-a678-426614174000");
         String type = "game";
         AssetResponse.PermissionPolicy permissionPolicy = AssetResponse.PermissionPolicy.OWNER;
         AssetResponse.ArtifactInformation artifactInformation = new AssetResponse.ArtifactInformation(
@@ -69,7 +70,7 @@ class AssetResponseTest {
         String id = "123e4567-e89b-12d3-a456-426614174000";
         LocalDateTime createdAt = LocalDateTime.now();
         LocalDateTime updatedAt = LocalDateTime.now().plusDays(1);
-        String externalId = "456e7890-e12b-34d5-a678-426614174000";
+        UUID externalId = UUID.fromString("456e7890-e12b-34d5-a678-426614174000");
         String type = "game";
         AssetResponse.PermissionPolicy permissionPolicy = AssetResponse.PermissionPolicy.OWNER;
         AssetResponse.ArtifactInformation artifactInformation = new AssetResponse.ArtifactInformation(
@@ -99,7 +100,7 @@ class AssetResponseTest {
         String id = "123e4567-e89b-12d3-a456-426614174000";
         LocalDateTime createdAt = LocalDateTime.now();
         LocalDateTime updatedAt = LocalDateTime.now().plusDays(1);
-        String externalId = "456e7890-e12b-34d5-a678-426614174000";
+        UUID externalId = UUID.fromString("456e7890-e12b-34d5-a678-426614174000");
         String type = "game";
         AssetResponse.PermissionPolicy permissionPolicy = AssetResponse.PermissionPolicy.OWNER;
         AssetResponse.ArtifactInformation artifactInformation = new AssetResponse.ArtifactInformation(
@@ -132,21 +133,21 @@ class AssetResponseTest {
         // Arrange
         AssetResponse assetResponse1 = AssetResponse.builder()
                 .id("123e4567-e89b-12d3-a456-426614174000")
-                .externalId("456e7890-e12b-34d5-a678-426614174000")
+                .externalId(UUID.fromString("456e7890-e12b-34d5-a678-426614174000"))
                 .type("game")
                 .permissionPolicy(AssetResponse.PermissionPolicy.OWNER)
                 .build();
 
         AssetResponse assetResponse2 = AssetResponse.builder()
                 .id("123e4567-e89b-12d3-a456-426614174000")
-                .externalId("456e7890-e12b-34d5-a678-426614174000")
+                .externalId(UUID.fromString("456e7890-e12b-34d5-a678-426614174000"))
                 .type("game")
                 .permissionPolicy(AssetResponse.PermissionPolicy.OWNER)
                 .build();
 
         AssetResponse assetResponse3 = AssetResponse.builder()
                 .id("different-id")
-                .externalId("456e7890-e12b-34d5-a678-426614174000")
+                .externalId(UUID.fromString("456e7890-e12b-34d5-a678-426614174000"))
                 .type("game")
                 .permissionPolicy(AssetResponse.PermissionPolicy.OWNER)
                 .build();
@@ -163,7 +164,7 @@ class AssetResponseTest {
         // Arrange
         AssetResponse assetResponse = AssetResponse.builder()
                 .id("123e4567-e89b-12d3-a456-426614174000")
-                .externalId("456e7890-e12b-34d5-a678-426614174000")
+                .externalId(UUID.fromString("456e7890-e12b-34d5-a678-426614174000"))
                 .type("game")
                 .permissionPolicy(AssetResponse.PermissionPolicy.OWNER)
                 .build();
@@ -64,6 +64,14 @@ class ExceptionCodeTest {
         assertEquals("Parameter validation error.", ExceptionCode.PARAMETER_VALIDATION_ERROR.getReason());
     }
 
+    @Test
+    void shouldHaveCorrectValuesForServiceUnavailable() {
+        // Act & Assert
+        assertEquals("E-008", ExceptionCode.SERVICE_UNAVAILABLE.getCode());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), ExceptionCode.SERVICE_UNAVAILABLE.getHttpStatusCode());
+        assertEquals("Service unavailable.", ExceptionCode.SERVICE_UNAVAILABLE.getReason());
+    }
+
     @Test
     void shouldHaveCorrectToStringRepresentation() {
         // Act & Assert
@@ -74,11 +82,12 @@ class ExceptionCodeTest {
         assertTrue(ExceptionCode.CLIENT_NOT_AUTHORIZED.toString().contains("CLIENT_NOT_AUTHORIZED"));
         assertTrue(ExceptionCode.CONFIGURATION_ERROR.toString().contains("CONFIGURATION_ERROR"));
         assertTrue(ExceptionCode.PARAMETER_VALIDATION_ERROR.toString().contains("PARAMETER_VALIDATION_ERROR"));
+        assertTrue(ExceptionCode.SERVICE_UNAVAILABLE.toString().contains("SERVICE_UNAVAILABLE"));
     }
 
     @Test
-    void shouldHaveSevenExceptionCodes() {
+    void shouldHaveEightExceptionCodes() {
         // Act & Assert
-        assertEquals(7, ExceptionCode.values().length);
+        assertEquals(8, ExceptionCode.values().length);
     }
 }
@@ -0,0 +1,48 @@
+package exception;
+
+import com.tracktainment.gamemanager.exception.ExceptionCode;
+import com.tracktainment.gamemanager.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class ServiceUnavailableExceptionTest {
+
+    @Test
+    void shouldCreateServiceUnavailableExceptionWithMessage() {
+        // Arrange
+        String message = "Dux Manager is unavailable";
+
+        // Act
+        ServiceUnavailableException exception = new ServiceUnavailableException(message);
+
+        // Assert
+        assertEquals(ExceptionCode.SERVICE_UNAVAILABLE.getCode(), exception.getCode());
+        assertEquals(ExceptionCode.SERVICE_UNAVAILABLE.getHttpStatusCode(), exception.getHttpStatusCode());
+        assertEquals(ExceptionCode.SERVICE_UNAVAILABLE.getReason(), exception.getReason());
+        assertEquals(message, exception.getMessage());
+    }
+
+    @Test
+    void shouldBeSubclassOfBusinessException() {
+        // Arrange
+        ServiceUnavailableException exception = new ServiceUnavailableException("Test message");
+
+        // Assert
+        assertTrue(exception instanceof com.tracktainment.gamemanager.exception.BusinessException);
+    }
+
+    @Test
+    void shouldHaveCorrectExceptionCode() {
+        // Arrange
+        ServiceUnavailableException exception = new ServiceUnavailableException("Test message");
+
+        // Assert
+        assertEquals(ExceptionCode.SERVICE_UNAVAILABLE.getCode(), exception.getCode());
+        assertEquals(503, exception.getHttpStatusCode());
+        assertEquals("Service unavailable.", exception.getReason());
+    }
+}
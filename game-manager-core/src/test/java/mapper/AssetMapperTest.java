@@ -18,7 +18,7 @@ class AssetMapperTest {
     @Test
     void shouldMapGameToAssetRequest() {
         // Arrange
-        String gameId = UUID.randomUUID().toString();
+        UUID gameId = UUID.randomUUID();
         Game game = TestGameDataUtil.createTestGameWithId(gameId);
 
         // Act
@@ -35,7 +35,7 @@ public class TestGameDataUtil {
 
     public static Game createTestGame() {
         return Game.builder()
-                .id(UUID.randomUUID().toString())
+                .id(UUID.randomUUID())
                 .title("The Last of Us Part II")
                 .platform("PlayStation 5")
                 .genre("Action")
@@ -48,7 +48,7 @@ public class TestGameDataUtil {
 
     public static Game createTestGameWithUpdate() {
         return Game.builder()
-                .id(UUID.randomUUID().toString())
+                .id(UUID.randomUUID())
                 .title("The Last of Us Part II: Remastered")
                 .platform("PlayStation 5")
                 .genre("Action Adventure")
@@ -59,7 +59,7 @@ public class TestGameDataUtil {
                 .build();
     }
 
-    public static Game createTestGameWithId(String id) {
+    public static Game createTestGameWithId(UUID id) {
         return Game.builder()
                 .id(id)
                 .title("The Last of Us Part II")
@@ -82,7 +82,7 @@ public class TestGameDataUtil {
     public static AssetResponse createTestAssetResponse() {
         return AssetResponse.builder()
                 .id(UUID.randomUUID().toString())
-                .externalId(UUID.randomUUID().toString())
+                .externalId(UUID.randomUUID())
                 .type("game")
                 .permissionPolicy(AssetResponse.PermissionPolicy.OWNER)
                 .artifactInformation(AssetResponse.ArtifactInformation.builder()
@@ -95,7 +95,7 @@ public class TestGameDataUtil {
                 .build();
     }
 
-    public static AssetRequest createTestAssetRequest(String gameId) {
+    public static AssetRequest createTestAssetRequest(UUID gameId) {
         return AssetRequest.builder()
                 .externalId(gameId)
                 .type("game")
@@ -0,0 +1,154 @@
+package usecases;
+
+import com.tracktainment.gamemanager.dataprovider.GameDataProvider;
+import com.tracktainment.gamemanager.domain.Game;
+import com.tracktainment.gamemanager.dto.GameCreate;
+import com.tracktainment.gamemanager.exception.ResourceAlreadyExistsException;
+import com.tracktainment.gamemanager.security.context.DigitalUser;
+import com.tracktainment.gamemanager.security.util.SecurityUtil;
+import com.tracktainment.gamemanager.usecases.CreateManyUseCase;
+import com.tracktainment.gamemanager.usecases.DispatchAssetOutboxUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import testutil.TestGameDataUtil;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CreateManyUseCaseTest {
+
+    @Mock
+    private GameDataProvider gameDataProvider;
+
+    @Mock
+    private SecurityUtil securityUtil;
+
+    @Mock
+    private DispatchAssetOutboxUseCase dispatchAssetOutboxUseCase;
+
+    @Mock
+    private TaskExecutor assetOutboxExecutor;
+
+    private CreateManyUseCase createManyUseCase;
+
+    private List<GameCreate> gameCreates;
+    private Game game;
+    private DigitalUser digitalUser;
+    private String jwt;
+
+    @BeforeEach
+    void setUp() {
+        createManyUseCase = new CreateManyUseCase(
+                gameDataProvider, securityUtil, dispatchAssetOutboxUseCase, assetOutboxExecutor);
+        ReflectionTestUtils.setField(createManyUseCase, "dispatchBatchSize", 2);
+
+        gameCreates = List.of(TestGameDataUtil.createTestGameCreate());
+        game = TestGameDataUtil.createTestGame();
+        digitalUser = TestGameDataUtil.createTestDigitalUser();
+        jwt = "Bearer token";
+    }
+
+    @Test
+    void shouldCreateGamesSuccessfully() {
+        // Arrange
+        when(securityUtil.getDigitalUser()).thenReturn(digitalUser);
+        when(gameDataProvider.createMany(gameCreates, digitalUser.getId())).thenReturn(List.of(game));
+
+        CreateManyUseCase.Input input = CreateManyUseCase.Input.builder()
+                .jwt(jwt)
+                .gameCreates(gameCreates)
+                .build();
+
+        // Act
+        CreateManyUseCase.Output output = createManyUseCase.execute(input);
+
+        // Assert
+        assertNotNull(output);
+        assertEquals(List.of(game), output.getGames());
+
+        verify(securityUtil).getDigitalUser();
+        verify(gameDataProvider).createMany(gameCreates, digitalUser.getId());
+        verify(assetOutboxExecutor).execute(any(Runnable.class));
+        verify(dispatchAssetOutboxUseCase, never()).execute(any());
+    }
+
+    @Test
+    void shouldDispatchAssetRegistrationsInConcurrentBatches() {
+        // Arrange
+        when(securityUtil.getDigitalUser()).thenReturn(digitalUser);
+        when(gameDataProvider.createMany(gameCreates, digitalUser.getId()))
+                .thenReturn(Collections.nCopies(5, game));
+
+        createManyUseCase.execute(
+                CreateManyUseCase.Input.builder()
+                        .jwt(jwt)
+                        .gameCreates(gameCreates)
+                        .build()
+        );
+
+        ArgumentCaptor<Runnable> taskCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(assetOutboxExecutor, times(3)).execute(taskCaptor.capture());
+
+        // Act
+        taskCaptor.getAllValues().forEach(Runnable::run);
+
+        // Assert
+        verify(dispatchAssetOutboxUseCase, times(3)).execute(
+                DispatchAssetOutboxUseCase.Input.builder()
+                        .jwt(jwt)
+                        .digitalUserId(digitalUser.getId())
+                        .batchSize(2)
+                        .build()
+        );
+    }
+
+    @Test
+    void shouldNotPropagateBackgroundDispatchFailures() {
+        // Arrange
+        when(securityUtil.getDigitalUser()).thenReturn(digitalUser);
+        when(gameDataProvider.createMany(gameCreates, digitalUser.getId())).thenReturn(List.of(game));
+        when(dispatchAssetOutboxUseCase.execute(any())).thenThrow(new RuntimeException("Database unavailable"));
+
+        createManyUseCase.execute(
+                CreateManyUseCase.Input.builder()
+                        .jwt(jwt)
+                        .gameCreates(gameCreates)
+                        .build()
+        );
+
+        ArgumentCaptor<Runnable> taskCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(assetOutboxExecutor).execute(taskCaptor.capture());
+
+        // Act & Assert
+        assertDoesNotThrow(() -> taskCaptor.getValue().run());
+    }
+
+    @Test
+    void shouldPropagateGameDataProviderExceptions() {
+        // Arrange
+        when(securityUtil.getDigitalUser()).thenReturn(digitalUser);
+        when(gameDataProvider.createMany(gameCreates, digitalUser.getId()))
+                .thenThrow(new ResourceAlreadyExistsException(Game.class, gameCreates.get(0).getTitle()));
+
+        CreateManyUseCase.Input input = CreateManyUseCase.Input.builder()
+                .jwt(jwt)
+                .gameCreates(gameCreates)
+                .build();
+
+        // Act & Assert
+        assertThrows(ResourceAlreadyExistsException.class, () -> createManyUseCase.execute(input));
+
+        verifyNoInteractions(assetOutboxExecutor, dispatchAssetOutboxUseCase);
+    }
+}
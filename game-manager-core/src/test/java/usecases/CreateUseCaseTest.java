@@ -1,21 +1,21 @@
 package usecases;
 
-import com.tracktainment.gamemanager.dataprovider.DuxManagerDataProvider;
 import com.tracktainment.gamemanager.dataprovider.GameDataProvider;
 import com.tracktainment.gamemanager.domain.Game;
 import com.tracktainment.gamemanager.dto.GameCreate;
-import com.tracktainment.gamemanager.dto.duxmanager.request.AssetRequest;
-import com.tracktainment.gamemanager.dto.duxmanager.response.AssetResponse;
 import com.tracktainment.gamemanager.exception.ResourceAlreadyExistsException;
 import com.tracktainment.gamemanager.security.context.DigitalUser;
 import com.tracktainment.gamemanager.security.util.SecurityUtil;
 import com.tracktainment.gamemanager.usecases.CreateUseCase;
+import com.tracktainment.gamemanager.usecases.DispatchAssetOutboxUseCase;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
 import testutil.TestGameDataUtil;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -29,38 +29,37 @@ class CreateUseCaseTest {
     private GameDataProvider gameDataProvider;
 
     @Mock
-    private DuxManagerDataProvider duxManagerDataProvider;
+    private SecurityUtil securityUtil;
 
     @Mock
-    private SecurityUtil securityUtil;
+    private DispatchAssetOutboxUseCase dispatchAssetOutboxUseCase;
+
+    @Mock
+    private TaskExecutor assetOutboxExecutor;
 
-    @InjectMocks
     private CreateUseCase createUseCase;
 
     private GameCreate gameCreate;
     private Game game;
     private DigitalUser digitalUser;
-    private AssetResponse assetResponse;
     private String jwt;
 
     @BeforeEach
     void setUp() {
+        createUseCase = new CreateUseCase(gameDataProvider, securityUtil, dispatchAssetOutboxUseCase, assetOutboxExecutor);
+        ReflectionTestUtils.setField(createUseCase, "dispatchBatchSize", 50);
+
         gameCreate = TestGameDataUtil.createTestGameCreate();
         game = TestGameDataUtil.createTestGame();
         digitalUser = TestGameDataUtil.createTestDigitalUser();
-        assetResponse = TestGameDataUtil.createTestAssetResponse();
         jwt = "Bearer token";
     }
 
     @Test
     void shouldCreateGameSuccessfully() {
         // Arrange
-        when(gameDataProvider.create(any(GameCreate.class)))
-                .thenReturn(game);
-        when(securityUtil.getDigitalUser())
-                .thenReturn(digitalUser);
-        when(duxManagerDataProvider.createAsset(eq(jwt), eq(digitalUser.getId()), any(AssetRequest.class)))
-                .thenReturn(assetResponse);
+        when(securityUtil.getDigitalUser()).thenReturn(digitalUser);
+        when(gameDataProvider.create(gameCreate, digitalUser.getId())).thenReturn(game);
 
         CreateUseCase.Input input = CreateUseCase.Input.builder()
                 .jwt(jwt)
@@ -74,40 +73,67 @@ class CreateUseCaseTest {
         assertNotNull(output);
         assertEquals(game, output.getGame());
 
-        verify(gameDataProvider).create(gameCreate);
         verify(securityUtil).getDigitalUser();
-        verify(duxManagerDataProvider).createAsset(eq(jwt), eq(digitalUser.getId()), any(AssetRequest.class));
+        verify(gameDataProvider).create(gameCreate, digitalUser.getId());
+        verify(assetOutboxExecutor).execute(any(Runnable.class));
+        verify(dispatchAssetOutboxUseCase, never()).execute(any());
     }
 
     @Test
-    void shouldRollbackGameCreationWhenAssetCreationFails() {
+    void shouldDispatchAssetRegistrationsOfDigitalUserInBackground() {
         // Arrange
-        when(gameDataProvider.create(any(GameCreate.class)))
-                .thenReturn(game);
-        when(securityUtil.getDigitalUser())
-                .thenReturn(digitalUser);
-        when(duxManagerDataProvider.createAsset(eq(jwt), eq(digitalUser.getId()), any(AssetRequest.class)))
-                .thenThrow(new RuntimeException("Failed to create asset"));
+        when(securityUtil.getDigitalUser()).thenReturn(digitalUser);
+        when(gameDataProvider.create(gameCreate, digitalUser.getId())).thenReturn(game);
 
         CreateUseCase.Input input = CreateUseCase.Input.builder()
                 .jwt(jwt)
                 .gameCreate(gameCreate)
                 .build();
 
-        // Act & Assert
-        RuntimeException exception = assertThrows(RuntimeException.class, () -> createUseCase.execute(input));
-        assertEquals("Failed to create asset", exception.getMessage());
+        createUseCase.execute(input);
 
-        verify(gameDataProvider).create(gameCreate);
-        verify(securityUtil).getDigitalUser();
-        verify(duxManagerDataProvider).createAsset(eq(jwt), eq(digitalUser.getId()), any(AssetRequest.class));
-        verify(gameDataProvider).delete(game.getId());
+        ArgumentCaptor<Runnable> taskCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(assetOutboxExecutor).execute(taskCaptor.capture());
+
+        // Act
+        taskCaptor.getValue().run();
+
+        // Assert
+        verify(dispatchAssetOutboxUseCase).execute(
+                DispatchAssetOutboxUseCase.Input.builder()
+                        .jwt(jwt)
+                        .digitalUserId(digitalUser.getId())
+                        .batchSize(50)
+                        .build()
+        );
+    }
+
+    @Test
+    void shouldNotPropagateBackgroundDispatchFailures() {
+        // Arrange
+        when(securityUtil.getDigitalUser()).thenReturn(digitalUser);
+        when(gameDataProvider.create(gameCreate, digitalUser.getId())).thenReturn(game);
+        when(dispatchAssetOutboxUseCase.execute(any())).thenThrow(new RuntimeException("Database unavailable"));
+
+        createUseCase.execute(
+                CreateUseCase.Input.builder()
+                        .jwt(jwt)
+                        .gameCreate(gameCreate)
+                        .build()
+        );
+
+        ArgumentCaptor<Runnable> taskCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(assetOutboxExecutor).execute(taskCaptor.capture());
+
+        // Act & Assert
+        assertDoesNotThrow(() -> taskCaptor.getValue().run());
     }
 
     @Test
     void shouldPropagateGameDataProviderExceptions() {
         // Arrange
-        when(gameDataProvider.create(any(GameCreate.class)))
+        when(securityUtil.getDigitalUser()).thenReturn(digitalUser);
+        when(gameDataProvider.create(gameCreate, digitalUser.getId()))
                 .thenThrow(new ResourceAlreadyExistsException(Game.class, gameCreate.getTitle()));
 
         CreateUseCase.Input input = CreateUseCase.Input.builder()
@@ -118,9 +144,24 @@ class CreateUseCaseTest {
         // Act & Assert
         assertThrows(ResourceAlreadyExistsException.class, () -> createUseCase.execute(input));
 
-        verify(gameDataProvider).create(gameCreate);
-        verify(securityUtil, never()).getDigitalUser();
-        verify(duxManagerDataProvider, never()).createAsset(any(), any(), any());
-        verify(gameDataProvider, never()).delete(any());
+        verify(gameDataProvider).create(gameCreate, digitalUser.getId());
+        verifyNoInteractions(assetOutboxExecutor, dispatchAssetOutboxUseCase);
+    }
+
+    @Test
+    void shouldPropagateSecurityUtilExceptions() {
+        // Arrange
+        when(securityUtil.getDigitalUser()).thenThrow(new IllegalStateException("JWT not found in security context"));
+
+        CreateUseCase.Input input = CreateUseCase.Input.builder()
+                .jwt(jwt)
+                .gameCreate(gameCreate)
+                .build();
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> createUseCase.execute(input));
+
+        verify(gameDataProvider, never()).create(any(), any());
+        verifyNoInteractions(assetOutboxExecutor);
     }
 }
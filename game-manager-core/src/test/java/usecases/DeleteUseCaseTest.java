@@ -3,6 +3,8 @@ package usecases;
 import com.tracktainment.gamemanager.dataprovider.DuxManagerDataProvider;
 import com.tracktainment.gamemanager.dataprovider.GameDataProvider;
 import com.tracktainment.gamemanager.domain.Game;
+import com.tracktainment.gamemanager.dto.duxmanager.request.AssetRequest;
+import com.tracktainment.gamemanager.dto.duxmanager.response.AssetResponse;
 import com.tracktainment.gamemanager.exception.ResourceNotFoundException;
 import com.tracktainment.gamemanager.security.context.DigitalUser;
 import com.tracktainment.gamemanager.security.util.SecurityUtil;
@@ -10,6 +12,8 @@ import com.tracktainment.gamemanager.usecases.DeleteUseCase;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -38,73 +42,117 @@ class DeleteUseCaseTest {
 
     private DigitalUser digitalUser;
     private String jwt;
-    private String gameId;
+    private UUID gameId;
+    private DeleteUseCase.Input input;
 
     @BeforeEach
     void setUp() {
-        gameId = UUID.randomUUID().toString();
+        gameId = UUID.randomUUID();
         digitalUser = TestGameDataUtil.createTestDigitalUser();
         jwt = "Bearer token";
+        input = DeleteUseCase.Input.builder()
+                .jwt(jwt)
+                .id(gameId)
+                .build();
     }
 
     @Test
-    void shouldDeleteGameSuccessfully() {
+    void shouldDeleteAssetBeforeGame() {
         // Arrange
         when(securityUtil.getDigitalUser()).thenReturn(digitalUser);
-        doNothing().when(duxManagerDataProvider).deleteAsset(jwt, digitalUser.getId(), gameId);
-        doNothing().when(gameDataProvider).delete(gameId);
-
-        DeleteUseCase.Input input = DeleteUseCase.Input.builder()
-                .jwt(jwt)
-                .id(gameId)
-                .build();
 
         // Act & Assert
         assertDoesNotThrow(() -> deleteUseCase.execute(input));
 
-        verify(securityUtil).getDigitalUser();
-        verify(duxManagerDataProvider).deleteAsset(jwt, digitalUser.getId(), gameId);
-        verify(gameDataProvider).delete(gameId);
+        InOrder inOrder = inOrder(duxManagerDataProvider, gameDataProvider);
+        inOrder.verify(duxManagerDataProvider).deleteAsset(jwt, digitalUser.getId(), gameId);
+        inOrder.verify(gameDataProvider).delete(gameId, digitalUser.getId(), true);
+        verifyNoMoreInteractions(gameDataProvider);
     }
 
     @Test
-    void shouldPropagateExceptionFromDuxManagerDataProvider() {
+    void shouldDeleteGameWithPendingRegistrationWhenAssetIsNotFound() {
         // Arrange
         when(securityUtil.getDigitalUser()).thenReturn(digitalUser);
-        doThrow(new RuntimeException("Failed to delete asset")).when(duxManagerDataProvider)
-                .deleteAsset(jwt, digitalUser.getId(), gameId);
+        doThrow(new ResourceNotFoundException(AssetResponse.class, gameId.toString()))
+                .when(duxManagerDataProvider).deleteAsset(jwt, digitalUser.getId(), gameId);
 
-        DeleteUseCase.Input input = DeleteUseCase.Input.builder()
-                .jwt(jwt)
-                .id(gameId)
-                .build();
+        // Act
+        deleteUseCase.execute(input);
+
+        // Assert
+        verify(gameDataProvider).delete(gameId, digitalUser.getId(), false);
+    }
+
+    @Test
+    void shouldThrowResourceNotFoundExceptionWhenGameIsNotOwned() {
+        // Arrange
+        when(securityUtil.getDigitalUser()).thenReturn(digitalUser);
+        doThrow(new ResourceNotFoundException(AssetResponse.class, gameId.toString()))
+                .when(duxManagerDataProvider).deleteAsset(jwt, digitalUser.getId(), gameId);
+        doThrow(new ResourceNotFoundException(Game.class, gameId.toString()))
+                .when(gameDataProvider).delete(gameId, digitalUser.getId(), false);
 
         // Act & Assert
-        assertThrows(RuntimeException.class, () -> deleteUseCase.execute(input));
+        assertThrows(ResourceNotFoundException.class, () -> deleteUseCase.execute(input));
 
-        verify(securityUtil).getDigitalUser();
-        verify(duxManagerDataProvider).deleteAsset(jwt, digitalUser.getId(), gameId);
-        verify(gameDataProvider, never()).delete(any());
+        verify(duxManagerDataProvider, never()).createAsset(any(), any(), any());
     }
 
     @Test
-    void shouldPropagateExceptionFromGameDataProvider() {
+    void shouldNotRestoreAssetWhenGameDoesNotExist() {
         // Arrange
         when(securityUtil.getDigitalUser()).thenReturn(digitalUser);
-        doNothing().when(duxManagerDataProvider).deleteAsset(jwt, digitalUser.getId(), gameId);
-        doThrow(new ResourceNotFoundException(Game.class, gameId)).when(gameDataProvider).delete(gameId);
-
-        DeleteUseCase.Input input = DeleteUseCase.Input.builder()
-                .jwt(jwt)
-                .id(gameId)
-                .build();
+        doThrow(new ResourceNotFoundException(Game.class, gameId.toString()))
+                .when(gameDataProvider).delete(gameId, digitalUser.getId(), true);
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> deleteUseCase.execute(input));
 
-        verify(securityUtil).getDigitalUser();
-        verify(duxManagerDataProvider).deleteAsset(jwt, digitalUser.getId(), gameId);
-        verify(gameDataProvider).delete(gameId);
+        verify(duxManagerDataProvider, never()).createAsset(any(), any(), any());
+    }
+
+    @Test
+    void shouldRestoreAssetWhenGameDeletionFails() {
+        // Arrange
+        when(securityUtil.getDigitalUser()).thenReturn(digitalUser);
+        doThrow(new RuntimeException("Database error"))
+                .when(gameDataProvider).delete(gameId, digitalUser.getId(), true);
+
+        // Act & Assert
+        RuntimeException thrown = assertThrows(RuntimeException.class, () -> deleteUseCase.execute(input));
+        assertEquals("Database error", thrown.getMessage());
+
+        ArgumentCaptor<AssetRequest> assetRequestCaptor = ArgumentCaptor.forClass(AssetRequest.class);
+        verify(duxManagerDataProvider).createAsset(eq(jwt), eq(digitalUser.getId()), assetRequestCaptor.capture());
+        assertEquals(gameId, assetRequestCaptor.getValue().getExternalId());
+    }
+
+    @Test
+    void shouldPropagateOriginalExceptionWhenAssetCannotBeRestored() {
+        // Arrange
+        when(securityUtil.getDigitalUser()).thenReturn(digitalUser);
+        doThrow(new RuntimeException("Database error"))
+                .when(gameDataProvider).delete(gameId, digitalUser.getId(), true);
+        when(duxManagerDataProvider.createAsset(any(), any(), any()))
+                .thenThrow(new RuntimeException("API connection error"));
+
+        // Act & Assert
+        RuntimeException thrown = assertThrows(RuntimeException.class, () -> deleteUseCase.execute(input));
+        assertEquals("Database error", thrown.getMessage());
+    }
+
+    @Test
+    void shouldPropagateExceptionFromDuxManagerDataProvider() {
+        // Arrange
+        when(securityUtil.getDigitalUser()).thenReturn(digitalUser);
+        doThrow(new RuntimeException("API connection error"))
+                .when(duxManagerDataProvider).deleteAsset(jwt, digitalUser.getId(), gameId);
+
+        // Act & Assert
+        assertThrows(RuntimeException.class, () -> deleteUseCase.execute(input));
+
+        verifyNoInteractions(gameDataProvider);
     }
 
     @Test
@@ -112,16 +160,9 @@ class DeleteUseCaseTest {
         // Arrange
         when(securityUtil.getDigitalUser()).thenThrow(new IllegalStateException("JWT not found in security context"));
 
-        DeleteUseCase.Input input = DeleteUseCase.Input.builder()
-                .jwt(jwt)
-                .id(gameId)
-                .build();
-
         // Act & Assert
         assertThrows(IllegalStateException.class, () -> deleteUseCase.execute(input));
 
-        verify(securityUtil).getDigitalUser();
-        verify(duxManagerDataProvider, never()).deleteAsset(any(), any(), any());
-        verify(gameDataProvider, never()).delete(any());
+        verifyNoInteractions(duxManagerDataProvider, gameDataProvider);
     }
 }
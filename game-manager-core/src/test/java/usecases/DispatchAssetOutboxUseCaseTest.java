@@ -0,0 +1,239 @@
+package usecases;
+
+import com.tracktainment.gamemanager.dataprovider.AssetOutboxDataProvider;
+import com.tracktainment.gamemanager.dataprovider.DuxManagerDataProvider;
+import com.tracktainment.gamemanager.domain.AssetOutboxEntry;
+import com.tracktainment.gamemanager.domain.AssetOutboxStatus;
+import com.tracktainment.gamemanager.domain.Game;
+import com.tracktainment.gamemanager.dto.duxmanager.request.AssetRequest;
+import com.tracktainment.gamemanager.exception.ResourceAlreadyExistsException;
+import com.tracktainment.gamemanager.usecases.DispatchAssetOutboxUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DispatchAssetOutboxUseCaseTest {
+
+    @Mock
+    private AssetOutboxDataProvider assetOutboxDataProvider;
+
+    @Mock
+    private DuxManagerDataProvider duxManagerDataProvider;
+
+    @InjectMocks
+    private DispatchAssetOutboxUseCase dispatchAssetOutboxUseCase;
+
+    private String jwt;
+    private String digitalUserId;
+    private DispatchAssetOutboxUseCase.Input input;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(dispatchAssetOutboxUseCase, "maxAttempts", 5);
+        ReflectionTestUtils.setField(dispatchAssetOutboxUseCase, "initialBackoff", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(dispatchAssetOutboxUseCase, "maxBackoff", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(dispatchAssetOutboxUseCase, "lease", Duration.ofMinutes(1));
+
+        jwt = "Bearer token";
+        digitalUserId = UUID.randomUUID().toString();
+        input = DispatchAssetOutboxUseCase.Input.builder()
+                .jwt(jwt)
+                .digitalUserId(digitalUserId)
+                .batchSize(10)
+                .build();
+    }
+
+    @Test
+    void shouldRegisterClaimedAssetsInDuxManager() {
+        // Arrange
+        AssetOutboxEntry assetOutboxEntry = createAssetOutboxEntry(1L, 0);
+        when(assetOutboxDataProvider.claimDue(digitalUserId, 10, Duration.ofMinutes(1)))
+                .thenReturn(List.of(assetOutboxEntry));
+        when(assetOutboxDataProvider.markDispatched(1L)).thenReturn(true);
+
+        // Act
+        DispatchAssetOutboxUseCase.Output output = dispatchAssetOutboxUseCase.execute(input);
+
+        // Assert
+        assertEquals(1, output.getDispatched());
+        assertEquals(0, output.getFailed());
+        assertEquals(0, output.getDeadLettered());
+
+        ArgumentCaptor<AssetRequest> assetRequestCaptor = ArgumentCaptor.forClass(AssetRequest.class);
+        verify(duxManagerDataProvider).createAsset(eq(jwt), eq(digitalUserId), assetRequestCaptor.capture());
+        assertEquals(assetOutboxEntry.getGameId(), assetRequestCaptor.getValue().getExternalId());
+        assertEquals("game", assetRequestCaptor.getValue().getType());
+        verify(assetOutboxDataProvider).markDispatched(1L);
+    }
+
+    @Test
+    void shouldTreatAlreadyRegisteredAssetsAsDispatched() {
+        // Arrange
+        AssetOutboxEntry assetOutboxEntry = createAssetOutboxEntry(1L, 2);
+        when(assetOutboxDataProvider.claimDue(any(), anyInt(), any())).thenReturn(List.of(assetOutboxEntry));
+        when(duxManagerDataProvider.createAsset(any(), any(), any()))
+                .thenThrow(new ResourceAlreadyExistsException(Game.class, assetOutboxEntry.getGameId()));
+        when(assetOutboxDataProvider.markDispatched(1L)).thenReturn(true);
+
+        // Act
+        DispatchAssetOutboxUseCase.Output output = dispatchAssetOutboxUseCase.execute(input);
+
+        // Assert
+        assertEquals(1, output.getDispatched());
+        verify(assetOutboxDataProvider).markDispatched(1L);
+        verify(assetOutboxDataProvider, never()).markFailed(any(), anyInt(), any(), any());
+        verify(duxManagerDataProvider, never()).deleteAsset(any(), any(), any());
+    }
+
+    @Test
+    void shouldDeleteTheAssetOfAGameDeletedWhileItWasRegistered() {
+        // Arrange
+        AssetOutboxEntry assetOutboxEntry = createAssetOutboxEntry(1L, 0);
+        when(assetOutboxDataProvider.claimDue(any(), anyInt(), any())).thenReturn(List.of(assetOutboxEntry));
+        when(assetOutboxDataProvider.markDispatched(1L)).thenReturn(false);
+
+        // Act
+        DispatchAssetOutboxUseCase.Output output = dispatchAssetOutboxUseCase.execute(input);
+
+        // Assert
+        assertEquals(1, output.getDispatched());
+        verify(duxManagerDataProvider).createAsset(eq(jwt), eq(digitalUserId), any());
+        verify(duxManagerDataProvider).deleteAsset(jwt, digitalUserId, assetOutboxEntry.getGameId());
+        verify(assetOutboxDataProvider, never()).markFailed(any(), anyInt(), any(), any());
+    }
+
+    @Test
+    void shouldNotRetryWhenTheAssetOfADeletedGameCannotBeDeleted() {
+        // Arrange
+        AssetOutboxEntry assetOutboxEntry = createAssetOutboxEntry(1L, 0);
+        when(assetOutboxDataProvider.claimDue(any(), anyInt(), any())).thenReturn(List.of(assetOutboxEntry));
+        when(assetOutboxDataProvider.markDispatched(1L)).thenReturn(false);
+        doThrow(new RuntimeException("API connection error")).when(duxManagerDataProvider)
+                .deleteAsset(jwt, digitalUserId, assetOutboxEntry.getGameId());
+
+        // Act
+        DispatchAssetOutboxUseCase.Output output = dispatchAssetOutboxUseCase.execute(input);
+
+        // Assert
+        assertEquals(1, output.getDispatched());
+        assertEquals(0, output.getFailed());
+        verify(assetOutboxDataProvider, never()).markFailed(any(), anyInt(), any(), any());
+    }
+
+    @Test
+    void shouldRetryFailedRegistrationsWithExponentialBackoff() {
+        // Arrange
+        AssetOutboxEntry firstAttempt = createAssetOutboxEntry(1L, 0);
+        AssetOutboxEntry thirdAttempt = createAssetOutboxEntry(2L, 2);
+        AssetOutboxEntry cappedAttempt = createAssetOutboxEntry(3L, 3);
+        when(assetOutboxDataProvider.claimDue(any(), anyInt(), any()))
+                .thenReturn(List.of(firstAttempt, thirdAttempt, cappedAttempt));
+        when(duxManagerDataProvider.createAsset(any(), any(), any()))
+                .thenThrow(new RuntimeException("API connection error"));
+
+        LocalDateTime before = LocalDateTime.now();
+
+        // Act
+        DispatchAssetOutboxUseCase.Output output = dispatchAssetOutboxUseCase.execute(input);
+
+        // Assert
+        LocalDateTime after = LocalDateTime.now();
+        assertEquals(3, output.getFailed());
+
+        assertNextAttempt(1L, 1, before.plusSeconds(5), after.plusSeconds(5));
+        assertNextAttempt(2L, 3, before.plusSeconds(20), after.plusSeconds(20));
+        assertNextAttempt(3L, 4, before.plusSeconds(30), after.plusSeconds(30));
+        verify(assetOutboxDataProvider, never()).markDispatched(any());
+    }
+
+    @Test
+    void shouldMoveRegistrationToDeadLetterAfterMaxAttempts() {
+        // Arrange
+        AssetOutboxEntry assetOutboxEntry = createAssetOutboxEntry(1L, 4);
+        when(assetOutboxDataProvider.claimDue(any(), anyInt(), any())).thenReturn(List.of(assetOutboxEntry));
+        when(duxManagerDataProvider.createAsset(any(), any(), any()))
+                .thenThrow(new RuntimeException("x".repeat(1000)));
+
+        // Act
+        DispatchAssetOutboxUseCase.Output output = dispatchAssetOutboxUseCase.execute(input);
+
+        // Assert
+        assertEquals(1, output.getDeadLettered());
+
+        ArgumentCaptor<String> errorCaptor = ArgumentCaptor.forClass(String.class);
+        verify(assetOutboxDataProvider).markDeadLetter(eq(1L), eq(5), errorCaptor.capture());
+        assertEquals(500, errorCaptor.getValue().length());
+        assertTrue(errorCaptor.getValue().startsWith("RuntimeException: "));
+        verify(assetOutboxDataProvider, never()).markFailed(any(), anyInt(), any(), any());
+    }
+
+    @Test
+    void shouldKeepDispatchingWhenOneRegistrationFails() {
+        // Arrange
+        AssetOutboxEntry failingEntry = createAssetOutboxEntry(1L, 0);
+        AssetOutboxEntry succeedingEntry = createAssetOutboxEntry(2L, 0);
+        when(assetOutboxDataProvider.claimDue(any(), anyInt(), any()))
+                .thenReturn(List.of(failingEntry, succeedingEntry));
+        when(duxManagerDataProvider.createAsset(any(), any(), any()))
+                .thenThrow(new RuntimeException("API connection error"))
+                .thenReturn(null);
+        when(assetOutboxDataProvider.markDispatched(2L)).thenReturn(true);
+
+        // Act
+        DispatchAssetOutboxUseCase.Output output = dispatchAssetOutboxUseCase.execute(input);
+
+        // Assert
+        assertEquals(1, output.getDispatched());
+        assertEquals(1, output.getFailed());
+        verify(assetOutboxDataProvider).markFailed(eq(1L), eq(1), any(LocalDateTime.class), any());
+        verify(assetOutboxDataProvider).markDispatched(2L);
+    }
+
+    @Test
+    void shouldDoNothingWhenNoRegistrationIsDue() {
+        // Arrange
+        when(assetOutboxDataProvider.claimDue(any(), anyInt(), any())).thenReturn(Collections.emptyList());
+
+        // Act
+        DispatchAssetOutboxUseCase.Output output = dispatchAssetOutboxUseCase.execute(input);
+
+        // Assert
+        assertEquals(0, output.getDispatched() + output.getFailed() + output.getDeadLettered());
+        verifyNoInteractions(duxManagerDataProvider);
+    }
+
+    private AssetOutboxEntry createAssetOutboxEntry(Long id, int attempts) {
+        return AssetOutboxEntry.builder()
+                .id(id)
+                .gameId(UUID.randomUUID())
+                .digitalUserId(digitalUserId)
+                .status(AssetOutboxStatus.PENDING)
+                .attempts(attempts)
+                .nextAttemptAt(LocalDateTime.now())
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private void assertNextAttempt(Long id, int attempts, LocalDateTime earliest, LocalDateTime latest) {
+        ArgumentCaptor<LocalDateTime> nextAttemptCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(assetOutboxDataProvider).markFailed(eq(id), eq(attempts), nextAttemptCaptor.capture(), any());
+        assertFalse(nextAttemptCaptor.getValue().isBefore(earliest));
+        assertFalse(nextAttemptCaptor.getValue().isAfter(latest));
+    }
+}
@@ -0,0 +1,136 @@
+package usecases;
+
+import com.tracktainment.gamemanager.dataprovider.DuxManagerDataProvider;
+import com.tracktainment.gamemanager.dataprovider.GameDataProvider;
+import com.tracktainment.gamemanager.dataprovider.GameOwnershipDataProvider;
+import com.tracktainment.gamemanager.domain.Game;
+import com.tracktainment.gamemanager.dto.duxmanager.response.AssetResponse;
+import com.tracktainment.gamemanager.security.context.DigitalUser;
+import com.tracktainment.gamemanager.security.util.SecurityUtil;
+import com.tracktainment.gamemanager.usecases.ExportUseCase;
+import com.tracktainment.gamemanager.usecases.ListByCriteriaUseCase;
+import com.tracktainment.gamemanager.usecases.ReconcileOwnershipUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import testutil.TestGameDataUtil;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExportUseCaseTest {
+
+    @Mock
+    private GameDataProvider gameDataProvider;
+
+    // The external id lookup keeps its default implementation, which reads them from the stubbed asset lookup
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
+    private DuxManagerDataProvider duxManagerDataProvider;
+
+    @Mock
+    private SecurityUtil securityUtil;
+
+    @Mock
+    private GameOwnershipDataProvider gameOwnershipDataProvider;
+
+    @Mock
+    private ReconcileOwnershipUseCase reconcileOwnershipUseCase;
+
+    @InjectMocks
+    private ExportUseCase exportUseCase;
+
+    private DigitalUser digitalUser;
+    private String jwt;
+    private Consumer<Game> gameConsumer;
+
+    @BeforeEach
+    void setUp() {
+        digitalUser = TestGameDataUtil.createTestDigitalUser();
+        jwt = "Bearer token";
+        gameConsumer = game -> {};
+
+        when(securityUtil.getDigitalUser()).thenReturn(digitalUser);
+    }
+
+    @Test
+    void shouldExportGamesOwnedAccordingToTheReplica() {
+        // Arrange
+        ReflectionTestUtils.setField(exportUseCase, "ownershipReplicaReadsEnabled", true);
+        when(gameOwnershipDataProvider.isReconciled(digitalUser.getId())).thenReturn(true);
+
+        // Act
+        exportUseCase.execute(ExportUseCase.Input.builder().jwt(jwt).gameConsumer(gameConsumer).build());
+
+        // Assert
+        ArgumentCaptor<ListByCriteriaUseCase.Input> criteriaCaptor =
+                ArgumentCaptor.forClass(ListByCriteriaUseCase.Input.class);
+        verify(gameDataProvider).exportByCriteria(criteriaCaptor.capture(), same(gameConsumer));
+        assertEquals(digitalUser.getId(), criteriaCaptor.getValue().getDigitalUserId());
+        assertNull(criteriaCaptor.getValue().getOwnedGameIds());
+
+        verify(reconcileOwnershipUseCase, never()).execute(any());
+        verifyNoInteractions(duxManagerDataProvider);
+    }
+
+    @Test
+    void shouldReconcileReplicaBeforeTheFirstExport() {
+        // Arrange
+        ReflectionTestUtils.setField(exportUseCase, "ownershipReplicaReadsEnabled", true);
+        when(gameOwnershipDataProvider.isReconciled(digitalUser.getId())).thenReturn(false);
+
+        // Act
+        exportUseCase.execute(ExportUseCase.Input.builder().jwt(jwt).gameConsumer(gameConsumer).build());
+
+        // Assert
+        verify(reconcileOwnershipUseCase).execute(argThat(input ->
+                jwt.equals(input.getJwt()) && digitalUser.getId().equals(input.getDigitalUserId())));
+        verify(gameDataProvider).exportByCriteria(any(ListByCriteriaUseCase.Input.class), same(gameConsumer));
+    }
+
+    @Test
+    void shouldExportGamesOwnedAccordingToDuxManager() {
+        // Arrange
+        AssetResponse assetResponse = TestGameDataUtil.createTestAssetResponse();
+        when(duxManagerDataProvider.findAssetsByCriteria(
+                eq(jwt), eq(digitalUser.getId()), isNull(), eq("com.tracktainment"), eq("game-manager"), eq("game"),
+                isNull(), isNull(), isNull())
+        ).thenReturn(List.of(assetResponse));
+
+        // Act
+        exportUseCase.execute(ExportUseCase.Input.builder().jwt(jwt).gameConsumer(gameConsumer).build());
+
+        // Assert
+        ArgumentCaptor<ListByCriteriaUseCase.Input> criteriaCaptor =
+                ArgumentCaptor.forClass(ListByCriteriaUseCase.Input.class);
+        verify(gameDataProvider).exportByCriteria(criteriaCaptor.capture(), same(gameConsumer));
+        assertEquals(Set.of(assetResponse.getExternalId()), criteriaCaptor.getValue().getOwnedGameIds());
+        assertNull(criteriaCaptor.getValue().getDigitalUserId());
+    }
+
+    @Test
+    void shouldNotReadGamesWhenDuxManagerReportsNone() {
+        // Arrange
+        when(duxManagerDataProvider.findAssetsByCriteria(
+                anyString(), anyString(), isNull(), anyString(), anyString(), anyString(), isNull(), isNull(), isNull())
+        ).thenReturn(Collections.emptyList());
+
+        // Act
+        exportUseCase.execute(ExportUseCase.Input.builder().jwt(jwt).gameConsumer(gameConsumer).build());
+
+        // Assert
+        verifyNoInteractions(gameDataProvider);
+    }
+}
@@ -2,22 +2,31 @@ package usecases;
 
 import com.tracktainment.gamemanager.dataprovider.DuxManagerDataProvider;
 import com.tracktainment.gamemanager.dataprovider.GameDataProvider;
+import com.tracktainment.gamemanager.dataprovider.GameOwnershipDataProvider;
 import com.tracktainment.gamemanager.domain.Game;
 import com.tracktainment.gamemanager.dto.duxmanager.response.AssetResponse;
 import com.tracktainment.gamemanager.exception.ResourceNotFoundException;
 import com.tracktainment.gamemanager.security.context.DigitalUser;
 import com.tracktainment.gamemanager.security.util.SecurityUtil;
 import com.tracktainment.gamemanager.usecases.FindByIdUseCase;
+import com.tracktainment.gamemanager.usecases.ReconcileOwnershipUseCase;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 import testutil.TestGameDataUtil;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -29,30 +38,52 @@ class FindByIdUseCaseTest {
     @Mock
     private GameDataProvider gameDataProvider;
 
-    @Mock
+    // The async lookup keeps its default implementation, which runs the stubbed blocking lookup on the executor
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
     private DuxManagerDataProvider duxManagerDataProvider;
 
     @Mock
     private SecurityUtil securityUtil;
 
-    @InjectMocks
+    @Mock
+    private GameOwnershipDataProvider gameOwnershipDataProvider;
+
+    @Mock
+    private ReconcileOwnershipUseCase reconcileOwnershipUseCase;
+
+    private ExecutorService ownershipCheckExecutor;
     private FindByIdUseCase findByIdUseCase;
 
     private Game game;
     private DigitalUser digitalUser;
     private AssetResponse assetResponse;
     private String jwt;
-    private String gameId;
+    private UUID gameId;
 
     @BeforeEach
     void setUp() {
-        gameId = UUID.randomUUID().toString();
+        ownershipCheckExecutor = Executors.newFixedThreadPool(2);
+        findByIdUseCase = new FindByIdUseCase(
+                gameDataProvider,
+                duxManagerDataProvider,
+                securityUtil,
+                gameOwnershipDataProvider,
+                reconcileOwnershipUseCase,
+                ownershipCheckExecutor::execute
+        );
+
+        gameId = UUID.randomUUID();
         game = TestGameDataUtil.createTestGame();
         digitalUser = TestGameDataUtil.createTestDigitalUser();
         assetResponse = TestGameDataUtil.createTestAssetResponse();
         jwt = "Bearer token";
     }
 
+    @AfterEach
+    void tearDown() {
+        ownershipCheckExecutor.shutdownNow();
+    }
+
     @Test
     void shouldFindGameByIdSuccessfully() {
         // Arrange
@@ -60,7 +91,7 @@ class FindByIdUseCaseTest {
         when(duxManagerDataProvider.findAssetsByCriteria(
                 eq(jwt),
                 eq(digitalUser.getId()),
-                eq(gameId),
+                eq(gameId.toString()),
                 eq("com.tracktainment"),
                 eq("game-manager"),
                 eq("game"),
@@ -86,7 +117,7 @@ class FindByIdUseCaseTest {
         verify(duxManagerDataProvider).findAssetsByCriteria(
                 eq(jwt),
                 eq(digitalUser.getId()),
-                eq(gameId),
+                eq(gameId.toString()),
                 eq("com.tracktainment"),
                 eq("game-manager"),
                 eq("game"),
@@ -104,7 +135,7 @@ class FindByIdUseCaseTest {
         when(duxManagerDataProvider.findAssetsByCriteria(
                 eq(jwt),
                 eq(digitalUser.getId()),
-                eq(gameId),
+                eq(gameId.toString()),
                 eq("com.tracktainment"),
                 eq("game-manager"),
                 eq("game"),
@@ -125,7 +156,7 @@ class FindByIdUseCaseTest {
         verify(duxManagerDataProvider).findAssetsByCriteria(
                 eq(jwt),
                 eq(digitalUser.getId()),
-                eq(gameId),
+                eq(gameId.toString()),
                 eq("com.tracktainment"),
                 eq("game-manager"),
                 eq("game"),
@@ -133,25 +164,17 @@ class FindByIdUseCaseTest {
                 isNull(),
                 isNull()
         );
-        verify(gameDataProvider, never()).findById(any());
+        verify(gameDataProvider).findById(gameId);
     }
 
     @Test
     void shouldPropagateGameDataProviderExceptions() {
         // Arrange
         when(securityUtil.getDigitalUser()).thenReturn(digitalUser);
-        when(duxManagerDataProvider.findAssetsByCriteria(
-                eq(jwt),
-                eq(digitalUser.getId()),
-                eq(gameId),
-                eq("com.tracktainment"),
-                eq("game-manager"),
-                eq("game"),
-                isNull(),
-                isNull(),
-                isNull()
+        lenient().when(duxManagerDataProvider.findAssetsByCriteria(
+                any(), any(), any(), any(), any(), any(), any(), any(), any()
         )).thenReturn(Collections.singletonList(assetResponse));
-        when(gameDataProvider.findById(gameId)).thenThrow(new ResourceNotFoundException(Game.class, gameId));
+        when(gameDataProvider.findById(gameId)).thenThrow(new ResourceNotFoundException(Game.class, gameId.toString()));
 
         FindByIdUseCase.Input input = FindByIdUseCase.Input.builder()
                 .jwt(jwt)
@@ -162,17 +185,169 @@ class FindByIdUseCaseTest {
         assertThrows(ResourceNotFoundException.class, () -> findByIdUseCase.execute(input));
 
         verify(securityUtil).getDigitalUser();
-        verify(duxManagerDataProvider).findAssetsByCriteria(
-                eq(jwt),
-                eq(digitalUser.getId()),
-                eq(gameId),
-                eq("com.tracktainment"),
-                eq("game-manager"),
-                eq("game"),
-                isNull(),
-                isNull(),
-                isNull()
-        );
         verify(gameDataProvider).findById(gameId);
     }
+
+    @Test
+    void shouldPropagateDuxManagerDataProviderExceptions() {
+        // Arrange
+        when(securityUtil.getDigitalUser()).thenReturn(digitalUser);
+        when(duxManagerDataProvider.findAssetsByCriteria(
+                any(), any(), any(), any(), any(), any(), any(), any(), any()
+        )).thenThrow(new RuntimeException("API connection error"));
+        when(gameDataProvider.findById(gameId)).thenReturn(game);
+
+        FindByIdUseCase.Input input = FindByIdUseCase.Input.builder()
+                .jwt(jwt)
+                .id(gameId)
+                .build();
+
+        // Act & Assert
+        RuntimeException thrown = assertThrows(RuntimeException.class, () -> findByIdUseCase.execute(input));
+        assertEquals("API connection error", thrown.getMessage());
+    }
+
+    @Test
+    void shouldCheckOwnershipWhileReadingGame() {
+        // Arrange
+        CountDownLatch gameReadStarted = new CountDownLatch(1);
+        CountDownLatch ownershipCheckStarted = new CountDownLatch(1);
+        when(securityUtil.getDigitalUser()).thenReturn(digitalUser);
+        when(duxManagerDataProvider.findAssetsByCriteria(
+                any(), any(), any(), any(), any(), any(), any(), any(), any()
+        )).thenAnswer(invocation -> {
+            ownershipCheckStarted.countDown();
+            assertTrue(gameReadStarted.await(5, TimeUnit.SECONDS));
+            return Collections.singletonList(assetResponse);
+        });
+        when(gameDataProvider.findById(gameId)).thenAnswer(invocation -> {
+            gameReadStarted.countDown();
+            assertTrue(ownershipCheckStarted.await(5, TimeUnit.SECONDS));
+            return game;
+        });
+
+        FindByIdUseCase.Input input = FindByIdUseCase.Input.builder()
+                .jwt(jwt)
+                .id(gameId)
+                .build();
+
+        // Act
+        FindByIdUseCase.Output output = findByIdUseCase.execute(input);
+
+        // Assert
+        assertEquals(game, output.getGame());
+    }
+
+    @Test
+    void shouldNotWaitForOwnershipCheckWhenGameReadFails() {
+        // Arrange
+        CountDownLatch ownershipCheckReleased = new CountDownLatch(1);
+        when(securityUtil.getDigitalUser()).thenReturn(digitalUser);
+        lenient().when(duxManagerDataProvider.findAssetsByCriteria(
+                any(), any(), any(), any(), any(), any(), any(), any(), any()
+        )).thenAnswer(invocation -> {
+            ownershipCheckReleased.await();
+            return Collections.singletonList(assetResponse);
+        });
+        when(gameDataProvider.findById(gameId)).thenThrow(new ResourceNotFoundException(Game.class, gameId.toString()));
+
+        FindByIdUseCase.Input input = FindByIdUseCase.Input.builder()
+                .jwt(jwt)
+                .id(gameId)
+                .build();
+
+        // Act & Assert
+        try {
+            assertTimeoutPreemptively(
+                    Duration.ofSeconds(5),
+                    () -> assertThrows(ResourceNotFoundException.class, () -> findByIdUseCase.execute(input))
+            );
+        } finally {
+            ownershipCheckReleased.countDown();
+        }
+    }
+
+    @Test
+    void shouldStopRunningOwnershipCheckWhenGameReadFails() throws InterruptedException {
+        // Arrange
+        CountDownLatch ownershipCheckStarted = new CountDownLatch(1);
+        CountDownLatch ownershipCheckInterrupted = new CountDownLatch(1);
+        when(securityUtil.getDigitalUser()).thenReturn(digitalUser);
+        when(duxManagerDataProvider.findAssetsByCriteria(
+                any(), any(), any(), any(), any(), any(), any(), any(), any()
+        )).thenAnswer(invocation -> {
+            ownershipCheckStarted.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                ownershipCheckInterrupted.countDown();
+            }
+            return Collections.singletonList(assetResponse);
+        });
+        when(gameDataProvider.findById(gameId)).thenAnswer(invocation -> {
+            assertTrue(ownershipCheckStarted.await(5, TimeUnit.SECONDS));
+            throw new ResourceNotFoundException(Game.class, gameId.toString());
+        });
+
+        FindByIdUseCase.Input input = FindByIdUseCase.Input.builder()
+                .jwt(jwt)
+                .id(gameId)
+                .build();
+
+        // Act
+        assertThrows(ResourceNotFoundException.class, () -> findByIdUseCase.execute(input));
+
+        // Assert
+        assertTrue(ownershipCheckInterrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void shouldFindGameByIdFromOwnershipReplica() {
+        // Arrange
+        ReflectionTestUtils.setField(findByIdUseCase, "ownershipReplicaReadsEnabled", true);
+        when(securityUtil.getDigitalUser()).thenReturn(digitalUser);
+        when(gameOwnershipDataProvider.isReconciled(digitalUser.getId())).thenReturn(true);
+        when(gameDataProvider.findByIdAndDigitalUserId(gameId, digitalUser.getId())).thenReturn(game);
+
+        FindByIdUseCase.Input input = FindByIdUseCase.Input.builder()
+                .jwt(jwt)
+                .id(gameId)
+                .build();
+
+        // Act
+        FindByIdUseCase.Output output = findByIdUseCase.execute(input);
+
+        // Assert
+        assertEquals(game, output.getGame());
+
+        verify(reconcileOwnershipUseCase, never()).execute(any());
+        verifyNoInteractions(duxManagerDataProvider);
+        verify(gameDataProvider, never()).findById(any());
+    }
+
+    @Test
+    void shouldReconcileOwnershipBeforeFirstReplicaRead() {
+        // Arrange
+        ReflectionTestUtils.setField(findByIdUseCase, "ownershipReplicaReadsEnabled", true);
+        when(securityUtil.getDigitalUser()).thenReturn(digitalUser);
+        when(gameOwnershipDataProvider.isReconciled(digitalUser.getId())).thenReturn(false);
+        when(gameDataProvider.findByIdAndDigitalUserId(gameId, digitalUser.getId()))
+                .thenThrow(new ResourceNotFoundException(Game.class, gameId.toString()));
+
+        FindByIdUseCase.Input input = FindByIdUseCase.Input.builder()
+                .jwt(jwt)
+                .id(gameId)
+                .build();
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> findByIdUseCase.execute(input));
+
+        verify(reconcileOwnershipUseCase).execute(
+                ReconcileOwnershipUseCase.Input.builder()
+                        .jwt(jwt)
+                        .digitalUserId(digitalUser.getId())
+                        .build()
+        );
+        verifyNoInteractions(duxManagerDataProvider);
+    }
 }
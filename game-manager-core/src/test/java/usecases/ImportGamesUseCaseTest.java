@@ -0,0 +1,107 @@
+package usecases;
+
+import com.tracktainment.gamemanager.dataprovider.GameImportDataProvider;
+import com.tracktainment.gamemanager.domain.GameImport;
+import com.tracktainment.gamemanager.domain.GameImportFormat;
+import com.tracktainment.gamemanager.domain.GameImportStatus;
+import com.tracktainment.gamemanager.exception.InternalServerErrorException;
+import com.tracktainment.gamemanager.usecases.GameImportRegistry;
+import com.tracktainment.gamemanager.usecases.ImportGamesUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ImportGamesUseCaseTest {
+
+    private static final String DIGITAL_USER_ID = "123e4567-e89b-12d3-a456-426614174001";
+
+    private GameImportDataProvider gameImportDataProvider;
+    private GameImportRegistry gameImportRegistry;
+    private ImportGamesUseCase importGamesUseCase;
+    private InputStream content;
+
+    @BeforeEach
+    void setUp() {
+        gameImportDataProvider = mock(GameImportDataProvider.class);
+        gameImportRegistry = new GameImportRegistry(20);
+        importGamesUseCase = new ImportGamesUseCase(gameImportDataProvider, gameImportRegistry);
+        content = new ByteArrayInputStream(new byte[0]);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldImportGamesAndRecordProgress() {
+        // Arrange
+        when(gameImportDataProvider.importGames(any(GameImport.class), eq(content), any(Consumer.class)))
+                .thenAnswer(invocation -> {
+                    GameImport gameImport = invocation.getArgument(0);
+                    Consumer<GameImport> progressListener = invocation.getArgument(2);
+
+                    assertEquals(GameImportStatus.RUNNING, gameImportRegistry.findAll().get(0).getStatus());
+                    progressListener.accept(gameImport.toBuilder().read(10).imported(8).rejected(2).build());
+                    assertEquals(8, gameImportRegistry.findAll().get(0).getImported());
+
+                    return gameImport.toBuilder()
+                            .status(GameImportStatus.COMPLETED)
+                            .read(10)
+                            .imported(8)
+                            .rejected(2)
+                            .finishedAt(LocalDateTime.now())
+                            .build();
+                });
+
+        // Act
+        ImportGamesUseCase.Output output = importGamesUseCase.execute(
+                ImportGamesUseCase.Input.builder()
+                        .digitalUserId(DIGITAL_USER_ID)
+                        .format(GameImportFormat.CSV)
+                        .content(content)
+                        .build()
+        );
+
+        // Assert
+        GameImport gameImport = output.getGameImport();
+        assertNotNull(gameImport.getId());
+        assertEquals(DIGITAL_USER_ID, gameImport.getDigitalUserId());
+        assertEquals(GameImportFormat.CSV, gameImport.getFormat());
+        assertEquals(GameImportStatus.COMPLETED, gameImport.getStatus());
+        assertEquals(List.of(gameImport), gameImportRegistry.findAll());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldRecordFailedImportWithLatestProgress() {
+        // Arrange
+        when(gameImportDataProvider.importGames(any(GameImport.class), eq(content), any(Consumer.class)))
+                .thenAnswer(invocation -> {
+                    GameImport gameImport = invocation.getArgument(0);
+                    Consumer<GameImport> progressListener = invocation.getArgument(2);
+                    progressListener.accept(gameImport.toBuilder().read(5).imported(5).build());
+                    throw new InternalServerErrorException("Connection reset");
+                });
+
+        ImportGamesUseCase.Input input = ImportGamesUseCase.Input.builder()
+                .digitalUserId(DIGITAL_USER_ID)
+                .format(GameImportFormat.NDJSON)
+                .content(content)
+                .build();
+
+        // Act & Assert
+        assertThrows(InternalServerErrorException.class, () -> importGamesUseCase.execute(input));
+
+        GameImport gameImport = gameImportRegistry.findAll().get(0);
+        assertEquals(GameImportStatus.FAILED, gameImport.getStatus());
+        assertEquals(5, gameImport.getImported());
+        assertEquals("Connection reset", gameImport.getError());
+        assertNotNull(gameImport.getFinishedAt());
+    }
+}
@@ -2,19 +2,25 @@ package usecases;
 
 import com.tracktainment.gamemanager.dataprovider.DuxManagerDataProvider;
 import com.tracktainment.gamemanager.dataprovider.GameDataProvider;
+import com.tracktainment.gamemanager.dataprovider.GameOwnershipDataProvider;
 import com.tracktainment.gamemanager.domain.Game;
+import com.tracktainment.gamemanager.domain.GamePage;
 import com.tracktainment.gamemanager.domain.OrderBy;
 import com.tracktainment.gamemanager.domain.OrderDirection;
 import com.tracktainment.gamemanager.dto.duxmanager.response.AssetResponse;
 import com.tracktainment.gamemanager.security.context.DigitalUser;
 import com.tracktainment.gamemanager.security.util.SecurityUtil;
 import com.tracktainment.gamemanager.usecases.ListByCriteriaUseCase;
+import com.tracktainment.gamemanager.usecases.ReconcileOwnershipUseCase;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 import testutil.TestGameDataUtil;
 
 import java.time.LocalDate;
@@ -30,12 +36,19 @@ class ListByCriteriaUseCaseTest {
     @Mock
     private GameDataProvider gameDataProvider;
 
-    @Mock
+    // The external id lookup keeps its default implementation, which reads them from the stubbed asset lookup
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
     private DuxManagerDataProvider duxManagerDataProvider;
 
     @Mock
     private SecurityUtil securityUtil;
 
+    @Mock
+    private GameOwnershipDataProvider gameOwnershipDataProvider;
+
+    @Mock
+    private ReconcileOwnershipUseCase reconcileOwnershipUseCase;
+
     @InjectMocks
     private ListByCriteriaUseCase listByCriteriaUseCase;
 
@@ -52,7 +65,7 @@ class ListByCriteriaUseCaseTest {
     void setUp() {
         game1 = TestGameDataUtil.createTestGame();
         game2 = Game.builder()
-                .id(UUID.randomUUID().toString())
+                .id(UUID.randomUUID())
                 .title("God of War: Ragnarok")
                 .platform("PlayStation 5")
                 .genre("Action Adventure")
@@ -94,7 +107,8 @@ class ListByCriteriaUseCaseTest {
                 isNull())
         ).thenReturn(assetResponses);
 
-        when(gameDataProvider.listByCriteria(any(ListByCriteriaUseCase.Input.class))).thenReturn(games);
+        when(gameDataProvider.listByCriteria(any(ListByCriteriaUseCase.Input.class)))
+                .thenReturn(GamePage.builder().games(games).build());
 
         List<OrderBy> orderByList = Collections.singletonList(OrderBy.TITLE);
         List<OrderDirection> orderDirectionList = Collections.singletonList(OrderDirection.ASC);
@@ -127,19 +141,20 @@ class ListByCriteriaUseCaseTest {
                 isNull(),
                 isNull()
         );
-        verify(gameDataProvider).listByCriteria(any(ListByCriteriaUseCase.Input.class));
+        ArgumentCaptor<ListByCriteriaUseCase.Input> inputCaptor = ArgumentCaptor.forClass(ListByCriteriaUseCase.Input.class);
+        verify(gameDataProvider).listByCriteria(inputCaptor.capture());
+        assertEquals(Set.of(game1.getId(), game2.getId()), inputCaptor.getValue().getOwnedGameIds());
+        assertNull(inputCaptor.getValue().getIds());
     }
 
     @Test
-    void shouldHandleEmptyAssetsList() {
+    void shouldReturnEmptyListWithoutQueryingWhenNoAssetsOwned() {
         // Arrange
         when(securityUtil.getDigitalUser()).thenReturn(digitalUser);
         when(duxManagerDataProvider.findAssetsByCriteria(
                 any(), any(), any(), any(), any(), any(), any(), any(), any())
         ).thenReturn(Collections.emptyList());
 
-        when(gameDataProvider.listByCriteria(any(ListByCriteriaUseCase.Input.class))).thenReturn(Collections.emptyList());
-
         ListByCriteriaUseCase.Input input = ListByCriteriaUseCase.Input.builder()
                 .jwt(jwt)
                 .offset(0)
@@ -166,13 +181,13 @@ class ListByCriteriaUseCaseTest {
                 isNull(),
                 isNull()
         );
-        verify(gameDataProvider).listByCriteria(any(ListByCriteriaUseCase.Input.class));
+        verify(gameDataProvider, never()).listByCriteria(any());
     }
 
     @Test
     void shouldFilterBySpecificId() {
         // Arrange
-        String specificGameId = game1.getId();
+        String specificGameId = game1.getId().toString();
         when(securityUtil.getDigitalUser()).thenReturn(digitalUser);
         when(duxManagerDataProvider.findAssetsByCriteria(
                 eq(jwt),
@@ -186,7 +201,8 @@ class ListByCriteriaUseCaseTest {
                 isNull())
         ).thenReturn(Collections.singletonList(assetResponse1));
 
-        when(gameDataProvider.listByCriteria(any(ListByCriteriaUseCase.Input.class))).thenReturn(Collections.singletonList(game1));
+        when(gameDataProvider.listByCriteria(any(ListByCriteriaUseCase.Input.class)))
+                .thenReturn(GamePage.builder().games(Collections.singletonList(game1)).build());
 
         ListByCriteriaUseCase.Input input = ListByCriteriaUseCase.Input.builder()
                 .jwt(jwt)
@@ -237,7 +253,8 @@ class ListByCriteriaUseCaseTest {
                 eq(to))
         ).thenReturn(assetResponses);
 
-        when(gameDataProvider.listByCriteria(any(ListByCriteriaUseCase.Input.class))).thenReturn(games);
+        when(gameDataProvider.listByCriteria(any(ListByCriteriaUseCase.Input.class)))
+                .thenReturn(GamePage.builder().games(games).build());
 
         ListByCriteriaUseCase.Input input = ListByCriteriaUseCase.Input.builder()
                 .jwt(jwt)
@@ -268,4 +285,67 @@ class ListByCriteriaUseCaseTest {
         );
         verify(gameDataProvider).listByCriteria(any(ListByCriteriaUseCase.Input.class));
     }
+
+    @Test
+    void shouldListGamesFromOwnershipReplica() {
+        // Arrange
+        ReflectionTestUtils.setField(listByCriteriaUseCase, "ownershipReplicaReadsEnabled", true);
+        when(securityUtil.getDigitalUser()).thenReturn(digitalUser);
+        when(gameOwnershipDataProvider.isReconciled(digitalUser.getId())).thenReturn(false);
+        when(gameDataProvider.listByCriteria(any(ListByCriteriaUseCase.Input.class)))
+                .thenReturn(GamePage.builder().games(games).build());
+
+        ListByCriteriaUseCase.Input input = ListByCriteriaUseCase.Input.builder()
+                .jwt(jwt)
+                .offset(0)
+                .limit(10)
+                .build();
+
+        // Act
+        ListByCriteriaUseCase.Output output = listByCriteriaUseCase.execute(input);
+
+        // Assert
+        assertEquals(games, output.getGames());
+
+        ArgumentCaptor<ListByCriteriaUseCase.Input> inputCaptor = ArgumentCaptor.forClass(ListByCriteriaUseCase.Input.class);
+        verify(gameDataProvider).listByCriteria(inputCaptor.capture());
+        assertEquals(digitalUser.getId(), inputCaptor.getValue().getDigitalUserId());
+        assertNull(inputCaptor.getValue().getIds());
+
+        verify(reconcileOwnershipUseCase).execute(
+                ReconcileOwnershipUseCase.Input.builder()
+                        .jwt(jwt)
+                        .digitalUserId(digitalUser.getId())
+                        .build()
+        );
+        verifyNoInteractions(duxManagerDataProvider);
+    }
+
+    @Test
+    void shouldPassCursorAndReturnNextCursor() {
+        // Arrange
+        ReflectionTestUtils.setField(listByCriteriaUseCase, "ownershipReplicaReadsEnabled", true);
+        when(securityUtil.getDigitalUser()).thenReturn(digitalUser);
+        when(gameOwnershipDataProvider.isReconciled(digitalUser.getId())).thenReturn(true);
+        when(gameDataProvider.listByCriteria(any(ListByCriteriaUseCase.Input.class)))
+                .thenReturn(GamePage.builder().games(games).nextCursor("next-cursor").build());
+
+        ListByCriteriaUseCase.Input input = ListByCriteriaUseCase.Input.builder()
+                .jwt(jwt)
+                .limit(2)
+                .cursor("cursor")
+                .build();
+
+        // Act
+        ListByCriteriaUseCase.Output output = listByCriteriaUseCase.execute(input);
+
+        // Assert
+        assertEquals(games, output.getGames());
+        assertEquals("next-cursor", output.getNextCursor());
+
+        ArgumentCaptor<ListByCriteriaUseCase.Input> inputCaptor = ArgumentCaptor.forClass(ListByCriteriaUseCase.Input.class);
+        verify(gameDataProvider).listByCriteria(inputCaptor.capture());
+        assertEquals("cursor", inputCaptor.getValue().getCursor());
+        verifyNoInteractions(reconcileOwnershipUseCase, duxManagerDataProvider);
+    }
 }
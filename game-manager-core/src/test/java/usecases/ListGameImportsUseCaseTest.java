@@ -0,0 +1,44 @@
+package usecases;
+
+import com.tracktainment.gamemanager.domain.GameImport;
+import com.tracktainment.gamemanager.domain.GameImportStatus;
+import com.tracktainment.gamemanager.usecases.GameImportRegistry;
+import com.tracktainment.gamemanager.usecases.ListGameImportsUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ListGameImportsUseCaseTest {
+
+    private GameImportRegistry gameImportRegistry;
+    private ListGameImportsUseCase listGameImportsUseCase;
+
+    @BeforeEach
+    void setUp() {
+        gameImportRegistry = new GameImportRegistry(2);
+        listGameImportsUseCase = new ListGameImportsUseCase(gameImportRegistry);
+    }
+
+    @Test
+    void shouldListLatestProgressOfMostRecentImports() {
+        // Arrange
+        GameImport first = GameImport.builder().id("1").status(GameImportStatus.COMPLETED).build();
+        GameImport second = GameImport.builder().id("2").status(GameImportStatus.RUNNING).build();
+        GameImport third = GameImport.builder().id("3").status(GameImportStatus.RUNNING).build();
+        GameImport secondProgress = second.toBuilder().imported(100).build();
+
+        gameImportRegistry.update(first);
+        gameImportRegistry.update(second);
+        gameImportRegistry.update(third);
+        gameImportRegistry.update(secondProgress);
+
+        // Act
+        ListGameImportsUseCase.Output output = listGameImportsUseCase.execute();
+
+        // Assert
+        assertEquals(List.of(secondProgress, third), output.getGameImports());
+    }
+}
@@ -0,0 +1,119 @@
+package usecases;
+
+import com.tracktainment.gamemanager.dataprovider.DuxManagerDataProvider;
+import com.tracktainment.gamemanager.dataprovider.GameOwnershipDataProvider;
+import com.tracktainment.gamemanager.dto.duxmanager.response.AssetResponse;
+import com.tracktainment.gamemanager.security.context.DigitalUser;
+import com.tracktainment.gamemanager.usecases.ReconcileOwnershipUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import testutil.TestGameDataUtil;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReconcileOwnershipUseCaseTest {
+
+    @Mock
+    private DuxManagerDataProvider duxManagerDataProvider;
+
+    @Mock
+    private GameOwnershipDataProvider gameOwnershipDataProvider;
+
+    @InjectMocks
+    private ReconcileOwnershipUseCase reconcileOwnershipUseCase;
+
+    private DigitalUser digitalUser;
+    private String jwt;
+
+    @BeforeEach
+    void setUp() {
+        digitalUser = TestGameDataUtil.createTestDigitalUser();
+        jwt = "Bearer token";
+    }
+
+    @Test
+    void shouldReconcileOwnershipWithAssetsFromDuxManager() {
+        // Arrange
+        AssetResponse assetResponse1 = TestGameDataUtil.createTestAssetResponse();
+        AssetResponse assetResponse2 = TestGameDataUtil.createTestAssetResponse();
+        when(duxManagerDataProvider.findAssetsByCriteria(
+                eq(jwt),
+                eq(digitalUser.getId()),
+                isNull(),
+                eq("com.tracktainment"),
+                eq("game-manager"),
+                eq("game"),
+                isNull(),
+                isNull(),
+                isNull()
+        )).thenReturn(Arrays.asList(assetResponse1, assetResponse2));
+
+        LocalDateTime before = LocalDateTime.now();
+
+        // Act
+        reconcileOwnershipUseCase.execute(
+                ReconcileOwnershipUseCase.Input.builder()
+                        .jwt(jwt)
+                        .digitalUserId(digitalUser.getId())
+                        .build()
+        );
+
+        // Assert
+        ArgumentCaptor<LocalDateTime> startedAtCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(gameOwnershipDataProvider).reconcile(
+                eq(digitalUser.getId()),
+                eq(Set.of(assetResponse1.getExternalId(), assetResponse2.getExternalId())),
+                startedAtCaptor.capture()
+        );
+        assertFalse(startedAtCaptor.getValue().isBefore(before));
+    }
+
+    @Test
+    void shouldReconcileToEmptyOwnershipWhenNoAssetsExist() {
+        // Arrange
+        when(duxManagerDataProvider.findAssetsByCriteria(
+                any(), any(), any(), any(), any(), any(), any(), any(), any())
+        ).thenReturn(Collections.emptyList());
+
+        // Act
+        reconcileOwnershipUseCase.execute(
+                ReconcileOwnershipUseCase.Input.builder()
+                        .jwt(jwt)
+                        .digitalUserId(digitalUser.getId())
+                        .build()
+        );
+
+        // Assert
+        verify(gameOwnershipDataProvider).reconcile(eq(digitalUser.getId()), eq(Set.of()), any(LocalDateTime.class));
+    }
+
+    @Test
+    void shouldNotReconcileWhenDuxManagerFails() {
+        // Arrange
+        when(duxManagerDataProvider.findAssetsByCriteria(
+                any(), any(), any(), any(), any(), any(), any(), any(), any())
+        ).thenThrow(new RuntimeException("API connection error"));
+
+        ReconcileOwnershipUseCase.Input input = ReconcileOwnershipUseCase.Input.builder()
+                .jwt(jwt)
+                .digitalUserId(digitalUser.getId())
+                .build();
+
+        // Act & Assert
+        assertThrows(RuntimeException.class, () -> reconcileOwnershipUseCase.execute(input));
+        verifyNoInteractions(gameOwnershipDataProvider);
+    }
+}
@@ -1,10 +1,15 @@
 package usecases;
 
+import com.tracktainment.gamemanager.dataprovider.DuxManagerDataProvider;
 import com.tracktainment.gamemanager.dataprovider.GameDataProvider;
+import com.tracktainment.gamemanager.dataprovider.GameOwnershipDataProvider;
 import com.tracktainment.gamemanager.domain.Game;
 import com.tracktainment.gamemanager.dto.GameUpdate;
+import com.tracktainment.gamemanager.dto.duxmanager.response.AssetResponse;
 import com.tracktainment.gamemanager.exception.ResourceNotFoundException;
-import com.tracktainment.gamemanager.usecases.FindByIdUseCase;
+import com.tracktainment.gamemanager.security.context.DigitalUser;
+import com.tracktainment.gamemanager.security.util.SecurityUtil;
+import com.tracktainment.gamemanager.usecases.ReconcileOwnershipUseCase;
 import com.tracktainment.gamemanager.usecases.UpdateUseCase;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,8 +17,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 import testutil.TestGameDataUtil;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -27,40 +35,49 @@ class UpdateUseCaseTest {
     private GameDataProvider gameDataProvider;
 
     @Mock
-    private FindByIdUseCase findByIdUseCase;
+    private DuxManagerDataProvider duxManagerDataProvider;
+
+    @Mock
+    private SecurityUtil securityUtil;
+
+    @Mock
+    private GameOwnershipDataProvider gameOwnershipDataProvider;
+
+    @Mock
+    private ReconcileOwnershipUseCase reconcileOwnershipUseCase;
 
     @InjectMocks
     private UpdateUseCase updateUseCase;
 
-    private Game game;
     private Game updatedGame;
     private GameUpdate gameUpdate;
+    private DigitalUser digitalUser;
+    private AssetResponse assetResponse;
     private String jwt;
-    private String gameId;
+    private UUID gameId;
+    private UpdateUseCase.Input input;
 
     @BeforeEach
     void setUp() {
-        gameId = UUID.randomUUID().toString();
-        game = TestGameDataUtil.createTestGame();
+        gameId = UUID.randomUUID();
         gameUpdate = TestGameDataUtil.createTestGameUpdate();
         updatedGame = TestGameDataUtil.createTestGameWithUpdate();
+        digitalUser = TestGameDataUtil.createTestDigitalUser();
+        assetResponse = TestGameDataUtil.createTestAssetResponse();
         jwt = "Bearer token";
+        input = UpdateUseCase.Input.builder()
+                .jwt(jwt)
+                .id(gameId)
+                .gameUpdate(gameUpdate)
+                .build();
     }
 
     @Test
     void shouldUpdateGameSuccessfully() {
         // Arrange
-        when(findByIdUseCase.execute(any(FindByIdUseCase.Input.class))).thenReturn(
-                FindByIdUseCase.Output.builder().game(game).build()
-        );
-
-        when(gameDataProvider.update(eq(gameId), eq(gameUpdate))).thenReturn(updatedGame);
-
-        UpdateUseCase.Input input = UpdateUseCase.Input.builder()
-                .jwt(jwt)
-                .id(gameId)
-                .gameUpdate(gameUpdate)
-                .build();
+        when(securityUtil.getDigitalUser()).thenReturn(digitalUser);
+        mockOwnedAssets(Collections.singletonList(assetResponse));
+        when(gameDataProvider.update(gameId, gameUpdate)).thenReturn(updatedGame);
 
         // Act
         UpdateUseCase.Output output = updateUseCase.execute(input);
@@ -69,74 +86,97 @@ class UpdateUseCaseTest {
         assertNotNull(output);
         assertEquals(updatedGame, output.getGame());
 
-        verify(findByIdUseCase).execute(any(FindByIdUseCase.Input.class));
+        verify(duxManagerDataProvider).findAssetsByCriteria(
+                eq(jwt), eq(digitalUser.getId()), eq(gameId.toString()), eq("com.tracktainment"), eq("game-manager"),
+                eq("game"), isNull(), isNull(), isNull());
         verify(gameDataProvider).update(gameId, gameUpdate);
     }
 
     @Test
-    void shouldPropagateExceptionWhenGameNotFound() {
+    void shouldUpdateWithoutReadingGameFirst() {
         // Arrange
-        when(findByIdUseCase.execute(any(FindByIdUseCase.Input.class)))
-                .thenThrow(new ResourceNotFoundException(Game.class, gameId));
+        when(securityUtil.getDigitalUser()).thenReturn(digitalUser);
+        mockOwnedAssets(Collections.singletonList(assetResponse));
+        when(gameDataProvider.update(gameId, gameUpdate)).thenReturn(updatedGame);
 
-        UpdateUseCase.Input input = UpdateUseCase.Input.builder()
-                .jwt(jwt)
-                .id(gameId)
-                .gameUpdate(gameUpdate)
-                .build();
+        // Act
+        updateUseCase.execute(input);
+
+        // Assert
+        verify(gameDataProvider).update(gameId, gameUpdate);
+        verifyNoMoreInteractions(gameDataProvider);
+    }
+
+    @Test
+    void shouldThrowResourceNotFoundExceptionWhenAssetNotFound() {
+        // Arrange
+        when(securityUtil.getDigitalUser()).thenReturn(digitalUser);
+        mockOwnedAssets(Collections.emptyList());
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> updateUseCase.execute(input));
 
-        verify(findByIdUseCase).execute(any(FindByIdUseCase.Input.class));
-        verify(gameDataProvider, never()).update(any(), any());
+        verifyNoInteractions(gameDataProvider);
     }
 
     @Test
     void shouldPropagateExceptionFromGameDataProvider() {
         // Arrange
-        when(findByIdUseCase.execute(any(FindByIdUseCase.Input.class))).thenReturn(
-                FindByIdUseCase.Output.builder().game(game).build()
-        );
-
-        when(gameDataProvider.update(eq(gameId), eq(gameUpdate)))
-                .thenThrow(new RuntimeException("Database error"));
-
-        UpdateUseCase.Input input = UpdateUseCase.Input.builder()
-                .jwt(jwt)
-                .id(gameId)
-                .gameUpdate(gameUpdate)
-                .build();
+        when(securityUtil.getDigitalUser()).thenReturn(digitalUser);
+        mockOwnedAssets(Collections.singletonList(assetResponse));
+        when(gameDataProvider.update(gameId, gameUpdate)).thenThrow(new RuntimeException("Database error"));
 
         // Act & Assert
         assertThrows(RuntimeException.class, () -> updateUseCase.execute(input));
 
-        verify(findByIdUseCase).execute(any(FindByIdUseCase.Input.class));
         verify(gameDataProvider).update(gameId, gameUpdate);
     }
 
     @Test
-    void shouldPassTheCorrectInputToFindByIdUseCase() {
+    void shouldUpdateOwnedGameInSingleStatementWhenReadingFromOwnershipReplica() {
         // Arrange
-        when(findByIdUseCase.execute(any(FindByIdUseCase.Input.class))).thenReturn(
-                FindByIdUseCase.Output.builder().game(game).build()
-        );
-
-        when(gameDataProvider.update(eq(gameId), eq(gameUpdate))).thenReturn(updatedGame);
-
-        UpdateUseCase.Input input = UpdateUseCase.Input.builder()
-                .jwt(jwt)
-                .id(gameId)
-                .gameUpdate(gameUpdate)
-                .build();
+        ReflectionTestUtils.setField(updateUseCase, "ownershipReplicaReadsEnabled", true);
+        when(securityUtil.getDigitalUser()).thenReturn(digitalUser);
+        when(gameOwnershipDataProvider.isReconciled(digitalUser.getId())).thenReturn(true);
+        when(gameDataProvider.updateByIdAndDigitalUserId(gameId, digitalUser.getId(), gameUpdate))
+                .thenReturn(updatedGame);
 
         // Act
-        updateUseCase.execute(input);
+        UpdateUseCase.Output output = updateUseCase.execute(input);
 
         // Assert
-        verify(findByIdUseCase).execute(argThat(findByIdInput ->
-                findByIdInput.getJwt().equals(jwt) &&
-                        findByIdInput.getId().equals(gameId)
-        ));
+        assertEquals(updatedGame, output.getGame());
+
+        verify(gameDataProvider).updateByIdAndDigitalUserId(gameId, digitalUser.getId(), gameUpdate);
+        verifyNoMoreInteractions(gameDataProvider);
+        verifyNoInteractions(duxManagerDataProvider, reconcileOwnershipUseCase);
+    }
+
+    @Test
+    void shouldReconcileOwnershipBeforeFirstReplicaUpdate() {
+        // Arrange
+        ReflectionTestUtils.setField(updateUseCase, "ownershipReplicaReadsEnabled", true);
+        when(securityUtil.getDigitalUser()).thenReturn(digitalUser);
+        when(gameOwnershipDataProvider.isReconciled(digitalUser.getId())).thenReturn(false);
+        when(gameDataProvider.updateByIdAndDigitalUserId(gameId, digitalUser.getId(), gameUpdate))
+                .thenThrow(new ResourceNotFoundException(Game.class, gameId.toString()));
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> updateUseCase.execute(input));
+
+        verify(reconcileOwnershipUseCase).execute(
+                ReconcileOwnershipUseCase.Input.builder()
+                        .jwt(jwt)
+                        .digitalUserId(digitalUser.getId())
+                        .build()
+        );
+        verifyNoInteractions(duxManagerDataProvider);
+    }
+
+    private void mockOwnedAssets(List<AssetResponse> assetResponses) {
+        when(duxManagerDataProvider.findAssetsByCriteria(
+                eq(jwt), eq(digitalUser.getId()), eq(gameId.toString()), eq("com.tracktainment"), eq("game-manager"),
+                eq("game"), isNull(), isNull(), isNull()))
+                .thenReturn(assetResponses);
     }
 }
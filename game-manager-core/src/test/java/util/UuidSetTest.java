@@ -0,0 +1,97 @@
+package util;
+
+import com.tracktainment.gamemanager.util.UuidSet;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidSetTest {
+
+    @Test
+    void shouldContainAddedIdsOnly() {
+        // Arrange
+        UUID added = UUID.randomUUID();
+        UuidSet uuidSet = new UuidSet();
+
+        // Act
+        uuidSet.add(added);
+
+        // Assert
+        assertTrue(uuidSet.contains(added));
+        assertTrue(uuidSet.contains(added.getMostSignificantBits(), added.getLeastSignificantBits()));
+        assertFalse(uuidSet.contains(UUID.randomUUID()));
+        assertFalse(uuidSet.contains("not a uuid"));
+        assertEquals(1, uuidSet.size());
+    }
+
+    @Test
+    void shouldIgnoreDuplicates() {
+        // Arrange
+        UUID uuid = UUID.randomUUID();
+        UuidSet uuidSet = new UuidSet();
+
+        // Act
+        boolean firstAdded = uuidSet.add(uuid);
+        boolean secondAdded = uuidSet.add(UUID.fromString(uuid.toString()));
+
+        // Assert
+        assertTrue(firstAdded);
+        assertFalse(secondAdded);
+        assertEquals(1, uuidSet.size());
+    }
+
+    @Test
+    void shouldHoldTheNilUuid() {
+        // Arrange
+        UUID nil = new UUID(0, 0);
+        UuidSet uuidSet = new UuidSet();
+
+        // Act
+        uuidSet.add(nil);
+        uuidSet.add(nil);
+
+        // Assert
+        assertTrue(uuidSet.contains(nil));
+        assertEquals(1, uuidSet.size());
+        assertEquals(List.of(nil), List.copyOf(uuidSet));
+    }
+
+    @Test
+    void shouldGrowAndStillFindEveryId() {
+        // Arrange
+        Set<UUID> expected = new HashSet<>();
+        for (int i=0; i<10_000; i++) {
+            expected.add(UUID.randomUUID());
+        }
+        expected.add(new UUID(0, 0));
+        UuidSet uuidSet = new UuidSet();
+
+        // Act
+        expected.forEach(uuidSet::add);
+
+        // Assert
+        assertEquals(expected.size(), uuidSet.size());
+        expected.forEach(uuid -> assertTrue(uuidSet.contains(uuid)));
+        assertEquals(expected, uuidSet);
+        assertEquals(expected, new HashSet<>(List.of(uuidSet.toArray(new UUID[0]))));
+    }
+
+    @Test
+    void shouldNotSupportRemoval() {
+        // Arrange
+        UuidSet uuidSet = new UuidSet();
+        uuidSet.add(UUID.randomUUID());
+        Iterator<UUID> iterator = uuidSet.iterator();
+        iterator.next();
+
+        // Act & Assert
+        assertThrows(UnsupportedOperationException.class, iterator::remove);
+        assertFalse(iterator.hasNext());
+    }
+}
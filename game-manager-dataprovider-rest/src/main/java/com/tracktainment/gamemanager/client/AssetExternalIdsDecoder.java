@@ -0,0 +1,44 @@
+package com.tracktainment.gamemanager.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.tracktainment.gamemanager.util.UuidSet;
+import feign.FeignException;
+import feign.Response;
+import feign.codec.DecodeException;
+import feign.codec.Decoder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+
+/*
+ * Decoder of the Dux Manager client. Answers to the DuxManagerHttpClient methods returning a UuidSet are streamed
+ * through the AssetExternalIdsReader, every other answer is decoded by the delegate.
+ */
+public class AssetExternalIdsDecoder implements Decoder {
+
+    private final Decoder delegate;
+    private final AssetExternalIdsReader assetExternalIdsReader;
+
+    public AssetExternalIdsDecoder(Decoder delegate, AssetExternalIdsReader assetExternalIdsReader) {
+        this.delegate = delegate;
+        this.assetExternalIdsReader = assetExternalIdsReader;
+    }
+
+    @Override
+    public Object decode(Response response, Type type) throws IOException, FeignException {
+        if (type != UuidSet.class) {
+            return delegate.decode(response, type);
+        }
+
+        if (response.body() == null) {
+            return new UuidSet();
+        }
+
+        try (InputStream body = response.body().asInputStream()) {
+            return assetExternalIdsReader.read(body);
+        } catch (JsonProcessingException e) {
+            throw new DecodeException(response.status(), e.getMessage(), response.request(), e);
+        }
+    }
+}
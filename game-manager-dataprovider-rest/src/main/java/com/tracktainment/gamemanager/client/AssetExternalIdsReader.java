@@ -0,0 +1,121 @@
+package com.tracktainment.gamemanager.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.tracktainment.gamemanager.util.UuidSet;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.UUID;
+
+/*
+ * Reads the external ids out of a Dux Manager asset list (GET /assets) as it streams in, without binding the assets:
+ * every other field is skipped by the parser and each id goes straight into a UuidSet as two longs. A user owning
+ * thousands of games then costs one small set per lookup instead of thousands of AssetResponse objects.
+ */
+public class AssetExternalIdsReader {
+
+    private static final String EXTERNAL_ID = "externalId";
+    private static final int UUID_LENGTH = 36;
+
+    private final JsonFactory jsonFactory;
+
+    public AssetExternalIdsReader(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    public UuidSet read(InputStream body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            return read(parser);
+        }
+    }
+
+    public UuidSet read(byte[] body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            return read(parser);
+        }
+    }
+
+    private static UuidSet read(JsonParser parser) throws IOException {
+        UuidSet externalIds = new UuidSet();
+
+        // An empty answer is read as no assets, like the Feign decoder does for the asset list
+        JsonToken token = parser.nextToken();
+        if (token == null || token == JsonToken.VALUE_NULL) {
+            return externalIds;
+        }
+
+        if (token != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected an array of assets but got " + token + ".");
+        }
+
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == JsonToken.VALUE_NULL) {
+                continue;
+            }
+
+            if (token != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected an asset but got " + token + ".");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                if (parser.nextToken() == JsonToken.VALUE_STRING && EXTERNAL_ID.equals(fieldName)) {
+                    addExternalId(parser, externalIds);
+                } else {
+                    // Nested values (i.e. the artifact information) are skipped whole
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        return externalIds;
+    }
+
+    // Parses the id from the parser's own buffer, only falling back to UUID.fromString for unusual forms
+    private static void addExternalId(JsonParser parser, UuidSet externalIds) throws IOException {
+        char[] text = parser.getTextCharacters();
+        int offset = parser.getTextOffset();
+
+        if (parser.getTextLength() == UUID_LENGTH
+                && text[offset + 8] == '-' && text[offset + 13] == '-'
+                && text[offset + 18] == '-' && text[offset + 23] == '-') {
+            long timeLow = hex(text, offset, 8);
+            long timeMid = hex(text, offset + 9, 4);
+            long timeHighAndVersion = hex(text, offset + 14, 4);
+            long clockSequence = hex(text, offset + 19, 4);
+            long node = hex(text, offset + 24, 12);
+
+            if ((timeLow | timeMid | timeHighAndVersion | clockSequence | node) >= 0) {
+                externalIds.add(
+                        timeLow << 32 | timeMid << 16 | timeHighAndVersion,
+                        clockSequence << 48 | node
+                );
+                return;
+            }
+        }
+
+        try {
+            externalIds.add(UUID.fromString(parser.getText()));
+        } catch (IllegalArgumentException e) {
+            throw new JsonParseException(parser, "Invalid asset externalId " + parser.getText() + ".", e);
+        }
+    }
+
+    // Value of the given hex digits, or -1 when one of them is not a hex digit
+    private static long hex(char[] text, int offset, int length) {
+        long value = 0;
+        for (int i=offset; i<offset + length; i++) {
+            int digit = Character.digit(text[i], 16);
+            if (digit < 0) {
+                return -1;
+            }
+
+            value = value << 4 | digit;
+        }
+
+        return value;
+    }
+}
@@ -0,0 +1,101 @@
+package com.tracktainment.gamemanager.client;
+
+import com.tracktainment.gamemanager.exception.ServiceUnavailableException;
+import feign.FeignException;
+import feign.RetryableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+/*
+ * Keeps a slow or failing Dux Manager from holding every request thread. Each operation has its own circuit breaker,
+ * which stops calling Dux Manager once too many of its calls failed or were slow, and after a while lets a few probe
+ * calls through to find out whether it recovered. All operations share a bulkhead bounding the calls in flight. Calls
+ * refused by either fail at once with a ServiceUnavailableException, leaving the threads to the local operations.
+ */
+public class DuxManagerCallGuard {
+
+    public static final String CREATE_ASSET = "createAsset";
+    public static final String FIND_ASSETS = "findAssetsByCriteria";
+    public static final String DELETE_ASSET = "deleteAsset";
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final Bulkhead bulkhead;
+
+    public DuxManagerCallGuard(CircuitBreakerRegistry circuitBreakerRegistry, Bulkhead bulkhead) {
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.bulkhead = bulkhead;
+
+        // Created upfront so that their state is reported before the first call
+        circuitBreakerRegistry.circuitBreaker(CREATE_ASSET);
+        circuitBreakerRegistry.circuitBreaker(FIND_ASSETS);
+        circuitBreakerRegistry.circuitBreaker(DELETE_ASSET);
+    }
+
+    /* Only an unreachable, failing or timing out Dux Manager counts against it. Client errors (i.e. an asset not found
+    or already existing) are answers like any other
+     */
+    public static boolean isDuxManagerFailure(Throwable throwable) {
+        return throwable instanceof RetryableException || throwable instanceof FeignException.FeignServerException;
+    }
+
+    public <T> T call(String operation, Supplier<T> call) {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(operation);
+
+        try {
+            return Bulkhead.decorateSupplier(bulkhead, CircuitBreaker.decorateSupplier(circuitBreaker, call)).get();
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            throw refused(operation, e);
+        }
+    }
+
+    // The bulkhead permit is held, and the call timed by the circuit breaker, until the returned stage completes
+    public <T> CompletableFuture<T> callAsync(String operation, Supplier<CompletionStage<T>> call) {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(operation);
+
+        CompletableFuture<T> guardedCall = new CompletableFuture<>();
+        Bulkhead.decorateCompletionStage(bulkhead, CircuitBreaker.decorateCompletionStage(circuitBreaker, call))
+                .get()
+                .whenComplete((result, failure) -> {
+                    if (failure == null) {
+                        guardedCall.complete(result);
+                        return;
+                    }
+
+                    Throwable cause = failure instanceof CompletionException && failure.getCause() != null ?
+                            failure.getCause() : failure;
+                    guardedCall.completeExceptionally(
+                            cause instanceof CallNotPermittedException || cause instanceof BulkheadFullException ?
+                                    refused(operation, cause) : cause
+                    );
+                });
+
+        return guardedCall;
+    }
+
+    public void run(String operation, Runnable call) {
+        call(operation, () -> {
+            call.run();
+            return null;
+        });
+    }
+
+    private static ServiceUnavailableException refused(String operation, Throwable refusal) {
+        if (refusal instanceof CallNotPermittedException) {
+            return new ServiceUnavailableException(
+                    String.format("Dux Manager is unavailable, %s calls are suspended.", operation)
+            );
+        }
+
+        return new ServiceUnavailableException(
+                String.format("Dux Manager is saturated, %s call was refused.", operation)
+        );
+    }
+}
@@ -0,0 +1,299 @@
+package com.tracktainment.gamemanager.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/*
+ * Cuts the tail latency that an occasionally slow Dux Manager replica adds to an idempotent lookup. When a call has not
+ * answered after a delay, taken from a percentile of the latencies recently observed, an identical call is sent and
+ * whichever answers first is returned. Every call earns a fraction of a hedge, so hedges add at most budget-ratio extra
+ * calls to Dux Manager, plus a burst of budget-burst after a quiet period.
+ */
+public class DuxManagerHedging {
+
+    public static final String HEDGED_CALLS_METRIC = "dux-manager.calls.hedged";
+    public static final String HEDGES_OVER_BUDGET_METRIC = "dux-manager.hedges.over-budget";
+    public static final String HEDGING_DELAY_METRIC = "dux-manager.hedging.delay";
+
+    private static final int LATENCY_WINDOW_SIZE = 200;
+    private static final int DELAY_UPDATE_INTERVAL = 20;
+    private static final long HEDGE_COST = 1_000;
+
+    private final boolean enabled;
+    private final Executor executor;
+    private final double percentile;
+    private final long minDelayNanos;
+    private final long maxDelayNanos;
+    private final long earnedPerCall;
+    private final long maxBudget;
+    private final AtomicLong budget;
+
+    private final Counter primaryWins;
+    private final Counter hedgeWins;
+    private final Counter noWins;
+    private final Counter hedgesOverBudget;
+
+    // Latencies of the last successful calls, the delay is recomputed from them every DELAY_UPDATE_INTERVAL calls
+    private final long[] latencyWindow = new long[LATENCY_WINDOW_SIZE];
+    private long recordedLatencies;
+    private volatile long delayNanos;
+
+    public DuxManagerHedging(
+            boolean enabled,
+            String operation,
+            Executor executor,
+            MeterRegistry meterRegistry,
+            double percentile,
+            Duration minDelay,
+            Duration maxDelay,
+            double budgetRatio,
+            int budgetBurst
+    ) {
+        this.enabled = enabled;
+        this.executor = executor;
+        this.percentile = percentile;
+        this.minDelayNanos = minDelay.toNanos();
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.earnedPerCall = Math.round(budgetRatio * HEDGE_COST);
+        this.maxBudget = budgetBurst * HEDGE_COST;
+        this.budget = new AtomicLong(maxBudget);
+
+        // Until enough latencies were observed, only the calls slower than the longest delay are hedged
+        this.delayNanos = maxDelayNanos;
+
+        this.primaryWins = hedgedCallsCounter(meterRegistry, operation, "primary");
+        this.hedgeWins = hedgedCallsCounter(meterRegistry, operation, "hedge");
+        this.noWins = hedgedCallsCounter(meterRegistry, operation, "none");
+        this.hedgesOverBudget = Counter.builder(HEDGES_OVER_BUDGET_METRIC)
+                .description("Dux Manager calls not hedged because the hedging budget was spent")
+                .tag("operation", operation)
+                .register(meterRegistry);
+        TimeGauge.builder(HEDGING_DELAY_METRIC, this, TimeUnit.NANOSECONDS, hedging -> hedging.delayNanos)
+                .description("Time a Dux Manager call is given before it is hedged")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    private static Counter hedgedCallsCounter(MeterRegistry meterRegistry, String operation, String winner) {
+        return Counter.builder(HEDGED_CALLS_METRIC)
+                .description("Dux Manager calls that were hedged, by the call that answered first")
+                .tag("operation", operation)
+                .tag("winner", winner)
+                .register(meterRegistry);
+    }
+
+    public <T> T call(Supplier<T> call) {
+        if (!enabled) {
+            return call.get();
+        }
+
+        CompletableFuture<T> answer;
+        try {
+            answer = hedge(() -> submit(call));
+        } catch (RejectedExecutionException e) {
+            // No thread left to wait on, so the call is made on the caller's thread and not hedged
+            return call.get();
+        }
+
+        try {
+            return answer.get();
+        } catch (InterruptedException e) {
+            // The caller gave up on the lookup (i.e. its request was cancelled), so neither call is needed anymore
+            Thread.currentThread().interrupt();
+            answer.cancel(true);
+            throw new CancellationException("Interrupted while waiting for Dux Manager");
+        } catch (ExecutionException e) {
+            // Surface the exception of the call itself, so that it is handled as if it was not hedged
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /* Hedges a call that is already non-blocking (i.e. sent through the JDK HTTP client), so no thread waits on either
+    call. Cancelling the returned future cancels the calls still running
+     */
+    public <T> CompletableFuture<T> callAsync(Supplier<CompletableFuture<T>> call) {
+        if (!enabled) {
+            return call.get();
+        }
+
+        return hedge(call);
+    }
+
+    private <T> CompletableFuture<T> hedge(Supplier<CompletableFuture<T>> call) {
+        earnBudget();
+        HedgedCall<T> hedgedCall = new HedgedCall<>(call);
+        hedgedCall.send(false);
+
+        CompletableFuture.delayedExecutor(delayNanos, TimeUnit.NANOSECONDS).execute(hedgedCall::hedge);
+        return hedgedCall.answer;
+    }
+
+    // Runs a blocking call on the executor, so that it can be raced. Cancelling the returned future interrupts the call
+    private <T> CompletableFuture<T> submit(Supplier<T> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        FutureTask<T> task = new FutureTask<>(call::get) {
+
+            @Override
+            protected void done() {
+                if (isCancelled()) {
+                    return;
+                }
+
+                try {
+                    result.complete(get());
+                } catch (ExecutionException e) {
+                    result.completeExceptionally(e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    result.completeExceptionally(e);
+                }
+            }
+        };
+
+        result.whenComplete((value, failure) -> {
+            if (result.isCancelled()) {
+                task.cancel(true);
+            }
+        });
+
+        executor.execute(task);
+        return result;
+    }
+
+    private void earnBudget() {
+        budget.accumulateAndGet(earnedPerCall, (current, earned) -> Math.min(current + earned, maxBudget));
+    }
+
+    private boolean spendBudget() {
+        long current;
+        do {
+            current = budget.get();
+            if (current < HEDGE_COST) {
+                return false;
+            }
+        } while (!budget.compareAndSet(current, current - HEDGE_COST));
+
+        return true;
+    }
+
+    private void recordLatency(long latencyNanos) {
+        synchronized (latencyWindow) {
+            latencyWindow[(int) (recordedLatencies % LATENCY_WINDOW_SIZE)] = latencyNanos;
+            recordedLatencies++;
+
+            if (recordedLatencies >= LATENCY_WINDOW_SIZE && recordedLatencies % DELAY_UPDATE_INTERVAL == 0) {
+                long[] sortedLatencies = latencyWindow.clone();
+                Arrays.sort(sortedLatencies);
+                int rank = Math.max((int) Math.ceil(percentile * LATENCY_WINDOW_SIZE) - 1, 0);
+                long observedNanos = sortedLatencies[Math.min(rank, LATENCY_WINDOW_SIZE - 1)];
+                delayNanos = Math.min(Math.max(observedNanos, minDelayNanos), maxDelayNanos);
+            }
+        }
+    }
+
+    private class HedgedCall<T> {
+
+        private final Supplier<CompletableFuture<T>> call;
+        private final CompletableFuture<T> answer = new CompletableFuture<>();
+        private final Queue<CompletableFuture<T>> sentCalls = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingCalls = new AtomicInteger(1);
+        private final AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+        private volatile boolean hedged;
+
+        private HedgedCall(Supplier<CompletableFuture<T>> call) {
+            this.call = call;
+
+            /* Once answered (or given up on), the call still running is of no use: it is cancelled so that it gives back
+            its thread (or connection) and bulkhead permit instead of holding them until Dux Manager answers
+             */
+            answer.whenComplete((result, failure) -> sentCalls.forEach(sentCall -> sentCall.cancel(true)));
+        }
+
+        private void send(boolean hedge) {
+            long start = System.nanoTime();
+            CompletableFuture<T> sentCall = call.get();
+            sentCalls.add(sentCall);
+            sentCall.whenComplete((result, failure) -> {
+                // A cancelled call lost the race, the answer is already settled
+                if (sentCall.isCancelled()) {
+                    return;
+                }
+
+                if (failure == null) {
+                    recordLatency(System.nanoTime() - start);
+                }
+                settle(hedge, result, failure instanceof CompletionException ? failure.getCause() : failure);
+            });
+
+            // The answer may have been settled while this call was being sent
+            if (answer.isDone()) {
+                sentCall.cancel(true);
+            }
+        }
+
+        private void hedge() {
+            if (answer.isDone()) {
+                return;
+            }
+
+            if (!spendBudget()) {
+                hedgesOverBudget.increment();
+                return;
+            }
+
+            pendingCalls.incrementAndGet();
+            hedged = true;
+            try {
+                send(true);
+            } catch (RejectedExecutionException e) {
+                // No thread left for the hedge, the first call alone decides
+                hedged = false;
+                budget.addAndGet(HEDGE_COST);
+                if (pendingCalls.decrementAndGet() == 0) {
+                    answer.completeExceptionally(firstFailure.get());
+                }
+            }
+        }
+
+        private void settle(boolean hedge, T result, Throwable failure) {
+            if (failure == null) {
+                if (answer.complete(result) && hedged) {
+                    (hedge ? hedgeWins : primaryWins).increment();
+                }
+                return;
+            }
+
+            // A failed call only fails the lookup once the other one failed too
+            firstFailure.compareAndSet(null, failure);
+            if (pendingCalls.decrementAndGet() == 0 && answer.completeExceptionally(firstFailure.get()) && hedged) {
+                noWins.increment();
+            }
+        }
+    }
+}
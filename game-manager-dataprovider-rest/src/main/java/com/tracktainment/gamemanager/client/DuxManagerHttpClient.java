@@ -3,6 +3,7 @@ package com.tracktainment.gamemanager.client;
 import com.tracktainment.gamemanager.dto.duxmanager.request.AssetRequest;
 import com.tracktainment.gamemanager.dto.duxmanager.response.AssetResponse;
 import com.tracktainment.gamemanager.util.Constants;
+import com.tracktainment.gamemanager.util.UuidSet;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Pattern;
 import org.springframework.cloud.openfeign.FeignClient;
@@ -12,6 +13,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.UUID;
 
 @FeignClient(
         name = "dux-manager-http-client",
@@ -59,6 +61,38 @@ public interface DuxManagerHttpClient {
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
     );
 
+    /* Same lookup as findAssetsByCriteria, but only the external ids of the assets are read from the answer (see
+    AssetExternalIdsDecoder)
+     */
+    @GetMapping("/assets")
+    UuidSet findAssetExternalIdsByCriteria(
+            @RequestHeader("Authorization") String authorization,
+
+            @RequestParam()
+            @Pattern(regexp = Constants.ID_REGEX, message = Constants.DIGITAL_USER_ID_INVALID_MSG) String digitalUserId,
+
+            @RequestParam(required = false)
+            @Pattern(regexp = Constants.ID_LIST_REGEX, message = Constants.IDS_INVALID_MSG) String externalIds,
+
+            @RequestParam(required = false)
+            @Pattern(regexp = Constants.GROUP_ID_REGEX, message = Constants.GROUP_ID_INVALID_MSG) String groupId,
+
+            @RequestParam(required = false)
+            @Pattern(regexp = Constants.ARTIFACT_ID_REGEX, message = Constants.ARTIFACT_ID_INVALID_MSG) String artifactId,
+
+            @RequestParam(required = false)
+            @Pattern(regexp = Constants.TYPE_REGEX, message = Constants.TYPE_INVALID_MSG) String type,
+
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdAt,
+
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    );
+
     @DeleteMapping("/assets")
     void deleteAssetByExternalId(
             @RequestHeader("Authorization") String authorization,
@@ -66,7 +100,6 @@ public interface DuxManagerHttpClient {
             @RequestParam
             @Pattern(regexp = Constants.ID_REGEX, message = Constants.DIGITAL_USER_ID_INVALID_MSG) String digitalUserId,
 
-            @RequestParam
-            @Pattern(regexp = Constants.ID_REGEX, message = Constants.ID_REGEX) String externalId
+            @RequestParam UUID externalId
     );
 }
@@ -0,0 +1,69 @@
+package com.tracktainment.gamemanager.client;
+
+import feign.Client;
+import feign.MethodMetadata;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.io.IOException;
+import java.util.Map;
+
+/*
+ * Feign transport of the Dux Manager client. Each call is sent through the pooled OkHttp client with the timeouts of
+ * the operation called (i.e. a listing may be given less time than a creation), and the time until Dux Manager
+ * answered is recorded per operation and status.
+ */
+public class DuxManagerTransport implements Client {
+
+    public static final String REQUESTS_METRIC = "dux-manager.client.requests";
+    public static final String UNKNOWN_OPERATION = "unknown";
+
+    private final Client delegate;
+    private final Map<String, Request.Options> operationOptions;
+    private final MeterRegistry meterRegistry;
+
+    public DuxManagerTransport(
+            Client delegate,
+            Map<String, Request.Options> operationOptions,
+            MeterRegistry meterRegistry
+    ) {
+        this.delegate = delegate;
+        this.operationOptions = Map.copyOf(operationOptions);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        String operation = operation(request);
+        String status = "IO_ERROR";
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        try {
+            Response response = delegate.execute(request, operationOptions.getOrDefault(operation, options));
+            status = String.valueOf(response.status());
+            return response;
+        } finally {
+            // The response body is read after this returns, so large listings take longer than recorded here
+            sample.stop(Timer.builder(REQUESTS_METRIC)
+                    .description("Time until Dux Manager answered a call")
+                    .tag("operation", operation)
+                    .tag("status", status)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    // Name of the DuxManagerHttpClient method the request was built from
+    private static String operation(Request request) {
+        RequestTemplate requestTemplate = request.requestTemplate();
+        MethodMetadata methodMetadata = requestTemplate != null ? requestTemplate.methodMetadata() : null;
+        if (methodMetadata == null || methodMetadata.method() == null) {
+            return UNKNOWN_OPERATION;
+        }
+
+        return methodMetadata.method().getName();
+    }
+}
@@ -0,0 +1,31 @@
+package com.tracktainment.gamemanager.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/*
+ * Non-blocking client of Dux Manager, used instead of the Feign one when dux-manager.client.mode is non-blocking. Its
+ * selector thread watches every connection, so a call holds no thread while Dux Manager is working on it. The calls in
+ * flight are bounded by the Dux Manager bulkhead rather than by a connection pool.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "dux-manager.client", name = "mode", havingValue = "non-blocking")
+public class DuxManagerAsyncClientConfig {
+
+    @Bean
+    public HttpClient duxManagerAsyncHttpClient(
+            @Value("${http.url.dux-manager}") String baseUrl,
+            @Value("${dux-manager.client.connect-timeout:2s}") Duration connectTimeout
+    ) {
+        // HTTP/2 is negotiated over TLS, a cleartext Dux Manager is spoken to in HTTP/1.1 rather than upgraded
+        return HttpClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .version(baseUrl.startsWith("https:") ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .build();
+    }
+}
@@ -0,0 +1,59 @@
+package com.tracktainment.gamemanager.config;
+
+import com.tracktainment.gamemanager.client.DuxManagerCallGuard;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class DuxManagerCallGuardConfig {
+
+    public static final String BULKHEAD_NAME = "dux-manager";
+
+    @Bean
+    public DuxManagerCallGuard duxManagerCallGuard(
+            MeterRegistry meterRegistry,
+            @Value("${dux-manager.circuit-breaker.sliding-window-size:20}") int slidingWindowSize,
+            @Value("${dux-manager.circuit-breaker.minimum-number-of-calls:10}") int minimumNumberOfCalls,
+            @Value("${dux-manager.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${dux-manager.circuit-breaker.slow-call-duration:2s}") Duration slowCallDuration,
+            @Value("${dux-manager.circuit-breaker.slow-call-rate-threshold:80}") float slowCallRateThreshold,
+            @Value("${dux-manager.circuit-breaker.open-duration:10s}") Duration openDuration,
+            @Value("${dux-manager.circuit-breaker.half-open-probes:3}") int halfOpenProbes,
+            @Value("${dux-manager.bulkhead.max-concurrent-calls:32}") int maxConcurrentCalls
+    ) {
+        /* Once open-duration has passed, the next half-open-probes calls are let through. The breaker closes again if
+        few enough of them failed or were slow, and opens for another open-duration otherwise
+         */
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumNumberOfCalls)
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(slowCallDuration)
+                .slowCallRateThreshold(slowCallRateThreshold)
+                .waitDurationInOpenState(openDuration)
+                .permittedNumberOfCallsInHalfOpenState(halfOpenProbes)
+                .recordException(DuxManagerCallGuard::isDuxManagerFailure)
+                .build());
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+
+        // Calls beyond the limit are refused at once rather than queued behind a slow Dux Manager
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+
+        return new DuxManagerCallGuard(circuitBreakerRegistry, bulkheadRegistry.bulkhead(BULKHEAD_NAME));
+    }
+}
@@ -0,0 +1,41 @@
+package com.tracktainment.gamemanager.config;
+
+import com.tracktainment.gamemanager.client.DuxManagerCallGuard;
+import com.tracktainment.gamemanager.client.DuxManagerHedging;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+
+import java.time.Duration;
+
+@Configuration
+public class DuxManagerHedgingConfig {
+
+    // Only findAssetsByCriteria is hedged, as sending it twice is harmless
+    @Bean
+    public DuxManagerHedging duxManagerHedging(
+            @Qualifier("duxManagerHedgingExecutor") TaskExecutor duxManagerHedgingExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${dux-manager.hedging.enabled:false}") boolean enabled,
+            @Value("${dux-manager.hedging.percentile:0.95}") double percentile,
+            @Value("${dux-manager.hedging.min-delay:20ms}") Duration minDelay,
+            @Value("${dux-manager.hedging.max-delay:1s}") Duration maxDelay,
+            @Value("${dux-manager.hedging.budget-ratio:0.05}") double budgetRatio,
+            @Value("${dux-manager.hedging.budget-burst:10}") int budgetBurst
+    ) {
+        return new DuxManagerHedging(
+                enabled,
+                DuxManagerCallGuard.FIND_ASSETS,
+                duxManagerHedgingExecutor,
+                meterRegistry,
+                percentile,
+                minDelay,
+                maxDelay,
+                budgetRatio,
+                budgetBurst
+        );
+    }
+}
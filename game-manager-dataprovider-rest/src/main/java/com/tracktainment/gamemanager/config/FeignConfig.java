@@ -1,14 +1,110 @@
 package com.tracktainment.gamemanager.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tracktainment.gamemanager.client.AssetExternalIdsDecoder;
+import com.tracktainment.gamemanager.client.AssetExternalIdsReader;
+import com.tracktainment.gamemanager.client.DuxManagerTransport;
+import feign.Client;
+import feign.Request;
+import feign.codec.Decoder;
+import feign.optionals.OptionalDecoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.okhttp3.OkHttpConnectionPoolMetrics;
+import okhttp3.ConnectionPool;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.HttpMessageConverterCustomizer;
+import org.springframework.cloud.openfeign.support.ResponseEntityDecoder;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Transport and decoder of the Dux Manager Feign client. Calls go through one OkHttp client, which keeps connections
+ * alive in a pool between calls and multiplexes them over a single connection when Dux Manager speaks HTTP/2
+ * (negotiated over TLS, or assumed with h2-prior-knowledge for a cleartext endpoint known to support it).
+ */
 @Configuration
 public class FeignConfig {
 
-    @Bean("http2PatchEnabler")
-    public OkHttpClient client() {
-        return new OkHttpClient();
+    public static final String POOL_METRIC_PREFIX = "dux-manager.client.pool";
+
+    @Bean
+    public OkHttpClient duxManagerOkHttpClient(
+            MeterRegistry meterRegistry,
+            @Value("${dux-manager.client.pool.max-idle-connections:50}") int maxIdleConnections,
+            @Value("${dux-manager.client.pool.keep-alive:5m}") Duration keepAlive,
+            @Value("${dux-manager.client.h2-prior-knowledge:false}") boolean h2PriorKnowledge
+    ) {
+        // Only idle connections are capped, concurrent calls each get a connection unless they share an HTTP/2 one
+        ConnectionPool connectionPool = new ConnectionPool(maxIdleConnections, keepAlive.toMillis(), TimeUnit.MILLISECONDS);
+        new OkHttpConnectionPoolMetrics(connectionPool, POOL_METRIC_PREFIX, Tags.empty(), maxIdleConnections)
+                .bindTo(meterRegistry);
+
+        return new OkHttpClient.Builder()
+                .connectionPool(connectionPool)
+                .protocols(h2PriorKnowledge ?
+                        List.of(Protocol.H2_PRIOR_KNOWLEDGE) : List.of(Protocol.HTTP_2, Protocol.HTTP_1_1))
+                .build();
+    }
+
+    @Bean
+    public Client duxManagerTransport(
+            OkHttpClient duxManagerOkHttpClient,
+            MeterRegistry meterRegistry,
+            @Value("${dux-manager.client.create-asset.connect-timeout:${dux-manager.client.connect-timeout:2s}}")
+            Duration createAssetConnectTimeout,
+            @Value("${dux-manager.client.create-asset.read-timeout:${dux-manager.client.read-timeout:5s}}")
+            Duration createAssetReadTimeout,
+            @Value("${dux-manager.client.find-assets-by-criteria.connect-timeout:${dux-manager.client.connect-timeout:2s}}")
+            Duration findAssetsConnectTimeout,
+            @Value("${dux-manager.client.find-assets-by-criteria.read-timeout:${dux-manager.client.read-timeout:5s}}")
+            Duration findAssetsReadTimeout,
+            @Value("${dux-manager.client.delete-asset-by-external-id.connect-timeout:${dux-manager.client.connect-timeout:2s}}")
+            Duration deleteAssetConnectTimeout,
+            @Value("${dux-manager.client.delete-asset-by-external-id.read-timeout:${dux-manager.client.read-timeout:5s}}")
+            Duration deleteAssetReadTimeout
+    ) {
+        return new DuxManagerTransport(
+                new feign.okhttp.OkHttpClient(duxManagerOkHttpClient),
+                Map.of(
+                        "createAsset", options(createAssetConnectTimeout, createAssetReadTimeout),
+                        "findAssetsByCriteria", options(findAssetsConnectTimeout, findAssetsReadTimeout),
+                        "findAssetExternalIdsByCriteria", options(findAssetsConnectTimeout, findAssetsReadTimeout),
+                        "deleteAssetByExternalId", options(deleteAssetConnectTimeout, deleteAssetReadTimeout)
+                ),
+                meterRegistry
+        );
+    }
+
+    // Same decoding as the Spring Cloud OpenFeign default, plus the streaming of asset ids into a UuidSet
+    @Bean
+    public Decoder duxManagerDecoder(
+            ObjectFactory<HttpMessageConverters> messageConverters,
+            ObjectProvider<HttpMessageConverterCustomizer> customizers,
+            ObjectMapper objectMapper
+    ) {
+        return new AssetExternalIdsDecoder(
+                new OptionalDecoder(new ResponseEntityDecoder(new SpringDecoder(messageConverters, customizers))),
+                new AssetExternalIdsReader(objectMapper.getFactory())
+        );
+    }
+
+    private static Request.Options options(Duration connectTimeout, Duration readTimeout) {
+        return new Request.Options(
+                connectTimeout.toMillis(), TimeUnit.MILLISECONDS,
+                readTimeout.toMillis(), TimeUnit.MILLISECONDS,
+                true
+        );
     }
 }
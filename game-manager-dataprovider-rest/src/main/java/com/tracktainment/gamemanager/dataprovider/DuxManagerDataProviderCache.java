@@ -0,0 +1,369 @@
+package com.tracktainment.gamemanager.dataprovider;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tracktainment.gamemanager.dto.duxmanager.request.AssetRequest;
+import com.tracktainment.gamemanager.dto.duxmanager.response.AssetResponse;
+import com.tracktainment.gamemanager.util.UuidSet;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/*
+ * Caches, per digital user, the full list of assets owned in Dux Manager so that ownership checks done on every read
+ * do not need a round trip. Lookups of the ids alone cache the ids alone, in a compact UuidSet read straight from the
+ * Dux Manager answer. Entries are updated on asset creation/deletion and expire after the configured TTL, so changes
+ * done directly in Dux Manager become visible at most TTL later.
+ */
+@Service
+@Primary
+@ConditionalOnProperty(prefix = "dux-manager.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class DuxManagerDataProviderCache implements DuxManagerDataProvider {
+
+    public static final String CACHE_NAME = "dux-manager.assets";
+    public static final String EXTERNAL_IDS_CACHE_NAME = "dux-manager.asset-external-ids";
+
+    // Name of the implementation calling Dux Manager, whichever client it is built on
+    public static final String REMOTE_DATA_PROVIDER = "duxManagerRemoteDataProvider";
+
+    private final DuxManagerDataProvider delegate;
+    private final Cache<AssetScope, Map<UUID, AssetResponse>> cache;
+    private final Cache<AssetScope, Set<UUID>> externalIdsCache;
+
+    public DuxManagerDataProviderCache(
+            @Qualifier(REMOTE_DATA_PROVIDER) DuxManagerDataProvider delegate,
+            MeterRegistry meterRegistry,
+            @Value("${dux-manager.cache.max-size:10000}") long maxSize,
+            @Value("${dux-manager.cache.ttl:5m}") Duration ttl
+    ) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        this.externalIdsCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, externalIdsCache, EXTERNAL_IDS_CACHE_NAME);
+    }
+
+    @Override
+    public AssetResponse createAsset(
+            String jwt,
+            String digitalUserId,
+            AssetRequest assetRequest
+    ) {
+        AssetResponse assetResponse = delegate.createAsset(jwt, digitalUserId, assetRequest);
+        return cacheCreatedAsset(digitalUserId, assetRequest, assetResponse);
+    }
+
+    @Override
+    public CompletableFuture<AssetResponse> createAssetAsync(
+            String jwt,
+            String digitalUserId,
+            AssetRequest assetRequest,
+            Executor executor
+    ) {
+        return delegate.createAssetAsync(jwt, digitalUserId, assetRequest, executor)
+                .thenApply(assetResponse -> cacheCreatedAsset(digitalUserId, assetRequest, assetResponse));
+    }
+
+    @Override
+    public List<AssetResponse> findAssetsByCriteria(
+            String jwt,
+            String digitalUserId,
+            String externalIds,
+            String groupId,
+            String artifactId,
+            String type,
+            LocalDate createdAt,
+            LocalDate from,
+            LocalDate to
+    ) {
+        // Date filters are applied by Dux Manager on its own asset timestamps, so those lookups are not cached
+        if (createdAt != null || from != null || to != null) {
+            return delegate.findAssetsByCriteria(
+                    jwt, digitalUserId, externalIds, groupId, artifactId, type, createdAt, from, to
+            );
+        }
+
+        Map<UUID, AssetResponse> assets = cache.get(
+                new AssetScope(digitalUserId, groupId, artifactId, type),
+                scope -> loadAssets(jwt, scope)
+        );
+
+        return select(assets, externalIds);
+    }
+
+    /* Ids are served from the cached assets of the scope when there are some, and otherwise from its cached ids, whose
+    misses read the ids alone from Dux Manager without binding the assets
+     */
+    @Override
+    public Set<UUID> findAssetExternalIdsByCriteria(
+            String jwt,
+            String digitalUserId,
+            String externalIds,
+            String groupId,
+            String artifactId,
+            String type,
+            LocalDate createdAt,
+            LocalDate from,
+            LocalDate to
+    ) {
+        if (createdAt != null || from != null || to != null) {
+            return delegate.findAssetExternalIdsByCriteria(
+                    jwt, digitalUserId, externalIds, groupId, artifactId, type, createdAt, from, to
+            );
+        }
+
+        AssetScope scope = new AssetScope(digitalUserId, groupId, artifactId, type);
+
+        // Peeked at through the map view, which does not count as a lookup of the assets
+        Map<UUID, AssetResponse> cachedAssets = cache.asMap().get(scope);
+        if (cachedAssets != null) {
+            // An asset without an external id is kept by its lookups, but is no id to hand out
+            Set<UUID> cachedExternalIds = cachedAssets.containsKey(null) ?
+                    copyOf(cachedAssets.keySet(), null) : cachedAssets.keySet();
+            return selectExternalIds(cachedExternalIds, externalIds);
+        }
+
+        Set<UUID> assetExternalIds = externalIdsCache.get(scope, key -> loadAssetExternalIds(jwt, key));
+        return selectExternalIds(assetExternalIds, externalIds);
+    }
+
+    /* A miss is loaded without holding the cache, so concurrent misses of the same scope may each load it, unlike the
+    blocking lookup
+     */
+    @Override
+    public CompletableFuture<List<AssetResponse>> findAssetsByCriteriaAsync(
+            String jwt,
+            String digitalUserId,
+            String externalIds,
+            String groupId,
+            String artifactId,
+            String type,
+            LocalDate createdAt,
+            LocalDate from,
+            LocalDate to,
+            Executor executor
+    ) {
+        if (createdAt != null || from != null || to != null) {
+            return delegate.findAssetsByCriteriaAsync(
+                    jwt, digitalUserId, externalIds, groupId, artifactId, type, createdAt, from, to, executor
+            );
+        }
+
+        AssetScope scope = new AssetScope(digitalUserId, groupId, artifactId, type);
+        Map<UUID, AssetResponse> cachedAssets = cache.getIfPresent(scope);
+        if (cachedAssets != null) {
+            return CompletableFuture.completedFuture(select(cachedAssets, externalIds));
+        }
+
+        log.debug("Loading assets of digital user {} from Dux Manager.", scope.digitalUserId());
+        return delegate.findAssetsByCriteriaAsync(
+                        jwt,
+                        scope.digitalUserId(),
+                        null,
+                        scope.groupId(),
+                        scope.artifactId(),
+                        scope.type(),
+                        null,
+                        null,
+                        null,
+                        executor
+                )
+                .thenApply(assetResponseList -> {
+                    Map<UUID, AssetResponse> assets = toAssets(assetResponseList);
+                    cache.put(scope, assets);
+                    return select(assets, externalIds);
+                });
+    }
+
+    @Override
+    public void deleteAsset(
+            String jwt,
+            String digitalUserId,
+            UUID externalId
+    ) {
+        delegate.deleteAsset(jwt, digitalUserId, externalId);
+        evictDeletedAsset(digitalUserId, externalId);
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteAssetAsync(
+            String jwt,
+            String digitalUserId,
+            UUID externalId,
+            Executor executor
+    ) {
+        return delegate.deleteAssetAsync(jwt, digitalUserId, externalId, executor)
+                .thenRun(() -> evictDeletedAsset(digitalUserId, externalId));
+    }
+
+    private AssetResponse cacheCreatedAsset(
+            String digitalUserId,
+            AssetRequest assetRequest,
+            AssetResponse assetResponse
+    ) {
+        AssetScope scope = AssetScope.of(digitalUserId, assetRequest);
+
+        if (assetResponse == null || assetResponse.getExternalId() == null) {
+            cache.invalidate(scope);
+            externalIdsCache.invalidate(scope);
+            return assetResponse;
+        }
+
+        cache.asMap().computeIfPresent(scope, (key, assets) -> {
+            Map<UUID, AssetResponse> updatedAssets = new LinkedHashMap<>(assets);
+            updatedAssets.put(assetResponse.getExternalId(), assetResponse);
+            return Collections.unmodifiableMap(updatedAssets);
+        });
+
+        // Cached sets are shared by the lookups, so they are replaced rather than changed
+        externalIdsCache.asMap().computeIfPresent(scope, (key, assetExternalIds) -> {
+            UuidSet updatedAssetExternalIds = copyOf(assetExternalIds, null);
+            updatedAssetExternalIds.add(assetResponse.getExternalId());
+            return Collections.unmodifiableSet(updatedAssetExternalIds);
+        });
+
+        return assetResponse;
+    }
+
+    private void evictDeletedAsset(String digitalUserId, UUID externalId) {
+        // Deletes are rare compared to reads, so scanning the (bounded) cache for the user's scopes is acceptable
+        cache.asMap().keySet().stream()
+                .filter(scope -> scope.digitalUserId().equals(digitalUserId))
+                .forEach(scope -> cache.asMap().computeIfPresent(scope, (key, assets) -> {
+                    if (!assets.containsKey(externalId)) {
+                        return assets;
+                    }
+
+                    Map<UUID, AssetResponse> updatedAssets = new LinkedHashMap<>(assets);
+                    updatedAssets.remove(externalId);
+                    return Collections.unmodifiableMap(updatedAssets);
+                }));
+
+        externalIdsCache.asMap().keySet().stream()
+                .filter(scope -> scope.digitalUserId().equals(digitalUserId))
+                .forEach(scope -> externalIdsCache.asMap().computeIfPresent(scope, (key, assetExternalIds) ->
+                        assetExternalIds.contains(externalId) ?
+                                Collections.unmodifiableSet(copyOf(assetExternalIds, externalId)) : assetExternalIds
+                ));
+    }
+
+    private Map<UUID, AssetResponse> loadAssets(String jwt, AssetScope scope) {
+        log.debug("Loading assets of digital user {} from Dux Manager.", scope.digitalUserId());
+        List<AssetResponse> assetResponseList = delegate.findAssetsByCriteria(
+                jwt,
+                scope.digitalUserId(),
+                null,
+                scope.groupId(),
+                scope.artifactId(),
+                scope.type(),
+                null,
+                null,
+                null
+        );
+
+        return toAssets(assetResponseList);
+    }
+
+    private Set<UUID> loadAssetExternalIds(String jwt, AssetScope scope) {
+        log.debug("Loading asset external ids of digital user {} from Dux Manager.", scope.digitalUserId());
+        Set<UUID> assetExternalIds = delegate.findAssetExternalIdsByCriteria(
+                jwt,
+                scope.digitalUserId(),
+                null,
+                scope.groupId(),
+                scope.artifactId(),
+                scope.type(),
+                null,
+                null,
+                null
+        );
+
+        return assetExternalIds != null ? Collections.unmodifiableSet(assetExternalIds) : Set.of();
+    }
+
+    private static Map<UUID, AssetResponse> toAssets(List<AssetResponse> assetResponseList) {
+        Map<UUID, AssetResponse> assets = new LinkedHashMap<>();
+        if (assetResponseList != null) {
+            assetResponseList.forEach(assetResponse -> assets.put(assetResponse.getExternalId(), assetResponse));
+        }
+
+        return Collections.unmodifiableMap(assets);
+    }
+
+    private static List<AssetResponse> select(Map<UUID, AssetResponse> assets, String externalIds) {
+        if (externalIds == null) {
+            return List.copyOf(assets.values());
+        }
+
+        return Arrays.stream(externalIds.split(","))
+                .map(UUID::fromString)
+                .map(assets::get)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+    }
+
+    /* Every id is the cached set itself, which is never changed (updates replace it) and cannot be changed through the
+    view handed out, so a hit does not copy it. Only the ids asked for are collected into a set of the caller's own
+     */
+    private static Set<UUID> selectExternalIds(Set<UUID> assetExternalIds, String externalIds) {
+        if (externalIds == null) {
+            return assetExternalIds;
+        }
+
+        UuidSet selectedExternalIds = new UuidSet();
+        Arrays.stream(externalIds.split(","))
+                .map(UUID::fromString)
+                .filter(assetExternalIds::contains)
+                .forEach(selectedExternalIds::add);
+        return selectedExternalIds;
+    }
+
+    private static UuidSet copyOf(Collection<UUID> assetExternalIds, UUID excludedExternalId) {
+        UuidSet copy = new UuidSet(assetExternalIds.size());
+        assetExternalIds.stream()
+                .filter(externalId -> externalId != null && !externalId.equals(excludedExternalId))
+                .forEach(copy::add);
+        return copy;
+    }
+
+    private record AssetScope(
+            String digitalUserId,
+            String groupId,
+            String artifactId,
+            String type
+    ) {
+
+        private static AssetScope of(String digitalUserId, AssetRequest assetRequest) {
+            AssetRequest.ArtifactInformation artifactInformation = assetRequest.getArtifactInformation();
+            return new AssetScope(
+                    digitalUserId,
+                    artifactInformation != null ? artifactInformation.getGroupId() : null,
+                    artifactInformation != null ? artifactInformation.getArtifactId() : null,
+                    assetRequest.getType()
+            );
+        }
+    }
+}
@@ -1,21 +1,74 @@
 package com.tracktainment.gamemanager.dataprovider;
 
+import com.tracktainment.gamemanager.client.DuxManagerCallGuard;
+import com.tracktainment.gamemanager.client.DuxManagerHedging;
 import com.tracktainment.gamemanager.client.DuxManagerHttpClient;
 import com.tracktainment.gamemanager.dto.duxmanager.request.AssetRequest;
 import com.tracktainment.gamemanager.dto.duxmanager.response.AssetResponse;
-import lombok.RequiredArgsConstructor;
+import com.tracktainment.gamemanager.exception.ResourceAlreadyExistsException;
+import com.tracktainment.gamemanager.exception.ResourceNotFoundException;
+import com.tracktainment.gamemanager.util.UuidSet;
+import feign.FeignException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 
-@Service
-@RequiredArgsConstructor
+@Service(DuxManagerDataProviderCache.REMOTE_DATA_PROVIDER)
+@ConditionalOnProperty(prefix = "dux-manager.client", name = "mode", havingValue = "blocking", matchIfMissing = true)
 @Slf4j
 public class DuxManagerDataProviderRest implements DuxManagerDataProvider {
 
+    public static final String COLLAPSED_CALLS_METRIC = "dux-manager.calls.collapsed";
+
     private final DuxManagerHttpClient duxManagerHttpClient;
+    private final DuxManagerCallGuard duxManagerCallGuard;
+    private final DuxManagerHedging duxManagerHedging;
+    private final Counter collapsedFindAssetsCalls;
+    private final Counter collapsedFindAssetExternalIdsCalls;
+
+    /* Lookups currently waiting on Dux Manager. Identical concurrent lookups (i.e. parallel list and detail calls from
+    the same client) wait on the first one instead of issuing their own request
+     */
+    private final Map<FindAssetsCriteria, CompletableFuture<List<AssetResponse>>> inFlightFindAssetsCalls =
+            new ConcurrentHashMap<>();
+    private final Map<FindAssetsCriteria, CompletableFuture<Set<UUID>>> inFlightFindAssetExternalIdsCalls =
+            new ConcurrentHashMap<>();
+
+    public DuxManagerDataProviderRest(
+            DuxManagerHttpClient duxManagerHttpClient,
+            DuxManagerCallGuard duxManagerCallGuard,
+            DuxManagerHedging duxManagerHedging,
+            MeterRegistry meterRegistry
+    ) {
+        this.duxManagerHttpClient = duxManagerHttpClient;
+        this.duxManagerCallGuard = duxManagerCallGuard;
+        this.duxManagerHedging = duxManagerHedging;
+        this.collapsedFindAssetsCalls = collapsedCallsCounter(meterRegistry, "findAssetsByCriteria");
+        this.collapsedFindAssetExternalIdsCalls = collapsedCallsCounter(
+                meterRegistry,
+                "findAssetExternalIdsByCriteria"
+        );
+    }
+
+    private static Counter collapsedCallsCounter(MeterRegistry meterRegistry, String operation) {
+        return Counter.builder(COLLAPSED_CALLS_METRIC)
+                .description("Dux Manager calls served by an identical call already in flight")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
 
     @Override
     public AssetResponse createAsset(
@@ -23,11 +76,18 @@ public class DuxManagerDataProviderRest implements DuxManagerDataProvider {
             String digitalUserId,
             AssetRequest assetRequest
     ) {
-        return duxManagerHttpClient.createAsset(
-                jwt,
-                digitalUserId,
-                assetRequest
-        );
+        try {
+            return duxManagerCallGuard.call(
+                    DuxManagerCallGuard.CREATE_ASSET,
+                    () -> duxManagerHttpClient.createAsset(
+                            jwt,
+                            digitalUserId,
+                            assetRequest
+                    )
+            );
+        } catch (FeignException.Conflict e) {
+            throw new ResourceAlreadyExistsException(AssetResponse.class, String.valueOf(assetRequest.getExternalId()));
+        }
     }
 
     @Override
@@ -42,29 +102,155 @@ public class DuxManagerDataProviderRest implements DuxManagerDataProvider {
             LocalDate from,
             LocalDate to
     ) {
-        return duxManagerHttpClient.findAssetsByCriteria(
-                jwt,
-                digitalUserId,
-                externalIds,
-                groupId,
-                artifactId,
-                type,
-                createdAt,
-                from,
-                to
+        // The jwt is part of the key, as the same criteria may be answered differently for different callers
+        FindAssetsCriteria criteria = new FindAssetsCriteria(
+                jwt, digitalUserId, externalIds, groupId, artifactId, type, createdAt, from, to
         );
+
+        CompletableFuture<List<AssetResponse>> call = new CompletableFuture<>();
+        CompletableFuture<List<AssetResponse>> inFlightCall = inFlightFindAssetsCalls.putIfAbsent(criteria, call);
+        if (inFlightCall != null) {
+            collapsedFindAssetsCalls.increment();
+            return awaitInFlightCall(inFlightCall);
+        }
+
+        try {
+            // A hedge goes through the guard like any other call, so it is refused while Dux Manager is unavailable
+            List<AssetResponse> assetResponseList = duxManagerHedging.call(
+                    () -> duxManagerCallGuard.call(
+                            DuxManagerCallGuard.FIND_ASSETS,
+                            () -> duxManagerHttpClient.findAssetsByCriteria(
+                                    jwt,
+                                    digitalUserId,
+                                    externalIds,
+                                    groupId,
+                                    artifactId,
+                                    type,
+                                    createdAt,
+                                    from,
+                                    to
+                            )
+                    )
+            );
+
+            // The same list is handed to every waiting caller, so none of them may modify it
+            List<AssetResponse> sharedAssetResponseList = assetResponseList != null ?
+                    Collections.unmodifiableList(new ArrayList<>(assetResponseList)) : null;
+
+            call.complete(sharedAssetResponseList);
+            return sharedAssetResponseList;
+        } catch (Throwable e) {
+            // Errors included, a waiter must never be left on a call that will not complete
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightFindAssetsCalls.remove(criteria, call);
+        }
     }
 
     @Override
-    public void deleteAsset(
+    public Set<UUID> findAssetExternalIdsByCriteria(
             String jwt,
             String digitalUserId,
-            String externalId
+            String externalIds,
+            String groupId,
+            String artifactId,
+            String type,
+            LocalDate createdAt,
+            LocalDate from,
+            LocalDate to
     ) {
-        duxManagerHttpClient.deleteAssetByExternalId(
-                jwt,
-                digitalUserId,
-                externalId
+        FindAssetsCriteria criteria = new FindAssetsCriteria(
+                jwt, digitalUserId, externalIds, groupId, artifactId, type, createdAt, from, to
         );
+
+        CompletableFuture<Set<UUID>> call = new CompletableFuture<>();
+        CompletableFuture<Set<UUID>> inFlightCall = inFlightFindAssetExternalIdsCalls.putIfAbsent(criteria, call);
+        if (inFlightCall != null) {
+            collapsedFindAssetExternalIdsCalls.increment();
+            return awaitInFlightCall(inFlightCall);
+        }
+
+        try {
+            UuidSet assetExternalIds = duxManagerHedging.call(
+                    () -> duxManagerCallGuard.call(
+                            DuxManagerCallGuard.FIND_ASSETS,
+                            () -> duxManagerHttpClient.findAssetExternalIdsByCriteria(
+                                    jwt,
+                                    digitalUserId,
+                                    externalIds,
+                                    groupId,
+                                    artifactId,
+                                    type,
+                                    createdAt,
+                                    from,
+                                    to
+                            )
+                    )
+            );
+
+            // Every waiting caller reads the same set through a view that cannot change it, so the set is not copied
+            Set<UUID> sharedAssetExternalIds = Collections.unmodifiableSet(
+                    assetExternalIds != null ? assetExternalIds : new UuidSet()
+            );
+
+            call.complete(sharedAssetExternalIds);
+            return sharedAssetExternalIds;
+        } catch (Throwable e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightFindAssetExternalIdsCalls.remove(criteria, call);
+        }
+    }
+
+    @Override
+    public void deleteAsset(
+            String jwt,
+            String digitalUserId,
+            UUID externalId
+    ) {
+        try {
+            duxManagerCallGuard.run(
+                    DuxManagerCallGuard.DELETE_ASSET,
+                    () -> duxManagerHttpClient.deleteAssetByExternalId(
+                            jwt,
+                            digitalUserId,
+                            externalId
+                    )
+            );
+        } catch (FeignException.NotFound e) {
+            throw new ResourceNotFoundException(AssetResponse.class, externalId.toString());
+        }
+    }
+
+    private static <T> T awaitInFlightCall(CompletableFuture<T> inFlightCall) {
+        try {
+            return inFlightCall.join();
+        } catch (CompletionException e) {
+            // Surface the same exception the first caller got, so that it is handled the same way
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+
+            throw e;
+        }
+    }
+
+    private record FindAssetsCriteria(
+            String jwt,
+            String digitalUserId,
+            String externalIds,
+            String groupId,
+            String artifactId,
+            String type,
+            LocalDate createdAt,
+            LocalDate from,
+            LocalDate to
+    ) {
     }
 }
@@ -0,0 +1,574 @@
+package com.tracktainment.gamemanager.dataprovider;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tracktainment.gamemanager.client.AssetExternalIdsReader;
+import com.tracktainment.gamemanager.client.DuxManagerCallGuard;
+import com.tracktainment.gamemanager.client.DuxManagerHedging;
+import com.tracktainment.gamemanager.client.DuxManagerTransport;
+import com.tracktainment.gamemanager.dto.duxmanager.request.AssetRequest;
+import com.tracktainment.gamemanager.dto.duxmanager.response.AssetResponse;
+import com.tracktainment.gamemanager.exception.ResourceAlreadyExistsException;
+import com.tracktainment.gamemanager.exception.ResourceNotFoundException;
+import feign.FeignException;
+import feign.Request;
+import feign.RetryableException;
+import feign.Response;
+import feign.codec.DecodeException;
+import feign.codec.EncodeException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/*
+ * Calls Dux Manager through the non-blocking JDK HTTP client, for dux-manager.client.mode non-blocking. The async
+ * variants return as soon as the request is sent and complete on the client's threads once Dux Manager answered, so a
+ * use case can overlap a Dux Manager call with its own work without a thread waiting on it. Failures surface as the
+ * same exceptions as with the Feign client, and calls go through the same circuit breakers and bulkhead. Asset lookups
+ * are collapsed and hedged like with the Feign client, on the futures rather than on waiting threads.
+ */
+@Service(DuxManagerDataProviderCache.REMOTE_DATA_PROVIDER)
+@ConditionalOnProperty(prefix = "dux-manager.client", name = "mode", havingValue = "non-blocking")
+public class DuxManagerDataProviderRestAsync implements DuxManagerDataProvider {
+
+    private static final String DELETE_ASSET_BY_EXTERNAL_ID = "deleteAssetByExternalId";
+    private static final TypeReference<List<AssetResponse>> ASSET_RESPONSE_LIST = new TypeReference<>() {
+    };
+
+    private final HttpClient duxManagerAsyncHttpClient;
+    private final ObjectMapper objectMapper;
+    private final AssetExternalIdsReader assetExternalIdsReader;
+    private final DuxManagerCallGuard duxManagerCallGuard;
+    private final DuxManagerHedging duxManagerHedging;
+    private final MeterRegistry meterRegistry;
+    private final String baseUrl;
+    private final Duration createAssetTimeout;
+    private final Duration findAssetsTimeout;
+    private final Duration deleteAssetTimeout;
+    private final Counter collapsedFindAssetsCalls;
+    private final Counter collapsedFindAssetExternalIdsCalls;
+
+    // Lookups currently waiting on Dux Manager, which identical concurrent lookups share instead of sending their own
+    private final Map<FindAssetsCriteria, InFlightCall<List<AssetResponse>>> inFlightFindAssetsCalls =
+            new ConcurrentHashMap<>();
+    private final Map<FindAssetsCriteria, InFlightCall<Set<UUID>>> inFlightFindAssetExternalIdsCalls =
+            new ConcurrentHashMap<>();
+
+    public DuxManagerDataProviderRestAsync(
+            HttpClient duxManagerAsyncHttpClient,
+            ObjectMapper objectMapper,
+            DuxManagerCallGuard duxManagerCallGuard,
+            DuxManagerHedging duxManagerHedging,
+            MeterRegistry meterRegistry,
+            @Value("${http.url.dux-manager}") String baseUrl,
+            @Value("${dux-manager.client.create-asset.read-timeout:${dux-manager.client.read-timeout:5s}}")
+            Duration createAssetTimeout,
+            @Value("${dux-manager.client.find-assets-by-criteria.read-timeout:${dux-manager.client.read-timeout:5s}}")
+            Duration findAssetsTimeout,
+            @Value("${dux-manager.client.delete-asset-by-external-id.read-timeout:${dux-manager.client.read-timeout:5s}}")
+            Duration deleteAssetTimeout
+    ) {
+        this.duxManagerAsyncHttpClient = duxManagerAsyncHttpClient;
+        this.objectMapper = objectMapper;
+        this.assetExternalIdsReader = new AssetExternalIdsReader(objectMapper.getFactory());
+        this.duxManagerCallGuard = duxManagerCallGuard;
+        this.duxManagerHedging = duxManagerHedging;
+        this.meterRegistry = meterRegistry;
+        this.baseUrl = baseUrl;
+        this.createAssetTimeout = createAssetTimeout;
+        this.findAssetsTimeout = findAssetsTimeout;
+        this.deleteAssetTimeout = deleteAssetTimeout;
+        this.collapsedFindAssetsCalls = collapsedCallsCounter(meterRegistry, "findAssetsByCriteria");
+        this.collapsedFindAssetExternalIdsCalls = collapsedCallsCounter(
+                meterRegistry,
+                "findAssetExternalIdsByCriteria"
+        );
+    }
+
+    private static Counter collapsedCallsCounter(MeterRegistry meterRegistry, String operation) {
+        return Counter.builder(DuxManagerDataProviderRest.COLLAPSED_CALLS_METRIC)
+                .description("Dux Manager calls served by an identical call already in flight")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public AssetResponse createAsset(
+            String jwt,
+            String digitalUserId,
+            AssetRequest assetRequest
+    ) {
+        return await(createAssetAsync(jwt, digitalUserId, assetRequest, Runnable::run));
+    }
+
+    @Override
+    public List<AssetResponse> findAssetsByCriteria(
+            String jwt,
+            String digitalUserId,
+            String externalIds,
+            String groupId,
+            String artifactId,
+            String type,
+            LocalDate createdAt,
+            LocalDate from,
+            LocalDate to
+    ) {
+        return await(findAssetsByCriteriaAsync(
+                jwt, digitalUserId, externalIds, groupId, artifactId, type, createdAt, from, to, Runnable::run
+        ));
+    }
+
+    @Override
+    public void deleteAsset(
+            String jwt,
+            String digitalUserId,
+            UUID externalId
+    ) {
+        await(deleteAssetAsync(jwt, digitalUserId, externalId, Runnable::run));
+    }
+
+    @Override
+    public CompletableFuture<AssetResponse> createAssetAsync(
+            String jwt,
+            String digitalUserId,
+            AssetRequest assetRequest,
+            Executor executor
+    ) {
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(assetRequest);
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(new EncodeException("Could not encode the asset request.", e));
+        }
+
+        HttpRequest request = request(
+                        UriComponentsBuilder.fromHttpUrl(baseUrl)
+                                .path("/assets/digitalUsers/{digitalUserId}")
+                                .buildAndExpand(digitalUserId)
+                                .encode()
+                                .toUri(),
+                        jwt,
+                        createAssetTimeout
+                )
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+
+        return mapFailure(
+                send(DuxManagerCallGuard.CREATE_ASSET, "createAsset", request,
+                        responseBody -> objectMapper.readValue(responseBody, AssetResponse.class)),
+                failure -> failure instanceof FeignException.Conflict ?
+                        new ResourceAlreadyExistsException(
+                                AssetResponse.class, String.valueOf(assetRequest.getExternalId())) :
+                        failure
+        );
+    }
+
+    @Override
+    public CompletableFuture<List<AssetResponse>> findAssetsByCriteriaAsync(
+            String jwt,
+            String digitalUserId,
+            String externalIds,
+            String groupId,
+            String artifactId,
+            String type,
+            LocalDate createdAt,
+            LocalDate from,
+            LocalDate to,
+            Executor executor
+    ) {
+        FindAssetsCriteria criteria = new FindAssetsCriteria(
+                jwt, digitalUserId, externalIds, groupId, artifactId, type, createdAt, from, to
+        );
+        HttpRequest request = findAssetsRequest(criteria);
+
+        // The same list is handed to every collapsed caller, so none of them may modify it
+        return collapse(inFlightFindAssetsCalls, criteria, collapsedFindAssetsCalls, () -> duxManagerHedging.callAsync(
+                () -> send(DuxManagerCallGuard.FIND_ASSETS, "findAssetsByCriteria", request,
+                        responseBody -> Collections.unmodifiableList(
+                                objectMapper.readValue(responseBody, ASSET_RESPONSE_LIST)
+                        ))
+        ));
+    }
+
+    @Override
+    public Set<UUID> findAssetExternalIdsByCriteria(
+            String jwt,
+            String digitalUserId,
+            String externalIds,
+            String groupId,
+            String artifactId,
+            String type,
+            LocalDate createdAt,
+            LocalDate from,
+            LocalDate to
+    ) {
+        FindAssetsCriteria criteria = new FindAssetsCriteria(
+                jwt, digitalUserId, externalIds, groupId, artifactId, type, createdAt, from, to
+        );
+        HttpRequest request = findAssetsRequest(criteria);
+
+        Set<UUID> assetExternalIds = await(collapse(
+                inFlightFindAssetExternalIdsCalls,
+                criteria,
+                collapsedFindAssetExternalIdsCalls,
+                () -> duxManagerHedging.callAsync(
+                        () -> send(DuxManagerCallGuard.FIND_ASSETS, "findAssetExternalIdsByCriteria", request,
+                                responseBody -> Collections.unmodifiableSet(assetExternalIdsReader.read(responseBody)))
+                )
+        ));
+        return assetExternalIds != null ? assetExternalIds : Set.of();
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteAssetAsync(
+            String jwt,
+            String digitalUserId,
+            UUID externalId,
+            Executor executor
+    ) {
+        HttpRequest request = request(
+                        UriComponentsBuilder.fromHttpUrl(baseUrl)
+                                .path("/assets")
+                                .queryParam("digitalUserId", digitalUserId)
+                                .queryParam("externalId", externalId)
+                                .build()
+                                .encode()
+                                .toUri(),
+                        jwt,
+                        deleteAssetTimeout
+                )
+                .DELETE()
+                .build();
+
+        return mapFailure(
+                send(DuxManagerCallGuard.DELETE_ASSET, DELETE_ASSET_BY_EXTERNAL_ID, request, responseBody -> null),
+                failure -> failure instanceof FeignException.NotFound ?
+                        new ResourceNotFoundException(AssetResponse.class, externalId.toString()) :
+                        failure
+        );
+    }
+
+    private HttpRequest findAssetsRequest(FindAssetsCriteria criteria) {
+        return request(
+                        UriComponentsBuilder.fromHttpUrl(baseUrl)
+                                .path("/assets")
+                                .queryParam("digitalUserId", criteria.digitalUserId())
+                                .queryParamIfPresent("externalIds", Optional.ofNullable(criteria.externalIds()))
+                                .queryParamIfPresent("groupId", Optional.ofNullable(criteria.groupId()))
+                                .queryParamIfPresent("artifactId", Optional.ofNullable(criteria.artifactId()))
+                                .queryParamIfPresent("type", Optional.ofNullable(criteria.type()))
+                                .queryParamIfPresent("createdAt", Optional.ofNullable(criteria.createdAt()))
+                                .queryParamIfPresent("from", Optional.ofNullable(criteria.from()))
+                                .queryParamIfPresent("to", Optional.ofNullable(criteria.to()))
+                                .build()
+                                .encode()
+                                .toUri(),
+                        criteria.jwt(),
+                        findAssetsTimeout
+                )
+                .GET()
+                .build();
+    }
+
+    /* Shares the lookup already in flight for the same criteria, or sends it. The jwt is part of the criteria, as the
+    same lookup may be answered differently for different callers
+     */
+    private static <T> CompletableFuture<T> collapse(
+            Map<FindAssetsCriteria, InFlightCall<T>> inFlightCalls,
+            FindAssetsCriteria criteria,
+            Counter collapsedCalls,
+            Supplier<CompletableFuture<T>> call
+    ) {
+        while (true) {
+            // Joined before it is published, so that it cannot be abandoned by others before it is sent
+            InFlightCall<T> newCall = new InFlightCall<>();
+            CompletableFuture<T> newCaller = newCall.join();
+            InFlightCall<T> inFlightCall = inFlightCalls.putIfAbsent(criteria, newCall);
+            if (inFlightCall == null) {
+                newCall.shared.whenComplete((result, failure) -> inFlightCalls.remove(criteria, newCall));
+                newCall.send(call);
+                return newCaller;
+            }
+
+            CompletableFuture<T> caller = inFlightCall.join();
+            if (caller != null) {
+                collapsedCalls.increment();
+                return caller;
+            }
+
+            // Every caller of the lookup in flight gave up on it, so it is being cancelled
+            inFlightCalls.remove(criteria, inFlightCall);
+        }
+    }
+
+    private static HttpRequest.Builder request(URI uri, String jwt, Duration timeout) {
+        return HttpRequest.newBuilder(uri)
+                .timeout(timeout)
+                .header(HttpHeaders.AUTHORIZATION, jwt)
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
+    }
+
+    /* Completes with the decoded body, or with the exception the Feign client raises for the same answer (i.e. a
+    FeignException.NotFound for a 404, a RetryableException when Dux Manager could not be reached or timed out)
+     */
+    private <T> CompletableFuture<T> send(
+            String guardedOperation,
+            String operation,
+            HttpRequest request,
+            BodyReader<T> bodyReader
+    ) {
+        AtomicReference<CompletableFuture<HttpResponse<byte[]>>> exchange = new AtomicReference<>();
+        CompletableFuture<T> call = duxManagerCallGuard.callAsync(guardedOperation, () -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+
+            exchange.set(duxManagerAsyncHttpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray()));
+            return exchange.get()
+                    .handle((response, failure) -> {
+                        Throwable cause = failure instanceof CompletionException && failure.getCause() != null ?
+                                failure.getCause() : failure;
+                        sample.stop(Timer.builder(DuxManagerTransport.REQUESTS_METRIC)
+                                .description("Time until Dux Manager answered a call")
+                                .tag("operation", operation)
+                                .tag("status", status(response, cause))
+                                .publishPercentileHistogram()
+                                .register(meterRegistry));
+
+                        // Given up by the caller, which says nothing about Dux Manager
+                        if (cause instanceof CancellationException cancellation) {
+                            throw cancellation;
+                        }
+
+                        if (cause != null) {
+                            Request feignRequest = feignRequest(request);
+                            throw new RetryableException(
+                                    -1,
+                                    String.format(
+                                            "%s executing %s %s", cause.getMessage(), request.method(), request.uri()),
+                                    feignRequest.httpMethod(),
+                                    cause,
+                                    (Long) null,
+                                    feignRequest
+                            );
+                        }
+
+                        if (response.statusCode() >= 300) {
+                            throw FeignException.errorStatus(operation, feignResponse(request, response));
+                        }
+
+                        if (response.body().length == 0) {
+                            return null;
+                        }
+
+                        try {
+                            return bodyReader.read(response.body());
+                        } catch (IOException e) {
+                            throw new DecodeException(
+                                    response.statusCode(),
+                                    "Could not decode the Dux Manager answer to " + operation + ".",
+                                    feignRequest(request),
+                                    e
+                            );
+                        }
+                    });
+        });
+
+        // Cancelling the call aborts the exchange, which gives the connection and the bulkhead permit back
+        call.whenComplete((result, failure) -> {
+            if (call.isCancelled() && exchange.get() != null) {
+                exchange.get().cancel(true);
+            }
+        });
+
+        return call;
+    }
+
+    private static String status(HttpResponse<byte[]> response, Throwable failure) {
+        if (failure == null) {
+            return String.valueOf(response.statusCode());
+        }
+
+        return failure instanceof CancellationException ? "CANCELLED" : "IO_ERROR";
+    }
+
+    private static Request feignRequest(HttpRequest request) {
+        return Request.create(
+                Request.HttpMethod.valueOf(request.method()),
+                request.uri().toString(),
+                Collections.emptyMap(),
+                null,
+                StandardCharsets.UTF_8,
+                null
+        );
+    }
+
+    private static Response feignResponse(HttpRequest request, HttpResponse<byte[]> response) {
+        return Response.builder()
+                .request(feignRequest(request))
+                .status(response.statusCode())
+                .headers(new HashMap<String, Collection<String>>(response.headers().map()))
+                .body(response.body())
+                .build();
+    }
+
+    // Turns the failures that mean something to the callers (i.e. 404 on delete) into the matching business exception
+    private static <T> CompletableFuture<T> mapFailure(
+            CompletableFuture<T> call,
+            Function<Throwable, Throwable> failureMapper
+    ) {
+        CompletableFuture<T> mappedCall = new CompletableFuture<>();
+        mappedCall.whenComplete((result, failure) -> {
+            if (mappedCall.isCancelled()) {
+                call.cancel(true);
+            }
+        });
+        call.whenComplete((result, failure) -> {
+            if (failure == null) {
+                mappedCall.complete(result);
+                return;
+            }
+
+            Throwable cause = failure instanceof CompletionException && failure.getCause() != null ?
+                    failure.getCause() : failure;
+            mappedCall.completeExceptionally(failureMapper.apply(cause));
+        });
+
+        return mappedCall;
+    }
+
+    private static <T> T await(CompletableFuture<T> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            // Surface the same exception as the Feign client, so that it is handled the same way
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+
+            throw e;
+        }
+    }
+
+    @FunctionalInterface
+    private interface BodyReader<T> {
+        T read(byte[] body) throws IOException;
+    }
+
+    private record FindAssetsCriteria(
+            String jwt,
+            String digitalUserId,
+            String externalIds,
+            String groupId,
+            String artifactId,
+            String type,
+            LocalDate createdAt,
+            LocalDate from,
+            LocalDate to
+    ) {
+    }
+
+    /* A lookup shared by the identical lookups issued while it runs. Each caller gets a future of its own, so that one
+    caller giving up (i.e. a cancelled ownership check) does not fail the others: the call itself is only cancelled
+    once every caller gave up on it
+     */
+    private static final class InFlightCall<T> {
+
+        private final CompletableFuture<T> shared = new CompletableFuture<>();
+        private int callers;
+        private boolean abandoned;
+
+        // A future of the caller's own, or null when the call was abandoned and a new one has to be sent
+        private synchronized CompletableFuture<T> join() {
+            if (abandoned) {
+                return null;
+            }
+
+            callers++;
+            CompletableFuture<T> caller = new CompletableFuture<>();
+            caller.whenComplete((result, failure) -> {
+                if (caller.isCancelled()) {
+                    leave();
+                }
+            });
+            shared.whenComplete((result, failure) -> {
+                if (failure == null) {
+                    caller.complete(result);
+                } else {
+                    caller.completeExceptionally(failure);
+                }
+            });
+
+            return caller;
+        }
+
+        private void leave() {
+            synchronized (this) {
+                if (--callers > 0) {
+                    return;
+                }
+                abandoned = true;
+            }
+
+            shared.cancel(true);
+        }
+
+        private void send(Supplier<CompletableFuture<T>> call) {
+            CompletableFuture<T> sentCall;
+            try {
+                sentCall = call.get();
+            } catch (RuntimeException e) {
+                shared.completeExceptionally(e);
+                return;
+            }
+
+            shared.whenComplete((result, failure) -> {
+                if (shared.isCancelled()) {
+                    sentCall.cancel(true);
+                }
+            });
+            sentCall.whenComplete((result, failure) -> {
+                if (failure == null) {
+                    shared.complete(result);
+                    return;
+                }
+
+                shared.completeExceptionally(
+                        failure instanceof CompletionException && failure.getCause() != null ?
+                                failure.getCause() : failure
+                );
+            });
+        }
+    }
+}
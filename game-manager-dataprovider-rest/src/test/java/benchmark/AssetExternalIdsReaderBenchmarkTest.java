@@ -0,0 +1,90 @@
+package benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tracktainment.gamemanager.client.AssetExternalIdsReader;
+import com.tracktainment.gamemanager.dto.duxmanager.response.AssetResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import testutil.TestGameDataUtil;
+
+import java.io.ByteArrayInputStream;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/* Compares reading the ids of the games a digital user owns from a Dux Manager answer of 10k assets, by binding the
+asset list then collecting the ids into a HashSet (the former path) and by streaming the ids alone into a UuidSet.
+Reports the throughput and the bytes allocated per read by the reading thread. Opt-in, as it runs for a while:
+mvn test -Dtest=AssetExternalIdsReaderBenchmarkTest -Dbenchmark.asset-ids=true
+ */
+@EnabledIfSystemProperty(named = "benchmark.asset-ids", matches = "true")
+class AssetExternalIdsReaderBenchmarkTest {
+
+    private static final int ASSETS = 10_000;
+    private static final int WARMUP_READS = 200;
+    private static final int READS = 500;
+    private static final TypeReference<List<AssetResponse>> ASSET_RESPONSE_LIST = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final AssetExternalIdsReader assetExternalIdsReader = new AssetExternalIdsReader(objectMapper.getFactory());
+
+    @Test
+    void compareReaders() throws Exception {
+        List<AssetResponse> assetResponseList = IntStream.range(0, ASSETS)
+                .mapToObj(i -> TestGameDataUtil.createTestAssetResponse())
+                .toList();
+        byte[] body = objectMapper.writeValueAsBytes(assetResponseList);
+        Set<UUID> expectedIds = assetResponseList.stream()
+                .map(AssetResponse::getExternalId)
+                .collect(Collectors.toSet());
+
+        System.out.printf("%-22s %12s %16s%n", "reader", "reads/s", "allocated/read");
+
+        Result boundResult = run(() -> objectMapper.readValue(body, ASSET_RESPONSE_LIST).stream()
+                .map(AssetResponse::getExternalId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()), expectedIds);
+        System.out.printf("%-22s %12.0f %13.0f KB%n",
+                "bind assets + HashSet", boundResult.throughput(), boundResult.allocatedBytes() / 1024.0);
+
+        Result streamedResult = run(() -> assetExternalIdsReader.read(new ByteArrayInputStream(body)), expectedIds);
+        System.out.printf("%-22s %12.0f %13.0f KB%n",
+                "stream ids + UuidSet", streamedResult.throughput(), streamedResult.allocatedBytes() / 1024.0);
+    }
+
+    private static Result run(IdsReader idsReader, Set<UUID> expectedIds) throws Exception {
+        for (int i=0; i<WARMUP_READS; i++) {
+            assertEquals(expectedIds, idsReader.read());
+        }
+
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long allocatedBefore = threadMXBean.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        int ids = 0;
+        for (int i=0; i<READS; i++) {
+            ids += idsReader.read().size();
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        long allocated = threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        assertEquals(READS * expectedIds.size(), ids);
+        return new Result(READS / seconds, (double) allocated / READS);
+    }
+
+    @FunctionalInterface
+    private interface IdsReader {
+        Set<UUID> read() throws Exception;
+    }
+
+    private record Result(double throughput, double allocatedBytes) {
+    }
+}
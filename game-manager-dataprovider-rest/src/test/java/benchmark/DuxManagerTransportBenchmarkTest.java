@@ -0,0 +1,153 @@
+package benchmark;
+
+import com.sun.net.httpserver.HttpServer;
+import com.tracktainment.gamemanager.config.FeignConfig;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/* Compares Feign's default transport (HttpURLConnection) with the pooled OkHttp transport of the Dux Manager client,
+under many concurrent calls to a local stub of Dux Manager answering after a fixed delay. The stub only speaks
+HTTP/1.1, so this measures connection reuse rather than HTTP/2 multiplexing. Opt-in, as it opens hundreds of
+connections: mvn test -Dtest=DuxManagerTransportBenchmarkTest -Dbenchmark.transport=true
+ */
+@EnabledIfSystemProperty(named = "benchmark.transport", matches = "true")
+class DuxManagerTransportBenchmarkTest {
+
+    private static final int CONCURRENCY = 500;
+    private static final int CALLS = 20_000;
+    private static final int WARMUP_CALLS = 2_000;
+    private static final Duration STUB_DELAY = Duration.ofMillis(20);
+    private static final byte[] STUB_BODY = """
+            [{"id":"123e4567-e89b-12d3-a456-426614174000","externalId":"456e7890-e12b-34d5-a678-426614174000","type":"game"}]
+            """.getBytes(StandardCharsets.UTF_8);
+    private static final Request.Options OPTIONS = new Request.Options(
+            2, TimeUnit.SECONDS, 10, TimeUnit.SECONDS, true);
+
+    private static HttpServer stubServer;
+    private static ExecutorService stubExecutor;
+    private static String url;
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        stubExecutor = Executors.newFixedThreadPool(CONCURRENCY + 100);
+        stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), CONCURRENCY * 2);
+        stubServer.createContext("/assets", exchange -> {
+            try {
+                Thread.sleep(STUB_DELAY.toMillis());
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, STUB_BODY.length);
+                exchange.getResponseBody().write(STUB_BODY);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                exchange.close();
+            }
+        });
+        stubServer.setExecutor(stubExecutor);
+        stubServer.start();
+        url = "http://localhost:" + stubServer.getAddress().getPort() + "/assets";
+    }
+
+    @AfterAll
+    static void tearDown() {
+        stubServer.stop(0);
+        stubExecutor.shutdownNow();
+    }
+
+    @Test
+    void compareTransports() throws Exception {
+        OkHttpClient okHttpClient = new FeignConfig().duxManagerOkHttpClient(
+                new SimpleMeterRegistry(), CONCURRENCY, Duration.ofMinutes(5), false);
+        Client pooled = new FeignConfig().duxManagerTransport(
+                okHttpClient, new SimpleMeterRegistry(),
+                Duration.ofSeconds(2), Duration.ofSeconds(10),
+                Duration.ofSeconds(2), Duration.ofSeconds(10),
+                Duration.ofSeconds(2), Duration.ofSeconds(10)
+        );
+
+        System.out.printf("%-18s %12s %10s %10s %12s%n", "transport", "calls/s", "p50 (ms)", "p99 (ms)", "connections");
+
+        Result defaultResult = run(new Client.Default(null, null));
+        System.out.printf("%-18s %12.0f %10.2f %10.2f %12s%n",
+                "HttpURLConnection", defaultResult.throughput(), defaultResult.p50(), defaultResult.p99(), "-");
+
+        Result pooledResult = run(pooled);
+        System.out.printf("%-18s %12.0f %10.2f %10.2f %12d%n",
+                "OkHttp pooled", pooledResult.throughput(), pooledResult.p50(), pooledResult.p99(),
+                okHttpClient.connectionPool().connectionCount());
+    }
+
+    private Result run(Client client) throws Exception {
+        ExecutorService callers = Executors.newFixedThreadPool(CONCURRENCY);
+        try {
+            call(client, callers, WARMUP_CALLS);
+
+            long start = System.nanoTime();
+            long[] latencies = call(client, callers, CALLS);
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+            Arrays.sort(latencies);
+            return new Result(
+                    CALLS / seconds,
+                    latencies[CALLS / 2] / 1_000_000.0,
+                    latencies[(int) (CALLS * 0.99)] / 1_000_000.0
+            );
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    private long[] call(Client client, ExecutorService callers, int calls) throws Exception {
+        List<Future<Long>> futures = new ArrayList<>(calls);
+        for (int i=0; i<calls; i++) {
+            futures.add(callers.submit(() -> {
+                long start = System.nanoTime();
+                Request request = Request.create(
+                        Request.HttpMethod.GET, url, Collections.emptyMap(), null, StandardCharsets.UTF_8, null);
+                try (Response response = client.execute(request, OPTIONS)) {
+                    assertEquals(200, response.status());
+                    // The connection only goes back to the pool once the body is read
+                    try (InputStream body = response.body().asInputStream()) {
+                        body.transferTo(OutputStream.nullOutputStream());
+                    }
+                }
+
+                return System.nanoTime() - start;
+            }));
+        }
+
+        long[] latencies = new long[calls];
+        for (int i=0; i<calls; i++) {
+            latencies[i] = futures.get(i).get();
+        }
+
+        return latencies;
+    }
+
+    private record Result(double throughput, double p50, double p99) {
+    }
+}
@@ -0,0 +1,95 @@
+package client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.tracktainment.gamemanager.client.AssetExternalIdsDecoder;
+import com.tracktainment.gamemanager.client.AssetExternalIdsReader;
+import com.tracktainment.gamemanager.util.UuidSet;
+import feign.Request;
+import feign.Response;
+import feign.codec.DecodeException;
+import feign.codec.Decoder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AssetExternalIdsDecoderTest {
+
+    private static final Request REQUEST = Request.create(
+            Request.HttpMethod.GET, "/assets", Collections.emptyMap(), null, StandardCharsets.UTF_8, null);
+
+    @Mock
+    private Decoder delegate;
+
+    private AssetExternalIdsDecoder assetExternalIdsDecoder;
+
+    @BeforeEach
+    void setUp() {
+        assetExternalIdsDecoder = new AssetExternalIdsDecoder(
+                delegate, new AssetExternalIdsReader(new JsonFactory()));
+    }
+
+    @Test
+    void shouldStreamAssetExternalIdsIntoAUuidSet() throws IOException {
+        // Arrange
+        Response response = response("""
+                [{"id":"1","externalId":"123e4567-e89b-12d3-a456-426614174000","type":"game"}]
+                """);
+
+        // Act
+        Object result = assetExternalIdsDecoder.decode(response, UuidSet.class);
+
+        // Assert
+        assertInstanceOf(UuidSet.class, result);
+        assertEquals(Set.of(UUID.fromString("123e4567-e89b-12d3-a456-426614174000")), result);
+        verify(delegate, never()).decode(any(), any());
+    }
+
+    @Test
+    void shouldLeaveOtherAnswersToTheDelegate() throws IOException {
+        // Arrange
+        Response response = response("[]");
+        Type type = List.class;
+        when(delegate.decode(response, type)).thenReturn(List.of());
+
+        // Act
+        Object result = assetExternalIdsDecoder.decode(response, type);
+
+        // Assert
+        assertEquals(List.of(), result);
+    }
+
+    @Test
+    void shouldFailWithDecodeExceptionOnInvalidAnswers() {
+        // Arrange
+        Response response = response("{\"error\":\"unexpected\"}");
+
+        // Act & Assert
+        DecodeException exception = assertThrows(DecodeException.class, () ->
+                assetExternalIdsDecoder.decode(response, UuidSet.class));
+        assertEquals(200, exception.status());
+    }
+
+    private static Response response(String body) {
+        return Response.builder()
+                .request(REQUEST)
+                .status(200)
+                .headers(Collections.emptyMap())
+                .body(body, StandardCharsets.UTF_8)
+                .build();
+    }
+}
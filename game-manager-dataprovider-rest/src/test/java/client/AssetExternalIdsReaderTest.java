@@ -0,0 +1,107 @@
+package client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.tracktainment.gamemanager.client.AssetExternalIdsReader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AssetExternalIdsReaderTest {
+
+    private AssetExternalIdsReader assetExternalIdsReader;
+
+    @BeforeEach
+    void setUp() {
+        assetExternalIdsReader = new AssetExternalIdsReader(new JsonFactory());
+    }
+
+    @Test
+    void shouldReadOnlyTheExternalIds() throws IOException {
+        // Arrange
+        String body = """
+                [{"id":"1","externalId":"123e4567-e89b-12d3-a456-426614174000","type":"game",
+                  "artifactInformation":{"groupId":"com.tracktainment","externalId":"not an id"},
+                  "tags":["externalId",{"externalId":[1,2]}]},
+                 {"externalId":null,"id":"2"},
+                 null,
+                 {"type":"game","externalId":"456E7890-E12B-34D5-A678-426614174000"}]
+                """;
+
+        // Act
+        Set<UUID> externalIds = assetExternalIdsReader.read(new ByteArrayInputStream(bytes(body)));
+
+        // Assert
+        assertEquals(Set.of(
+                UUID.fromString("123e4567-e89b-12d3-a456-426614174000"),
+                UUID.fromString("456e7890-e12b-34d5-a678-426614174000")
+        ), externalIds);
+    }
+
+    @Test
+    void shouldReadIdsLikeUuidFromString() throws IOException {
+        // Arrange
+        Set<UUID> expectedIds = new HashSet<>();
+        for (int i=0; i<1_000; i++) {
+            expectedIds.add(UUID.randomUUID());
+        }
+        expectedIds.add(new UUID(0, 0));
+        expectedIds.add(new UUID(-1, -1));
+        String body = expectedIds.stream()
+                .map(uuid -> "{\"externalId\":\"" + uuid.toString().toUpperCase(Locale.ROOT) + "\"}")
+                .collect(Collectors.joining(",", "[", "]"));
+
+        // Act
+        Set<UUID> externalIds = assetExternalIdsReader.read(bytes(body));
+
+        // Assert
+        assertEquals(expectedIds, externalIds);
+    }
+
+    @Test
+    void shouldAcceptTheShortFormsUuidFromStringAccepts() throws IOException {
+        // Act
+        Set<UUID> externalIds = assetExternalIdsReader.read(bytes("[{\"externalId\":\"1-2-3-4-5\"}]"));
+
+        // Assert
+        assertEquals(Set.of(UUID.fromString("1-2-3-4-5")), externalIds);
+    }
+
+    @Test
+    void shouldReadEmptyAnswersAsNoIds() throws IOException {
+        // Act & Assert
+        assertTrue(assetExternalIdsReader.read(bytes("")).isEmpty());
+        assertTrue(assetExternalIdsReader.read(bytes("null")).isEmpty());
+        assertTrue(assetExternalIdsReader.read(bytes("[]")).isEmpty());
+    }
+
+    @Test
+    void shouldRejectInvalidIds() {
+        // Act & Assert
+        assertThrows(JsonParseException.class, () ->
+                assetExternalIdsReader.read(bytes("[{\"externalId\":\"123e4567-e89b-12d3-a456-42661417400g\"}]")));
+    }
+
+    @Test
+    void shouldRejectAnswersOtherThanAnAssetList() {
+        // Act & Assert
+        assertThrows(JsonParseException.class, () ->
+                assetExternalIdsReader.read(bytes("{\"externalId\":\"123e4567-e89b-12d3-a456-426614174000\"}")));
+        assertThrows(JsonParseException.class, () -> assetExternalIdsReader.read(bytes("[\"asset\"]")));
+        assertThrows(IOException.class, () -> assetExternalIdsReader.read(bytes("[{\"externalId\":")));
+    }
+
+    private static byte[] bytes(String body) {
+        return body.getBytes(StandardCharsets.UTF_8);
+    }
+}
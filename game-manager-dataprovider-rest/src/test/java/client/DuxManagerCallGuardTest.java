@@ -0,0 +1,172 @@
+package client;
+
+import com.tracktainment.gamemanager.client.DuxManagerCallGuard;
+import com.tracktainment.gamemanager.exception.ServiceUnavailableException;
+import feign.FeignException;
+import feign.Request;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DuxManagerCallGuardTest {
+
+    private static final Request REQUEST = Request.create(
+            Request.HttpMethod.GET, "/assets", Collections.emptyMap(), null, StandardCharsets.UTF_8, null);
+
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private DuxManagerCallGuard duxManagerCallGuard;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowSize(4)
+                .minimumNumberOfCalls(4)
+                .failureRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofMinutes(1))
+                .permittedNumberOfCallsInHalfOpenState(2)
+                .recordException(DuxManagerCallGuard::isDuxManagerFailure)
+                .build());
+        duxManagerCallGuard = new DuxManagerCallGuard(circuitBreakerRegistry, Bulkhead.ofDefaults("dux-manager"));
+    }
+
+    @Test
+    void shouldReturnTheAnswerOfTheCall() {
+        // Act
+        String result = duxManagerCallGuard.call(DuxManagerCallGuard.FIND_ASSETS, () -> "assets");
+
+        // Assert
+        assertEquals("assets", result);
+    }
+
+    @Test
+    void shouldSuspendCallsOnceDuxManagerKeepsFailing() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+        for (int i=0; i<4; i++) {
+            assertThrows(FeignException.InternalServerError.class, () ->
+                    duxManagerCallGuard.call(DuxManagerCallGuard.FIND_ASSETS, () -> {
+                        calls.incrementAndGet();
+                        throw new FeignException.InternalServerError("Dux Manager failed", REQUEST, null, null);
+                    }));
+        }
+
+        // Act
+        ServiceUnavailableException exception = assertThrows(ServiceUnavailableException.class, () ->
+                duxManagerCallGuard.call(DuxManagerCallGuard.FIND_ASSETS, () -> {
+                    calls.incrementAndGet();
+                    return "assets";
+                }));
+
+        // Assert
+        assertEquals(4, calls.get());
+        assertEquals(503, exception.getHttpStatusCode());
+        assertEquals(CircuitBreaker.State.OPEN,
+                circuitBreakerRegistry.circuitBreaker(DuxManagerCallGuard.FIND_ASSETS).getState());
+    }
+
+    @Test
+    void shouldNotCountClientErrorsAsFailures() {
+        // Arrange & Act
+        for (int i=0; i<4; i++) {
+            assertThrows(FeignException.NotFound.class, () ->
+                    duxManagerCallGuard.run(DuxManagerCallGuard.DELETE_ASSET, () -> {
+                        throw new FeignException.NotFound("Asset not found", REQUEST, null, null);
+                    }));
+        }
+
+        // Assert
+        assertEquals(CircuitBreaker.State.CLOSED,
+                circuitBreakerRegistry.circuitBreaker(DuxManagerCallGuard.DELETE_ASSET).getState());
+    }
+
+    @Test
+    void shouldKeepOtherOperationsRunningWhenOneIsSuspended() {
+        // Arrange
+        circuitBreakerRegistry.circuitBreaker(DuxManagerCallGuard.FIND_ASSETS).transitionToOpenState();
+
+        // Act
+        String result = duxManagerCallGuard.call(DuxManagerCallGuard.CREATE_ASSET, () -> "asset");
+
+        // Assert
+        assertEquals("asset", result);
+    }
+
+    @Test
+    void shouldResumeCallsOnceTheProbesSucceed() {
+        // Arrange
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(DuxManagerCallGuard.FIND_ASSETS);
+        circuitBreaker.transitionToOpenState();
+        circuitBreaker.transitionToHalfOpenState();
+
+        // Act
+        duxManagerCallGuard.call(DuxManagerCallGuard.FIND_ASSETS, () -> "assets");
+        duxManagerCallGuard.call(DuxManagerCallGuard.FIND_ASSETS, () -> "assets");
+
+        // Assert
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void shouldCountAsyncFailuresAndRefuseAsyncCallsOnceOpen() {
+        // Arrange
+        for (int i=0; i<4; i++) {
+            CompletableFuture<String> failedCall = duxManagerCallGuard.callAsync(DuxManagerCallGuard.FIND_ASSETS, () ->
+                    CompletableFuture.failedFuture(
+                            new FeignException.InternalServerError("Dux Manager failed", REQUEST, null, null)));
+            CompletionException exception = assertThrows(CompletionException.class, failedCall::join);
+            assertInstanceOf(FeignException.InternalServerError.class, exception.getCause());
+        }
+
+        // Act
+        CompletableFuture<String> refusedCall = duxManagerCallGuard.callAsync(DuxManagerCallGuard.FIND_ASSETS, () ->
+                CompletableFuture.completedFuture("assets"));
+
+        // Assert
+        CompletionException exception = assertThrows(CompletionException.class, refusedCall::join);
+        assertInstanceOf(ServiceUnavailableException.class, exception.getCause());
+    }
+
+    @Test
+    void shouldRefuseCallsBeyondTheBulkheadLimit() throws Exception {
+        // Arrange
+        duxManagerCallGuard = new DuxManagerCallGuard(circuitBreakerRegistry, Bulkhead.of("dux-manager",
+                BulkheadConfig.custom().maxConcurrentCalls(1).maxWaitDuration(Duration.ZERO).build()));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> inFlight = CompletableFuture.supplyAsync(() ->
+                duxManagerCallGuard.call(DuxManagerCallGuard.FIND_ASSETS, () -> {
+                    started.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return "assets";
+                }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // Act & Assert
+        try {
+            assertThrows(ServiceUnavailableException.class, () ->
+                    duxManagerCallGuard.call(DuxManagerCallGuard.CREATE_ASSET, () -> "asset"));
+        } finally {
+            release.countDown();
+        }
+        assertEquals("assets", inFlight.get(5, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,243 @@
+package client;
+
+import com.tracktainment.gamemanager.client.DuxManagerCallGuard;
+import com.tracktainment.gamemanager.client.DuxManagerHedging;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DuxManagerHedgingTest {
+
+    private static final Duration DELAY = Duration.ofMillis(20);
+
+    private MeterRegistry meterRegistry;
+    private ExecutorService executorService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executorService = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void shouldCallOnceOnTheCallerThreadWhenDisabled() {
+        // Arrange
+        DuxManagerHedging duxManagerHedging = hedging(false, 1.0, 10);
+        Thread caller = Thread.currentThread();
+
+        // Act
+        Thread callThread = duxManagerHedging.call(Thread::currentThread);
+
+        // Assert
+        assertSame(caller, callThread);
+    }
+
+    @Test
+    void shouldNotHedgeCallsAnsweringInTime() throws Exception {
+        // Arrange
+        DuxManagerHedging duxManagerHedging = hedging(true, 1.0, 10);
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act
+        String result = duxManagerHedging.call(() -> {
+            calls.incrementAndGet();
+            return "assets";
+        });
+        Thread.sleep(DELAY.toMillis() * 3);
+
+        // Assert
+        assertEquals("assets", result);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void shouldAnswerWithTheHedgeWhenTheFirstCallIsSlow() throws Exception {
+        // Arrange
+        DuxManagerHedging duxManagerHedging = hedging(true, 1.0, 10);
+        CountDownLatch slowReplica = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act
+        String result;
+        try {
+            result = duxManagerHedging.call(() -> {
+                if (calls.incrementAndGet() == 1) {
+                    await(slowReplica);
+                    return "primary";
+                }
+                return "hedge";
+            });
+        } finally {
+            slowReplica.countDown();
+        }
+
+        // Assert
+        assertEquals("hedge", result);
+        assertEquals(2, calls.get());
+        assertEquals(1.0, winnerCount("hedge"));
+        assertEquals(0.0, winnerCount("primary"));
+    }
+
+    @Test
+    void shouldInterruptTheLosingCallOnceTheOtherAnswers() throws Exception {
+        // Arrange
+        DuxManagerHedging duxManagerHedging = hedging(true, 1.0, 10);
+        CountDownLatch slowReplica = new CountDownLatch(1);
+        CountDownLatch losingCallInterrupted = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act
+        String result = duxManagerHedging.call(() -> {
+            if (calls.incrementAndGet() == 1) {
+                try {
+                    slowReplica.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    losingCallInterrupted.countDown();
+                }
+                return "primary";
+            }
+            return "hedge";
+        });
+
+        // Assert
+        assertEquals("hedge", result);
+        assertTrue(losingCallInterrupted.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void shouldStopWaitingAndCancelTheCallsWhenTheCallerIsInterrupted() throws Exception {
+        // Arrange
+        DuxManagerHedging duxManagerHedging = hedging(true, 1.0, 10);
+        CountDownLatch callsInterrupted = new CountDownLatch(2);
+        AtomicReference<Throwable> thrown = new AtomicReference<>();
+        AtomicBoolean interruptFlagKept = new AtomicBoolean();
+        Thread caller = new Thread(() -> {
+            try {
+                duxManagerHedging.call(() -> {
+                    try {
+                        new CountDownLatch(1).await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        callsInterrupted.countDown();
+                    }
+                    return "assets";
+                });
+            } catch (Throwable e) {
+                thrown.set(e);
+                interruptFlagKept.set(Thread.currentThread().isInterrupted());
+            }
+        });
+
+        // Act
+        caller.start();
+        Thread.sleep(DELAY.toMillis() * 3);
+        caller.interrupt();
+        caller.join(1_000);
+
+        // Assert
+        assertFalse(caller.isAlive());
+        assertInstanceOf(CancellationException.class, thrown.get());
+        assertTrue(interruptFlagKept.get());
+        assertTrue(callsInterrupted.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void shouldStopHedgingOnceTheBudgetIsSpent() {
+        // Arrange
+        DuxManagerHedging duxManagerHedging = hedging(true, 0.0, 1);
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act
+        for (int i=0; i<2; i++) {
+            duxManagerHedging.call(() -> {
+                calls.incrementAndGet();
+                sleep(DELAY.multipliedBy(5));
+                return "assets";
+            });
+        }
+
+        // Assert
+        assertEquals(3, calls.get());
+        assertEquals(1.0, meterRegistry.get(DuxManagerHedging.HEDGES_OVER_BUDGET_METRIC).counter().count());
+    }
+
+    @Test
+    void shouldFailWithTheExceptionOfTheCall() {
+        // Arrange
+        DuxManagerHedging duxManagerHedging = hedging(true, 1.0, 10);
+
+        // Act & Assert
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () ->
+                duxManagerHedging.call(() -> {
+                    throw new IllegalStateException("Dux Manager failed");
+                }));
+        assertEquals("Dux Manager failed", exception.getMessage());
+    }
+
+    @Test
+    void shouldDelayHedgesByTheObservedPercentileWithinBounds() {
+        // Arrange
+        DuxManagerHedging duxManagerHedging = new DuxManagerHedging(
+                true, DuxManagerCallGuard.FIND_ASSETS, executorService, meterRegistry,
+                0.95, Duration.ofMillis(5), Duration.ofSeconds(1), 1.0, 10
+        );
+        assertEquals(1000.0, delayMillis());
+
+        // Act
+        for (int i=0; i<200; i++) {
+            duxManagerHedging.call(() -> "assets");
+        }
+
+        // Assert
+        assertEquals(5.0, delayMillis());
+    }
+
+    private DuxManagerHedging hedging(boolean enabled, double budgetRatio, int budgetBurst) {
+        return new DuxManagerHedging(
+                enabled, DuxManagerCallGuard.FIND_ASSETS, executorService, meterRegistry,
+                0.95, DELAY, DELAY, budgetRatio, budgetBurst
+        );
+    }
+
+    private double winnerCount(String winner) {
+        return meterRegistry.get(DuxManagerHedging.HEDGED_CALLS_METRIC).tag("winner", winner).counter().count();
+    }
+
+    private double delayMillis() {
+        return meterRegistry.get(DuxManagerHedging.HEDGING_DELAY_METRIC).timeGauge().value(TimeUnit.MILLISECONDS);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
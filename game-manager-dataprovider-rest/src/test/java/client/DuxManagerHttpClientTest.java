@@ -42,7 +42,7 @@ class DuxManagerHttpClientTest {
 
         // Create test asset request
         assetRequest = AssetRequest.builder()
-                .externalId(UUID.randomUUID().toString())
+                .externalId(UUID.randomUUID())
                 .type("game")
                 .permissionPolicy(AssetRequest.PermissionPolicy.OWNER)
                 .artifactInformation(new AssetRequest.ArtifactInformation(
@@ -144,7 +144,7 @@ class DuxManagerHttpClientTest {
     void shouldDefineDeleteAssetMethod() throws NoSuchMethodException {
         // Get the method and verify its annotations
         Method method = DuxManagerHttpClient.class.getMethod("deleteAssetByExternalId",
-                String.class, String.class, String.class);
+                String.class, String.class, UUID.class);
 
         // Verify DeleteMapping annotation
         DeleteMapping deleteMapping = method.getAnnotation(DeleteMapping.class);
@@ -195,7 +195,7 @@ class DuxManagerHttpClientTest {
     @Test
     void shouldDeleteAssetByExternalId() {
         // Arrange - no need to set up return value for void method
-        String externalId = UUID.randomUUID().toString();
+        UUID externalId = UUID.randomUUID();
 
         // Act & Assert - Should not throw exception
         assertDoesNotThrow(() ->
@@ -0,0 +1,149 @@
+package client;
+
+import com.tracktainment.gamemanager.client.DuxManagerHttpClient;
+import com.tracktainment.gamemanager.client.DuxManagerTransport;
+import feign.Client;
+import feign.MethodMetadata;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DuxManagerTransportTest {
+
+    private static final Request.Options DEFAULT_OPTIONS =
+            new Request.Options(10, TimeUnit.SECONDS, 60, TimeUnit.SECONDS, true);
+    private static final Request.Options FIND_ASSETS_OPTIONS =
+            new Request.Options(2, TimeUnit.SECONDS, 3, TimeUnit.SECONDS, true);
+
+    @Mock
+    private Client delegate;
+
+    private MeterRegistry meterRegistry;
+    private DuxManagerTransport duxManagerTransport;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        duxManagerTransport = new DuxManagerTransport(
+                delegate,
+                Map.of("findAssetsByCriteria", FIND_ASSETS_OPTIONS),
+                meterRegistry
+        );
+    }
+
+    @Test
+    void shouldUseTheTimeoutsOfTheOperationCalled() throws Exception {
+        // Arrange
+        Request request = request(findAssetsByCriteria());
+        when(delegate.execute(request, FIND_ASSETS_OPTIONS)).thenReturn(response(request, 200));
+
+        // Act
+        Response response = duxManagerTransport.execute(request, DEFAULT_OPTIONS);
+
+        // Assert
+        assertEquals(200, response.status());
+        verify(delegate).execute(request, FIND_ASSETS_OPTIONS);
+    }
+
+    @Test
+    void shouldKeepTheGivenTimeoutsForOtherOperations() throws Exception {
+        // Arrange
+        Request request = request(null);
+        when(delegate.execute(request, DEFAULT_OPTIONS)).thenReturn(response(request, 204));
+
+        // Act
+        duxManagerTransport.execute(request, DEFAULT_OPTIONS);
+
+        // Assert
+        verify(delegate).execute(request, DEFAULT_OPTIONS);
+        assertEquals(1, meterRegistry.get(DuxManagerTransport.REQUESTS_METRIC)
+                .tag("operation", DuxManagerTransport.UNKNOWN_OPERATION)
+                .tag("status", "204")
+                .timer().count());
+    }
+
+    @Test
+    void shouldRecordCallLatencyPerOperationAndStatus() throws Exception {
+        // Arrange
+        Request request = request(findAssetsByCriteria());
+        when(delegate.execute(request, FIND_ASSETS_OPTIONS)).thenReturn(response(request, 404));
+
+        // Act
+        duxManagerTransport.execute(request, DEFAULT_OPTIONS);
+        duxManagerTransport.execute(request, DEFAULT_OPTIONS);
+
+        // Assert
+        assertEquals(2, meterRegistry.get(DuxManagerTransport.REQUESTS_METRIC)
+                .tag("operation", "findAssetsByCriteria")
+                .tag("status", "404")
+                .timer().count());
+    }
+
+    @Test
+    void shouldRecordCallsThatFailedWithoutResponse() throws Exception {
+        // Arrange
+        Request request = request(findAssetsByCriteria());
+        when(delegate.execute(request, FIND_ASSETS_OPTIONS)).thenThrow(new IOException("Connection refused"));
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> duxManagerTransport.execute(request, DEFAULT_OPTIONS));
+        assertEquals(1, meterRegistry.get(DuxManagerTransport.REQUESTS_METRIC)
+                .tag("operation", "findAssetsByCriteria")
+                .tag("status", "IO_ERROR")
+                .timer().count());
+    }
+
+    private static Method findAssetsByCriteria() {
+        for (Method method : DuxManagerHttpClient.class.getMethods()) {
+            if (method.getName().equals("findAssetsByCriteria")) {
+                return method;
+            }
+        }
+
+        throw new IllegalStateException("DuxManagerHttpClient has no findAssetsByCriteria method");
+    }
+
+    private static Request request(Method method) {
+        RequestTemplate requestTemplate = mock(RequestTemplate.class);
+        if (method != null) {
+            MethodMetadata methodMetadata = mock(MethodMetadata.class);
+            when(methodMetadata.method()).thenReturn(method);
+            when(requestTemplate.methodMetadata()).thenReturn(methodMetadata);
+        }
+
+        return Request.create(
+                Request.HttpMethod.GET,
+                "http://localhost/assets",
+                Collections.emptyMap(),
+                null,
+                StandardCharsets.UTF_8,
+                requestTemplate
+        );
+    }
+
+    private static Response response(Request request, int status) {
+        return Response.builder()
+                .request(request)
+                .status(status)
+                .headers(Collections.emptyMap())
+                .build();
+    }
+}
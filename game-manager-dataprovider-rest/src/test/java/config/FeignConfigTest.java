@@ -1,12 +1,21 @@
 package config;
 
+import com.tracktainment.gamemanager.client.DuxManagerTransport;
 import com.tracktainment.gamemanager.config.FeignConfig;
+import feign.Client;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -15,33 +24,60 @@ class FeignConfigTest {
     @InjectMocks
     private FeignConfig feignConfig;
 
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
     @Test
-    void shouldCreateOkHttpClient() {
+    void shouldCreatePooledOkHttpClientNegotiatingHttp2() {
         // Act
-        OkHttpClient client = feignConfig.client();
+        OkHttpClient client = feignConfig.duxManagerOkHttpClient(meterRegistry, 50, Duration.ofMinutes(5), false);
 
         // Assert
         assertNotNull(client, "OkHttpClient should not be null");
+        assertEquals(List.of(Protocol.HTTP_2, Protocol.HTTP_1_1), client.protocols());
+        assertEquals(0, client.connectionPool().connectionCount());
+    }
+
+    @Test
+    void shouldAssumeHttp2WithPriorKnowledge() {
+        // Act
+        OkHttpClient client = feignConfig.duxManagerOkHttpClient(meterRegistry, 50, Duration.ofMinutes(5), true);
+
+        // Assert
+        assertEquals(List.of(Protocol.H2_PRIOR_KNOWLEDGE), client.protocols());
     }
 
     @Test
-    void shouldHaveBeanAnnotation() {
-        // This test validates the bean annotation is present
-        try {
-            java.lang.reflect.Method method = FeignConfig.class.getDeclaredMethod("client");
-            org.springframework.context.annotation.Bean annotation =
-                    method.getAnnotation(org.springframework.context.annotation.Bean.class);
-
-            // Assert
-            assertNotNull(annotation, "Bean annotation should be present");
-
-            // If the bean has a name, we can validate it, but it's not required
-            if (annotation.name().length > 0) {
-                assertEquals("http2PatchEnabler", annotation.name()[0], "Bean should have the correct name if specified");
-            }
-        } catch (NoSuchMethodException e) {
-            fail("Method 'client' should exist", e);
-        }
+    void shouldExposeConnectionPoolMetrics() {
+        // Act
+        feignConfig.duxManagerOkHttpClient(meterRegistry, 50, Duration.ofMinutes(5), false);
+
+        // Assert
+        assertEquals(0.0, meterRegistry.get(FeignConfig.POOL_METRIC_PREFIX + ".connection.count")
+                .tag("state", "active").gauge().value());
+        assertEquals(50.0, meterRegistry.get(FeignConfig.POOL_METRIC_PREFIX + ".connection.limit").gauge().value());
+    }
+
+    @Test
+    void shouldSendDuxManagerCallsThroughTheTransport() {
+        // Arrange
+        OkHttpClient okHttpClient = feignConfig.duxManagerOkHttpClient(meterRegistry, 50, Duration.ofMinutes(5), false);
+
+        // Act
+        Client client = feignConfig.duxManagerTransport(
+                okHttpClient,
+                meterRegistry,
+                Duration.ofSeconds(2), Duration.ofSeconds(5),
+                Duration.ofSeconds(2), Duration.ofSeconds(3),
+                Duration.ofSeconds(2), Duration.ofSeconds(5)
+        );
+
+        // Assert
+        assertInstanceOf(DuxManagerTransport.class, client);
     }
 
     @Test
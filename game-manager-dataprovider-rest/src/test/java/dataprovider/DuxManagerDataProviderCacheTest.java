@@ -0,0 +1,354 @@
+package dataprovider;
+
+import com.tracktainment.gamemanager.dataprovider.DuxManagerDataProviderCache;
+import com.tracktainment.gamemanager.dataprovider.DuxManagerDataProviderRest;
+import com.tracktainment.gamemanager.dto.duxmanager.request.AssetRequest;
+import com.tracktainment.gamemanager.dto.duxmanager.response.AssetResponse;
+import com.tracktainment.gamemanager.util.UuidSet;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import testutil.TestGameDataUtil;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DuxManagerDataProviderCacheTest {
+
+    @Mock
+    private DuxManagerDataProviderRest duxManagerDataProviderRest;
+
+    private MeterRegistry meterRegistry;
+    private DuxManagerDataProviderCache duxManagerDataProviderCache;
+
+    private String jwt;
+    private String digitalUserId;
+    private AssetResponse assetResponse1;
+    private AssetResponse assetResponse2;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        duxManagerDataProviderCache = new DuxManagerDataProviderCache(
+                duxManagerDataProviderRest,
+                meterRegistry,
+                100,
+                Duration.ofMinutes(5)
+        );
+
+        jwt = "Bearer token";
+        digitalUserId = UUID.randomUUID().toString();
+        assetResponse1 = TestGameDataUtil.createTestAssetResponse();
+        assetResponse2 = TestGameDataUtil.createTestAssetResponse();
+    }
+
+    @Test
+    void shouldLoadAssetsOnceAndServeSubsequentLookupsFromCache() {
+        // Arrange
+        mockOwnedAssets(new ArrayList<>(Arrays.asList(assetResponse1, assetResponse2)));
+
+        // Act
+        List<AssetResponse> firstResults = findAll();
+        List<AssetResponse> secondResults = findAll();
+
+        // Assert
+        assertEquals(List.of(assetResponse1, assetResponse2), firstResults);
+        assertEquals(firstResults, secondResults);
+        assertEquals(1.0, functionCounter("cache.gets", "result", "miss"));
+        assertEquals(1.0, functionCounter("cache.gets", "result", "hit"));
+
+        verify(duxManagerDataProviderRest, times(1)).findAssetsByCriteria(
+                eq(jwt), eq(digitalUserId), isNull(), eq("com.tracktainment"), eq("game-manager"), eq("game"),
+                isNull(), isNull(), isNull());
+    }
+
+    @Test
+    void shouldFilterCachedAssetsByExternalIds() {
+        // Arrange
+        mockOwnedAssets(List.of(assetResponse1, assetResponse2));
+        String unknownId = UUID.randomUUID().toString();
+
+        // Act
+        List<AssetResponse> results = duxManagerDataProviderCache.findAssetsByCriteria(
+                jwt, digitalUserId, assetResponse2.getExternalId() + "," + unknownId,
+                "com.tracktainment", "game-manager", "game", null, null, null);
+
+        // Assert
+        assertEquals(List.of(assetResponse2), results);
+        verify(duxManagerDataProviderRest).findAssetsByCriteria(
+                eq(jwt), eq(digitalUserId), isNull(), eq("com.tracktainment"), eq("game-manager"), eq("game"),
+                isNull(), isNull(), isNull());
+    }
+
+    @Test
+    void shouldBypassCacheWhenFilteringByDates() {
+        // Arrange
+        LocalDate from = LocalDate.now().minusDays(7);
+        LocalDate to = LocalDate.now();
+        when(duxManagerDataProviderRest.findAssetsByCriteria(
+                jwt, digitalUserId, null, "com.tracktainment", "game-manager", "game", null, from, to))
+                .thenReturn(List.of(assetResponse1));
+
+        // Act
+        duxManagerDataProviderCache.findAssetsByCriteria(
+                jwt, digitalUserId, null, "com.tracktainment", "game-manager", "game", null, from, to);
+        duxManagerDataProviderCache.findAssetsByCriteria(
+                jwt, digitalUserId, null, "com.tracktainment", "game-manager", "game", null, from, to);
+
+        // Assert
+        verify(duxManagerDataProviderRest, times(2)).findAssetsByCriteria(
+                jwt, digitalUserId, null, "com.tracktainment", "game-manager", "game", null, from, to);
+        assertEquals(0.0, functionCounter("cache.gets", "result", "miss"));
+    }
+
+    @Test
+    void shouldServeAssetExternalIdsFromCachedAssets() {
+        // Arrange
+        mockOwnedAssets(List.of(assetResponse1, assetResponse2));
+        findAll();
+
+        // Act
+        Set<UUID> allIds = duxManagerDataProviderCache.findAssetExternalIdsByCriteria(
+                jwt, digitalUserId, null, "com.tracktainment", "game-manager", "game", null, null, null);
+        Set<UUID> selectedIds = duxManagerDataProviderCache.findAssetExternalIdsByCriteria(
+                jwt, digitalUserId, assetResponse2.getExternalId() + "," + UUID.randomUUID(),
+                "com.tracktainment", "game-manager", "game", null, null, null);
+
+        // Assert
+        assertEquals(Set.of(assetResponse1.getExternalId(), assetResponse2.getExternalId()), allIds);
+        assertEquals(Set.of(assetResponse2.getExternalId()), selectedIds);
+        verify(duxManagerDataProviderRest, times(1)).findAssetsByCriteria(
+                any(), any(), any(), any(), any(), any(), any(), any(), any());
+        verify(duxManagerDataProviderRest, never()).findAssetExternalIdsByCriteria(
+                any(), any(), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldCacheAssetExternalIdsAloneWhenTheAssetsAreNotCached() {
+        // Arrange
+        mockOwnedAssetExternalIds(assetResponse1.getExternalId(), assetResponse2.getExternalId());
+
+        // Act
+        Set<UUID> allIds = findAllExternalIds();
+        Set<UUID> allIdsAgain = findAllExternalIds();
+        Set<UUID> selectedIds = duxManagerDataProviderCache.findAssetExternalIdsByCriteria(
+                jwt, digitalUserId, assetResponse2.getExternalId() + "," + UUID.randomUUID(),
+                "com.tracktainment", "game-manager", "game", null, null, null);
+
+        // Assert
+        assertEquals(Set.of(assetResponse1.getExternalId(), assetResponse2.getExternalId()), allIds);
+        assertSame(allIds, allIdsAgain);
+        assertThrows(UnsupportedOperationException.class, () -> allIds.add(UUID.randomUUID()));
+        assertEquals(Set.of(assetResponse2.getExternalId()), selectedIds);
+        assertEquals(1.0, functionCounter(
+                DuxManagerDataProviderCache.EXTERNAL_IDS_CACHE_NAME, "cache.gets", "result", "miss"));
+        assertEquals(2.0, functionCounter(
+                DuxManagerDataProviderCache.EXTERNAL_IDS_CACHE_NAME, "cache.gets", "result", "hit"));
+        assertEquals(0.0, functionCounter("cache.gets", "result", "miss"));
+
+        verify(duxManagerDataProviderRest, times(1)).findAssetExternalIdsByCriteria(
+                any(), any(), any(), any(), any(), any(), any(), any(), any());
+        verify(duxManagerDataProviderRest, never()).findAssetsByCriteria(
+                any(), any(), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldKeepCachedAssetExternalIdsUpToDateOnCreateAndDelete() {
+        // Arrange
+        mockOwnedAssetExternalIds(assetResponse1.getExternalId());
+        AssetRequest assetRequest = TestGameDataUtil.createTestAssetRequest(assetResponse2.getExternalId());
+        when(duxManagerDataProviderRest.createAsset(jwt, digitalUserId, assetRequest)).thenReturn(assetResponse2);
+        Set<UUID> idsBefore = findAllExternalIds();
+
+        // Act
+        duxManagerDataProviderCache.createAsset(jwt, digitalUserId, assetRequest);
+        Set<UUID> idsAfterCreate = findAllExternalIds();
+        duxManagerDataProviderCache.deleteAsset(jwt, digitalUserId, assetResponse1.getExternalId());
+        Set<UUID> idsAfterDelete = findAllExternalIds();
+
+        // Assert
+        assertEquals(Set.of(assetResponse1.getExternalId()), idsBefore);
+        assertEquals(Set.of(assetResponse1.getExternalId(), assetResponse2.getExternalId()), idsAfterCreate);
+        assertEquals(Set.of(assetResponse2.getExternalId()), idsAfterDelete);
+        verify(duxManagerDataProviderRest, times(1)).findAssetExternalIdsByCriteria(
+                any(), any(), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldReadAssetExternalIdsFromDuxManagerWhenFilteringByDates() {
+        // Arrange
+        LocalDate createdAt = LocalDate.now();
+        when(duxManagerDataProviderRest.findAssetExternalIdsByCriteria(
+                jwt, digitalUserId, null, "com.tracktainment", "game-manager", "game", createdAt, null, null))
+                .thenReturn(Set.of(assetResponse1.getExternalId()));
+
+        // Act
+        Set<UUID> results = duxManagerDataProviderCache.findAssetExternalIdsByCriteria(
+                jwt, digitalUserId, null, "com.tracktainment", "game-manager", "game", createdAt, null, null);
+
+        // Assert
+        assertEquals(Set.of(assetResponse1.getExternalId()), results);
+        verify(duxManagerDataProviderRest, never()).findAssetsByCriteria(
+                any(), any(), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldAddCreatedAssetToCachedEntry() {
+        // Arrange
+        mockOwnedAssets(List.of(assetResponse1));
+        AssetRequest assetRequest = TestGameDataUtil.createTestAssetRequest(assetResponse2.getExternalId());
+        when(duxManagerDataProviderRest.createAsset(jwt, digitalUserId, assetRequest)).thenReturn(assetResponse2);
+        findAll();
+
+        // Act
+        AssetResponse result = duxManagerDataProviderCache.createAsset(jwt, digitalUserId, assetRequest);
+
+        // Assert
+        assertEquals(assetResponse2, result);
+        assertEquals(List.of(assetResponse1, assetResponse2), findAll());
+        verify(duxManagerDataProviderRest, times(1)).findAssetsByCriteria(
+                any(), any(), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldRemoveDeletedAssetFromCachedEntry() {
+        // Arrange
+        mockOwnedAssets(List.of(assetResponse1, assetResponse2));
+        findAll();
+
+        // Act
+        duxManagerDataProviderCache.deleteAsset(jwt, digitalUserId, assetResponse1.getExternalId());
+
+        // Assert
+        assertEquals(List.of(assetResponse2), findAll());
+        verify(duxManagerDataProviderRest).deleteAsset(jwt, digitalUserId, assetResponse1.getExternalId());
+        verify(duxManagerDataProviderRest, times(1)).findAssetsByCriteria(
+                any(), any(), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldKeepCacheUntouchedWhenDeleteFails() {
+        // Arrange
+        mockOwnedAssets(List.of(assetResponse1));
+        findAll();
+        doThrow(new RuntimeException("API connection error")).when(duxManagerDataProviderRest)
+                .deleteAsset(jwt, digitalUserId, assetResponse1.getExternalId());
+
+        // Act & Assert
+        assertThrows(RuntimeException.class, () ->
+                duxManagerDataProviderCache.deleteAsset(jwt, digitalUserId, assetResponse1.getExternalId()));
+        assertEquals(List.of(assetResponse1), findAll());
+    }
+
+    @Test
+    void shouldNotCacheFailedLoads() {
+        // Arrange
+        when(duxManagerDataProviderRest.findAssetsByCriteria(
+                any(), any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenThrow(new RuntimeException("API connection error"))
+                .thenReturn(List.of(assetResponse1));
+
+        // Act & Assert
+        assertThrows(RuntimeException.class, this::findAll);
+        assertEquals(List.of(assetResponse1), findAll());
+    }
+
+    @Test
+    void shouldServeAsyncLookupsFromCacheOnceLoaded() {
+        // Arrange
+        Executor executor = Runnable::run;
+        when(duxManagerDataProviderRest.findAssetsByCriteriaAsync(
+                eq(jwt), eq(digitalUserId), isNull(), eq("com.tracktainment"), eq("game-manager"), eq("game"),
+                isNull(), isNull(), isNull(), eq(executor)))
+                .thenReturn(CompletableFuture.completedFuture(List.of(assetResponse1, assetResponse2)));
+
+        // Act
+        List<AssetResponse> first = duxManagerDataProviderCache.findAssetsByCriteriaAsync(
+                jwt, digitalUserId, null, "com.tracktainment", "game-manager", "game", null, null, null, executor
+        ).join();
+        List<AssetResponse> second = duxManagerDataProviderCache.findAssetsByCriteriaAsync(
+                jwt, digitalUserId, assetResponse2.getExternalId().toString(), "com.tracktainment", "game-manager",
+                "game", null, null, null, executor
+        ).join();
+
+        // Assert
+        assertEquals(2, first.size());
+        assertEquals(List.of(assetResponse2), second);
+        assertEquals(2, findAll().size());
+        verify(duxManagerDataProviderRest, times(1)).findAssetsByCriteriaAsync(
+                any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
+        verify(duxManagerDataProviderRest, never()).findAssetsByCriteria(
+                any(), any(), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldRemoveAssetDeletedAsynchronouslyFromCachedEntry() {
+        // Arrange
+        Executor executor = Runnable::run;
+        mockOwnedAssets(new ArrayList<>(Arrays.asList(assetResponse1, assetResponse2)));
+        findAll();
+        when(duxManagerDataProviderRest.deleteAssetAsync(jwt, digitalUserId, assetResponse1.getExternalId(), executor))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        // Act
+        duxManagerDataProviderCache.deleteAssetAsync(jwt, digitalUserId, assetResponse1.getExternalId(), executor)
+                .join();
+
+        // Assert
+        assertEquals(List.of(assetResponse2), findAll());
+    }
+
+    private void mockOwnedAssets(List<AssetResponse> assetResponses) {
+        when(duxManagerDataProviderRest.findAssetsByCriteria(
+                eq(jwt), eq(digitalUserId), isNull(), eq("com.tracktainment"), eq("game-manager"), eq("game"),
+                isNull(), isNull(), isNull()))
+                .thenReturn(assetResponses);
+    }
+
+    private void mockOwnedAssetExternalIds(UUID... externalIds) {
+        UuidSet assetExternalIds = new UuidSet();
+        Arrays.stream(externalIds).forEach(assetExternalIds::add);
+        when(duxManagerDataProviderRest.findAssetExternalIdsByCriteria(
+                eq(jwt), eq(digitalUserId), isNull(), eq("com.tracktainment"), eq("game-manager"), eq("game"),
+                isNull(), isNull(), isNull()))
+                .thenReturn(assetExternalIds);
+    }
+
+    private Set<UUID> findAllExternalIds() {
+        return duxManagerDataProviderCache.findAssetExternalIdsByCriteria(
+                jwt, digitalUserId, null, "com.tracktainment", "game-manager", "game", null, null, null);
+    }
+
+    private List<AssetResponse> findAll() {
+        return duxManagerDataProviderCache.findAssetsByCriteria(
+                jwt, digitalUserId, null, "com.tracktainment", "game-manager", "game", null, null, null);
+    }
+
+    private double functionCounter(String name, String tagKey, String tagValue) {
+        return functionCounter(DuxManagerDataProviderCache.CACHE_NAME, name, tagKey, tagValue);
+    }
+
+    private double functionCounter(String cacheName, String name, String tagKey, String tagValue) {
+        return meterRegistry.get(name)
+                .tag("cache", cacheName)
+                .tag(tagKey, tagValue)
+                .functionCounter()
+                .count();
+    }
+}
@@ -0,0 +1,383 @@
+package dataprovider;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.tracktainment.gamemanager.client.DuxManagerCallGuard;
+import com.tracktainment.gamemanager.client.DuxManagerHedging;
+import com.tracktainment.gamemanager.client.DuxManagerTransport;
+import com.tracktainment.gamemanager.dataprovider.DuxManagerDataProviderRest;
+import com.tracktainment.gamemanager.dataprovider.DuxManagerDataProviderRestAsync;
+import com.tracktainment.gamemanager.dto.duxmanager.request.AssetRequest;
+import com.tracktainment.gamemanager.dto.duxmanager.response.AssetResponse;
+import com.tracktainment.gamemanager.exception.ResourceAlreadyExistsException;
+import com.tracktainment.gamemanager.exception.ResourceNotFoundException;
+import feign.FeignException;
+import feign.RetryableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import testutil.TestGameDataUtil;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DuxManagerDataProviderRestAsyncTest {
+
+    private static final String ASSETS = """
+            [{"id":"1","externalId":"123e4567-e89b-12d3-a456-426614174000","type":"game"},
+             {"id":"2","externalId":"456e7890-e12b-34d5-a678-426614174000","type":"game"}]
+            """;
+
+    private HttpServer stubServer;
+    private ExecutorService stubExecutor;
+    private MeterRegistry meterRegistry;
+    private DuxManagerDataProviderRestAsync duxManagerDataProviderRestAsync;
+
+    private String jwt;
+    private String digitalUserId;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubExecutor = Executors.newCachedThreadPool();
+        stubServer.setExecutor(stubExecutor);
+        stubServer.start();
+
+        meterRegistry = new SimpleMeterRegistry();
+        duxManagerDataProviderRestAsync = provider("http://localhost:" + stubServer.getAddress().getPort());
+
+        jwt = "Bearer token";
+        digitalUserId = UUID.randomUUID().toString();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubServer.stop(0);
+        stubExecutor.shutdownNow();
+    }
+
+    @Test
+    void shouldFindAssetsByCriteria() {
+        // Arrange
+        AtomicReference<String> query = new AtomicReference<>();
+        AtomicReference<String> authorization = new AtomicReference<>();
+        stub("/assets", exchange -> {
+            query.set(exchange.getRequestURI().getRawQuery());
+            authorization.set(exchange.getRequestHeaders().getFirst("Authorization"));
+            respond(exchange, 200, ASSETS);
+        });
+
+        // Act
+        List<AssetResponse> result = duxManagerDataProviderRestAsync.findAssetsByCriteria(
+                jwt, digitalUserId, null, "com.tracktainment", "game-manager", "game", null, null, null
+        );
+
+        // Assert
+        assertEquals(2, result.size());
+        assertEquals(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"), result.get(0).getExternalId());
+        assertEquals(jwt, authorization.get());
+        assertEquals(
+                "digitalUserId=" + digitalUserId + "&groupId=com.tracktainment&artifactId=game-manager&type=game",
+                query.get()
+        );
+        assertEquals(1, meterRegistry.get(DuxManagerTransport.REQUESTS_METRIC)
+                .tag("operation", "findAssetsByCriteria")
+                .tag("status", "200")
+                .timer().count());
+    }
+
+    @Test
+    void shouldFindAssetExternalIdsByCriteria() {
+        // Arrange
+        stub("/assets", exchange -> respond(exchange, 200, ASSETS));
+
+        // Act
+        Set<UUID> result = duxManagerDataProviderRestAsync.findAssetExternalIdsByCriteria(
+                jwt, digitalUserId, null, "com.tracktainment", "game-manager", "game", null, null, null
+        );
+
+        // Assert
+        assertEquals(Set.of(
+                UUID.fromString("123e4567-e89b-12d3-a456-426614174000"),
+                UUID.fromString("456e7890-e12b-34d5-a678-426614174000")
+        ), result);
+        assertEquals(1, meterRegistry.get(DuxManagerTransport.REQUESTS_METRIC)
+                .tag("operation", "findAssetExternalIdsByCriteria")
+                .tag("status", "200")
+                .timer().count());
+    }
+
+    @Test
+    void shouldReturnBeforeDuxManagerAnswered() throws Exception {
+        // Arrange
+        CountDownLatch answer = new CountDownLatch(1);
+        stub("/assets", exchange -> {
+            await(answer);
+            respond(exchange, 200, ASSETS);
+        });
+
+        // Act
+        CompletableFuture<List<AssetResponse>> result = duxManagerDataProviderRestAsync.findAssetsByCriteriaAsync(
+                jwt, digitalUserId, null, null, null, null, null, null, null, Runnable::run
+        );
+
+        // Assert
+        assertFalse(result.isDone());
+        answer.countDown();
+        assertEquals(2, result.get(5, TimeUnit.SECONDS).size());
+    }
+
+    @Test
+    void shouldAbortTheExchangeWhenTheCallIsCancelled() {
+        // Arrange
+        CountDownLatch answer = new CountDownLatch(1);
+        stub("/assets", exchange -> {
+            await(answer);
+            respond(exchange, 200, ASSETS);
+        });
+        CompletableFuture<List<AssetResponse>> result = duxManagerDataProviderRestAsync.findAssetsByCriteriaAsync(
+                jwt, digitalUserId, null, null, null, null, null, null, null, Runnable::run
+        );
+
+        // Act
+        try {
+            result.cancel(true);
+        } finally {
+            answer.countDown();
+        }
+
+        // Assert
+        assertTrue(result.isCancelled());
+        assertEquals(1, meterRegistry.get(DuxManagerTransport.REQUESTS_METRIC)
+                .tag("operation", "findAssetsByCriteria")
+                .tag("status", "CANCELLED")
+                .timer().count());
+    }
+
+    @Test
+    void shouldCollapseConcurrentIdenticalLookups() throws Exception {
+        // Arrange
+        CountDownLatch answer = new CountDownLatch(1);
+        AtomicInteger requests = new AtomicInteger();
+        stub("/assets", exchange -> {
+            requests.incrementAndGet();
+            await(answer);
+            respond(exchange, 200, ASSETS);
+        });
+
+        // Act
+        CompletableFuture<List<AssetResponse>> firstCall = duxManagerDataProviderRestAsync.findAssetsByCriteriaAsync(
+                jwt, digitalUserId, null, null, null, null, null, null, null, Runnable::run
+        );
+        CompletableFuture<List<AssetResponse>> secondCall = duxManagerDataProviderRestAsync.findAssetsByCriteriaAsync(
+                jwt, digitalUserId, null, null, null, null, null, null, null, Runnable::run
+        );
+        CompletableFuture<List<AssetResponse>> cancelledCall =
+                duxManagerDataProviderRestAsync.findAssetsByCriteriaAsync(
+                        jwt, digitalUserId, null, null, null, null, null, null, null, Runnable::run
+                );
+        cancelledCall.cancel(true);
+        answer.countDown();
+
+        // Assert
+        List<AssetResponse> firstResults = firstCall.get(5, TimeUnit.SECONDS);
+        assertSame(firstResults, secondCall.get(5, TimeUnit.SECONDS));
+        assertEquals(2, firstResults.size());
+        assertThrows(UnsupportedOperationException.class, () -> firstResults.add(firstResults.get(0)));
+        assertEquals(1, requests.get());
+        assertEquals(2, meterRegistry.get(DuxManagerDataProviderRest.COLLAPSED_CALLS_METRIC)
+                .tag("operation", "findAssetsByCriteria")
+                .counter().count());
+    }
+
+    @Test
+    void shouldAnswerWithTheHedgeWhenDuxManagerIsSlow() {
+        // Arrange
+        duxManagerDataProviderRestAsync = provider("http://localhost:" + stubServer.getAddress().getPort(), true);
+        CountDownLatch slowReplica = new CountDownLatch(1);
+        AtomicInteger requests = new AtomicInteger();
+        stub("/assets", exchange -> {
+            if (requests.incrementAndGet() == 1) {
+                await(slowReplica);
+            }
+            respond(exchange, 200, ASSETS);
+        });
+
+        // Act
+        Set<UUID> result;
+        try {
+            result = duxManagerDataProviderRestAsync.findAssetExternalIdsByCriteria(
+                    jwt, digitalUserId, null, null, null, null, null, null, null
+            );
+        } finally {
+            slowReplica.countDown();
+        }
+
+        // Assert
+        assertEquals(2, result.size());
+        assertEquals(2, requests.get());
+        assertEquals(1.0, meterRegistry.get(DuxManagerHedging.HEDGED_CALLS_METRIC)
+                .tag("winner", "hedge")
+                .counter().count());
+    }
+
+    @Test
+    void shouldCreateAsset() {
+        // Arrange
+        AssetRequest assetRequest = TestGameDataUtil.createTestAssetRequest(UUID.randomUUID());
+        AtomicReference<String> requestBody = new AtomicReference<>();
+        stub("/assets/digitalUsers/" + digitalUserId, exchange -> {
+            requestBody.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            respond(exchange, 201, """
+                    {"id":"1","externalId":"%s","type":"game"}
+                    """.formatted(assetRequest.getExternalId()));
+        });
+
+        // Act
+        AssetResponse result = duxManagerDataProviderRestAsync.createAsset(jwt, digitalUserId, assetRequest);
+
+        // Assert
+        assertEquals(assetRequest.getExternalId(), result.getExternalId());
+        assertTrue(requestBody.get().contains(assetRequest.getExternalId().toString()));
+    }
+
+    @Test
+    void shouldMapConflictToResourceAlreadyExistsException() {
+        // Arrange
+        stub("/assets/digitalUsers/" + digitalUserId, exchange -> respond(exchange, 409, ""));
+
+        // Act & Assert
+        assertThrows(ResourceAlreadyExistsException.class, () ->
+                duxManagerDataProviderRestAsync.createAsset(
+                        jwt, digitalUserId, TestGameDataUtil.createTestAssetRequest(UUID.randomUUID())));
+    }
+
+    @Test
+    void shouldDeleteAsset() {
+        // Arrange
+        UUID externalId = UUID.randomUUID();
+        AtomicReference<String> query = new AtomicReference<>();
+        stub("/assets", exchange -> {
+            query.set(exchange.getRequestURI().getRawQuery());
+            respond(exchange, 204, null);
+        });
+
+        // Act
+        duxManagerDataProviderRestAsync.deleteAsset(jwt, digitalUserId, externalId);
+
+        // Assert
+        assertEquals("digitalUserId=" + digitalUserId + "&externalId=" + externalId, query.get());
+    }
+
+    @Test
+    void shouldMapNotFoundToResourceNotFoundException() {
+        // Arrange
+        stub("/assets", exchange -> respond(exchange, 404, ""));
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () ->
+                duxManagerDataProviderRestAsync.deleteAsset(jwt, digitalUserId, UUID.randomUUID()));
+    }
+
+    @Test
+    void shouldFailLikeTheFeignClientWhenDuxManagerFails() {
+        // Arrange
+        stub("/assets", exchange -> respond(exchange, 500, ""));
+
+        // Act & Assert
+        assertThrows(FeignException.InternalServerError.class, () ->
+                duxManagerDataProviderRestAsync.findAssetsByCriteria(
+                        jwt, digitalUserId, null, null, null, null, null, null, null));
+    }
+
+    @Test
+    void shouldFailWithRetryableExceptionWhenDuxManagerIsUnreachable() {
+        // Arrange
+        int port = stubServer.getAddress().getPort();
+        stubServer.stop(0);
+        DuxManagerDataProviderRestAsync unreachable = provider("http://localhost:" + port);
+
+        // Act & Assert
+        assertThrows(RetryableException.class, () ->
+                unreachable.findAssetsByCriteria(jwt, digitalUserId, null, null, null, null, null, null, null));
+        assertEquals(1, meterRegistry.get(DuxManagerTransport.REQUESTS_METRIC)
+                .tag("status", "IO_ERROR")
+                .timer().count());
+    }
+
+    private DuxManagerDataProviderRestAsync provider(String baseUrl) {
+        return provider(baseUrl, false);
+    }
+
+    private DuxManagerDataProviderRestAsync provider(String baseUrl, boolean hedgingEnabled) {
+        return new DuxManagerDataProviderRestAsync(
+                HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build(),
+                new ObjectMapper().findAndRegisterModules(),
+                new DuxManagerCallGuard(CircuitBreakerRegistry.ofDefaults(), Bulkhead.ofDefaults("dux-manager")),
+                new DuxManagerHedging(
+                        hedgingEnabled, DuxManagerCallGuard.FIND_ASSETS, Runnable::run, meterRegistry,
+                        0.95, Duration.ofMillis(20), Duration.ofMillis(20), 1.0, 10
+                ),
+                meterRegistry,
+                baseUrl,
+                Duration.ofSeconds(5),
+                Duration.ofSeconds(5),
+                Duration.ofSeconds(5)
+        );
+    }
+
+    private void stub(String path, StubHandler handler) {
+        stubServer.createContext(path, exchange -> {
+            try {
+                handler.handle(exchange);
+            } finally {
+                exchange.close();
+            }
+        });
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        if (body == null || body.isEmpty()) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @FunctionalInterface
+    private interface StubHandler {
+        void handle(HttpExchange exchange) throws IOException;
+    }
+}
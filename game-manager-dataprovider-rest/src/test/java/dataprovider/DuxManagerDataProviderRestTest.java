@@ -1,21 +1,40 @@
 package dataprovider;
 
+import com.tracktainment.gamemanager.client.DuxManagerCallGuard;
+import com.tracktainment.gamemanager.client.DuxManagerHedging;
 import com.tracktainment.gamemanager.client.DuxManagerHttpClient;
 import com.tracktainment.gamemanager.dataprovider.DuxManagerDataProviderRest;
 import com.tracktainment.gamemanager.dto.duxmanager.request.AssetRequest;
 import com.tracktainment.gamemanager.dto.duxmanager.response.AssetResponse;
+import com.tracktainment.gamemanager.exception.ResourceAlreadyExistsException;
+import com.tracktainment.gamemanager.exception.ResourceNotFoundException;
+import com.tracktainment.gamemanager.exception.ServiceUnavailableException;
+import com.tracktainment.gamemanager.util.UuidSet;
+import feign.FeignException;
+import feign.Request;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import testutil.TestGameDataUtil;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -27,7 +46,7 @@ class DuxManagerDataProviderRestTest {
     @Mock
     private DuxManagerHttpClient duxManagerHttpClient;
 
-    @InjectMocks
+    private MeterRegistry meterRegistry;
     private DuxManagerDataProviderRest duxManagerDataProviderRest;
 
     private String jwt;
@@ -35,16 +54,40 @@ class DuxManagerDataProviderRestTest {
     private AssetRequest assetRequest;
     private AssetResponse assetResponse1;
     private AssetResponse assetResponse2;
+    private ExecutorService executorService;
 
     @BeforeEach
     void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        DuxManagerCallGuard duxManagerCallGuard = new DuxManagerCallGuard(
+                CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                        .slidingWindowSize(4)
+                        .minimumNumberOfCalls(4)
+                        .recordException(DuxManagerCallGuard::isDuxManagerFailure)
+                        .build()),
+                Bulkhead.ofDefaults("dux-manager")
+        );
+        DuxManagerHedging duxManagerHedging = new DuxManagerHedging(
+                false, DuxManagerCallGuard.FIND_ASSETS, Runnable::run, meterRegistry,
+                0.95, Duration.ofMillis(20), Duration.ofSeconds(1), 0.05, 10
+        );
+        duxManagerDataProviderRest = new DuxManagerDataProviderRest(
+                duxManagerHttpClient, duxManagerCallGuard, duxManagerHedging, meterRegistry);
+
         jwt = "Bearer token";
         digitalUserId = UUID.randomUUID().toString();
-        assetRequest = TestGameDataUtil.createTestAssetRequest(UUID.randomUUID().toString());
+        assetRequest = TestGameDataUtil.createTestAssetRequest(UUID.randomUUID());
         assetResponse1 = TestGameDataUtil.createTestAssetResponse();
         assetResponse2 = TestGameDataUtil.createTestAssetResponse();
     }
 
+    @AfterEach
+    void tearDown() {
+        if (executorService != null) {
+            executorService.shutdownNow();
+        }
+    }
+
     @Test
     void shouldFindAssetsByCriteriaWithAllParameters() {
         // Arrange
@@ -194,7 +237,7 @@ class DuxManagerDataProviderRestTest {
     @Test
     void shouldDeleteAssetSuccessfully() {
         // Arrange
-        String externalId = UUID.randomUUID().toString();
+        UUID externalId = UUID.randomUUID();
         doNothing().when(duxManagerHttpClient).deleteAssetByExternalId(jwt, digitalUserId, externalId);
 
         // Act
@@ -228,6 +271,28 @@ class DuxManagerDataProviderRestTest {
                 isNull(), isNull(), isNull());
     }
 
+    @Test
+    void shouldFindAssetExternalIdsByCriteria() {
+        // Arrange
+        UuidSet expectedIds = new UuidSet();
+        expectedIds.add(assetResponse1.getExternalId());
+        expectedIds.add(assetResponse2.getExternalId());
+
+        when(duxManagerHttpClient.findAssetExternalIdsByCriteria(
+                eq(jwt), eq(digitalUserId), isNull(), eq("com.tracktainment"), eq("game-manager"), eq("game"),
+                isNull(), isNull(), isNull()))
+                .thenReturn(expectedIds);
+
+        // Act
+        Set<UUID> results = duxManagerDataProviderRest.findAssetExternalIdsByCriteria(
+                jwt, digitalUserId, null, "com.tracktainment", "game-manager", "game", null, null, null);
+
+        // Assert
+        assertEquals(Set.of(assetResponse1.getExternalId(), assetResponse2.getExternalId()), results);
+        verify(duxManagerHttpClient, never()).findAssetsByCriteria(
+                any(), any(), any(), any(), any(), any(), any(), any(), any());
+    }
+
     @Test
     void shouldPropagateClientExceptions() {
         // Arrange
@@ -242,4 +307,262 @@ class DuxManagerDataProviderRestTest {
         assertEquals("API connection error", thrown.getMessage());
         verify(duxManagerHttpClient).createAsset(jwt, digitalUserId, assetRequest);
     }
+
+    @Test
+    void shouldMapConflictToResourceAlreadyExistsException() {
+        // Arrange
+        Request request = Request.create(
+                Request.HttpMethod.POST, "/assets", Collections.emptyMap(), null, StandardCharsets.UTF_8, null);
+        when(duxManagerHttpClient.createAsset(jwt, digitalUserId, assetRequest))
+                .thenThrow(new FeignException.Conflict("Asset already exists", request, null, null));
+
+        // Act & Assert
+        assertThrows(ResourceAlreadyExistsException.class, () ->
+                duxManagerDataProviderRest.createAsset(jwt, digitalUserId, assetRequest));
+    }
+
+    @Test
+    void shouldMapNotFoundToResourceNotFoundException() {
+        // Arrange
+        UUID externalId = UUID.randomUUID();
+        Request request = Request.create(
+                Request.HttpMethod.DELETE, "/assets", Collections.emptyMap(), null, StandardCharsets.UTF_8, null);
+        doThrow(new FeignException.NotFound("Asset not found", request, null, null))
+                .when(duxManagerHttpClient).deleteAssetByExternalId(jwt, digitalUserId, externalId);
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () ->
+                duxManagerDataProviderRest.deleteAsset(jwt, digitalUserId, externalId));
+    }
+
+    @Test
+    void shouldStopCallingDuxManagerOnceItKeepsFailing() {
+        // Arrange
+        UUID externalId = UUID.randomUUID();
+        Request request = Request.create(
+                Request.HttpMethod.DELETE, "/assets", Collections.emptyMap(), null, StandardCharsets.UTF_8, null);
+        doThrow(new FeignException.ServiceUnavailable("Dux Manager unavailable", request, null, null))
+                .when(duxManagerHttpClient).deleteAssetByExternalId(jwt, digitalUserId, externalId);
+        for (int i=0; i<4; i++) {
+            assertThrows(FeignException.ServiceUnavailable.class, () ->
+                    duxManagerDataProviderRest.deleteAsset(jwt, digitalUserId, externalId));
+        }
+
+        // Act & Assert
+        assertThrows(ServiceUnavailableException.class, () ->
+                duxManagerDataProviderRest.deleteAsset(jwt, digitalUserId, externalId));
+        verify(duxManagerHttpClient, times(4)).deleteAssetByExternalId(jwt, digitalUserId, externalId);
+    }
+
+    @Test
+    void shouldCollapseConcurrentIdenticalLookups() throws Exception {
+        // Arrange
+        CountDownLatch requestStarted = new CountDownLatch(1);
+        CountDownLatch releaseResponse = new CountDownLatch(1);
+        when(duxManagerHttpClient.findAssetsByCriteria(
+                jwt, digitalUserId, null, "com.tracktainment", "game-manager", "game", null, null, null))
+                .thenAnswer(invocation -> {
+                    requestStarted.countDown();
+                    releaseResponse.await();
+                    return new ArrayList<>(List.of(assetResponse1, assetResponse2));
+                });
+
+        executorService = Executors.newFixedThreadPool(2);
+
+        // Act
+        Future<List<AssetResponse>> firstCall = executorService.submit(this::findAllAssets);
+        assertTrue(requestStarted.await(5, TimeUnit.SECONDS));
+        Future<List<AssetResponse>> secondCall = executorService.submit(this::findAllAssets);
+        awaitCollapsedCalls(1);
+        releaseResponse.countDown();
+
+        // Assert
+        List<AssetResponse> firstResults = firstCall.get(5, TimeUnit.SECONDS);
+        List<AssetResponse> secondResults = secondCall.get(5, TimeUnit.SECONDS);
+        assertSame(firstResults, secondResults);
+        assertEquals(List.of(assetResponse1, assetResponse2), firstResults);
+        assertThrows(UnsupportedOperationException.class, () -> firstResults.add(assetResponse1));
+
+        verify(duxManagerHttpClient, times(1)).findAssetsByCriteria(
+                any(), any(), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldPropagateInFlightFailureToCollapsedLookups() throws Exception {
+        // Arrange
+        CountDownLatch requestStarted = new CountDownLatch(1);
+        CountDownLatch releaseResponse = new CountDownLatch(1);
+        RuntimeException exception = new RuntimeException("API connection error");
+        when(duxManagerHttpClient.findAssetsByCriteria(
+                jwt, digitalUserId, null, "com.tracktainment", "game-manager", "game", null, null, null))
+                .thenAnswer(invocation -> {
+                    requestStarted.countDown();
+                    releaseResponse.await();
+                    throw exception;
+                });
+
+        executorService = Executors.newFixedThreadPool(2);
+
+        // Act
+        Future<List<AssetResponse>> firstCall = executorService.submit(this::findAllAssets);
+        assertTrue(requestStarted.await(5, TimeUnit.SECONDS));
+        Future<List<AssetResponse>> secondCall = executorService.submit(this::findAllAssets);
+        awaitCollapsedCalls(1);
+        releaseResponse.countDown();
+
+        // Assert
+        ExecutionException firstFailure = assertThrows(ExecutionException.class, () -> firstCall.get(5, TimeUnit.SECONDS));
+        ExecutionException secondFailure = assertThrows(ExecutionException.class, () -> secondCall.get(5, TimeUnit.SECONDS));
+        assertSame(exception, firstFailure.getCause());
+        assertSame(exception, secondFailure.getCause());
+    }
+
+    @Test
+    void shouldReleaseCollapsedLookupsWhenTheCallFailsWithAnError() throws Exception {
+        // Arrange
+        CountDownLatch requestStarted = new CountDownLatch(1);
+        CountDownLatch releaseResponse = new CountDownLatch(1);
+        AssertionError error = new AssertionError("Unexpected Dux Manager answer");
+        when(duxManagerHttpClient.findAssetsByCriteria(
+                jwt, digitalUserId, null, "com.tracktainment", "game-manager", "game", null, null, null))
+                .thenAnswer(invocation -> {
+                    requestStarted.countDown();
+                    releaseResponse.await();
+                    throw error;
+                })
+                .thenReturn(List.of(assetResponse1));
+
+        executorService = Executors.newFixedThreadPool(2);
+
+        // Act
+        Future<List<AssetResponse>> firstCall = executorService.submit(this::findAllAssets);
+        assertTrue(requestStarted.await(5, TimeUnit.SECONDS));
+        Future<List<AssetResponse>> secondCall = executorService.submit(this::findAllAssets);
+        awaitCollapsedCalls(1);
+        releaseResponse.countDown();
+
+        // Assert
+        ExecutionException firstFailure = assertThrows(ExecutionException.class, () -> firstCall.get(5, TimeUnit.SECONDS));
+        ExecutionException secondFailure = assertThrows(ExecutionException.class, () -> secondCall.get(5, TimeUnit.SECONDS));
+        assertSame(error, firstFailure.getCause());
+        assertSame(error, secondFailure.getCause());
+        assertEquals(List.of(assetResponse1), findAllAssets());
+    }
+
+    @Test
+    void shouldNotCollapseSequentialLookups() {
+        // Arrange
+        when(duxManagerHttpClient.findAssetsByCriteria(
+                jwt, digitalUserId, null, "com.tracktainment", "game-manager", "game", null, null, null))
+                .thenReturn(List.of(assetResponse1))
+                .thenReturn(List.of(assetResponse2));
+
+        // Act
+        List<AssetResponse> firstResults = findAllAssets();
+        List<AssetResponse> secondResults = findAllAssets();
+
+        // Assert
+        assertEquals(List.of(assetResponse1), firstResults);
+        assertEquals(List.of(assetResponse2), secondResults);
+        assertEquals(0.0, collapsedCalls());
+    }
+
+    @Test
+    void shouldNotCollapseLookupsWithDifferentCriteria() throws Exception {
+        // Arrange
+        String otherJwt = "Bearer other-token";
+        CountDownLatch bothRequestsStarted = new CountDownLatch(2);
+        when(duxManagerHttpClient.findAssetsByCriteria(
+                any(), eq(digitalUserId), isNull(), eq("com.tracktainment"), eq("game-manager"), eq("game"),
+                isNull(), isNull(), isNull()))
+                .thenAnswer(invocation -> {
+                    bothRequestsStarted.countDown();
+                    assertTrue(bothRequestsStarted.await(5, TimeUnit.SECONDS));
+                    return List.of(assetResponse1);
+                });
+
+        executorService = Executors.newFixedThreadPool(2);
+
+        // Act
+        Future<List<AssetResponse>> firstCall = executorService.submit(this::findAllAssets);
+        Future<List<AssetResponse>> secondCall = executorService.submit(() ->
+                duxManagerDataProviderRest.findAssetsByCriteria(
+                        otherJwt, digitalUserId, null, "com.tracktainment", "game-manager", "game", null, null, null));
+
+        // Assert
+        assertEquals(List.of(assetResponse1), firstCall.get(5, TimeUnit.SECONDS));
+        assertEquals(List.of(assetResponse1), secondCall.get(5, TimeUnit.SECONDS));
+        assertEquals(0.0, collapsedCalls());
+        verify(duxManagerHttpClient, times(2)).findAssetsByCriteria(
+                any(), any(), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldCollapseConcurrentIdenticalExternalIdLookups() throws Exception {
+        // Arrange
+        CountDownLatch requestStarted = new CountDownLatch(1);
+        CountDownLatch releaseResponse = new CountDownLatch(1);
+        UuidSet assetExternalIds = new UuidSet();
+        assetExternalIds.add(assetResponse1.getExternalId());
+        when(duxManagerHttpClient.findAssetExternalIdsByCriteria(
+                jwt, digitalUserId, null, "com.tracktainment", "game-manager", "game", null, null, null))
+                .thenAnswer(invocation -> {
+                    requestStarted.countDown();
+                    releaseResponse.await();
+                    return assetExternalIds;
+                });
+
+        executorService = Executors.newFixedThreadPool(2);
+
+        // Act
+        Future<Set<UUID>> firstCall = executorService.submit(this::findAllAssetExternalIds);
+        assertTrue(requestStarted.await(5, TimeUnit.SECONDS));
+        Future<Set<UUID>> secondCall = executorService.submit(this::findAllAssetExternalIds);
+        awaitCollapsedCalls("findAssetExternalIdsByCriteria", 1);
+        releaseResponse.countDown();
+
+        // Assert
+        Set<UUID> firstResults = firstCall.get(5, TimeUnit.SECONDS);
+        Set<UUID> secondResults = secondCall.get(5, TimeUnit.SECONDS);
+        assertSame(firstResults, secondResults);
+        assertEquals(Set.of(assetResponse1.getExternalId()), firstResults);
+        assertThrows(UnsupportedOperationException.class, () -> firstResults.add(assetResponse2.getExternalId()));
+
+        verify(duxManagerHttpClient, times(1)).findAssetExternalIdsByCriteria(
+                any(), any(), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    private List<AssetResponse> findAllAssets() {
+        return duxManagerDataProviderRest.findAssetsByCriteria(
+                jwt, digitalUserId, null, "com.tracktainment", "game-manager", "game", null, null, null);
+    }
+
+    private Set<UUID> findAllAssetExternalIds() {
+        return duxManagerDataProviderRest.findAssetExternalIdsByCriteria(
+                jwt, digitalUserId, null, "com.tracktainment", "game-manager", "game", null, null, null);
+    }
+
+    private double collapsedCalls() {
+        return collapsedCalls("findAssetsByCriteria");
+    }
+
+    private double collapsedCalls(String operation) {
+        return meterRegistry.get(DuxManagerDataProviderRest.COLLAPSED_CALLS_METRIC)
+                .tag("operation", operation)
+                .counter()
+                .count();
+    }
+
+    private void awaitCollapsedCalls(double expected) throws InterruptedException {
+        awaitCollapsedCalls("findAssetsByCriteria", expected);
+    }
+
+    private void awaitCollapsedCalls(String operation, double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (collapsedCalls(operation) < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(expected, collapsedCalls(operation));
+    }
 }
@@ -11,7 +11,7 @@ public class TestGameDataUtil {
     public static AssetResponse createTestAssetResponse() {
         return AssetResponse.builder()
                 .id(UUID.randomUUID().toString())
-                .externalId(UUID.randomUUID().toString())
+                .externalId(UUID.randomUUID())
                 .type("game")
                 .permissionPolicy(AssetResponse.PermissionPolicy.OWNER)
                 .artifactInformation(AssetResponse.ArtifactInformation.builder()
@@ -24,7 +24,7 @@ public class TestGameDataUtil {
                 .build();
     }
 
-    public static AssetRequest createTestAssetRequest(String gameId) {
+    public static AssetRequest createTestAssetRequest(UUID gameId) {
         return AssetRequest.builder()
                 .externalId(gameId)
                 .type("game")
@@ -0,0 +1,89 @@
+package com.tracktainment.gamemanager.config;
+
+import com.tracktainment.gamemanager.entity.GameEntity;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.ehcache.config.CacheConfiguration;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.config.units.MemoryUnit;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.MissingCacheStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Properties;
+import java.util.UUID;
+
+/*
+ * Second-level cache of the games, read far more often than they change. Games are kept in an Ehcache cache, through
+ * JCache, with a heap tier bounded in entries and an optional off-heap tier bounded in bytes, so that a large cache
+ * adds no garbage collection pressure. When a tier is full, games sampled among the least recently used ones are moved
+ * down to the next tier or out of the cache, and every game expires after the TTL.
+ *
+ * The cache is local to each instance and so are its evictions: a game changed through another instance is only seen
+ * here once its entry expires, which is why the TTL is kept short.
+ */
+@Configuration
+public class GameCacheConfig {
+
+    @Bean
+    public CacheManager gameCacheManager(
+            MeterRegistry meterRegistry,
+            @Value("${game-cache.heap-entries:10000}") long heapEntries,
+            @Value("${game-cache.off-heap-size:64MB}") DataSize offHeapSize,
+            @Value("${game-cache.ttl:1m}") Duration ttl
+    ) {
+        ResourcePoolsBuilder resourcePools = ResourcePoolsBuilder.heap(heapEntries);
+        if (offHeapSize.toBytes() > 0) {
+            resourcePools = resourcePools.offheap(offHeapSize.toBytes(), MemoryUnit.B);
+        }
+
+        CacheConfiguration<Object, Object> cacheConfiguration = CacheConfigurationBuilder
+                .newCacheConfigurationBuilder(Object.class, Object.class, resourcePools)
+                .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(ttl))
+                .build();
+
+        // A cache manager of its own, so that it is closed with the application context and never shared with another
+        CacheManager cacheManager = Caching.getCachingProvider(EhcacheCachingProvider.class.getName()).getCacheManager(
+                URI.create("urn:game-manager:game-cache:" + UUID.randomUUID()),
+                GameCacheConfig.class.getClassLoader(),
+                new Properties()
+        );
+
+        Cache<Object, Object> cache = cacheManager.createCache(
+                GameEntity.CACHE_REGION,
+                Eh107Configuration.fromEhcacheCacheConfiguration(cacheConfiguration)
+        );
+        cacheManager.enableStatistics(GameEntity.CACHE_REGION, true);
+        JCacheMetrics.monitor(meterRegistry, cache);
+
+        return cacheManager;
+    }
+
+    // Regions without a cache configured above are not created on the fly, they fail the startup instead
+    @Bean
+    public HibernatePropertiesCustomizer gameCacheHibernatePropertiesCustomizer(CacheManager gameCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, gameCacheManager);
+            hibernateProperties.put(
+                    ConfigSettings.MISSING_CACHE_STRATEGY,
+                    MissingCacheStrategy.FAIL.getExternalRepresentation()
+            );
+        };
+    }
+}
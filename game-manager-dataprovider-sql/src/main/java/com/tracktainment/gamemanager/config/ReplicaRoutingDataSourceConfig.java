@@ -0,0 +1,73 @@
+package com.tracktainment.gamemanager.config;
+
+import com.tracktainment.gamemanager.datasource.ReplicaLagMonitor;
+import com.tracktainment.gamemanager.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * Only applies when at least one replica is configured (game-datasource.replicas), replacing the single
+ * spring.datasource pool. The primary pool is still configured under spring.datasource, and each replica pool takes the
+ * Hikari settings (jdbc-url, username, password, maximum-pool-size, ...) listed for it.
+ */
+@Configuration
+@ConditionalOnProperty(name = "game-datasource.replicas[0].jdbc-url")
+public class ReplicaRoutingDataSourceConfig {
+
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            DataSourceProperties dataSourceProperties,
+            Environment environment,
+            MeterRegistry meterRegistry
+    ) {
+        Binder binder = Binder.get(environment);
+
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName("primary");
+        primary.setMetricRegistry(meterRegistry);
+
+        List<HikariDataSource> replicas = new ArrayList<>(
+                binder.bind("game-datasource.replicas", Bindable.listOf(HikariDataSource.class)).get()
+        );
+        for (int i=0; i<replicas.size(); i++) {
+            replicas.get(i).setPoolName("replica-" + i);
+            replicas.get(i).setReadOnly(true);
+            replicas.get(i).setMetricRegistry(meterRegistry);
+        }
+
+        return new ReplicaRoutingDataSource(primary, replicas, meterRegistry);
+    }
+
+    // Defers asking for a connection until the first statement, when whether the transaction is read-only is known
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            ReplicaRoutingDataSource replicaRoutingDataSource,
+            @Value("${game-datasource.replica-check.max-lag:5s}") Duration maxLag
+    ) {
+        return new ReplicaLagMonitor(replicaRoutingDataSource, maxLag);
+    }
+}
@@ -0,0 +1,57 @@
+package com.tracktainment.gamemanager.dataprovider;
+
+import com.tracktainment.gamemanager.domain.AssetOutboxEntry;
+import com.tracktainment.gamemanager.domain.AssetOutboxStatus;
+import com.tracktainment.gamemanager.mapper.AssetOutboxMapperDataProvider;
+import com.tracktainment.gamemanager.repository.AssetOutboxRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class AssetOutboxDataProviderSql implements AssetOutboxDataProvider {
+
+    private final AssetOutboxMapperDataProvider mapper;
+    private final AssetOutboxRepository assetOutboxRepository;
+
+    @Override
+    @Transactional
+    public List<AssetOutboxEntry> claimDue(String digitalUserId, int limit, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        return assetOutboxRepository.claimDue(digitalUserId, now, now.plus(lease), limit)
+                .stream()
+                .map(mapper::toAssetOutboxEntry)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public boolean markDispatched(Long id) {
+        return assetOutboxRepository.deleteByDbId(id) > 0;
+    }
+
+    @Override
+    @Transactional
+    public void markFailed(Long id, int attempts, LocalDateTime nextAttemptAt, String error) {
+        assetOutboxRepository.updateAttempt(
+                id,
+                AssetOutboxStatus.PENDING,
+                attempts,
+                nextAttemptAt,
+                error,
+                LocalDateTime.now()
+        );
+    }
+
+    @Override
+    @Transactional
+    public void markDeadLetter(Long id, int attempts, String error) {
+        LocalDateTime now = LocalDateTime.now();
+        assetOutboxRepository.updateAttempt(id, AssetOutboxStatus.DEAD_LETTER, attempts, now, error, now);
+    }
+}
@@ -1,223 +1,562 @@
 package com.tracktainment.gamemanager.dataprovider;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tracktainment.gamemanager.datasource.ReadYourWrites;
+import com.tracktainment.gamemanager.datasource.ReplicaRoutingDataSource;
+import com.tracktainment.gamemanager.domain.AssetOutboxStatus;
 import com.tracktainment.gamemanager.domain.Game;
+import com.tracktainment.gamemanager.domain.GamePage;
 import com.tracktainment.gamemanager.domain.OrderBy;
 import com.tracktainment.gamemanager.domain.OrderDirection;
+import com.tracktainment.gamemanager.domain.TextMatch;
 import com.tracktainment.gamemanager.dto.GameCreate;
 import com.tracktainment.gamemanager.dto.GameUpdate;
+import com.tracktainment.gamemanager.entity.AssetOutboxEntity;
 import com.tracktainment.gamemanager.entity.GameEntity;
+import com.tracktainment.gamemanager.entity.GameOwnershipEntity;
+import com.tracktainment.gamemanager.exception.ParameterValidationFailedException;
 import com.tracktainment.gamemanager.exception.ResourceAlreadyExistsException;
 import com.tracktainment.gamemanager.exception.ResourceNotFoundException;
 import com.tracktainment.gamemanager.mapper.GameMapperDataProvider;
+import com.tracktainment.gamemanager.projection.GameRow;
+import com.tracktainment.gamemanager.query.GameListPredicate;
+import com.tracktainment.gamemanager.query.GameListQueryShape;
+import com.tracktainment.gamemanager.query.GameListQueryShape.SortKey;
+import com.tracktainment.gamemanager.query.GameListQueryTemplateCache;
+import com.tracktainment.gamemanager.repository.AssetOutboxRepository;
+import com.tracktainment.gamemanager.repository.GameOwnershipRepository;
 import com.tracktainment.gamemanager.repository.GameRepository;
 import com.tracktainment.gamemanager.usecases.ListByCriteriaUseCase;
 import com.tracktainment.gamemanager.util.Constants;
+import jakarta.persistence.Cache;
 import jakarta.persistence.EntityManager;
-import jakarta.persistence.criteria.*;
-import jakarta.transaction.Transactional;
+import jakarta.persistence.TypedQuery;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class GameDataProviderSql implements GameDataProvider {
 
+    private static final ObjectMapper CURSOR_MAPPER = new ObjectMapper();
+
     private final GameMapperDataProvider mapper;
     private final GameRepository gameRepository;
+    private final GameOwnershipRepository gameOwnershipRepository;
+    private final AssetOutboxRepository assetOutboxRepository;
     private final EntityManager entityManager;
+    private final GameListQueryTemplateCache gameListQueryTemplateCache;
+    private final ReadYourWrites readYourWrites;
+
+    @Value("${game-export.fetch-size:500}")
+    private int exportFetchSize;
+
+    @Override
+    @Transactional
+    public Game create(GameCreate gameCreate, String digitalUserId) {
+        LocalDateTime now = LocalDateTime.now();
+        GameEntity newGameEntity = mapper.toGameEntity(gameCreate);
+        GameEntity gameEntity = gameRepository.insertIfTitleAbsent(
+                newGameEntity.getId(),
+                newGameEntity.getTitle(),
+                newGameEntity.getPlatform(),
+                newGameEntity.getGenre(),
+                newGameEntity.getDeveloper(),
+                newGameEntity.getReleaseDate(),
+                now
+        ).orElseThrow(
+                () -> new ResourceAlreadyExistsException(GameEntity.class, gameCreate.getTitle())
+        );
+
+        // Record ownership and queue the registration of the asset in Dux Manager, atomically with the game
+        gameOwnershipRepository.insertIfAbsent(digitalUserId, List.of(gameEntity.getId()), now);
+        assetOutboxRepository.save(
+                AssetOutboxEntity.builder()
+                        .gameId(gameEntity.getId())
+                        .digitalUserId(digitalUserId)
+                        .status(AssetOutboxStatus.PENDING)
+                        .attempts(0)
+                        .nextAttemptAt(now)
+                        .build()
+        );
+
+        readYourWrites.recordWrite(digitalUserId);
+        return mapper.toGame(gameEntity);
+    }
 
+    /* The games, their ownership and their pending registrations are persisted as entities, with ids allocated in
+    blocks from the sequence, so that each table receives JDBC batches instead of one insert per row
+     */
     @Override
     @Transactional
-    public Game create(GameCreate gameCreate) {
-        if (existsByTitle(gameCreate.getTitle())) {
-            throw new ResourceAlreadyExistsException(GameEntity.class, gameCreate.getTitle());
+    public List<Game> createMany(List<GameCreate> gameCreates, String digitalUserId) {
+        String[] titles = gameCreates.stream()
+                .map(GameCreate::getTitle)
+                .toArray(String[]::new);
+
+        gameRepository.findTitlesByTitleIn(titles).stream()
+                .findFirst()
+                .ifPresent(title -> {
+                    throw new ResourceAlreadyExistsException(GameEntity.class, title);
+                });
+
+        LocalDateTime now = LocalDateTime.now();
+        List<GameEntity> gameEntities = gameCreates.stream()
+                .map(mapper::toGameEntity)
+                .toList();
+
+        List<GameOwnershipEntity> gameOwnershipEntities = new ArrayList<>(gameEntities.size());
+        List<AssetOutboxEntity> assetOutboxEntities = new ArrayList<>(gameEntities.size());
+        for (GameEntity gameEntity : gameEntities) {
+            gameOwnershipEntities.add(
+                    GameOwnershipEntity.builder()
+                            .digitalUserId(digitalUserId)
+                            .gameId(gameEntity.getId())
+                            .build()
+            );
+            assetOutboxEntities.add(
+                    AssetOutboxEntity.builder()
+                            .gameId(gameEntity.getId())
+                            .digitalUserId(digitalUserId)
+                            .status(AssetOutboxStatus.PENDING)
+                            .attempts(0)
+                            .nextAttemptAt(now)
+                            .build()
+            );
+        }
+
+        try {
+            gameRepository.saveAll(gameEntities);
+            gameOwnershipRepository.saveAll(gameOwnershipEntities);
+            assetOutboxRepository.saveAll(assetOutboxEntities);
+            gameRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            // A title was taken concurrently, after it was checked
+            throw new ResourceAlreadyExistsException(GameEntity.class, "with one of the given titles");
         }
 
-        return mapper.toGame(gameRepository.save(mapper.toGameEntity(gameCreate)));
+        readYourWrites.recordWrite(digitalUserId);
+        return gameEntities.stream()
+                .map(mapper::toGame)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Game findById(UUID id) {
+        return mapper.toGame(findCachedGameEntity(id));
     }
 
+    /* The ownership is checked on its own, so that the game itself can be served from the second-level cache. It is
+    checked after the game is read, so that it shares the connection to the primary when the game was not cached
+     */
     @Override
-    public Game findById(String id) {
-        return mapper.toGame(findGameEntityById(id));
+    @Transactional(readOnly = true)
+    public Game findByIdAndDigitalUserId(UUID id, String digitalUserId) {
+        return readYourWrites.read(digitalUserId, () -> {
+            GameEntity gameEntity = findCachedGameEntity(id);
+            if (!gameOwnershipRepository.existsByDigitalUserIdAndGameId(digitalUserId, id)) {
+                throw new ResourceNotFoundException(GameEntity.class, id.toString());
+            }
+
+            return mapper.toGame(gameEntity);
+        });
     }
 
+    /* Games are selected through a constructor expression, along with the dbId needed by the cursor, so that no entity
+    is managed by the persistence context. The query text only depends on the shape of the listing and is cached
+     */
     @Override
-    public List<Game> listByCriteria(ListByCriteriaUseCase.Input input) {
-        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
-        CriteriaQuery<GameEntity> criteriaQuery = criteriaBuilder.createQuery(GameEntity.class);
-        Root<GameEntity> root = criteriaQuery.from(GameEntity.class);
-
-        Predicate[] predicates = buildPredicates(criteriaBuilder, root, input);
-        criteriaQuery.where(predicates);
-
-        applyListSorting(criteriaBuilder, criteriaQuery, root, input);
-        return entityManager.createQuery(criteriaQuery)
-                .setFirstResult(input.getOffset() != null ? input.getOffset() : Constants.MIN_OFFSET)
-                .setMaxResults(input.getLimit() != null ? input.getLimit() : Integer.parseInt(Constants.DEFAULT_LIMIT))
-                .getResultList()
-                .stream()
-                .map(mapper::toGame)
-                .toList();
+    @Transactional(readOnly = true)
+    public GamePage listByCriteria(ListByCriteriaUseCase.Input input) {
+        return readYourWrites.read(input.getDigitalUserId(), () -> listPage(input));
+    }
+
+    /* The games are read through a server side cursor (the fetch size only applies within a transaction) as read-only
+    projections, which are not kept in the persistence context, so memory does not grow with the number of games
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportByCriteria(ListByCriteriaUseCase.Input input, Consumer<Game> gameConsumer) {
+        readYourWrites.read(input.getDigitalUserId(), () -> export(input, gameConsumer));
+    }
+
+    @Override
+    @Transactional
+    public Game update(UUID id, GameUpdate gameUpdate) {
+        return updateReturning(id, null, gameUpdate);
     }
 
     @Override
     @Transactional
-    public Game update(String id, GameUpdate gameUpdate) {
-        GameEntity gameEntity = findGameEntityById(id);
-        mapper.updateBookEntity(gameEntity, gameUpdate);
-        return mapper.toGame(gameRepository.save(gameEntity));
+    public Game updateByIdAndDigitalUserId(UUID id, String digitalUserId, GameUpdate gameUpdate) {
+        Game game = updateReturning(id, digitalUserId, gameUpdate);
+        readYourWrites.recordWrite(digitalUserId);
+        return game;
     }
 
     @Override
     @Transactional
-    public void delete(String id) {
-        if (existsById(id)) {
-            gameRepository.deleteById(id);
-        } else {
-            throw new ResourceNotFoundException(GameEntity.class, id);
+    public void delete(UUID id, String digitalUserId, boolean assetDeleted) {
+        Long dbId = gameRepository.deleteCascade(id, digitalUserId, assetDeleted)
+                .orElseThrow(
+                        () -> new ResourceNotFoundException(GameEntity.class, id.toString())
+                );
+
+        evictFromCache(dbId);
+        readYourWrites.recordWrite(digitalUserId);
+    }
+
+    private GamePage listPage(ListByCriteriaUseCase.Input input) {
+        List<SortKey> sortKeys = buildSortKeys(input);
+        GameCursor cursor = input.getCursor() != null ? decodeCursor(input.getCursor(), sortKeys) : null;
+
+        String jpql = gameListQueryTemplateCache.getJpql(buildQueryShape(input, sortKeys, cursor));
+        TypedQuery<GameRow> query = entityManager.createQuery(jpql, GameRow.class);
+        bindListParameters(query, input, sortKeys, cursor);
+
+        // A cursor replaces the offset, so that later pages seek to their first row instead of skipping the previous ones
+        int offset = input.getOffset() != null && cursor == null ? input.getOffset() : Constants.MIN_OFFSET;
+        int limit = input.getLimit() != null ? input.getLimit() : Integer.parseInt(Constants.DEFAULT_LIMIT);
+
+        // One extra row is read to know whether there is a next page
+        List<GameRow> gameRows = query
+                .setFirstResult(offset)
+                .setMaxResults(limit + 1)
+                .getResultList();
+
+        // Search results are ranked by relevance, which a keyset cursor cannot seek on
+        String nextCursor = null;
+        if (gameRows.size() > limit) {
+            gameRows = gameRows.subList(0, limit);
+            if (input.getSearch() == null) {
+                nextCursor = encodeCursor(gameRows.get(limit - 1), sortKeys);
+            }
+        }
+
+        return GamePage.builder()
+                .games(gameRows.stream()
+                        .map(mapper::toGame)
+                        .toList())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private void export(ListByCriteriaUseCase.Input input, Consumer<Game> gameConsumer) {
+        String jpql = gameListQueryTemplateCache.getJpql(buildQueryShape(input, List.of(), null));
+        TypedQuery<GameRow> query = entityManager.createQuery(jpql, GameRow.class);
+        bindListParameters(query, input, List.of(), null);
+
+        try (Stream<GameRow> gameRows = query.setHint(HibernateHints.HINT_FETCH_SIZE, exportFetchSize).getResultStream()) {
+            gameRows.map(mapper::toGame).forEach(gameConsumer);
         }
     }
 
-    private boolean existsByTitle(String title) {
-        return gameRepository.findByTitle(title).isPresent();
+    /* Reads the game from the second-level cache, which resolves the id to the dbId of the cached game, or otherwise
+    from the database, caching it. The entity is read-only, as it is read in a read-only transaction. Cache misses are
+    read from the primary, as a game read from a replica that is behind would be cached after its eviction
+     */
+    private GameEntity findCachedGameEntity(UUID id) {
+        GameEntity gameEntity = ReplicaRoutingDataSource.onPrimary(
+                () -> entityManager.unwrap(Session.class)
+                        .bySimpleNaturalId(GameEntity.class)
+                        .load(id)
+        );
+
+        if (gameEntity == null) {
+            throw new ResourceNotFoundException(GameEntity.class, id.toString());
+        }
+
+        return gameEntity;
     }
 
-    private boolean existsById(String id) {
-        return gameRepository.findById(id).isPresent();
+    /* Native writes bypass the second-level cache, so the game is evicted from it by hand. It is evicted again once the
+    transaction has completed, as a concurrent read may have cached the previous version of the game in the meantime
+     */
+    private void evictFromCache(Long dbId) {
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        cache.evict(GameEntity.class, dbId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.evict(GameEntity.class, dbId);
+                }
+            });
+        }
     }
 
-    private GameEntity findGameEntityById(String id) {
-        return gameRepository.findById(id)
-                .orElseThrow(
-                        () -> new ResourceNotFoundException(GameEntity.class, id)
-                );
+    private Game updateReturning(UUID id, String digitalUserId, GameUpdate gameUpdate) {
+        Optional<GameEntity> gameEntity;
+        try {
+            gameEntity = gameRepository.updateReturning(
+                    id,
+                    digitalUserId,
+                    gameUpdate.getTitle(),
+                    gameUpdate.getPlatform(),
+                    gameUpdate.getGenre(),
+                    gameUpdate.getDeveloper(),
+                    gameUpdate.getReleaseDate(),
+                    LocalDateTime.now()
+            );
+        } catch (DataIntegrityViolationException e) {
+            // The only constraint an update can violate is the unique title
+            throw new ResourceAlreadyExistsException(GameEntity.class, gameUpdate.getTitle());
+        }
+
+        GameEntity updatedGameEntity = gameEntity.orElseThrow(
+                () -> new ResourceNotFoundException(GameEntity.class, id.toString())
+        );
+
+        evictFromCache(updatedGameEntity.getDbId());
+        return mapper.toGame(updatedGameEntity);
+    }
+
+    private GameListQueryShape buildQueryShape(
+            ListByCriteriaUseCase.Input input,
+            List<SortKey> sortKeys,
+            GameCursor cursor
+    ) {
+        TextMatch match = textMatch(input);
+
+        Map<GameListPredicate, Object> filters = new EnumMap<>(GameListPredicate.class);
+        filters.put(GameListPredicate.DIGITAL_USER_ID, input.getDigitalUserId());
+        filters.put(GameListPredicate.OWNED_GAME_IDS, input.getOwnedGameIds());
+        filters.put(GameListPredicate.SEARCH, input.getSearch());
+        filters.put(GameListPredicate.IDS, input.getIds());
+        filters.put(textPredicate(match, GameListPredicate.TITLE, GameListPredicate.TITLE_PREFIX,
+                GameListPredicate.TITLE_EXACT), input.getTitle());
+        filters.put(textPredicate(match, GameListPredicate.PLATFORM, GameListPredicate.PLATFORM_PREFIX,
+                GameListPredicate.PLATFORM_EXACT), input.getPlatform());
+        filters.put(textPredicate(match, GameListPredicate.GENRE, GameListPredicate.GENRE_PREFIX,
+                GameListPredicate.GENRE_EXACT), input.getGenre());
+        filters.put(textPredicate(match, GameListPredicate.DEVELOPER, GameListPredicate.DEVELOPER_PREFIX,
+                GameListPredicate.DEVELOPER_EXACT), input.getDeveloper());
+        filters.put(GameListPredicate.RELEASE_DATE, input.getReleaseDate());
+        filters.put(GameListPredicate.CREATED_AT, input.getCreatedAt());
+        filters.put(GameListPredicate.FROM, input.getFrom());
+        filters.put(GameListPredicate.TO, input.getTo());
+        filters.put(GameListPredicate.CURSOR, cursor);
+
+        int predicates = 0;
+        for (Map.Entry<GameListPredicate, Object> filter : filters.entrySet()) {
+            if (filter.getValue() != null) {
+                predicates |= filter.getKey().bit();
+            }
+        }
+
+        int nullCursorValues = 0;
+        if (cursor != null) {
+            for (int i=0; i<cursor.values().size(); i++) {
+                if (cursor.values().get(i) == null) {
+                    nullCursorValues |= 1 << i;
+                }
+            }
+        }
+
+        return new GameListQueryShape(predicates, sortKeys, nullCursorValues);
     }
 
-    private Predicate[] buildPredicates(
-            CriteriaBuilder criteriaBuilder,
-            Root<GameEntity> root,
-            ListByCriteriaUseCase.Input input
+    // Binds the parameters of the predicates present in the shape built by buildQueryShape
+    private void bindListParameters(
+            TypedQuery<GameRow> query,
+            ListByCriteriaUseCase.Input input,
+            List<SortKey> sortKeys,
+            GameCursor cursor
     ) {
-        List<Predicate> predicates = new ArrayList<>();
+        TextMatch match = textMatch(input);
+
+        if (input.getDigitalUserId() != null) {
+            query.setParameter("digitalUserId", input.getDigitalUserId());
+        }
+
+        if (input.getOwnedGameIds() != null) {
+            query.setParameter("ownedGameIds", input.getOwnedGameIds().toArray(new UUID[0]));
+        }
+
+        if (input.getSearch() != null) {
+            query.setParameter("search", input.getSearch());
+        }
 
         if (input.getIds() != null) {
-            List<String> ids = List.of(input.getIds().split(","));
-            predicates.add(criteriaBuilder.in(root.get("id")).value(ids));
+            query.setParameter("ids", parseIds(input.getIds()));
         }
 
         if (input.getTitle() != null) {
-            predicates.add(criteriaBuilder.like(
-                    root.get("title"),
-                    "%" + input.getTitle() + "%"
-            ));
+            query.setParameter("title", textPattern(match, input.getTitle()));
         }
 
-
         if (input.getPlatform() != null) {
-            predicates.add(criteriaBuilder.like(
-                    root.get("platform"),
-                    "%" + input.getPlatform() + "%"
-            ));
+            query.setParameter("platform", textPattern(match, input.getPlatform()));
         }
 
         if (input.getGenre() != null) {
-            predicates.add(criteriaBuilder.like(
-                    root.get("genre"),
-                    "%" + input.getGenre() + "%"
-            ));
+            query.setParameter("genre", textPattern(match, input.getGenre()));
         }
 
         if (input.getDeveloper() != null) {
-            predicates.add(criteriaBuilder.like(
-                    root.get("developer"),
-                    "%" + input.getDeveloper() + "%"
-            ));
+            query.setParameter("developer", textPattern(match, input.getDeveloper()));
         }
 
         if (input.getReleaseDate() != null) {
-            predicates.add(criteriaBuilder.equal(
-                    root.get("releaseDate"),
-                    input.getReleaseDate().atStartOfDay()
-            ));
+            query.setParameter("releaseDate", input.getReleaseDate());
         }
 
         if (input.getCreatedAt() != null) {
-            predicates.add(criteriaBuilder.between(
-                    root.get("createdAt"),
-                    input.getCreatedAt().atStartOfDay(),
-                    input.getCreatedAt().atTime(23, 59, 59, 999999999)
-            ));
+            query.setParameter("createdAtStart", input.getCreatedAt().atStartOfDay());
+            query.setParameter("createdAtEnd", input.getCreatedAt().atTime(23, 59, 59, 999999999));
         }
 
         if (input.getFrom() != null) {
-            predicates.add(criteriaBuilder.greaterThanOrEqualTo(
-                    root.get("createdAt"),
-                    input.getFrom().atStartOfDay()));
+            query.setParameter("from", input.getFrom().atStartOfDay());
         }
 
         if (input.getTo() != null) {
-            predicates.add(criteriaBuilder.lessThanOrEqualTo(
-                    root.get("createdAt"),
-                    input.getTo().atTime(23, 59, 59, 999999999)
-            ));
+            query.setParameter("to", input.getTo().atTime(23, 59, 59, 999999999));
+        }
+
+        if (cursor != null) {
+            for (int i=0; i<sortKeys.size(); i++) {
+                Comparable<?> value = parseSortValue(sortKeys.get(i).orderBy(), cursor.values().get(i));
+                if (value != null) {
+                    query.setParameter(GameListQueryTemplateCache.CURSOR_VALUE_PARAMETER_PREFIX + i, value);
+                }
+            }
+
+            query.setParameter(GameListQueryTemplateCache.CURSOR_DB_ID_PARAMETER, cursor.dbId());
         }
+    }
 
-        return predicates.toArray(new Predicate[0]);
+    // Text filters match substrings unless asked otherwise
+    private static TextMatch textMatch(ListByCriteriaUseCase.Input input) {
+        return input.getMatch() != null ? input.getMatch() : TextMatch.CONTAINS;
     }
 
-    private void applyListSorting(
-            CriteriaBuilder criteriaBuilder,
-            CriteriaQuery<GameEntity> criteriaQuery,
-            Root<GameEntity> root,
-            ListByCriteriaUseCase.Input input
+    private static GameListPredicate textPredicate(
+            TextMatch match,
+            GameListPredicate contains,
+            GameListPredicate prefix,
+            GameListPredicate exact
     ) {
+        return switch (match) {
+            case CONTAINS -> contains;
+            case PREFIX -> prefix;
+            case EXACT -> exact;
+        };
+    }
+
+    // The filters cannot contain LIKE wildcards, their patterns are validated at the API
+    private static String textPattern(TextMatch match, String value) {
+        return switch (match) {
+            case CONTAINS -> "%" + value + "%";
+            case PREFIX -> value + "%";
+            case EXACT -> value;
+        };
+    }
+
+    private UUID[] parseIds(String ids) {
+        try {
+            return Arrays.stream(ids.split(","))
+                    .map(UUID::fromString)
+                    .toArray(UUID[]::new);
+        } catch (IllegalArgumentException e) {
+            throw new ParameterValidationFailedException(Constants.IDS_INVALID_MSG);
+        }
+    }
+
+    private List<SortKey> buildSortKeys(ListByCriteriaUseCase.Input input) {
+        List<SortKey> sortKeys = new ArrayList<>();
         if (input.getOrderByList() != null && input.getOrderDirectionList() != null) {
-            List<Order> orderList = new ArrayList<>();
             for (int i=0; i<input.getOrderByList().size(); i++) {
                 OrderBy orderBy = input.getOrderByList().get(i);
                 OrderDirection orderDirection = input.getOrderDirectionList().get(i);
 
                 if (orderBy != null && orderDirection != null) {
-                    if (orderBy == OrderBy.TITLE) {
-                        if (orderDirection == OrderDirection.ASC) {
-                            orderList.add(criteriaBuilder.asc(root.get("title")));
-                        } else {
-                            orderList.add(criteriaBuilder.desc(root.get("title")));
-                        }
-                    }
-
-                    if (orderBy == OrderBy.PLATFORM) {
-                        if (orderDirection == OrderDirection.ASC) {
-                            orderList.add(criteriaBuilder.asc(root.get("platform")));
-                        } else {
-                            orderList.add(criteriaBuilder.desc(root.get("platform")));
-                        }
-                    }
-
-                    if (orderBy == OrderBy.GENRE) {
-                        if (orderDirection == OrderDirection.ASC) {
-                            orderList.add(criteriaBuilder.asc(root.get("genre")));
-                        } else {
-                            orderList.add(criteriaBuilder.desc(root.get("genre")));
-                        }
-                    }
-
-                    if (orderBy == OrderBy.CREATED_AT) {
-                        if (orderDirection == OrderDirection.ASC) {
-                            orderList.add(criteriaBuilder.asc(root.get("createdAt")));
-                        } else {
-                            orderList.add(criteriaBuilder.desc(root.get("createdAt")));
-                        }
-                    }
+                    sortKeys.add(new SortKey(orderBy, orderDirection));
                 }
             }
+        }
 
-            if (!orderList.isEmpty()) {
-                criteriaQuery.orderBy(orderList);
-            }
+        return sortKeys;
+    }
+
+    private String encodeCursor(GameRow lastGameRow, List<SortKey> sortKeys) {
+        GameCursor cursor = new GameCursor(
+                sortKeys.stream().map(SortKey::orderBy).toList(),
+                sortKeys.stream().map(SortKey::orderDirection).toList(),
+                sortKeys.stream().map(sortKey -> formatSortValue(lastGameRow, sortKey.orderBy())).toList(),
+                lastGameRow.getDbId()
+        );
+
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(CURSOR_MAPPER.writeValueAsBytes(cursor));
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not encode the list cursor.", e);
+        }
+    }
+
+    private GameCursor decodeCursor(String encodedCursor, List<SortKey> sortKeys) {
+        GameCursor cursor;
+        try {
+            cursor = CURSOR_MAPPER.readValue(Base64.getUrlDecoder().decode(encodedCursor), GameCursor.class);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new ParameterValidationFailedException(Constants.CURSOR_INVALID_MSG);
+        }
+
+        // A cursor only makes sense for the ordering it was issued for
+        if (cursor.dbId() == null ||
+                cursor.values() == null ||
+                !sortKeys.stream().map(SortKey::orderBy).toList().equals(cursor.orderByList()) ||
+                !sortKeys.stream().map(SortKey::orderDirection).toList().equals(cursor.orderDirectionList()) ||
+                cursor.values().size() != sortKeys.size()) {
+            throw new ParameterValidationFailedException(Constants.CURSOR_INVALID_MSG);
+        }
+
+        return cursor;
+    }
+
+    private String formatSortValue(GameRow gameRow, OrderBy orderBy) {
+        return switch (orderBy) {
+            case TITLE -> gameRow.getTitle();
+            case PLATFORM -> gameRow.getPlatform();
+            case GENRE -> gameRow.getGenre();
+            case CREATED_AT -> gameRow.getCreatedAt() != null ? gameRow.getCreatedAt().toString() : null;
+        };
+    }
+
+    private Comparable<?> parseSortValue(OrderBy orderBy, String value) {
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return orderBy == OrderBy.CREATED_AT ? LocalDateTime.parse(value) : value;
+        } catch (DateTimeParseException e) {
+            throw new ParameterValidationFailedException(Constants.CURSOR_INVALID_MSG);
         }
     }
+
+    private record GameCursor(
+            @JsonProperty("o") List<OrderBy> orderByList,
+            @JsonProperty("d") List<OrderDirection> orderDirectionList,
+            @JsonProperty("v") List<String> values,
+            @JsonProperty("i") Long dbId
+    ) {
+    }
 }
@@ -0,0 +1,256 @@
+package com.tracktainment.gamemanager.dataprovider;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.tracktainment.gamemanager.domain.AssetOutboxStatus;
+import com.tracktainment.gamemanager.domain.GameImport;
+import com.tracktainment.gamemanager.domain.GameImportStatus;
+import com.tracktainment.gamemanager.dto.GameCreate;
+import com.tracktainment.gamemanager.exception.InternalServerErrorException;
+import com.tracktainment.gamemanager.exception.ParameterValidationFailedException;
+import com.tracktainment.gamemanager.importer.GameImportReader;
+import com.tracktainment.gamemanager.importer.GameImportRecord;
+import com.tracktainment.gamemanager.importer.GameImportValidator;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+@Service
+@RequiredArgsConstructor
+public class GameImportDataProviderSql implements GameImportDataProvider {
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_REJECTIONS = 100;
+
+    private static final String CREATE_STAGING_TABLE = """
+            CREATE TEMPORARY TABLE IF NOT EXISTS game_import_staging (
+                record       BIGINT       NOT NULL,
+                title        VARCHAR(200) NOT NULL,
+                platform     VARCHAR(50)  NOT NULL,
+                genre        VARCHAR(50),
+                developer    VARCHAR(150),
+                release_date DATE
+            ) ON COMMIT DELETE ROWS
+            """;
+
+    private static final String DROP_STAGING_TABLE = "DROP TABLE IF EXISTS pg_temp.game_import_staging";
+
+    private static final String COPY_STAGING =
+            "COPY game_import_staging (record, title, platform, genre, developer, release_date) FROM STDIN (FORMAT csv)";
+
+    /* The first record of each title wins, whether the title is repeated in the chunk or already taken. Each game
+    inserted is owned by the digital user of the import and queued for registration in Dux Manager in the same
+    statement, as the create endpoints do in the same transaction. db_id is taken from the sequence default
+     */
+    private static final String MERGE_STAGING = """
+            WITH imported AS (
+                INSERT INTO games (id, title, platform, genre, developer, release_date, created_at, updated_at)
+                SELECT DISTINCT ON (title) gen_random_uuid(), title, platform, genre, developer, release_date, ?, ?
+                FROM game_import_staging
+                ORDER BY title, record
+                ON CONFLICT (title) DO NOTHING
+                RETURNING id
+            ), owned AS (
+                INSERT INTO game_ownership (digital_user_id, game_id, created_at, updated_at)
+                SELECT ?, id, ?, ?
+                FROM imported
+            )
+            INSERT INTO asset_outbox (
+                game_id, digital_user_id, status, attempts, next_attempt_at, created_at, updated_at
+            )
+            SELECT id, ?, ?, 0, ?, ?, ?
+            FROM imported
+            """;
+
+    private final DataSource dataSource;
+
+    @Value("${game-import.chunk-size:50000}")
+    private int chunkSize;
+
+    /* Valid records are streamed through COPY into a temporary staging table, which is merged into the games table
+    every chunk of records. Each chunk is committed on its own (emptying the staging table), so neither the memory nor
+    the transaction grow with the size of the file
+     */
+    @Override
+    public GameImport importGames(GameImport gameImport, InputStream content, Consumer<GameImport> progressListener) {
+        try (
+                Connection connection = dataSource.getConnection();
+                GameImportReader reader = GameImportReader.of(gameImport.getFormat(), content)
+        ) {
+            GameImport progress;
+            try {
+                connection.setAutoCommit(false);
+                execute(connection, CREATE_STAGING_TABLE);
+                connection.commit();
+
+                progress = importChunks(connection, reader, gameImport, progressListener);
+            } catch (IOException | SQLException | RuntimeException e) {
+                // The cleanup must not replace the reason of the failure, which is what the import reports
+                try {
+                    connection.rollback();
+                } catch (SQLException | RuntimeException rollbackFailure) {
+                    e.addSuppressed(rollbackFailure);
+                }
+
+                try {
+                    dropStagingTable(connection);
+                } catch (SQLException | RuntimeException dropFailure) {
+                    e.addSuppressed(dropFailure);
+                }
+                throw e;
+            }
+
+            dropStagingTable(connection);
+            return progress.toBuilder()
+                    .status(GameImportStatus.COMPLETED)
+                    .finishedAt(LocalDateTime.now())
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new ParameterValidationFailedException("Invalid games file: " + e.getOriginalMessage());
+        } catch (IOException | SQLException e) {
+            throw new InternalServerErrorException("Could not import games. Reason: " + e.getMessage());
+        }
+    }
+
+    private GameImport importChunks(
+            Connection connection,
+            GameImportReader reader,
+            GameImport gameImport,
+            Consumer<GameImport> progressListener
+    ) throws IOException, SQLException {
+        CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+        long read = 0;
+        long imported = 0;
+        long skipped = 0;
+        long rejected = 0;
+        List<String> rejections = new ArrayList<>();
+        GameImport progress = gameImport;
+
+        GameImportRecord record = reader.next();
+        while (record != null) {
+            int staged = 0;
+            CopyIn copyIn = copyManager.copyIn(COPY_STAGING);
+            try {
+                Writer writer = new BufferedWriter(
+                        new OutputStreamWriter(new PGCopyOutputStream(copyIn, COPY_BUFFER_SIZE), StandardCharsets.UTF_8),
+                        COPY_BUFFER_SIZE
+                );
+
+                for (int i=0; record != null && i<chunkSize; i++, record = reader.next()) {
+                    read++;
+                    String rejection = record.rejection() != null
+                            ? record.rejection()
+                            : GameImportValidator.validate(record.gameCreate());
+
+                    if (rejection != null) {
+                        rejected++;
+                        if (rejections.size() < MAX_REJECTIONS) {
+                            rejections.add("Record " + record.number() + ": " + rejection);
+                        }
+                        continue;
+                    }
+
+                    writeRow(writer, record.number(), record.gameCreate());
+                    staged++;
+                }
+
+                writer.flush();
+                copyIn.endCopy();
+            } finally {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            }
+
+            int merged;
+            LocalDateTime now = LocalDateTime.now();
+            try (PreparedStatement preparedStatement = connection.prepareStatement(MERGE_STAGING)) {
+                preparedStatement.setObject(1, now);
+                preparedStatement.setObject(2, now);
+                preparedStatement.setString(3, gameImport.getDigitalUserId());
+                preparedStatement.setObject(4, now);
+                preparedStatement.setObject(5, now);
+                preparedStatement.setString(6, gameImport.getDigitalUserId());
+                preparedStatement.setString(7, AssetOutboxStatus.PENDING.name());
+                preparedStatement.setObject(8, now);
+                preparedStatement.setObject(9, now);
+                preparedStatement.setObject(10, now);
+
+                // Counts the queued registrations, one per game inserted
+                merged = preparedStatement.executeUpdate();
+            }
+            connection.commit();
+
+            imported += merged;
+            skipped += staged - merged;
+            progress = gameImport.toBuilder()
+                    .read(read)
+                    .imported(imported)
+                    .skipped(skipped)
+                    .rejected(rejected)
+                    .rejections(List.copyOf(rejections))
+                    .build();
+            progressListener.accept(progress);
+        }
+
+        return progress;
+    }
+
+    // The staging table outlives the transaction, so it is dropped before the connection goes back to the pool
+    private void dropStagingTable(Connection connection) throws SQLException {
+        connection.setAutoCommit(true);
+        execute(connection, DROP_STAGING_TABLE);
+    }
+
+    private void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    // A row in COPY csv format. Null values are written unquoted, so that they are not read as empty strings
+    private void writeRow(Writer writer, long number, GameCreate gameCreate) throws IOException {
+        writer.write(Long.toString(number));
+        writeField(writer, gameCreate.getTitle());
+        writeField(writer, gameCreate.getPlatform());
+        writeField(writer, gameCreate.getGenre());
+        writeField(writer, gameCreate.getDeveloper());
+        writer.write(',');
+        if (gameCreate.getReleaseDate() != null) {
+            writer.write(gameCreate.getReleaseDate().toString());
+        }
+        writer.write('\n');
+    }
+
+    private void writeField(Writer writer, String value) throws IOException {
+        writer.write(',');
+        if (value == null) {
+            return;
+        }
+
+        writer.write('"');
+        for (int i=0; i<value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+}
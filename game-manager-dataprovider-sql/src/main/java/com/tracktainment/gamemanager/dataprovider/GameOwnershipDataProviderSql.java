@@ -0,0 +1,102 @@
+package com.tracktainment.gamemanager.dataprovider;
+
+import com.tracktainment.gamemanager.datasource.ReplicaRoutingDataSource;
+import com.tracktainment.gamemanager.repository.AssetOutboxRepository;
+import com.tracktainment.gamemanager.repository.GameOwnershipReconciliationRepository;
+import com.tracktainment.gamemanager.repository.GameOwnershipRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+@Service
+@RequiredArgsConstructor
+public class GameOwnershipDataProviderSql implements GameOwnershipDataProvider {
+
+    // Keeps the number of bind parameters per statement well below the driver limit
+    private static final int MAX_IDS_PER_STATEMENT = 1000;
+
+    private final GameOwnershipRepository gameOwnershipRepository;
+    private final GameOwnershipReconciliationRepository gameOwnershipReconciliationRepository;
+    private final AssetOutboxRepository assetOutboxRepository;
+
+    /* A digital user never goes back to not being reconciled, so positive lookups can be remembered. Entries are
+    softly referenced and are reclaimed under memory pressure
+     */
+    private final Set<String> reconciledDigitalUserIds =
+            Collections.newSetFromMap(new ConcurrentReferenceHashMap<>());
+
+    @Override
+    public boolean isReconciled(String digitalUserId) {
+        if (reconciledDigitalUserIds.contains(digitalUserId)) {
+            return true;
+        }
+
+        // Read from the primary, a replica may not have caught up with a reconciliation that was just recorded
+        boolean reconciled = ReplicaRoutingDataSource.onPrimary(
+                () -> gameOwnershipReconciliationRepository.existsByDigitalUserId(digitalUserId)
+        );
+        if (reconciled) {
+            reconciledDigitalUserIds.add(digitalUserId);
+        }
+
+        return reconciled;
+    }
+
+    @Override
+    public List<String> findDigitalUserIdsReconciledBefore(LocalDateTime reconciledBefore, int limit) {
+        return gameOwnershipReconciliationRepository.findDigitalUserIdsByReconciledAtBefore(
+                reconciledBefore,
+                PageRequest.of(0, limit)
+        );
+    }
+
+    @Override
+    @Transactional
+    public void reconcile(String digitalUserId, Set<UUID> gameIds, LocalDateTime reconciliationStartedAt) {
+        LocalDateTime now = LocalDateTime.now();
+        Set<UUID> replicatedGameIds = new HashSet<>(gameOwnershipRepository.findGameIdsByDigitalUserId(digitalUserId));
+
+        /* Remove ownerships that are no longer reported. Rows written after the reconciliation started are kept, as
+        the listing may predate them, and so are games whose asset is still queued for registration in Dux Manager
+         */
+        Set<UUID> unregisteredGameIds = new HashSet<>(assetOutboxRepository.findGameIdsByDigitalUserId(digitalUserId));
+        List<UUID> revokedGameIds = replicatedGameIds.stream()
+                .filter(gameId -> !gameIds.contains(gameId))
+                .filter(gameId -> !unregisteredGameIds.contains(gameId))
+                .toList();
+
+        for (List<UUID> chunk : partition(revokedGameIds)) {
+            gameOwnershipRepository.deleteByDigitalUserIdAndGameIdInAndCreatedAtBefore(
+                    digitalUserId,
+                    chunk,
+                    reconciliationStartedAt
+            );
+        }
+
+        // Add ownerships missing from the replica
+        List<UUID> missingGameIds = gameIds.stream()
+                .filter(gameId -> !replicatedGameIds.contains(gameId))
+                .toList();
+
+        for (List<UUID> chunk : partition(missingGameIds)) {
+            gameOwnershipRepository.insertIfAbsent(digitalUserId, chunk, now);
+        }
+
+        gameOwnershipReconciliationRepository.upsert(digitalUserId, reconciliationStartedAt, now);
+        reconciledDigitalUserIds.add(digitalUserId);
+    }
+
+    private List<List<UUID>> partition(List<UUID> ids) {
+        List<List<UUID>> chunks = new ArrayList<>();
+        for (int i=0; i<ids.size(); i+=MAX_IDS_PER_STATEMENT) {
+            chunks.add(ids.subList(i, Math.min(i + MAX_IDS_PER_STATEMENT, ids.size())));
+        }
+
+        return chunks;
+    }
+}
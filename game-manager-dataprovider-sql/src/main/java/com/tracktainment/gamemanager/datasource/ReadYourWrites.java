@@ -0,0 +1,68 @@
+package com.tracktainment.gamemanager.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/*
+ * Keeps the reads of a digital user on the primary for a while after they wrote, so that they see their own writes
+ * even though the replicas are behind. The window should be at least the replica lag tolerated by the
+ * ReplicaLagMonitor, past which a replica no longer receives reads.
+ */
+@Component
+public class ReadYourWrites {
+
+    private final boolean enabled;
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWrites(
+            @Value("${game-datasource.read-your-writes.enabled:true}") boolean enabled,
+            @Value("${game-datasource.read-your-writes.window:10s}") Duration window,
+            @Value("${game-datasource.read-your-writes.max-size:100000}") long maxSize
+    ) {
+        this.enabled = enabled;
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    // The window starts once the write is committed, which is when the replicas start catching up with it
+    public void recordWrite(String digitalUserId) {
+        if (!enabled || digitalUserId == null) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recentWriters.put(digitalUserId, Boolean.TRUE);
+                }
+            });
+        } else {
+            recentWriters.put(digitalUserId, Boolean.TRUE);
+        }
+    }
+
+    public <T> T read(String digitalUserId, Supplier<T> read) {
+        if (digitalUserId != null && recentWriters.getIfPresent(digitalUserId) != null) {
+            return ReplicaRoutingDataSource.onPrimary(read);
+        }
+
+        return read.get();
+    }
+
+    public void read(String digitalUserId, Runnable read) {
+        read(digitalUserId, () -> {
+            read.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,69 @@
+package com.tracktainment.gamemanager.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/*
+ * Measures how far behind the primary each replica is, leaving out of the reads the replicas lagging more than the
+ * tolerated lag and the ones that cannot be reached, and bringing them back once they have caught up.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    /* A replica that has replayed all it received is not behind, however long ago the last transaction was replayed.
+    A database that is not in recovery is not a replica of anything and is not behind either
+     */
+    private static final String LAG_QUERY = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+            END
+            """;
+
+    private final ReplicaRoutingDataSource replicaRoutingDataSource;
+    private final double maxLagSeconds;
+
+    public ReplicaLagMonitor(ReplicaRoutingDataSource replicaRoutingDataSource, Duration maxLag) {
+        this.replicaRoutingDataSource = replicaRoutingDataSource;
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+    }
+
+    @Scheduled(fixedDelayString = "${game-datasource.replica-check.interval:PT1S}")
+    public void check() {
+        for (ReplicaRoutingDataSource.Replica replica : replicaRoutingDataSource.getReplicas()) {
+            try (
+                    Connection connection = replica.getDataSource().getConnection();
+                    Statement statement = connection.createStatement();
+                    ResultSet resultSet = statement.executeQuery(LAG_QUERY)
+            ) {
+                resultSet.next();
+                double lagSeconds = resultSet.getDouble(1);
+
+                if (lagSeconds <= maxLagSeconds) {
+                    if (!replica.isAvailable()) {
+                        log.info("Replica {} is back, {}s behind the primary.", replica.getName(), lagSeconds);
+                    }
+                    replica.markAvailable(lagSeconds);
+                } else {
+                    if (replica.isAvailable()) {
+                        log.warn("Replica {} is {}s behind the primary, reads are sent elsewhere.",
+                                replica.getName(), lagSeconds);
+                    }
+                    replica.markLagging(lagSeconds);
+                }
+            } catch (SQLException e) {
+                if (replica.isAvailable()) {
+                    log.warn("Replica {} is down, reads are sent elsewhere. Reason: {}",
+                            replica.getName(), e.getMessage());
+                }
+                replica.markUnavailable();
+            }
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.tracktainment.gamemanager.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/*
+ * Sends the connections of read-only transactions to the replicas, in turn, and every other connection to the primary.
+ * A replica is skipped while it lags behind or is down, and reads fall back to the primary when no replica is
+ * available. It must be wrapped in a LazyConnectionDataSourceProxy, as the transaction is only known to be read-only
+ * once it has begun, after the connection was asked for.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private final HikariDataSource primary;
+    @Getter
+    private final List<Replica> replicas;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final Counter primaryConnections;
+    private final Counter fallbackConnections;
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicas, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = replicas.stream()
+                .map(dataSource -> new Replica(dataSource, meterRegistry))
+                .toList();
+        this.primaryConnections = Counter.builder("game.datasource.connections")
+                .tag("target", "primary")
+                .register(meterRegistry);
+        this.fallbackConnections = Counter.builder("game.datasource.connections")
+                .tag("target", "primary-fallback")
+                .register(meterRegistry);
+    }
+
+    // Sends the connections asked for by the given task to the primary, even within read-only transactions
+    public static <T> T onPrimary(Supplier<T> task) {
+        Boolean previous = PRIMARY_REQUIRED.get();
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+        try {
+            return task.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_REQUIRED.remove();
+            }
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || PRIMARY_REQUIRED.get() != null) {
+            primaryConnections.increment();
+            return primary.getConnection();
+        }
+
+        int first = Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+        for (int i=0; i<replicas.size(); i++) {
+            Replica replica = replicas.get((first + i) % replicas.size());
+            if (!replica.isAvailable()) {
+                continue;
+            }
+
+            try {
+                Connection connection = replica.getDataSource().getConnection();
+                replica.connections.increment();
+                return connection;
+            } catch (SQLException e) {
+                // Left out until the lag monitor reaches it again
+                log.warn("Replica {} is down, reads are sent elsewhere. Reason: {}", replica.getName(), e.getMessage());
+                replica.markUnavailable();
+            }
+        }
+
+        fallbackConnections.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        primaryConnections.increment();
+        return primary.getConnection(username, password);
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.getDataSource().close());
+        primary.close();
+    }
+
+    @Getter
+    public static class Replica {
+
+        private final HikariDataSource dataSource;
+        private final String name;
+        private final Counter connections;
+        private volatile boolean available = true;
+        private volatile double lagSeconds;
+
+        private Replica(HikariDataSource dataSource, MeterRegistry meterRegistry) {
+            this.dataSource = dataSource;
+            this.name = dataSource.getPoolName();
+            this.connections = Counter.builder("game.datasource.connections")
+                    .tag("target", name)
+                    .register(meterRegistry);
+            Gauge.builder("game.datasource.replica.lag", this, Replica::getLagSeconds)
+                    .tag("replica", name)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+            Gauge.builder("game.datasource.replica.available", this, replica -> replica.isAvailable() ? 1 : 0)
+                    .tag("replica", name)
+                    .register(meterRegistry);
+        }
+
+        void markAvailable(double lagSeconds) {
+            this.lagSeconds = lagSeconds;
+            this.available = true;
+        }
+
+        void markLagging(double lagSeconds) {
+            this.lagSeconds = lagSeconds;
+            this.available = false;
+        }
+
+        void markUnavailable() {
+            this.available = false;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.tracktainment.gamemanager.dialect;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicTypeRegistry;
+import org.hibernate.type.StandardBasicTypes;
+
+public class PostgresFunctionContributor implements FunctionContributor {
+
+    /* Matches a value against an array bound as a single parameter. Unlike an IN list, the statement is the same
+    whatever the number of elements, so its plan can be reused
+     */
+    public static final String IN_ARRAY = "in_array";
+
+    /* pg_trgm word similarity: whether the text (?1) is similar to a part of the column (?2). Written as an operator so
+    that the trigram indexes can serve it
+     */
+    public static final String WORD_SIMILAR = "word_similar";
+
+    // Relevance of a search (?1) against two columns (?2, ?3), ignoring null columns
+    public static final String SEARCH_RANK = "search_rank";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicTypeRegistry basicTypeRegistry = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+
+        functionContributions.getFunctionRegistry().registerPattern(
+                IN_ARRAY,
+                "(?1 = any(?2))",
+                basicTypeRegistry.resolve(StandardBasicTypes.BOOLEAN)
+        );
+        functionContributions.getFunctionRegistry().registerPattern(
+                WORD_SIMILAR,
+                "(?1 <% ?2)",
+                basicTypeRegistry.resolve(StandardBasicTypes.BOOLEAN)
+        );
+        functionContributions.getFunctionRegistry().registerPattern(
+                SEARCH_RANK,
+                "greatest(word_similarity(?1, ?2), word_similarity(?1, ?3))",
+                basicTypeRegistry.resolve(StandardBasicTypes.DOUBLE)
+        );
+    }
+}
@@ -0,0 +1,47 @@
+package com.tracktainment.gamemanager.entity;
+
+import com.tracktainment.gamemanager.domain.AssetOutboxStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@SuperBuilder
+@EqualsAndHashCode(callSuper = true)
+@Entity
+@Table(
+        name = "asset_outbox",
+        indexes = {
+                @Index(name = "idx_asset_outbox_status_next_attempt_at", columnList = "status, next_attempt_at"),
+                @Index(name = "idx_asset_outbox_digital_user_id", columnList = "digital_user_id")
+        }
+)
+public class AssetOutboxEntity extends BaseEntity {
+
+    @Column(name = "game_id", nullable = false, unique = true)
+    private UUID gameId;
+
+    @Column(name = "digital_user_id", nullable = false, length = 36)
+    private String digitalUserId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private AssetOutboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+}
@@ -20,8 +20,10 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class)
 public class BaseEntity {
 
+    // Ids are allocated in blocks of the sequence increment, so that new entities need no round trip to be persisted
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "db_id_generator")
+    @SequenceGenerator(name = "db_id_generator", sequenceName = "db_id_seq", allocationSize = 50)
     private Long dbId;
 
     @CreatedDate
@@ -1,15 +1,23 @@
 package com.tracktainment.gamemanager.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.time.LocalDate;
+import java.util.UUID;
 
 @AllArgsConstructor
 @NoArgsConstructor
@@ -17,11 +25,34 @@ import java.time.LocalDate;
 @SuperBuilder
 @EqualsAndHashCode(callSuper = true)
 @Entity
-@Table(name = "games")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = GameEntity.CACHE_REGION)
+@NaturalIdCache(region = GameEntity.CACHE_REGION)
+/* Mirrors the B-tree indexes of the migrations, which own the schema. The trigram (gin_trgm_ops) and prefix
+(varchar_pattern_ops) indexes of the text filters cannot be declared through JPA and only exist in the migrations
+ */
+@Table(
+        name = "games",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_games_id", columnNames = "id"),
+                @UniqueConstraint(name = "uk_games_title", columnNames = "title")
+        },
+        indexes = {
+                @Index(name = "idx_games_title_db_id", columnList = "title, db_id"),
+                @Index(name = "idx_games_platform_db_id", columnList = "platform, db_id"),
+                @Index(name = "idx_games_genre_db_id", columnList = "genre, db_id"),
+                @Index(name = "idx_games_release_date", columnList = "release_date"),
+                @Index(name = "idx_games_created_at", columnList = "created_at, db_id")
+        }
+)
 public class GameEntity extends BaseEntity {
 
-    @Column(name = "id", nullable = false, length = 36)
-    private String id;
+    public static final String CACHE_REGION = "games";
+
+    // Games are looked up by id, which the second-level cache resolves to the dbId of the cached game
+    @NaturalId
+    @Column(name = "id", nullable = false)
+    private UUID id;
 
     @Column(name = "title", nullable = false, length = 200)
     private String title;
@@ -0,0 +1,33 @@
+package com.tracktainment.gamemanager.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.util.UUID;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@SuperBuilder
+@EqualsAndHashCode(callSuper = true)
+@Entity
+@Table(
+        name = "game_ownership",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_game_ownership_digital_user_id_game_id",
+                columnNames = {"digital_user_id", "game_id"}
+        ),
+        indexes = @Index(name = "idx_game_ownership_game_id", columnList = "game_id")
+)
+public class GameOwnershipEntity extends BaseEntity {
+
+    @Column(name = "digital_user_id", nullable = false, length = 36)
+    private String digitalUserId;
+
+    @Column(name = "game_id", nullable = false)
+    private UUID gameId;
+}
@@ -0,0 +1,48 @@
+package com.tracktainment.gamemanager.importer;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.tracktainment.gamemanager.dto.GameCreate;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/* Columns are matched by the names in the header line (title, platform, genre, developer and releaseDate), in any
+order. Empty columns are read as absent values
+ */
+public class CsvGameImportReader implements GameImportReader {
+
+    private final MappingIterator<GameCreate> mappingIterator;
+    private long number;
+
+    public CsvGameImportReader(CsvMapper csvMapper, InputStream content) throws IOException {
+        mappingIterator = csvMapper.readerFor(GameCreate.class)
+                .with(CsvSchema.emptySchema().withHeader())
+                .with(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+                .readValues(content);
+    }
+
+    @Override
+    public GameImportRecord next() throws IOException {
+        // Malformed CSV (i.e. an unterminated quote) cannot be resynchronized, so it fails the import
+        if (!mappingIterator.hasNextValue()) {
+            return null;
+        }
+
+        // A row that is not a game only rejects that row, the next ones are still read
+        number++;
+        try {
+            return new GameImportRecord(number, mappingIterator.nextValue(), null);
+        } catch (JsonMappingException e) {
+            return new GameImportRecord(number, null, "Invalid game: " + e.getOriginalMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        mappingIterator.close();
+    }
+}
@@ -0,0 +1,37 @@
+package com.tracktainment.gamemanager.importer;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.tracktainment.gamemanager.domain.GameImportFormat;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+
+// Reads the records of an import file one at a time, so that memory does not depend on the size of the file
+public interface GameImportReader extends Closeable {
+
+    // The next record, or null when there are no more records
+    GameImportRecord next() throws IOException;
+
+    static GameImportReader of(GameImportFormat format, InputStream content) throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonGameImportReader(
+                    JsonMapper.builder()
+                            .addModule(new JavaTimeModule())
+                            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                            .build(),
+                    content
+            );
+            case CSV -> new CsvGameImportReader(
+                    CsvMapper.builder()
+                            .addModule(new JavaTimeModule())
+                            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                            .build(),
+                    content
+            );
+        };
+    }
+}
@@ -0,0 +1,7 @@
+package com.tracktainment.gamemanager.importer;
+
+import com.tracktainment.gamemanager.dto.GameCreate;
+
+// A record of an import file: either the game it describes or the reason it could not be read
+public record GameImportRecord(long number, GameCreate gameCreate, String rejection) {
+}
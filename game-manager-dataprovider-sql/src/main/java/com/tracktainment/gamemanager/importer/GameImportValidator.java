@@ -0,0 +1,48 @@
+package com.tracktainment.gamemanager.importer;
+
+import com.tracktainment.gamemanager.dto.GameCreate;
+import com.tracktainment.gamemanager.util.Constants;
+
+import java.util.regex.Pattern;
+
+// Applies the validation of the games created through the API to the imported games
+public class GameImportValidator {
+
+    private static final Pattern TITLE_PATTERN = Pattern.compile(Constants.TITLE_REGEX);
+    private static final Pattern PLATFORM_PATTERN = Pattern.compile(Constants.PLATFORM_REGEX);
+    private static final Pattern GENRE_PATTERN = Pattern.compile(Constants.GENRE_REGEX);
+    private static final Pattern DEVELOPER_PATTERN = Pattern.compile(Constants.DEVELOPER_REGEX);
+
+    private GameImportValidator() {
+        throw new IllegalStateException("Cannot instantiate an util class.");
+    }
+
+    // The reason why the game is invalid, or null when it is valid
+    public static String validate(GameCreate gameCreate) {
+        if (gameCreate.getTitle() == null) {
+            return Constants.TITLE_MANDATORY_MSG;
+        }
+
+        if (!TITLE_PATTERN.matcher(gameCreate.getTitle()).matches()) {
+            return Constants.TITLE_INVALID_MSG;
+        }
+
+        if (gameCreate.getPlatform() == null) {
+            return Constants.PLATFORM_MANDATORY_MSG;
+        }
+
+        if (!PLATFORM_PATTERN.matcher(gameCreate.getPlatform()).matches()) {
+            return Constants.PLATFORM_INVALID_MSG;
+        }
+
+        if (gameCreate.getGenre() != null && !GENRE_PATTERN.matcher(gameCreate.getGenre()).matches()) {
+            return Constants.GENRE_INVALID_MSG;
+        }
+
+        if (gameCreate.getDeveloper() != null && !DEVELOPER_PATTERN.matcher(gameCreate.getDeveloper()).matches()) {
+            return Constants.DEVELOPER_INVALID_MSG;
+        }
+
+        return null;
+    }
+}
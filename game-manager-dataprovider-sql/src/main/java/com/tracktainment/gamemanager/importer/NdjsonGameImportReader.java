@@ -0,0 +1,51 @@
+package com.tracktainment.gamemanager.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.tracktainment.gamemanager.dto.GameCreate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+public class NdjsonGameImportReader implements GameImportReader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ObjectReader objectReader;
+    private final BufferedReader bufferedReader;
+    private long number;
+
+    public NdjsonGameImportReader(ObjectMapper objectMapper, InputStream content) {
+        objectReader = objectMapper.readerFor(GameCreate.class);
+        bufferedReader = new BufferedReader(new InputStreamReader(content, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    @Override
+    public GameImportRecord next() throws IOException {
+        String line = bufferedReader.readLine();
+        while (line != null && line.isBlank()) {
+            line = bufferedReader.readLine();
+        }
+
+        if (line == null) {
+            return null;
+        }
+
+        // A line that is not a game only rejects that line, the next ones are still read
+        number++;
+        try {
+            return new GameImportRecord(number, objectReader.readValue(line), null);
+        } catch (JsonProcessingException e) {
+            return new GameImportRecord(number, null, "Invalid game: " + e.getOriginalMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        bufferedReader.close();
+    }
+}
@@ -0,0 +1,13 @@
+package com.tracktainment.gamemanager.mapper;
+
+import com.tracktainment.gamemanager.domain.AssetOutboxEntry;
+import com.tracktainment.gamemanager.entity.AssetOutboxEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface AssetOutboxMapperDataProvider {
+
+    @Mapping(target = "id", source = "dbId")
+    AssetOutboxEntry toAssetOutboxEntry(AssetOutboxEntity assetOutboxEntity);
+}
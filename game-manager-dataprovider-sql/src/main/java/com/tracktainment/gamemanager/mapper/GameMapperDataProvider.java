@@ -4,6 +4,7 @@ import com.tracktainment.gamemanager.domain.Game;
 import com.tracktainment.gamemanager.dto.GameCreate;
 import com.tracktainment.gamemanager.dto.GameUpdate;
 import com.tracktainment.gamemanager.entity.GameEntity;
+import com.tracktainment.gamemanager.projection.GameRow;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
@@ -20,7 +21,9 @@ public interface GameMapperDataProvider {
 
     Game toGame(GameEntity gameEntity);
 
-    @Mapping(target = "id", expression = "java(java.util.UUID.randomUUID().toString())")
+    Game toGame(GameRow gameRow);
+
+    @Mapping(target = "id", expression = "java(UUID.randomUUID())")
     @Mapping(target = "dbId", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
@@ -0,0 +1,28 @@
+package com.tracktainment.gamemanager.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Read-only row of the games listing, selected through a constructor expression (the argument order matters)
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class GameRow {
+
+    private Long dbId;
+    private UUID id;
+    private String title;
+    private String platform;
+    private String genre;
+    private String developer;
+    private LocalDate releaseDate;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,59 @@
+package com.tracktainment.gamemanager.query;
+
+import com.tracktainment.gamemanager.dialect.PostgresFunctionContributor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// Filters of the games listing, rendered with bind parameters only so that every query of a shape has the same SQL
+@RequiredArgsConstructor
+@Getter
+public enum GameListPredicate {
+
+    // Games owned by the digital user, according to the local ownership replica
+    DIGITAL_USER_ID(
+            "EXISTS (SELECT 1 FROM GameOwnershipEntity o WHERE o.gameId = g.id AND o.digitalUserId = :digitalUserId)"
+    ),
+
+    // Games owned by the digital user, according to dux-manager. Bound as a single array parameter
+    OWNED_GAME_IDS(PostgresFunctionContributor.IN_ARRAY + "(g.id, :ownedGameIds)"),
+
+    // Free text search over title and developer, served by their trigram indexes
+    SEARCH(
+            "(" + PostgresFunctionContributor.WORD_SIMILAR + "(:search, g.title) OR " +
+                    PostgresFunctionContributor.WORD_SIMILAR + "(:search, g.developer))"
+    ),
+
+    IDS(PostgresFunctionContributor.IN_ARRAY + "(g.id, :ids)"),
+
+    // Substring filters, served by the trigram indexes
+    TITLE("g.title LIKE :title"),
+    PLATFORM("g.platform LIKE :platform"),
+    GENRE("g.genre LIKE :genre"),
+    DEVELOPER("g.developer LIKE :developer"),
+
+    // Prefix filters, bound as 'x%' and served by the pattern ops B-tree indexes
+    TITLE_PREFIX("g.title LIKE :title"),
+    PLATFORM_PREFIX("g.platform LIKE :platform"),
+    GENRE_PREFIX("g.genre LIKE :genre"),
+    DEVELOPER_PREFIX("g.developer LIKE :developer"),
+
+    // Exact filters, served by the B-tree indexes
+    TITLE_EXACT("g.title = :title"),
+    PLATFORM_EXACT("g.platform = :platform"),
+    GENRE_EXACT("g.genre = :genre"),
+    DEVELOPER_EXACT("g.developer = :developer"),
+
+    RELEASE_DATE("g.releaseDate = :releaseDate"),
+    CREATED_AT("g.createdAt BETWEEN :createdAtStart AND :createdAtEnd"),
+    FROM("g.createdAt >= :from"),
+    TO("g.createdAt <= :to"),
+
+    // Keyset predicate, built from the sort keys of the shape
+    CURSOR(null);
+
+    private final String jpql;
+
+    public int bit() {
+        return 1 << ordinal();
+    }
+}
@@ -0,0 +1,28 @@
+package com.tracktainment.gamemanager.query;
+
+import com.tracktainment.gamemanager.domain.OrderBy;
+import com.tracktainment.gamemanager.domain.OrderDirection;
+
+import java.util.List;
+
+/* Everything that changes the text of a games listing query: the filters that are present (a bitmask of
+GameListPredicate bits), the sort keys and, for a cursor, which of its sort values are null (bit i for sort key i), as
+those are compared with IS NULL instead of a parameter
+ */
+public record GameListQueryShape(int predicates, List<SortKey> sortKeys, int nullCursorValues) {
+
+    public GameListQueryShape {
+        sortKeys = List.copyOf(sortKeys);
+    }
+
+    public boolean has(GameListPredicate predicate) {
+        return (predicates & predicate.bit()) != 0;
+    }
+
+    public boolean isNullCursorValue(int sortKeyIndex) {
+        return (nullCursorValues & (1 << sortKeyIndex)) != 0;
+    }
+
+    public record SortKey(OrderBy orderBy, OrderDirection orderDirection) {
+    }
+}
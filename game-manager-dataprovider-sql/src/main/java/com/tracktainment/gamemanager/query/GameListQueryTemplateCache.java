@@ -0,0 +1,190 @@
+package com.tracktainment.gamemanager.query;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tracktainment.gamemanager.dialect.PostgresFunctionContributor;
+import com.tracktainment.gamemanager.domain.OrderBy;
+import com.tracktainment.gamemanager.domain.OrderDirection;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/*
+ * Caches the JPQL of the games listing per query shape. Values are never part of the text, so the listings of a shape
+ * share a single query string, which lets Hibernate reuse its query plan and the JDBC driver reuse the server side
+ * prepared statement instead of preparing a new statement for every combination of filter values.
+ */
+@Component
+public class GameListQueryTemplateCache {
+
+    public static final String CACHE_NAME = "game-list.query-templates";
+    public static final String CURSOR_VALUE_PARAMETER_PREFIX = "cursor";
+    public static final String CURSOR_DB_ID_PARAMETER = "cursorDbId";
+
+    private static final String SELECT = """
+            SELECT new com.tracktainment.gamemanager.projection.GameRow(
+                g.dbId, g.id, g.title, g.platform, g.genre, g.developer, g.releaseDate, g.createdAt, g.updatedAt
+            )
+            FROM GameEntity g""";
+    private static final Set<OrderBy> NULLABLE_SORT_FIELDS = EnumSet.of(OrderBy.GENRE);
+
+    private final Cache<GameListQueryShape, String> cache;
+
+    public GameListQueryTemplateCache(
+            MeterRegistry meterRegistry,
+            @Value("${game-list.query-templates.max-size:500}") long maxSize
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public String getJpql(GameListQueryShape shape) {
+        return cache.get(shape, GameListQueryTemplateCache::buildJpql);
+    }
+
+    private static String buildJpql(GameListQueryShape shape) {
+        List<String> conditions = new ArrayList<>();
+        for (GameListPredicate predicate : GameListPredicate.values()) {
+            if (shape.has(predicate) && predicate != GameListPredicate.CURSOR) {
+                conditions.add(predicate.getJpql());
+            }
+        }
+
+        if (shape.has(GameListPredicate.CURSOR)) {
+            conditions.add(buildKeysetCondition(shape));
+        }
+
+        List<String> orderList = new ArrayList<>();
+
+        // The most relevant games come first when searching
+        if (shape.has(GameListPredicate.SEARCH)) {
+            orderList.add(PostgresFunctionContributor.SEARCH_RANK + "(:search, g.title, g.developer) DESC");
+        }
+
+        for (GameListQueryShape.SortKey sortKey : shape.sortKeys()) {
+            orderList.add("g." + sortKey.orderBy().getValue() + " " + sortKey.orderDirection().name());
+        }
+
+        // dbId breaks ties, so that pages are stable and a cursor points at a single row
+        orderList.add("g.dbId ASC");
+
+        StringBuilder jpql = new StringBuilder(SELECT);
+        if (!conditions.isEmpty()) {
+            jpql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+
+        return jpql.append(" ORDER BY ").append(String.join(", ", orderList)).toString();
+    }
+
+    /* Rows that sort after the cursor. When every key sorts ascending on non null values, this is a single row value
+    comparison (k1, ..., dbId) > (v1, ..., x), which Postgres seeks to on the (key, db_id) index. Otherwise it is
+    (k1 after v1) OR (k1 = v1 AND k2 after v2) OR ... OR (all keys equal AND dbId greater than the cursor's dbId), led
+    by a range bound on the first key so that the scan still starts at the cursor instead of filtering every row before
+    it
+     */
+    private static String buildKeysetCondition(GameListQueryShape shape) {
+        if (isRowValueComparable(shape)) {
+            List<String> paths = new ArrayList<>();
+            List<String> parameters = new ArrayList<>();
+            for (int i=0; i<shape.sortKeys().size(); i++) {
+                paths.add("g." + shape.sortKeys().get(i).orderBy().getValue());
+                parameters.add(":" + CURSOR_VALUE_PARAMETER_PREFIX + i);
+            }
+
+            paths.add("g.dbId");
+            parameters.add(":" + CURSOR_DB_ID_PARAMETER);
+            return "(" + String.join(", ", paths) + ") > (" + String.join(", ", parameters) + ")";
+        }
+
+        List<String> disjunction = new ArrayList<>();
+        List<String> equalities = new ArrayList<>();
+
+        for (int i=0; i<shape.sortKeys().size(); i++) {
+            GameListQueryShape.SortKey sortKey = shape.sortKeys().get(i);
+            String path = "g." + sortKey.orderBy().getValue();
+            String parameter = ":" + CURSOR_VALUE_PARAMETER_PREFIX + i;
+            boolean nullValue = shape.isNullCursorValue(i);
+
+            String after = buildAfterCondition(path, parameter, nullValue, sortKey);
+            if (after != null) {
+                List<String> conjunction = new ArrayList<>(equalities);
+                conjunction.add(after);
+                disjunction.add(String.join(" AND ", conjunction));
+            }
+
+            equalities.add(nullValue ? path + " IS NULL" : path + " = " + parameter);
+        }
+
+        List<String> conjunction = new ArrayList<>(equalities);
+        conjunction.add("g.dbId > :" + CURSOR_DB_ID_PARAMETER);
+        disjunction.add(String.join(" AND ", conjunction));
+
+        String keysetCondition = disjunction.stream()
+                .map(condition -> "(" + condition + ")")
+                .collect(Collectors.joining(" OR ", "(", ")"));
+
+        String leadingBound = shape.sortKeys().isEmpty() ? null : buildLeadingBound(shape);
+        return leadingBound != null ? "(" + leadingBound + " AND " + keysetCondition + ")" : keysetCondition;
+    }
+
+    private static boolean isRowValueComparable(GameListQueryShape shape) {
+        if (shape.sortKeys().isEmpty() || shape.nullCursorValues() != 0) {
+            return false;
+        }
+
+        return shape.sortKeys().stream().allMatch(sortKey -> sortKey.orderDirection() == OrderDirection.ASC
+                && !NULLABLE_SORT_FIELDS.contains(sortKey.orderBy()));
+    }
+
+    /* Range of the first key holding every row after the cursor (including the rows tied with it), or null when that
+    is every row, i.e. a null value of a descending key, as nulls sort first there
+     */
+    private static String buildLeadingBound(GameListQueryShape shape) {
+        GameListQueryShape.SortKey sortKey = shape.sortKeys().get(0);
+        String path = "g." + sortKey.orderBy().getValue();
+        String parameter = ":" + CURSOR_VALUE_PARAMETER_PREFIX + 0;
+
+        if (shape.isNullCursorValue(0)) {
+            return sortKey.orderDirection() == OrderDirection.ASC ? path + " IS NULL" : null;
+        }
+
+        if (sortKey.orderDirection() == OrderDirection.DESC) {
+            return path + " <= " + parameter;
+        }
+
+        return NULLABLE_SORT_FIELDS.contains(sortKey.orderBy()) ?
+                "(" + path + " >= " + parameter + " OR " + path + " IS NULL)" :
+                path + " >= " + parameter;
+    }
+
+    // Follows Postgres' default null ordering: nulls sort last in ascending order and first in descending order
+    private static String buildAfterCondition(
+            String path,
+            String parameter,
+            boolean nullValue,
+            GameListQueryShape.SortKey sortKey
+    ) {
+        if (nullValue) {
+            return sortKey.orderDirection() == OrderDirection.ASC ? null : path + " IS NOT NULL";
+        }
+
+        if (sortKey.orderDirection() == OrderDirection.DESC) {
+            return path + " < " + parameter;
+        }
+
+        return NULLABLE_SORT_FIELDS.contains(sortKey.orderBy()) ?
+                "(" + path + " > " + parameter + " OR " + path + " IS NULL)" :
+                path + " > " + parameter;
+    }
+}
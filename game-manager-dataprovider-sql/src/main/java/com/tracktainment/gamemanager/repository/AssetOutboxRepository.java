@@ -0,0 +1,60 @@
+package com.tracktainment.gamemanager.repository;
+
+import com.tracktainment.gamemanager.domain.AssetOutboxStatus;
+import com.tracktainment.gamemanager.entity.AssetOutboxEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface AssetOutboxRepository extends JpaRepository<AssetOutboxEntity, Long> {
+
+    /* Claims due entries by pushing their next attempt past the lease, so that concurrent dispatchers (i.e. other
+    instances) skip them. Locked rows are skipped rather than waited on
+     */
+    @Query(value = """
+            UPDATE asset_outbox SET next_attempt_at = :leaseUntil, updated_at = :now
+            WHERE db_id IN (
+                SELECT db_id FROM asset_outbox
+                WHERE status = 'PENDING' AND next_attempt_at <= :now
+                  AND (CAST(:digitalUserId AS varchar) IS NULL OR digital_user_id = :digitalUserId)
+                ORDER BY next_attempt_at
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING *
+            """, nativeQuery = true)
+    List<AssetOutboxEntity> claimDue(
+            @Param("digitalUserId") String digitalUserId,
+            @Param("now") LocalDateTime now,
+            @Param("leaseUntil") LocalDateTime leaseUntil,
+            @Param("limit") int limit
+    );
+
+    @Modifying
+    @Query("""
+            UPDATE AssetOutboxEntity o
+            SET o.status = :status, o.attempts = :attempts, o.nextAttemptAt = :nextAttemptAt, o.lastError = :lastError,
+                o.updatedAt = :now
+            WHERE o.dbId = :id
+            """)
+    int updateAttempt(
+            @Param("id") Long id,
+            @Param("status") AssetOutboxStatus status,
+            @Param("attempts") int attempts,
+            @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+            @Param("lastError") String lastError,
+            @Param("now") LocalDateTime now
+    );
+
+    @Query("SELECT o.gameId FROM AssetOutboxEntity o WHERE o.digitalUserId = :digitalUserId")
+    List<UUID> findGameIdsByDigitalUserId(@Param("digitalUserId") String digitalUserId);
+
+    @Modifying
+    @Query("DELETE FROM AssetOutboxEntity o WHERE o.dbId = :id")
+    int deleteByDbId(@Param("id") Long id);
+}
@@ -0,0 +1,38 @@
+package com.tracktainment.gamemanager.repository;
+
+import com.tracktainment.gamemanager.entity.GameOwnershipReconciliationEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface GameOwnershipReconciliationRepository extends JpaRepository<GameOwnershipReconciliationEntity, Long> {
+
+    boolean existsByDigitalUserId(String digitalUserId);
+
+    @Query("""
+            SELECT r.digitalUserId FROM GameOwnershipReconciliationEntity r
+            WHERE r.reconciledAt < :reconciledBefore ORDER BY r.reconciledAt
+            """)
+    List<String> findDigitalUserIdsByReconciledAtBefore(
+            @Param("reconciledBefore") LocalDateTime reconciledBefore,
+            Pageable pageable
+    );
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO game_ownership_reconciliation (digital_user_id, reconciled_at, created_at, updated_at)
+            VALUES (:digitalUserId, :reconciledAt, :now, :now)
+            ON CONFLICT (digital_user_id) DO UPDATE
+            SET reconciled_at = EXCLUDED.reconciled_at, updated_at = EXCLUDED.updated_at
+            """, nativeQuery = true)
+    void upsert(
+            @Param("digitalUserId") String digitalUserId,
+            @Param("reconciledAt") LocalDateTime reconciledAt,
+            @Param("now") LocalDateTime now
+    );
+}
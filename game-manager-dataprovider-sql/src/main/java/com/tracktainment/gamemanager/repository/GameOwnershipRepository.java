@@ -0,0 +1,44 @@
+package com.tracktainment.gamemanager.repository;
+
+import com.tracktainment.gamemanager.entity.GameOwnershipEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface GameOwnershipRepository extends JpaRepository<GameOwnershipEntity, Long> {
+
+    @Query("SELECT o.gameId FROM GameOwnershipEntity o WHERE o.digitalUserId = :digitalUserId")
+    List<UUID> findGameIdsByDigitalUserId(@Param("digitalUserId") String digitalUserId);
+
+    boolean existsByDigitalUserIdAndGameId(String digitalUserId, UUID gameId);
+
+    // Only games that exist are added. Rows already present (i.e. added concurrently) are left untouched
+    @Modifying
+    @Query(value = """
+            INSERT INTO game_ownership (digital_user_id, game_id, created_at, updated_at)
+            SELECT :digitalUserId, g.id, :createdAt, :createdAt FROM games g WHERE g.id IN (:gameIds)
+            ON CONFLICT (digital_user_id, game_id) DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(
+            @Param("digitalUserId") String digitalUserId,
+            @Param("gameIds") Collection<UUID> gameIds,
+            @Param("createdAt") LocalDateTime createdAt
+    );
+
+    @Modifying
+    @Query("""
+            DELETE FROM GameOwnershipEntity o
+            WHERE o.digitalUserId = :digitalUserId AND o.gameId IN :gameIds AND o.createdAt < :createdBefore
+            """)
+    int deleteByDigitalUserIdAndGameIdInAndCreatedAtBefore(
+            @Param("digitalUserId") String digitalUserId,
+            @Param("gameIds") Collection<UUID> gameIds,
+            @Param("createdBefore") LocalDateTime createdBefore
+    );
+}
@@ -2,14 +2,84 @@ package com.tracktainment.gamemanager.repository;
 
 import com.tracktainment.gamemanager.entity.GameEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 public interface GameRepository extends JpaRepository<GameEntity, Long> {
 
-    Optional<GameEntity> findByTitle(String title);
+    // Relies on the unique title constraint, so that no game is returned when the title is already taken
+    @Query(value = """
+            INSERT INTO games (id, title, platform, genre, developer, release_date, created_at, updated_at)
+            VALUES (:id, :title, :platform, :genre, :developer, :releaseDate, :now, :now)
+            ON CONFLICT (title) DO NOTHING
+            RETURNING *
+            """, nativeQuery = true)
+    Optional<GameEntity> insertIfTitleAbsent(
+            @Param("id") UUID id,
+            @Param("title") String title,
+            @Param("platform") String platform,
+            @Param("genre") String genre,
+            @Param("developer") String developer,
+            @Param("releaseDate") LocalDate releaseDate,
+            @Param("now") LocalDateTime now
+    );
 
-    Optional<GameEntity> findById(String id);
+    @Query("SELECT g.title FROM GameEntity g WHERE in_array(g.title, :titles)")
+    List<String> findTitlesByTitleIn(@Param("titles") String[] titles);
 
-    void deleteById(String id);
+    /* Applies the non null attributes and returns the updated row in a single statement. The game is only updated if
+    it is owned by the digital user, unless no digital user is given
+     */
+    @Query(value = """
+            UPDATE games SET
+                title = COALESCE(CAST(:title AS varchar), title),
+                platform = COALESCE(CAST(:platform AS varchar), platform),
+                genre = COALESCE(CAST(:genre AS varchar), genre),
+                developer = COALESCE(CAST(:developer AS varchar), developer),
+                release_date = COALESCE(CAST(:releaseDate AS date), release_date),
+                updated_at = :now
+            WHERE id = :id
+              AND (CAST(:digitalUserId AS varchar) IS NULL OR EXISTS (
+                  SELECT 1 FROM game_ownership o WHERE o.game_id = games.id AND o.digital_user_id = :digitalUserId
+              ))
+            RETURNING *
+            """, nativeQuery = true)
+    Optional<GameEntity> updateReturning(
+            @Param("id") UUID id,
+            @Param("digitalUserId") String digitalUserId,
+            @Param("title") String title,
+            @Param("platform") String platform,
+            @Param("genre") String genre,
+            @Param("developer") String developer,
+            @Param("releaseDate") LocalDate releaseDate,
+            @Param("now") LocalDateTime now
+    );
+
+    /* Deletes the game together with its ownership and outbox entries and returns the dbId of the deleted game. When
+    the asset was not deleted from Dux Manager, the game is only deleted if its registration is pending for the digital
+    user
+     */
+    @Query(value = """
+            WITH deleted_outbox AS (
+                DELETE FROM asset_outbox WHERE game_id = :id AND digital_user_id = :digitalUserId
+                RETURNING game_id
+            ), deleted_game AS (
+                DELETE FROM games WHERE id = :id AND (:assetDeleted OR EXISTS (SELECT 1 FROM deleted_outbox))
+                RETURNING id, db_id
+            ), deleted_ownership AS (
+                DELETE FROM game_ownership WHERE game_id IN (SELECT id FROM deleted_game)
+            )
+            SELECT db_id FROM deleted_game
+            """, nativeQuery = true)
+    Optional<Long> deleteCascade(
+            @Param("id") UUID id,
+            @Param("digitalUserId") String digitalUserId,
+            @Param("assetDeleted") boolean assetDeleted
+    );
 }
@@ -0,0 +1,59 @@
+-- Games
+CREATE TABLE games (
+    db_id        BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    id           VARCHAR(36)  NOT NULL,
+    title        VARCHAR(200) NOT NULL,
+    platform     VARCHAR(50)  NOT NULL,
+    genre        VARCHAR(50),
+    developer    VARCHAR(150),
+    release_date DATE,
+    created_at   TIMESTAMP(6),
+    updated_at   TIMESTAMP(6),
+    CONSTRAINT uk_games_id UNIQUE (id),
+    CONSTRAINT uk_games_title UNIQUE (title)
+);
+
+-- uk_games_title already indexes the title
+CREATE INDEX idx_games_platform ON games (platform);
+CREATE INDEX idx_games_genre ON games (genre);
+CREATE INDEX idx_games_release_date ON games (release_date);
+CREATE INDEX idx_games_created_at ON games (created_at, db_id);
+
+-- Local replica of the game assets owned by each digital user in Dux Manager
+CREATE TABLE game_ownership (
+    db_id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    digital_user_id VARCHAR(36) NOT NULL,
+    game_id         VARCHAR(36) NOT NULL,
+    created_at      TIMESTAMP(6),
+    updated_at      TIMESTAMP(6),
+    CONSTRAINT uk_game_ownership_digital_user_id_game_id UNIQUE (digital_user_id, game_id)
+);
+
+CREATE INDEX idx_game_ownership_game_id ON game_ownership (game_id);
+
+CREATE TABLE game_ownership_reconciliation (
+    db_id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    digital_user_id VARCHAR(36)  NOT NULL,
+    reconciled_at   TIMESTAMP(6) NOT NULL,
+    created_at      TIMESTAMP(6),
+    updated_at      TIMESTAMP(6),
+    CONSTRAINT uk_game_ownership_reconciliation_digital_user_id UNIQUE (digital_user_id)
+);
+
+-- Pending registrations of game assets in Dux Manager (transactional outbox)
+CREATE TABLE asset_outbox (
+    db_id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    game_id         VARCHAR(36)  NOT NULL,
+    digital_user_id VARCHAR(36)  NOT NULL,
+    status          VARCHAR(20)  NOT NULL,
+    attempts        INTEGER      NOT NULL,
+    next_attempt_at TIMESTAMP(6) NOT NULL,
+    last_error      VARCHAR(500),
+    created_at      TIMESTAMP(6),
+    updated_at      TIMESTAMP(6),
+    CONSTRAINT uk_asset_outbox_game_id UNIQUE (game_id),
+    CONSTRAINT ck_asset_outbox_status CHECK (status IN ('PENDING', 'DEAD_LETTER'))
+);
+
+CREATE INDEX idx_asset_outbox_status_next_attempt_at ON asset_outbox (status, next_attempt_at);
+CREATE INDEX idx_asset_outbox_digital_user_id ON asset_outbox (digital_user_id);
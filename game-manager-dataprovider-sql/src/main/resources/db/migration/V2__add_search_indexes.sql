@@ -0,0 +1,5 @@
+-- Trigram indexes serve the free text search and the substring filters on title and developer
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_games_title_trgm ON games USING gin (title gin_trgm_ops);
+CREATE INDEX idx_games_developer_trgm ON games USING gin (developer gin_trgm_ops);
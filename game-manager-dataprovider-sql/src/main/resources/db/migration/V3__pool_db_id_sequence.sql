@@ -0,0 +1,21 @@
+-- The ids of every table are taken from one sequence, in blocks of 50 (Hibernate's pooled optimizer), so that inserts
+-- no longer need a round trip each for their generated id and can be batched over JDBC
+CREATE SEQUENCE db_id_seq INCREMENT BY 50;
+
+SELECT setval('db_id_seq', greatest(coalesce(max(db_id), 0), 1))
+FROM (
+    SELECT db_id FROM games
+    UNION ALL SELECT db_id FROM game_ownership
+    UNION ALL SELECT db_id FROM game_ownership_reconciliation
+    UNION ALL SELECT db_id FROM asset_outbox
+) ids;
+
+-- Rows inserted through native SQL keep taking their id from the column default
+ALTER TABLE games ALTER COLUMN db_id DROP IDENTITY;
+ALTER TABLE games ALTER COLUMN db_id SET DEFAULT nextval('db_id_seq');
+ALTER TABLE game_ownership ALTER COLUMN db_id DROP IDENTITY;
+ALTER TABLE game_ownership ALTER COLUMN db_id SET DEFAULT nextval('db_id_seq');
+ALTER TABLE game_ownership_reconciliation ALTER COLUMN db_id DROP IDENTITY;
+ALTER TABLE game_ownership_reconciliation ALTER COLUMN db_id SET DEFAULT nextval('db_id_seq');
+ALTER TABLE asset_outbox ALTER COLUMN db_id DROP IDENTITY;
+ALTER TABLE asset_outbox ALTER COLUMN db_id SET DEFAULT nextval('db_id_seq');
@@ -0,0 +1,5 @@
+-- Game ids are stored as native uuids (16 bytes) rather than as their 36 character text, which shrinks the rows and the
+-- indexes on them and compares ids as fixed size values. The constraints and indexes on the columns are rebuilt
+ALTER TABLE games ALTER COLUMN id TYPE UUID USING id::uuid;
+ALTER TABLE game_ownership ALTER COLUMN game_id TYPE UUID USING game_id::uuid;
+ALTER TABLE asset_outbox ALTER COLUMN game_id TYPE UUID USING game_id::uuid;
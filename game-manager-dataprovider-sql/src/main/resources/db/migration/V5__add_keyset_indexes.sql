@@ -0,0 +1,8 @@
+-- Keyset pages seek to the cursor on the sort key followed by db_id, the tie breaker of every listing. These indexes
+-- supersede the single column indexes on platform and genre, which served the same equality and range lookups
+CREATE INDEX idx_games_title_db_id ON games (title, db_id);
+CREATE INDEX idx_games_platform_db_id ON games (platform, db_id);
+CREATE INDEX idx_games_genre_db_id ON games (genre, db_id);
+
+DROP INDEX idx_games_platform;
+DROP INDEX idx_games_genre;
@@ -0,0 +1,11 @@
+-- Prefix filters (LIKE 'x%') need B-tree indexes that compare characters byte by byte, which the default collation
+-- does not. These also serve the exact developer filter; the exact title, platform and genre filters are served by
+-- uk_games_title and the keyset indexes
+CREATE INDEX idx_games_title_pattern ON games (title varchar_pattern_ops);
+CREATE INDEX idx_games_platform_pattern ON games (platform varchar_pattern_ops);
+CREATE INDEX idx_games_genre_pattern ON games (genre varchar_pattern_ops);
+CREATE INDEX idx_games_developer_pattern ON games (developer varchar_pattern_ops);
+
+-- Substring filters (LIKE '%x%') on platform and genre, like those on title and developer
+CREATE INDEX idx_games_platform_trgm ON games USING gin (platform gin_trgm_ops);
+CREATE INDEX idx_games_genre_trgm ON games USING gin (genre gin_trgm_ops);
@@ -0,0 +1,143 @@
+package benchmark;
+
+import com.tracktainment.gamemanager.dataprovider.GameDataProviderSql;
+import com.tracktainment.gamemanager.datasource.ReadYourWrites;
+import com.tracktainment.gamemanager.dto.GameCreate;
+import com.tracktainment.gamemanager.mapper.GameMapperDataProviderImpl;
+import com.tracktainment.gamemanager.query.GameListQueryTemplateCache;
+import com.tracktainment.gamemanager.util.Constants;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/* Compares the throughput of creating games one by one, as N single POSTs do (one transaction each), with creating
+them in batches. Every creation commits, so the games are deleted afterwards. Opt-in, as it needs a PostgreSQL
+database: mvn test -Dtest=GameBulkCreateBenchmarkTest -Dbenchmark.jdbc.url=jdbc:postgresql://...
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.properties.hibernate.order_inserts=true",
+        "spring.datasource.hikari.data-source-properties.reWriteBatchedInserts=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfSystemProperty(named = "benchmark.jdbc.url", matches = ".+")
+class GameBulkCreateBenchmarkTest {
+
+    private static final String TITLE_PREFIX = "Bulk Benchmark ";
+    private static final int GAMES = 5_000;
+    private static final int WARMUP_GAMES = 500;
+
+    @Autowired
+    private GameDataProviderSql gameDataProviderSql;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final String digitalUserId = UUID.randomUUID().toString();
+
+    @DynamicPropertySource
+    static void dataSourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getProperty("benchmark.jdbc.url"));
+        registry.add("spring.datasource.username", () -> System.getProperty("benchmark.jdbc.user", "postgres"));
+        registry.add("spring.datasource.password", () -> System.getProperty("benchmark.jdbc.password", ""));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM asset_outbox WHERE digital_user_id = ?", digitalUserId);
+        jdbcTemplate.update("DELETE FROM game_ownership WHERE digital_user_id = ?", digitalUserId);
+        jdbcTemplate.update("DELETE FROM games WHERE title LIKE ?", TITLE_PREFIX + "%");
+    }
+
+    @Test
+    void compareCreatePaths() {
+        createOneByOne(gameCreates("Warmup Single ", WARMUP_GAMES));
+        createInBatches(gameCreates("Warmup Batch ", WARMUP_GAMES), Constants.MAX_BATCH_SIZE);
+
+        System.out.printf("%-20s %12s %15s%n", "create", "time (ms)", "games/s");
+        report("one by one", GAMES, createOneByOne(gameCreates("Single ", GAMES)));
+        report("batches of 100", GAMES, createInBatches(gameCreates("Batch100 ", GAMES), 100));
+        report("batches of " + Constants.MAX_BATCH_SIZE, GAMES,
+                createInBatches(gameCreates("Batch" + Constants.MAX_BATCH_SIZE + " ", GAMES), Constants.MAX_BATCH_SIZE));
+
+        assertEquals(
+                2 * WARMUP_GAMES + 3 * GAMES,
+                jdbcTemplate.queryForObject("SELECT count(*) FROM asset_outbox WHERE digital_user_id = ?",
+                        Long.class, digitalUserId)
+        );
+    }
+
+    private long createOneByOne(List<GameCreate> gameCreates) {
+        long start = System.nanoTime();
+        for (GameCreate gameCreate : gameCreates) {
+            gameDataProviderSql.create(gameCreate, digitalUserId);
+        }
+
+        return System.nanoTime() - start;
+    }
+
+    private long createInBatches(List<GameCreate> gameCreates, int batchSize) {
+        long start = System.nanoTime();
+        for (int i=0; i<gameCreates.size(); i+=batchSize) {
+            gameDataProviderSql.createMany(
+                    gameCreates.subList(i, Math.min(i + batchSize, gameCreates.size())),
+                    digitalUserId
+            );
+        }
+
+        return System.nanoTime() - start;
+    }
+
+    private List<GameCreate> gameCreates(String titlePrefix, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> GameCreate.builder()
+                        .title(TITLE_PREFIX + titlePrefix + i)
+                        .platform("PC")
+                        .genre("RPG")
+                        .developer("Benchmark Studio")
+                        .build())
+                .toList();
+    }
+
+    private void report(String path, int games, long nanos) {
+        System.out.printf("%-20s %12.1f %15.0f%n", path, nanos / 1_000_000.0, games / (nanos / 1_000_000_000.0));
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EnableJpaAuditing
+    @EntityScan("com.tracktainment.gamemanager.entity")
+    @EnableJpaRepositories("com.tracktainment.gamemanager.repository")
+    @Import({
+            GameDataProviderSql.class,
+            GameMapperDataProviderImpl.class,
+            GameListQueryTemplateCache.class,
+            ReadYourWrites.class,
+            SimpleMeterRegistry.class
+    })
+    static class TestConfig {
+    }
+}
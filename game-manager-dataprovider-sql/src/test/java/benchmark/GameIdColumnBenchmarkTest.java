@@ -0,0 +1,160 @@
+package benchmark;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.sql.*;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/* Compares game ids stored as their 36 character text with game ids stored as native uuids, on the size of the tables
+and their indexes and on the latency of looking games up by id. Opt-in, as it needs a PostgreSQL database:
+mvn test -Dtest=GameIdColumnBenchmarkTest -Dbenchmark.jdbc.url=jdbc:postgresql://...
+ */
+@EnabledIfSystemProperty(named = "benchmark.jdbc.url", matches = ".+")
+class GameIdColumnBenchmarkTest {
+
+    private static final int CATALOGUE_SIZE = 500_000;
+    private static final int LOOKUPS = 10_000;
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final int MEASURED_ITERATIONS = 10;
+
+    private static Connection connection;
+    private static List<UUID> gameIds;
+
+    @BeforeAll
+    static void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("benchmark.jdbc.url"),
+                System.getProperty("benchmark.jdbc.user", "postgres"),
+                System.getProperty("benchmark.jdbc.password", "")
+        );
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    CREATE TEMPORARY TABLE bench_uuid_games (id uuid NOT NULL UNIQUE, title varchar(200) NOT NULL)
+                    """);
+            statement.execute("""
+                    INSERT INTO bench_uuid_games
+                    SELECT gen_random_uuid(), 'Game ' || n FROM generate_series(1, %d) n
+                    """.formatted(CATALOGUE_SIZE));
+            statement.execute("""
+                    CREATE TEMPORARY TABLE bench_varchar_games (id varchar(36) NOT NULL UNIQUE, title varchar(200) NOT NULL)
+                    """);
+            statement.execute("INSERT INTO bench_varchar_games SELECT id::varchar, title FROM bench_uuid_games");
+            statement.execute("ANALYZE bench_uuid_games");
+            statement.execute("ANALYZE bench_varchar_games");
+        }
+
+        gameIds = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT id FROM bench_uuid_games ORDER BY random() LIMIT ?")) {
+            statement.setInt(1, LOOKUPS);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    gameIds.add(resultSet.getObject(1, UUID.class));
+                }
+            }
+        }
+    }
+
+    @AfterAll
+    static void tearDown() throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    @Test
+    void compareIdColumns() throws SQLException {
+        System.out.printf("%-10s %15s %15s %15s%n", "id", "table (kB)", "index (kB)", "lookup (µs)");
+
+        double varcharLookup = measure(this::lookUpVarcharIds);
+        System.out.printf("%-10s %15d %15d %15.3f%n", "varchar",
+                tableSize("bench_varchar_games"), indexSize("bench_varchar_games"), varcharLookup);
+
+        double uuidLookup = measure(this::lookUpUuidIds);
+        System.out.printf("%-10s %15d %15d %15.3f%n", "uuid",
+                tableSize("bench_uuid_games"), indexSize("bench_uuid_games"), uuidLookup);
+    }
+
+    private int lookUpVarcharIds() throws SQLException {
+        int found = 0;
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT id, title FROM bench_varchar_games WHERE id = ?")) {
+            for (UUID gameId : gameIds) {
+                statement.setString(1, gameId.toString());
+                found += count(statement);
+            }
+        }
+
+        return found;
+    }
+
+    private int lookUpUuidIds() throws SQLException {
+        int found = 0;
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT id, title FROM bench_uuid_games WHERE id = ?")) {
+            for (UUID gameId : gameIds) {
+                statement.setObject(1, gameId);
+                found += count(statement);
+            }
+        }
+
+        return found;
+    }
+
+    // Median time of a single lookup, in microseconds
+    private double measure(Lookups lookups) throws SQLException {
+        for (int i=0; i<WARMUP_ITERATIONS; i++) {
+            assertEquals(LOOKUPS, lookups.run());
+        }
+
+        long[] timings = new long[MEASURED_ITERATIONS];
+        for (int i=0; i<MEASURED_ITERATIONS; i++) {
+            long start = System.nanoTime();
+            lookups.run();
+            timings[i] = System.nanoTime() - start;
+        }
+
+        Arrays.sort(timings);
+        return timings[MEASURED_ITERATIONS / 2] / 1_000.0 / LOOKUPS;
+    }
+
+    private static long tableSize(String table) throws SQLException {
+        return size("SELECT pg_relation_size(?::regclass)", table);
+    }
+
+    private static long indexSize(String table) throws SQLException {
+        return size("SELECT pg_indexes_size(?::regclass)", table);
+    }
+
+    private static long size(String sql, String table) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, table);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong(1) / 1024;
+            }
+        }
+    }
+
+    private static int count(PreparedStatement statement) throws SQLException {
+        int rows = 0;
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                rows++;
+            }
+        }
+
+        return rows;
+    }
+
+    @FunctionalInterface
+    private interface Lookups {
+        int run() throws SQLException;
+    }
+}
@@ -0,0 +1,140 @@
+package benchmark;
+
+import com.tracktainment.gamemanager.dataprovider.GameImportDataProviderSql;
+import com.tracktainment.gamemanager.domain.GameImport;
+import com.tracktainment.gamemanager.domain.GameImportFormat;
+import com.tracktainment.gamemanager.domain.GameImportStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/* Measures the throughput of importing a generated catalog, which is streamed to the importer as it is generated so
+that the memory used by the test does not depend on its size. Every chunk commits, so the games are deleted afterwards.
+Opt-in, as it needs a PostgreSQL database: mvn test -Dtest=GameImportBenchmarkTest -Dbenchmark.jdbc.url=jdbc:postgresql://...
+ */
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfSystemProperty(named = "benchmark.jdbc.url", matches = ".+")
+class GameImportBenchmarkTest {
+
+    private static final String TITLE_PREFIX = "Import Benchmark ";
+    private static final String DIGITAL_USER_ID = UUID.randomUUID().toString();
+    private static final int GAMES = 1_000_000;
+    private static final int REPEATED_GAMES = 10_000;
+    private static final int INVALID_GAMES = 1_000;
+
+    @Autowired
+    private GameImportDataProviderSql gameImportDataProviderSql;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void dataSourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getProperty("benchmark.jdbc.url"));
+        registry.add("spring.datasource.username", () -> System.getProperty("benchmark.jdbc.user", "postgres"));
+        registry.add("spring.datasource.password", () -> System.getProperty("benchmark.jdbc.password", ""));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM asset_outbox WHERE digital_user_id = ?", DIGITAL_USER_ID);
+        jdbcTemplate.update("DELETE FROM game_ownership WHERE digital_user_id = ?", DIGITAL_USER_ID);
+        jdbcTemplate.update("DELETE FROM games WHERE title LIKE ?", TITLE_PREFIX + "%");
+    }
+
+    @Test
+    void importGeneratedCatalog() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        long usedMemoryBefore = runtime.totalMemory() - runtime.freeMemory();
+        long[] maxUsedMemory = {usedMemoryBefore};
+
+        long start = System.nanoTime();
+        GameImport gameImport = gameImportDataProviderSql.importGames(
+                GameImport.builder()
+                        .id(UUID.randomUUID().toString())
+                        .digitalUserId(DIGITAL_USER_ID)
+                        .format(GameImportFormat.NDJSON)
+                        .status(GameImportStatus.RUNNING)
+                        .build(),
+                catalog(),
+                progress -> maxUsedMemory[0] = Math.max(maxUsedMemory[0], runtime.totalMemory() - runtime.freeMemory())
+        );
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        assertEquals(GAMES + REPEATED_GAMES + INVALID_GAMES, gameImport.getRead());
+        assertEquals(GAMES, gameImport.getImported());
+        assertEquals(REPEATED_GAMES, gameImport.getSkipped());
+        assertEquals(INVALID_GAMES, gameImport.getRejected());
+        assertEquals(GAMES, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM games WHERE title LIKE ?", Long.class, TITLE_PREFIX + "%"));
+        assertEquals(GAMES, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM game_ownership WHERE digital_user_id = ?", Long.class, DIGITAL_USER_ID));
+        assertEquals(GAMES, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM asset_outbox WHERE digital_user_id = ?", Long.class, DIGITAL_USER_ID));
+
+        System.out.printf("%-12s %12s %15s %18s%n", "records", "time (s)", "records/min", "max heap used (MB)");
+        System.out.printf("%-12d %12.1f %15.0f %18d%n", gameImport.getRead(), seconds, gameImport.getRead() / seconds * 60,
+                maxUsedMemory[0] / (1024 * 1024));
+    }
+
+    // Valid games, followed by games repeating some of the titles and by games without a platform
+    private InputStream catalog() {
+        return new SequenceInputStream(new Enumeration<>() {
+            private static final int LINES_PER_STREAM = 1_000;
+            private int line;
+
+            @Override
+            public boolean hasMoreElements() {
+                return line < GAMES + REPEATED_GAMES + INVALID_GAMES;
+            }
+
+            @Override
+            public InputStream nextElement() {
+                StringBuilder lines = new StringBuilder();
+                for (int i=0; i<LINES_PER_STREAM && hasMoreElements(); i++, line++) {
+                    if (line < GAMES) {
+                        lines.append("{\"title\":\"").append(TITLE_PREFIX).append(line)
+                                .append("\",\"platform\":\"PC\",\"genre\":\"RPG\",\"developer\":\"Benchmark Studio\"")
+                                .append(",\"releaseDate\":\"2020-01-01\"}\n");
+                    } else if (line < GAMES + REPEATED_GAMES) {
+                        lines.append("{\"title\":\"").append(TITLE_PREFIX).append(line - GAMES)
+                                .append("\",\"platform\":\"PC\"}\n");
+                    } else {
+                        lines.append("{\"title\":\"").append(TITLE_PREFIX).append(line).append("\"}\n");
+                    }
+                }
+
+                return new ByteArrayInputStream(lines.toString().getBytes(StandardCharsets.UTF_8));
+            }
+        });
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @Import(GameImportDataProviderSql.class)
+    static class TestConfig {
+    }
+}
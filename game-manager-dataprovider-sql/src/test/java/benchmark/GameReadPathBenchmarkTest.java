@@ -0,0 +1,190 @@
+package benchmark;
+
+import com.tracktainment.gamemanager.dataprovider.GameDataProviderSql;
+import com.tracktainment.gamemanager.datasource.ReadYourWrites;
+import com.tracktainment.gamemanager.domain.Game;
+import com.tracktainment.gamemanager.domain.OrderBy;
+import com.tracktainment.gamemanager.domain.OrderDirection;
+import com.tracktainment.gamemanager.entity.GameEntity;
+import com.tracktainment.gamemanager.mapper.GameMapperDataProvider;
+import com.tracktainment.gamemanager.mapper.GameMapperDataProviderImpl;
+import com.tracktainment.gamemanager.query.GameListQueryTemplateCache;
+import com.tracktainment.gamemanager.usecases.ListByCriteriaUseCase;
+import com.tracktainment.gamemanager.util.Constants;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/* Compares reading games as managed entities mapped to the domain model with the read-only constructor projections
+used by the data provider. The games are seeded in the test transaction, which is rolled back. Opt-in, as it needs a
+PostgreSQL database: mvn test -Dtest=GameReadPathBenchmarkTest -Dbenchmark.jdbc.url=jdbc:postgresql://...
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfSystemProperty(named = "benchmark.jdbc.url", matches = ".+")
+class GameReadPathBenchmarkTest {
+
+    private static final int CATALOGUE_SIZE = 20_000;
+    private static final int LOOKUPS = 100;
+    private static final int WARMUP_ITERATIONS = 50;
+    private static final int MEASURED_ITERATIONS = 200;
+
+    @Autowired
+    private GameDataProviderSql gameDataProviderSql;
+
+    @Autowired
+    private GameMapperDataProvider mapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private List<UUID> gameIds;
+
+    @DynamicPropertySource
+    static void dataSourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getProperty("benchmark.jdbc.url"));
+        registry.add("spring.datasource.username", () -> System.getProperty("benchmark.jdbc.user", "postgres"));
+        registry.add("spring.datasource.password", () -> System.getProperty("benchmark.jdbc.password", ""));
+    }
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        entityManager.createNativeQuery("""
+                        INSERT INTO games (id, title, platform, genre, developer, release_date, created_at, updated_at)
+                        SELECT gen_random_uuid(), 'Benchmark Game ' || n, 'PC', 'RPG', 'Benchmark Studio',
+                            DATE '2020-01-01', now(), now()
+                        FROM generate_series(1, :size) n
+                        """)
+                .setParameter("size", CATALOGUE_SIZE)
+                .executeUpdate();
+
+        gameIds = entityManager.createNativeQuery(
+                        "SELECT id FROM games WHERE title LIKE 'Benchmark Game %' ORDER BY random() LIMIT :lookups")
+                .setParameter("lookups", LOOKUPS)
+                .getResultList();
+    }
+
+    @Test
+    void compareReadPaths() {
+        System.out.printf("%-12s %15s %18s%n", "read", "entity (ms)", "projection (ms)");
+
+        double listEntities = measure(Constants.MAX_LIMIT, this::listEntities);
+        double listProjection = measure(Constants.MAX_LIMIT, this::listProjection);
+        System.out.printf("%-12s %15.3f %18.3f%n", "list", listEntities, listProjection);
+
+        double findEntities = measure(LOOKUPS, this::findEntities);
+        double findProjection = measure(LOOKUPS, this::findProjection);
+        System.out.printf("%-12s %15.3f %18.3f%n", "findById", findEntities, findProjection);
+    }
+
+    private int listEntities() {
+        return entityManager.createQuery("SELECT g FROM GameEntity g ORDER BY g.title, g.dbId", GameEntity.class)
+                .setMaxResults(Constants.MAX_LIMIT)
+                .getResultList()
+                .stream()
+                .map(mapper::toGame)
+                .toList()
+                .size();
+    }
+
+    private int listProjection() {
+        return gameDataProviderSql.listByCriteria(
+                        ListByCriteriaUseCase.Input.builder()
+                                .limit(Constants.MAX_LIMIT)
+                                .orderByList(List.of(OrderBy.TITLE))
+                                .orderDirectionList(List.of(OrderDirection.ASC))
+                                .build()
+                )
+                .getGames()
+                .size();
+    }
+
+    private int findEntities() {
+        int found = 0;
+        for (UUID gameId : gameIds) {
+            GameEntity gameEntity = entityManager.createQuery(
+                            "SELECT g FROM GameEntity g WHERE g.id = :id", GameEntity.class)
+                    .setParameter("id", gameId)
+                    .getSingleResult();
+            Game game = mapper.toGame(gameEntity);
+            found += game != null ? 1 : 0;
+        }
+
+        return found;
+    }
+
+    private int findProjection() {
+        int found = 0;
+        for (UUID gameId : gameIds) {
+            found += gameDataProviderSql.findById(gameId) != null ? 1 : 0;
+        }
+
+        return found;
+    }
+
+    /* Every read is followed by the flush done when its transaction commits (dirty checking of the managed entities)
+    and by the closing of the persistence context
+     */
+    private double measure(int expected, Read read) {
+        for (int i=0; i<WARMUP_ITERATIONS; i++) {
+            assertEquals(expected, readAndClear(read));
+        }
+
+        long[] timings = new long[MEASURED_ITERATIONS];
+        for (int i=0; i<MEASURED_ITERATIONS; i++) {
+            long start = System.nanoTime();
+            readAndClear(read);
+            timings[i] = System.nanoTime() - start;
+        }
+
+        Arrays.sort(timings);
+        return timings[MEASURED_ITERATIONS / 2] / 1_000_000.0;
+    }
+
+    private int readAndClear(Read read) {
+        int rows = read.run();
+        entityManager.flush();
+        entityManager.clear();
+        return rows;
+    }
+
+    @FunctionalInterface
+    private interface Read {
+        int run();
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EnableJpaAuditing
+    @EntityScan("com.tracktainment.gamemanager.entity")
+    @EnableJpaRepositories("com.tracktainment.gamemanager.repository")
+    @Import({
+            GameDataProviderSql.class,
+            GameMapperDataProviderImpl.class,
+            GameListQueryTemplateCache.class,
+            ReadYourWrites.class,
+            SimpleMeterRegistry.class
+    })
+    static class TestConfig {
+    }
+}
@@ -0,0 +1,166 @@
+package benchmark;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.sql.*;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/* Compares the ways of restricting a game listing to the games owned by a digital user. Opt-in, as it needs a
+PostgreSQL database: mvn test -Dtest=OwnershipFilterBenchmarkTest -Dbenchmark.jdbc.url=jdbc:postgresql://...
+ */
+@EnabledIfSystemProperty(named = "benchmark.jdbc.url", matches = ".+")
+class OwnershipFilterBenchmarkTest {
+
+    private static final int[] OWNED_GAMES = {10, 1_000, 50_000};
+    private static final int CATALOGUE_SIZE = 200_000;
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASURED_ITERATIONS = 20;
+    private static final String DIGITAL_USER_ID = UUID.randomUUID().toString();
+
+    private static Connection connection;
+    private static List<String> gameIds;
+
+    @BeforeAll
+    static void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("benchmark.jdbc.url"),
+                System.getProperty("benchmark.jdbc.user", "postgres"),
+                System.getProperty("benchmark.jdbc.password", "")
+        );
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    CREATE TEMPORARY TABLE bench_games (id varchar(36) PRIMARY KEY, title varchar(200) NOT NULL)
+                    """);
+            statement.execute("""
+                    CREATE TEMPORARY TABLE bench_ownership (
+                        digital_user_id varchar(36) NOT NULL,
+                        game_id varchar(36) NOT NULL,
+                        UNIQUE (digital_user_id, game_id)
+                    )
+                    """);
+            statement.execute("""
+                    INSERT INTO bench_games
+                    SELECT gen_random_uuid()::varchar, 'Game ' || n FROM generate_series(1, %d) n
+                    """.formatted(CATALOGUE_SIZE));
+            statement.execute("ANALYZE bench_games");
+        }
+
+        gameIds = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT id FROM bench_games ORDER BY random()")) {
+            while (resultSet.next()) {
+                gameIds.add(resultSet.getString(1));
+            }
+        }
+    }
+
+    @AfterAll
+    static void tearDown() throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    @Test
+    void compareOwnershipFilters() throws SQLException {
+        System.out.printf("%-10s %15s %15s %15s%n", "owned", "IN list (ms)", "= ANY (ms)", "EXISTS (ms)");
+
+        for (int owned : OWNED_GAMES) {
+            List<String> ownedGameIds = gameIds.subList(0, owned);
+            replaceOwnership(ownedGameIds);
+
+            double inList = measure(owned, () -> listWithInList(ownedGameIds));
+            double anyArray = measure(owned, () -> listWithArray(ownedGameIds));
+            double exists = measure(owned, this::listWithOwnershipJoin);
+
+            System.out.printf("%-10d %15.3f %15.3f %15.3f%n", owned, inList, anyArray, exists);
+        }
+    }
+
+    private int listWithInList(List<String> ownedGameIds) throws SQLException {
+        String placeholders = String.join(",", Collections.nCopies(ownedGameIds.size(), "?"));
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT id, title FROM bench_games WHERE id IN (" + placeholders + ") ORDER BY title LIMIT 100")) {
+            for (int i=0; i<ownedGameIds.size(); i++) {
+                statement.setString(i + 1, ownedGameIds.get(i));
+            }
+
+            return count(statement);
+        }
+    }
+
+    private int listWithArray(List<String> ownedGameIds) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT id, title FROM bench_games WHERE id = ANY(?) ORDER BY title LIMIT 100")) {
+            statement.setArray(1, connection.createArrayOf("varchar", ownedGameIds.toArray()));
+            return count(statement);
+        }
+    }
+
+    private int listWithOwnershipJoin() throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("""
+                SELECT g.id, g.title FROM bench_games g
+                WHERE EXISTS (SELECT 1 FROM bench_ownership o WHERE o.game_id = g.id AND o.digital_user_id = ?)
+                ORDER BY g.title LIMIT 100
+                """)) {
+            statement.setString(1, DIGITAL_USER_ID);
+            return count(statement);
+        }
+    }
+
+    private void replaceOwnership(List<String> ownedGameIds) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE bench_ownership");
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO bench_ownership SELECT ?, unnest(?)")) {
+            statement.setString(1, DIGITAL_USER_ID);
+            statement.setArray(2, connection.createArrayOf("varchar", ownedGameIds.toArray()));
+            statement.execute();
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE bench_ownership");
+        }
+    }
+
+    private double measure(int owned, Query query) throws SQLException {
+        int expected = Math.min(owned, 100);
+        for (int i=0; i<WARMUP_ITERATIONS; i++) {
+            assertEquals(expected, query.run());
+        }
+
+        long[] timings = new long[MEASURED_ITERATIONS];
+        for (int i=0; i<MEASURED_ITERATIONS; i++) {
+            long start = System.nanoTime();
+            query.run();
+            timings[i] = System.nanoTime() - start;
+        }
+
+        Arrays.sort(timings);
+        return timings[MEASURED_ITERATIONS / 2] / 1_000_000.0;
+    }
+
+    private static int count(PreparedStatement statement) throws SQLException {
+        int rows = 0;
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                rows++;
+            }
+        }
+
+        return rows;
+    }
+
+    @FunctionalInterface
+    private interface Query {
+        int run() throws SQLException;
+    }
+}
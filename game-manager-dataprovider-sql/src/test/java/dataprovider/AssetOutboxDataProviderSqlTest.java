@@ -0,0 +1,123 @@
+package dataprovider;
+
+import com.tracktainment.gamemanager.dataprovider.AssetOutboxDataProviderSql;
+import com.tracktainment.gamemanager.domain.AssetOutboxEntry;
+import com.tracktainment.gamemanager.domain.AssetOutboxStatus;
+import com.tracktainment.gamemanager.entity.AssetOutboxEntity;
+import com.tracktainment.gamemanager.mapper.AssetOutboxMapperDataProvider;
+import com.tracktainment.gamemanager.repository.AssetOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AssetOutboxDataProviderSqlTest {
+
+    @Mock
+    private AssetOutboxMapperDataProvider mapper;
+
+    @Mock
+    private AssetOutboxRepository assetOutboxRepository;
+
+    @InjectMocks
+    private AssetOutboxDataProviderSql assetOutboxDataProviderSql;
+
+    private String digitalUserId;
+    private UUID gameId;
+
+    @BeforeEach
+    void setUp() {
+        digitalUserId = UUID.randomUUID().toString();
+        gameId = UUID.randomUUID();
+    }
+
+    @Test
+    void shouldClaimDueEntriesForTheLeaseDuration() {
+        // Arrange
+        AssetOutboxEntity assetOutboxEntity = AssetOutboxEntity.builder()
+                .gameId(gameId)
+                .digitalUserId(digitalUserId)
+                .status(AssetOutboxStatus.PENDING)
+                .build();
+        AssetOutboxEntry assetOutboxEntry = AssetOutboxEntry.builder()
+                .gameId(gameId)
+                .digitalUserId(digitalUserId)
+                .status(AssetOutboxStatus.PENDING)
+                .build();
+        when(assetOutboxRepository.claimDue(eq(digitalUserId), any(), any(), eq(10)))
+                .thenReturn(List.of(assetOutboxEntity));
+        when(mapper.toAssetOutboxEntry(assetOutboxEntity)).thenReturn(assetOutboxEntry);
+
+        // Act
+        List<AssetOutboxEntry> results = assetOutboxDataProviderSql.claimDue(digitalUserId, 10, Duration.ofMinutes(1));
+
+        // Assert
+        assertEquals(List.of(assetOutboxEntry), results);
+
+        ArgumentCaptor<LocalDateTime> nowCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> leaseUntilCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(assetOutboxRepository).claimDue(
+                eq(digitalUserId), nowCaptor.capture(), leaseUntilCaptor.capture(), eq(10));
+        assertEquals(nowCaptor.getValue().plusMinutes(1), leaseUntilCaptor.getValue());
+    }
+
+    @Test
+    void shouldRemoveDispatchedEntries() {
+        // Arrange
+        when(assetOutboxRepository.deleteByDbId(1L)).thenReturn(1);
+
+        // Act
+        boolean dispatched = assetOutboxDataProviderSql.markDispatched(1L);
+
+        // Assert
+        assertTrue(dispatched);
+        verify(assetOutboxRepository).deleteByDbId(1L);
+    }
+
+    @Test
+    void shouldReportEntriesRemovedBeforeBeingMarkedDispatched() {
+        // Arrange
+        when(assetOutboxRepository.deleteByDbId(1L)).thenReturn(0);
+
+        // Act & Assert
+        assertFalse(assetOutboxDataProviderSql.markDispatched(1L));
+    }
+
+    @Test
+    void shouldKeepFailedEntriesPendingUntilNextAttempt() {
+        // Arrange
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plusSeconds(10);
+
+        // Act
+        assetOutboxDataProviderSql.markFailed(1L, 2, nextAttemptAt, "API connection error");
+
+        // Assert
+        verify(assetOutboxRepository).updateAttempt(
+                eq(1L), eq(AssetOutboxStatus.PENDING), eq(2), eq(nextAttemptAt), eq("API connection error"),
+                any(LocalDateTime.class));
+    }
+
+    @Test
+    void shouldMoveEntriesToDeadLetter() {
+        // Act
+        assetOutboxDataProviderSql.markDeadLetter(1L, 10, "API connection error");
+
+        // Assert
+        verify(assetOutboxRepository).updateAttempt(
+                eq(1L), eq(AssetOutboxStatus.DEAD_LETTER), eq(10), any(LocalDateTime.class),
+                eq("API connection error"), any(LocalDateTime.class));
+    }
+}
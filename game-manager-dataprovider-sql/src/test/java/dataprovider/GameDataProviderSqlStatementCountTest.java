@@ -0,0 +1,518 @@
+package dataprovider;
+
+import com.tracktainment.gamemanager.config.GameCacheConfig;
+import com.tracktainment.gamemanager.dataprovider.GameDataProviderSql;
+import com.tracktainment.gamemanager.datasource.ReadYourWrites;
+import com.tracktainment.gamemanager.domain.AssetOutboxStatus;
+import com.tracktainment.gamemanager.domain.Game;
+import com.tracktainment.gamemanager.domain.GamePage;
+import com.tracktainment.gamemanager.domain.OrderBy;
+import com.tracktainment.gamemanager.domain.OrderDirection;
+import com.tracktainment.gamemanager.dto.GameCreate;
+import com.tracktainment.gamemanager.dto.GameUpdate;
+import com.tracktainment.gamemanager.entity.AssetOutboxEntity;
+import com.tracktainment.gamemanager.entity.GameEntity;
+import com.tracktainment.gamemanager.entity.GameOwnershipEntity;
+import com.tracktainment.gamemanager.exception.ResourceAlreadyExistsException;
+import com.tracktainment.gamemanager.exception.ResourceNotFoundException;
+import com.tracktainment.gamemanager.mapper.GameMapperDataProviderImpl;
+import com.tracktainment.gamemanager.query.GameListQueryTemplateCache;
+import com.tracktainment.gamemanager.usecases.ListByCriteriaUseCase;
+import com.tracktainment.gamemanager.util.Constants;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/* Guards the number of statements issued by the data provider against regressions. Opt-in, as it needs a PostgreSQL
+database, which is migrated and validated against the entities: mvn test -Dtest=GameDataProviderSqlStatementCountTest
+-Dit.jdbc.url=jdbc:postgresql://...
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.properties.hibernate.order_inserts=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfSystemProperty(named = "it.jdbc.url", matches = ".+")
+class GameDataProviderSqlStatementCountTest {
+
+    @Autowired
+    private GameDataProviderSql gameDataProviderSql;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private UUID gameId;
+    private String digitalUserId;
+    private GameUpdate gameUpdate;
+
+    @DynamicPropertySource
+    static void dataSourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getProperty("it.jdbc.url"));
+        registry.add("spring.datasource.username", () -> System.getProperty("it.jdbc.user", "postgres"));
+        registry.add("spring.datasource.password", () -> System.getProperty("it.jdbc.password", ""));
+    }
+
+    @BeforeEach
+    void setUp() {
+        gameId = UUID.randomUUID();
+        digitalUserId = UUID.randomUUID().toString();
+        gameUpdate = GameUpdate.builder()
+                .title("Updated Title")
+                .releaseDate(LocalDate.of(2021, 6, 19))
+                .build();
+
+        testEntityManager.persist(
+                GameEntity.builder()
+                        .id(gameId)
+                        .title("Original Title")
+                        .platform("PC")
+                        .genre("RPG")
+                        .developer("Original Developer")
+                        .releaseDate(LocalDate.of(2020, 1, 1))
+                        .build()
+        );
+        testEntityManager.persist(
+                GameOwnershipEntity.builder()
+                        .digitalUserId(digitalUserId)
+                        .gameId(gameId)
+                        .build()
+        );
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void shouldCreateGameWithOwnershipAndPendingRegistrationInThreeStatements() {
+        // Arrange
+        GameCreate gameCreate = GameCreate.builder()
+                .title("New Title")
+                .platform("PC")
+                .build();
+
+        // Act - the pending registration is inserted when the transaction is flushed
+        Game result = gameDataProviderSql.create(gameCreate, digitalUserId);
+        testEntityManager.flush();
+
+        // Assert
+        assertEquals("New Title", result.getTitle());
+        assertNull(result.getReleaseDate());
+        assertNotNull(result.getCreatedAt());
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void shouldCreateManyGamesInOneBatchPerTable() {
+        // Arrange
+        List<GameCreate> gameCreates = List.of(
+                GameCreate.builder().title("Batch Title 1").platform("PC").build(),
+                GameCreate.builder().title("Batch Title 2").platform("PC").genre("RPG").build(),
+                GameCreate.builder().title("Batch Title 3").platform("PlayStation 5").build()
+        );
+
+        // Act
+        List<Game> result = gameDataProviderSql.createMany(gameCreates, digitalUserId);
+
+        // Assert - the title check, one batch per table and at most one block of ids taken from the sequence
+        assertEquals(List.of("Batch Title 1", "Batch Title 2", "Batch Title 3"), result.stream().map(Game::getTitle).toList());
+        assertTrue(result.stream().allMatch(game -> game.getId() != null && game.getCreatedAt() != null));
+        assertEquals(9, statistics.getEntityInsertCount());
+        assertTrue(statistics.getPrepareStatementCount() <= 5);
+
+        testEntityManager.clear();
+        List<UUID> pendingGameIds = testEntityManager.getEntityManager()
+                .createQuery("SELECT o.gameId FROM AssetOutboxEntity o WHERE o.digitalUserId = :digitalUserId", UUID.class)
+                .setParameter("digitalUserId", digitalUserId)
+                .getResultList();
+        assertEquals(3, pendingGameIds.size());
+        assertEquals(4, gameDataProviderSql.listByCriteria(
+                ListByCriteriaUseCase.Input.builder()
+                        .digitalUserId(digitalUserId)
+                        .orderByList(List.of(OrderBy.TITLE))
+                        .orderDirectionList(List.of(OrderDirection.ASC))
+                        .build()
+        ).getGames().size());
+    }
+
+    @Test
+    void shouldNotCreateAnyGameWhenATitleIsTaken() {
+        // Arrange
+        List<GameCreate> gameCreates = List.of(
+                GameCreate.builder().title("Batch Title 1").platform("PC").build(),
+                GameCreate.builder().title("Original Title").platform("PC").build()
+        );
+
+        // Act & Assert
+        assertThrows(
+                ResourceAlreadyExistsException.class,
+                () -> gameDataProviderSql.createMany(gameCreates, digitalUserId)
+        );
+        assertEquals(0, statistics.getEntityInsertCount());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void shouldRejectDuplicateTitleInOneStatement() {
+        // Arrange
+        GameCreate gameCreate = GameCreate.builder()
+                .title("Original Title")
+                .platform("PlayStation 5")
+                .build();
+
+        // Act & Assert
+        assertThrows(ResourceAlreadyExistsException.class, () -> gameDataProviderSql.create(gameCreate, digitalUserId));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void shouldServeFoundGameFromSecondLevelCache() {
+        // Arrange
+        gameDataProviderSql.findById(gameId);
+        testEntityManager.clear();
+        statistics.clear();
+
+        // Act
+        Game result = gameDataProviderSql.findById(gameId);
+        Game ownedResult = gameDataProviderSql.findByIdAndDigitalUserId(gameId, digitalUserId);
+
+        // Assert - only the ownership is checked against the database
+        assertEquals("Original Title", result.getTitle());
+        assertEquals("Original Title", ownedResult.getTitle());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getDomainDataRegionStatistics(GameEntity.CACHE_REGION).getHitCount());
+    }
+
+    @Test
+    void shouldNotFindGameNotOwnedByDigitalUser() {
+        // Act & Assert
+        assertThrows(
+                ResourceNotFoundException.class,
+                () -> gameDataProviderSql.findByIdAndDigitalUserId(gameId, UUID.randomUUID().toString())
+        );
+        assertThrows(
+                ResourceNotFoundException.class,
+                () -> gameDataProviderSql.findById(UUID.randomUUID())
+        );
+    }
+
+    @Test
+    void shouldEvictUpdatedGameFromSecondLevelCache() {
+        // Arrange
+        gameDataProviderSql.findById(gameId);
+        testEntityManager.clear();
+
+        // Act
+        gameDataProviderSql.update(gameId, gameUpdate);
+        testEntityManager.clear();
+        Game result = gameDataProviderSql.findById(gameId);
+
+        // Assert
+        assertEquals("Updated Title", result.getTitle());
+        assertEquals(LocalDate.of(2021, 6, 19), result.getReleaseDate());
+    }
+
+    @Test
+    void shouldEvictDeletedGameFromSecondLevelCache() {
+        // Arrange
+        gameDataProviderSql.findById(gameId);
+        testEntityManager.clear();
+
+        // Act
+        gameDataProviderSql.delete(gameId, digitalUserId, true);
+        testEntityManager.clear();
+
+        // Assert
+        assertThrows(ResourceNotFoundException.class, () -> gameDataProviderSql.findById(gameId));
+    }
+
+    @Test
+    void shouldUpdateGameInOneStatement() {
+        // Act
+        Game result = gameDataProviderSql.update(gameId, gameUpdate);
+
+        // Assert
+        assertEquals("Updated Title", result.getTitle());
+        assertEquals("PC", result.getPlatform());
+        assertEquals("Original Developer", result.getDeveloper());
+        assertEquals(LocalDate.of(2021, 6, 19), result.getReleaseDate());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void shouldRejectUpdateToTakenTitle() {
+        // Arrange
+        testEntityManager.persist(
+                GameEntity.builder()
+                        .id(UUID.randomUUID())
+                        .title("Updated Title")
+                        .platform("PC")
+                        .build()
+        );
+        testEntityManager.flush();
+
+        // Act & Assert
+        assertThrows(ResourceAlreadyExistsException.class, () -> gameDataProviderSql.update(gameId, gameUpdate));
+    }
+
+    @Test
+    void shouldCheckOwnershipAndUpdateGameInOneStatement() {
+        // Act
+        Game result = gameDataProviderSql.updateByIdAndDigitalUserId(gameId, digitalUserId, gameUpdate);
+
+        // Assert
+        assertEquals("Updated Title", result.getTitle());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void shouldNotUpdateGameNotOwnedByDigitalUser() {
+        // Act & Assert
+        assertThrows(
+                ResourceNotFoundException.class,
+                () -> gameDataProviderSql.updateByIdAndDigitalUserId(gameId, UUID.randomUUID().toString(), gameUpdate)
+        );
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals("Original Title", testEntityManager.find(GameEntity.class, gameEntityDbId()).getTitle());
+    }
+
+    @Test
+    void shouldDeleteGameWithOwnershipInOneStatement() {
+        // Act
+        gameDataProviderSql.delete(gameId, digitalUserId, true);
+
+        // Assert
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0L, countRows("SELECT count(*) FROM games WHERE id = :id"));
+        assertEquals(0L, countRows("SELECT count(*) FROM game_ownership WHERE game_id = :id"));
+    }
+
+    @Test
+    void shouldDeleteGameWithPendingRegistrationInOneStatement() {
+        // Arrange
+        testEntityManager.persist(
+                AssetOutboxEntity.builder()
+                        .gameId(gameId)
+                        .digitalUserId(digitalUserId)
+                        .status(AssetOutboxStatus.PENDING)
+                        .attempts(0)
+                        .nextAttemptAt(LocalDateTime.now())
+                        .build()
+        );
+        testEntityManager.flush();
+        testEntityManager.clear();
+        statistics.clear();
+
+        // Act
+        gameDataProviderSql.delete(gameId, digitalUserId, false);
+
+        // Assert
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0L, countRows("SELECT count(*) FROM games WHERE id = :id"));
+        assertEquals(0L, countRows("SELECT count(*) FROM asset_outbox WHERE game_id = :id"));
+    }
+
+    @Test
+    void shouldNotDeleteGameWithoutDeletedAssetOrPendingRegistration() {
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> gameDataProviderSql.delete(gameId, digitalUserId, false));
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(1L, countRows("SELECT count(*) FROM games WHERE id = :id"));
+    }
+
+    @Test
+    void shouldWalkPagesWithCursorInOneStatementPerPage() {
+        // Arrange - ties and nulls on the sort keys, so that the dbId tiebreaker and null ordering are exercised
+        persistOwnedGame("Game A", "PC", null);
+        persistOwnedGame("Game B", "Xbox", "RPG");
+        persistOwnedGame("Game C", "PC", "Action");
+        persistOwnedGame("Game D", "Xbox", null);
+        persistOwnedGame("Game E", "PC", "RPG");
+        persistOwnedGame("Game F", "Switch", "Action");
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        for (OrderDirection genreDirection : OrderDirection.values()) {
+            List<OrderBy> orderByList = List.of(OrderBy.GENRE, OrderBy.PLATFORM);
+            List<OrderDirection> orderDirectionList = List.of(genreDirection, OrderDirection.DESC);
+            List<String> expectedTitles = listTitles(orderByList, orderDirectionList, null, Constants.MAX_LIMIT)
+                    .getGames().stream().map(Game::getTitle).toList();
+            statistics.clear();
+
+            // Act
+            List<String> titles = new ArrayList<>();
+            int pages = 0;
+            String cursor = null;
+            do {
+                GamePage gamePage = listTitles(orderByList, orderDirectionList, cursor, 2);
+                gamePage.getGames().forEach(game -> titles.add(game.getTitle()));
+                cursor = gamePage.getNextCursor();
+                pages++;
+            } while (cursor != null);
+
+            // Assert
+            assertEquals(7, expectedTitles.size());
+            assertEquals(expectedTitles, titles);
+            assertEquals(pages, statistics.getPrepareStatementCount());
+        }
+    }
+
+    @Test
+    void shouldSearchTitleAndDeveloperRankedByRelevance() {
+        // Arrange
+        persistOwnedGame("The Last of Us Part II", "PlayStation 4", "Action", "Naughty Dog");
+        persistOwnedGame("Uncharted 4", "PlayStation 4", "Action", "Naughty Dog");
+        persistOwnedGame("The Witcher 3", "PC", "RPG", "CD Projekt Red");
+        persistOwnedGame("Halo Infinite", "Xbox", "Shooter", "343 Industries");
+        testEntityManager.flush();
+        testEntityManager.clear();
+        statistics.clear();
+
+        // Act
+        List<String> lastOfUs = searchTitles("last of us");
+        List<String> naughtyDog = searchTitles("naughty");
+        List<String> misspelled = searchTitles("witchr");
+
+        // Assert
+        assertEquals("The Last of Us Part II", lastOfUs.get(0));
+        assertEquals(List.of("The Last of Us Part II", "Uncharted 4"), naughtyDog);
+        assertEquals(List.of("The Witcher 3"), misspelled);
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void shouldExportOwnedGamesInOneStatement() {
+        // Arrange
+        persistOwnedGame("Game B", "PC", "RPG");
+        persistOwnedGame("Game A", "Xbox", null);
+        testEntityManager.flush();
+        testEntityManager.clear();
+        statistics.clear();
+
+        // Act
+        List<String> titles = new ArrayList<>();
+        gameDataProviderSql.exportByCriteria(
+                ListByCriteriaUseCase.Input.builder().digitalUserId(digitalUserId).build(),
+                game -> titles.add(game.getTitle())
+        );
+
+        // Assert - the games are exported in the order they were created
+        assertEquals(List.of("Original Title", "Game B", "Game A"), titles);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private List<String> searchTitles(String search) {
+        return gameDataProviderSql.listByCriteria(
+                        ListByCriteriaUseCase.Input.builder()
+                                .digitalUserId(digitalUserId)
+                                .search(search)
+                                .orderByList(List.of(OrderBy.TITLE))
+                                .orderDirectionList(List.of(OrderDirection.ASC))
+                                .build()
+                )
+                .getGames().stream()
+                .map(Game::getTitle)
+                .toList();
+    }
+
+    private GamePage listTitles(
+            List<OrderBy> orderByList,
+            List<OrderDirection> orderDirectionList,
+            String cursor,
+            int limit
+    ) {
+        return gameDataProviderSql.listByCriteria(
+                ListByCriteriaUseCase.Input.builder()
+                        .digitalUserId(digitalUserId)
+                        .cursor(cursor)
+                        .limit(limit)
+                        .orderByList(orderByList)
+                        .orderDirectionList(orderDirectionList)
+                        .build()
+        );
+    }
+
+    private void persistOwnedGame(String title, String platform, String genre) {
+        persistOwnedGame(title, platform, genre, null);
+    }
+
+    private void persistOwnedGame(String title, String platform, String genre, String developer) {
+        UUID id = UUID.randomUUID();
+        testEntityManager.persist(
+                GameEntity.builder()
+                        .id(id)
+                        .title(title)
+                        .platform(platform)
+                        .genre(genre)
+                        .developer(developer)
+                        .build()
+        );
+        testEntityManager.persist(
+                GameOwnershipEntity.builder()
+                        .digitalUserId(digitalUserId)
+                        .gameId(id)
+                        .build()
+        );
+    }
+
+    private long countRows(String sql) {
+        return ((Number) testEntityManager.getEntityManager()
+                .createNativeQuery(sql)
+                .setParameter("id", gameId)
+                .getSingleResult()).longValue();
+    }
+
+    private Long gameEntityDbId() {
+        return testEntityManager.getEntityManager()
+                .createQuery("SELECT g.dbId FROM GameEntity g WHERE g.id = :id", Long.class)
+                .setParameter("id", gameId)
+                .getSingleResult();
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EnableJpaAuditing
+    @EntityScan("com.tracktainment.gamemanager.entity")
+    @EnableJpaRepositories("com.tracktainment.gamemanager.repository")
+    @Import({
+            GameCacheConfig.class,
+            GameDataProviderSql.class,
+            GameMapperDataProviderImpl.class,
+            GameListQueryTemplateCache.class,
+            ReadYourWrites.class,
+            SimpleMeterRegistry.class
+    })
+    static class TestConfig {
+    }
+}
@@ -1,30 +1,55 @@
 package dataprovider;
 
 import com.tracktainment.gamemanager.dataprovider.GameDataProviderSql;
+import com.tracktainment.gamemanager.datasource.ReadYourWrites;
+import com.tracktainment.gamemanager.domain.AssetOutboxStatus;
 import com.tracktainment.gamemanager.domain.Game;
+import com.tracktainment.gamemanager.domain.GamePage;
 import com.tracktainment.gamemanager.domain.OrderBy;
 import com.tracktainment.gamemanager.domain.OrderDirection;
+import com.tracktainment.gamemanager.domain.TextMatch;
 import com.tracktainment.gamemanager.dto.GameCreate;
 import com.tracktainment.gamemanager.dto.GameUpdate;
+import com.tracktainment.gamemanager.entity.AssetOutboxEntity;
 import com.tracktainment.gamemanager.entity.GameEntity;
+import com.tracktainment.gamemanager.entity.GameOwnershipEntity;
+import com.tracktainment.gamemanager.exception.ParameterValidationFailedException;
 import com.tracktainment.gamemanager.exception.ResourceAlreadyExistsException;
 import com.tracktainment.gamemanager.exception.ResourceNotFoundException;
 import com.tracktainment.gamemanager.mapper.GameMapperDataProvider;
+import com.tracktainment.gamemanager.projection.GameRow;
+import com.tracktainment.gamemanager.query.GameListPredicate;
+import com.tracktainment.gamemanager.query.GameListQueryTemplateCache;
+import com.tracktainment.gamemanager.repository.AssetOutboxRepository;
+import com.tracktainment.gamemanager.repository.GameOwnershipRepository;
 import com.tracktainment.gamemanager.repository.GameRepository;
 import com.tracktainment.gamemanager.usecases.ListByCriteriaUseCase;
+import jakarta.persistence.Cache;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.TypedQuery;
-import jakarta.persistence.criteria.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.Session;
+import org.hibernate.SimpleNaturalIdLoadAccess;
+import org.hibernate.jpa.HibernateHints;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
 import testutil.TestGameDataUtil;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalMatchers.aryEq;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -37,20 +62,33 @@ class GameDataProviderSqlTest {
     @Mock
     private GameRepository gameRepository;
 
+    @Mock
+    private GameOwnershipRepository gameOwnershipRepository;
+
+    @Mock
+    private AssetOutboxRepository assetOutboxRepository;
+
     @Mock
     private EntityManager entityManager;
 
     @Mock
-    private CriteriaBuilder criteriaBuilder;
+    private TypedQuery<GameRow> typedQuery;
 
     @Mock
-    private CriteriaQuery<GameEntity> criteriaQuery;
+    private SimpleNaturalIdLoadAccess<GameEntity> naturalIdLoadAccess;
 
     @Mock
-    private Root<GameEntity> root;
+    private EntityManagerFactory entityManagerFactory;
 
     @Mock
-    private TypedQuery<GameEntity> typedQuery;
+    private Cache cache;
+
+    @Spy
+    private GameListQueryTemplateCache gameListQueryTemplateCache =
+            new GameListQueryTemplateCache(new SimpleMeterRegistry(), 100);
+
+    @Spy
+    private ReadYourWrites readYourWrites = new ReadYourWrites(true, Duration.ofSeconds(10), 100);
 
     @InjectMocks
     private GameDataProviderSql gameDataProviderSql;
@@ -59,16 +97,20 @@ class GameDataProviderSqlTest {
     private GameUpdate gameUpdate;
     private Game game;
     private GameEntity gameEntity;
-    private String gameId;
+    private GameRow gameRow;
+    private UUID gameId;
+    private String digitalUserId;
 
     @BeforeEach
     void setUp() {
-        gameId = UUID.randomUUID().toString();
+        gameId = UUID.randomUUID();
+        digitalUserId = UUID.randomUUID().toString();
         gameCreate = TestGameDataUtil.createTestGameCreate();
         gameUpdate = TestGameDataUtil.createTestGameUpdate();
         game = TestGameDataUtil.createTestGame();
 
         gameEntity = GameEntity.builder()
+                .dbId(5L)
                 .id(gameId)
                 .title(gameCreate.getTitle())
                 .platform(gameCreate.getPlatform())
@@ -76,46 +118,163 @@ class GameDataProviderSqlTest {
                 .developer(gameCreate.getDeveloper())
                 .releaseDate(gameCreate.getReleaseDate())
                 .build();
+
+        gameRow = GameRow.builder()
+                .dbId(5L)
+                .id(gameId)
+                .title(gameCreate.getTitle())
+                .build();
     }
 
     @Test
     void shouldCreateGameSuccessfully() {
         // Arrange
-        when(gameRepository.findByTitle(gameCreate.getTitle())).thenReturn(Optional.empty());
         when(mapper.toGameEntity(gameCreate)).thenReturn(gameEntity);
-        when(gameRepository.save(gameEntity)).thenReturn(gameEntity);
+        mockInsertIfTitleAbsent(Optional.of(gameEntity));
         when(mapper.toGame(gameEntity)).thenReturn(game);
 
         // Act
-        Game result = gameDataProviderSql.create(gameCreate);
+        Game result = gameDataProviderSql.create(gameCreate, digitalUserId);
 
         // Assert
         assertNotNull(result);
         assertEquals(game, result);
 
-        verify(gameRepository).findByTitle(gameCreate.getTitle());
         verify(mapper).toGameEntity(gameCreate);
-        verify(gameRepository).save(gameEntity);
+        verify(gameRepository).insertIfTitleAbsent(
+                eq(gameId), eq(gameCreate.getTitle()), eq(gameCreate.getPlatform()), eq(gameCreate.getGenre()),
+                eq(gameCreate.getDeveloper()), eq(gameCreate.getReleaseDate()), any(LocalDateTime.class));
+        verifyNoMoreInteractions(gameRepository);
         verify(mapper).toGame(gameEntity);
     }
 
+    @Test
+    void shouldRecordOwnershipAndQueueAssetRegistrationWhenCreatingGame() {
+        // Arrange
+        when(mapper.toGameEntity(gameCreate)).thenReturn(gameEntity);
+        mockInsertIfTitleAbsent(Optional.of(gameEntity));
+
+        // Act
+        gameDataProviderSql.create(gameCreate, digitalUserId);
+
+        // Assert
+        verify(gameOwnershipRepository).insertIfAbsent(eq(digitalUserId), eq(List.of(gameId)), any(LocalDateTime.class));
+
+        ArgumentCaptor<AssetOutboxEntity> assetOutboxEntityCaptor = ArgumentCaptor.forClass(AssetOutboxEntity.class);
+        verify(assetOutboxRepository).save(assetOutboxEntityCaptor.capture());
+        AssetOutboxEntity assetOutboxEntity = assetOutboxEntityCaptor.getValue();
+        assertEquals(gameId, assetOutboxEntity.getGameId());
+        assertEquals(digitalUserId, assetOutboxEntity.getDigitalUserId());
+        assertEquals(AssetOutboxStatus.PENDING, assetOutboxEntity.getStatus());
+        assertEquals(0, assetOutboxEntity.getAttempts());
+        assertNotNull(assetOutboxEntity.getNextAttemptAt());
+    }
+
     @Test
     void shouldThrowResourceAlreadyExistsException() {
         // Arrange
-        when(gameRepository.findByTitle(gameCreate.getTitle())).thenReturn(Optional.of(gameEntity));
+        when(mapper.toGameEntity(gameCreate)).thenReturn(gameEntity);
+        mockInsertIfTitleAbsent(Optional.empty());
+
+        // Act & Assert
+        assertThrows(ResourceAlreadyExistsException.class, () -> gameDataProviderSql.create(gameCreate, digitalUserId));
+
+        verify(mapper, never()).toGame(any(GameEntity.class));
+        verifyNoInteractions(gameOwnershipRepository, assetOutboxRepository);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldCreateManyGamesWithOwnershipAndPendingRegistrations() {
+        // Arrange
+        GameCreate otherGameCreate = GameCreate.builder()
+                .title("Other Title")
+                .platform("PC")
+                .build();
+        GameEntity otherGameEntity = GameEntity.builder()
+                .id(UUID.randomUUID())
+                .title(otherGameCreate.getTitle())
+                .platform(otherGameCreate.getPlatform())
+                .build();
+        Game otherGame = Game.builder()
+                .id(otherGameEntity.getId())
+                .title(otherGameCreate.getTitle())
+                .build();
+
+        when(gameRepository.findTitlesByTitleIn(aryEq(new String[]{gameCreate.getTitle(), otherGameCreate.getTitle()})))
+                .thenReturn(List.of());
+        when(mapper.toGameEntity(gameCreate)).thenReturn(gameEntity);
+        when(mapper.toGameEntity(otherGameCreate)).thenReturn(otherGameEntity);
+        when(mapper.toGame(gameEntity)).thenReturn(game);
+        when(mapper.toGame(otherGameEntity)).thenReturn(otherGame);
+
+        // Act
+        List<Game> result = gameDataProviderSql.createMany(List.of(gameCreate, otherGameCreate), digitalUserId);
+
+        // Assert
+        assertEquals(List.of(game, otherGame), result);
+
+        InOrder inOrder = inOrder(gameRepository, gameOwnershipRepository, assetOutboxRepository);
+        inOrder.verify(gameRepository).saveAll(List.of(gameEntity, otherGameEntity));
+
+        ArgumentCaptor<List<GameOwnershipEntity>> gameOwnershipEntitiesCaptor = ArgumentCaptor.forClass(List.class);
+        inOrder.verify(gameOwnershipRepository).saveAll(gameOwnershipEntitiesCaptor.capture());
+        assertEquals(
+                List.of(gameId, otherGameEntity.getId()),
+                gameOwnershipEntitiesCaptor.getValue().stream().map(GameOwnershipEntity::getGameId).toList()
+        );
+        assertTrue(gameOwnershipEntitiesCaptor.getValue().stream()
+                .allMatch(gameOwnershipEntity -> digitalUserId.equals(gameOwnershipEntity.getDigitalUserId())));
+
+        ArgumentCaptor<List<AssetOutboxEntity>> assetOutboxEntitiesCaptor = ArgumentCaptor.forClass(List.class);
+        inOrder.verify(assetOutboxRepository).saveAll(assetOutboxEntitiesCaptor.capture());
+        assertEquals(
+                List.of(gameId, otherGameEntity.getId()),
+                assetOutboxEntitiesCaptor.getValue().stream().map(AssetOutboxEntity::getGameId).toList()
+        );
+        assertTrue(assetOutboxEntitiesCaptor.getValue().stream()
+                .allMatch(assetOutboxEntity -> assetOutboxEntity.getStatus() == AssetOutboxStatus.PENDING));
+
+        inOrder.verify(gameRepository).flush();
+        verify(gameRepository, never()).insertIfTitleAbsent(any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldNotCreateAnyGameWhenATitleIsTaken() {
+        // Arrange
+        when(gameRepository.findTitlesByTitleIn(any())).thenReturn(List.of(gameCreate.getTitle()));
 
         // Act & Assert
-        assertThrows(ResourceAlreadyExistsException.class, () -> gameDataProviderSql.create(gameCreate));
+        ResourceAlreadyExistsException exception = assertThrows(
+                ResourceAlreadyExistsException.class,
+                () -> gameDataProviderSql.createMany(List.of(gameCreate), digitalUserId)
+        );
+
+        assertTrue(exception.getMessage().contains(gameCreate.getTitle()));
+        verify(gameRepository, never()).saveAll(any());
+        verifyNoInteractions(mapper, gameOwnershipRepository, assetOutboxRepository);
+    }
+
+    @Test
+    void shouldThrowResourceAlreadyExistsExceptionWhenATitleIsTakenConcurrently() {
+        // Arrange
+        when(gameRepository.findTitlesByTitleIn(any())).thenReturn(List.of());
+        when(mapper.toGameEntity(gameCreate)).thenReturn(gameEntity);
+        doThrow(new DataIntegrityViolationException("uk_games_title")).when(gameRepository).flush();
 
-        verify(gameRepository).findByTitle(gameCreate.getTitle());
-        verify(mapper, never()).toGameEntity(any());
-        verify(gameRepository, never()).save(any());
+        // Act & Assert
+        assertThrows(
+                ResourceAlreadyExistsException.class,
+                () -> gameDataProviderSql.createMany(List.of(gameCreate), digitalUserId)
+        );
+
+        verify(mapper, never()).toGame(any(GameEntity.class));
     }
 
     @Test
-    void shouldFindGameByIdSuccessfully() {
+    void shouldFindGameByIdThroughTheSecondLevelCache() {
         // Arrange
-        when(gameRepository.findById(gameId)).thenReturn(Optional.of(gameEntity));
+        mockNaturalIdLoad(gameEntity);
         when(mapper.toGame(gameEntity)).thenReturn(game);
 
         // Act
@@ -125,28 +284,61 @@ class GameDataProviderSqlTest {
         assertNotNull(result);
         assertEquals(game, result);
 
-        verify(gameRepository).findById(gameId);
-        verify(mapper).toGame(gameEntity);
+        verify(naturalIdLoadAccess).load(gameId);
+        verifyNoInteractions(gameRepository);
     }
 
     @Test
     void shouldThrowResourceNotFoundExceptionWhenGameNotFound() {
         // Arrange
-        when(gameRepository.findById(gameId)).thenReturn(Optional.empty());
+        mockNaturalIdLoad(null);
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> gameDataProviderSql.findById(gameId));
 
-        verify(gameRepository).findById(gameId);
-        verify(mapper, never()).toGame(any());
+        verify(naturalIdLoadAccess).load(gameId);
+        verify(mapper, never()).toGame(any(GameEntity.class));
+    }
+
+    @Test
+    void shouldFindGameByIdAndDigitalUserIdSuccessfully() {
+        // Arrange
+        when(gameOwnershipRepository.existsByDigitalUserIdAndGameId(digitalUserId, gameId)).thenReturn(true);
+        mockNaturalIdLoad(gameEntity);
+        when(mapper.toGame(gameEntity)).thenReturn(game);
+
+        // Act
+        Game result = gameDataProviderSql.findByIdAndDigitalUserId(gameId, digitalUserId);
+
+        // Assert
+        assertEquals(game, result);
+        verify(naturalIdLoadAccess).load(gameId);
+    }
+
+    @Test
+    void shouldThrowResourceNotFoundExceptionWhenGameNotOwnedByDigitalUser() {
+        // Arrange
+        mockNaturalIdLoad(gameEntity);
+        when(gameOwnershipRepository.existsByDigitalUserIdAndGameId(digitalUserId, gameId)).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(
+                ResourceNotFoundException.class,
+                () -> gameDataProviderSql.findByIdAndDigitalUserId(gameId, digitalUserId)
+        );
+
+        verify(mapper, never()).toGame(any(GameEntity.class));
     }
 
     @Test
     void shouldUpdateGameSuccessfully() {
         // Arrange
-        when(gameRepository.findById(gameId)).thenReturn(Optional.of(gameEntity));
-        when(gameRepository.save(gameEntity)).thenReturn(gameEntity);
+        when(gameRepository.updateReturning(
+                eq(gameId), isNull(), eq(gameUpdate.getTitle()), eq(gameUpdate.getPlatform()), eq(gameUpdate.getGenre()),
+                eq(gameUpdate.getDeveloper()), eq(gameUpdate.getReleaseDate()), any(LocalDateTime.class))
+        ).thenReturn(Optional.of(gameEntity));
         when(mapper.toGame(gameEntity)).thenReturn(game);
+        mockCache();
 
         // Act
         Game result = gameDataProviderSql.update(gameId, gameUpdate);
@@ -155,56 +347,93 @@ class GameDataProviderSqlTest {
         assertNotNull(result);
         assertEquals(game, result);
 
-        verify(gameRepository).findById(gameId);
-        verify(mapper).updateBookEntity(gameEntity, gameUpdate);
-        verify(gameRepository).save(gameEntity);
+        // The game is updated and returned by a single statement, and evicted from the second-level cache
+        verify(gameRepository).updateReturning(any(), any(), any(), any(), any(), any(), any(), any());
+        verifyNoMoreInteractions(gameRepository);
         verify(mapper).toGame(gameEntity);
+        verify(cache).evict(GameEntity.class, gameEntity.getDbId());
+    }
+
+    @Test
+    void shouldUpdateGameOwnedByDigitalUserSuccessfully() {
+        // Arrange
+        when(gameRepository.updateReturning(
+                eq(gameId), eq(digitalUserId), eq(gameUpdate.getTitle()), eq(gameUpdate.getPlatform()),
+                eq(gameUpdate.getGenre()), eq(gameUpdate.getDeveloper()), eq(gameUpdate.getReleaseDate()),
+                any(LocalDateTime.class))
+        ).thenReturn(Optional.of(gameEntity));
+        when(mapper.toGame(gameEntity)).thenReturn(game);
+        mockCache();
+
+        // Act
+        Game result = gameDataProviderSql.updateByIdAndDigitalUserId(gameId, digitalUserId, gameUpdate);
+
+        // Assert
+        assertEquals(game, result);
+
+        verify(gameRepository).updateReturning(any(), any(), any(), any(), any(), any(), any(), any());
+        verifyNoMoreInteractions(gameRepository);
+        verify(cache).evict(GameEntity.class, gameEntity.getDbId());
     }
 
     @Test
     void shouldThrowResourceNotFoundExceptionWhenUpdatingNonExistingGame() {
         // Arrange
-        when(gameRepository.findById(gameId)).thenReturn(Optional.empty());
+        when(gameRepository.updateReturning(any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> gameDataProviderSql.update(gameId, gameUpdate));
+        assertThrows(
+                ResourceNotFoundException.class,
+                () -> gameDataProviderSql.updateByIdAndDigitalUserId(gameId, digitalUserId, gameUpdate)
+        );
 
-        verify(gameRepository).findById(gameId);
-        verify(mapper, never()).updateBookEntity(any(), any());
-        verify(gameRepository, never()).save(any());
+        verify(mapper, never()).toGame(any(GameEntity.class));
+        verify(entityManager, never()).getEntityManagerFactory();
+    }
+
+    @Test
+    void shouldThrowResourceAlreadyExistsExceptionWhenUpdatingToTakenTitle() {
+        // Arrange
+        when(gameRepository.updateReturning(any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenThrow(new DataIntegrityViolationException("duplicate key value violates unique constraint"));
+
+        // Act & Assert
+        assertThrows(ResourceAlreadyExistsException.class, () -> gameDataProviderSql.update(gameId, gameUpdate));
     }
 
     @Test
     void shouldDeleteGameSuccessfully() {
         // Arrange
-        when(gameRepository.findById(gameId)).thenReturn(Optional.of(gameEntity));
-        doNothing().when(gameRepository).deleteById(gameId);
+        when(gameRepository.deleteCascade(gameId, digitalUserId, true)).thenReturn(Optional.of(5L));
+        mockCache();
 
         // Act
-        assertDoesNotThrow(() -> gameDataProviderSql.delete(gameId));
+        assertDoesNotThrow(() -> gameDataProviderSql.delete(gameId, digitalUserId, true));
 
         // Assert
-        verify(gameRepository).findById(gameId);
-        verify(gameRepository).deleteById(gameId);
+        verify(gameRepository).deleteCascade(gameId, digitalUserId, true);
+        verifyNoMoreInteractions(gameRepository);
+        verify(cache).evict(GameEntity.class, 5L);
     }
 
     @Test
     void shouldThrowResourceNotFoundExceptionWhenDeletingNonExistingGame() {
         // Arrange
-        when(gameRepository.findById(gameId)).thenReturn(Optional.empty());
+        when(gameRepository.deleteCascade(gameId, digitalUserId, false)).thenReturn(Optional.empty());
 
         // Act & Assert
-        assertThrows(ResourceNotFoundException.class, () -> gameDataProviderSql.delete(gameId));
+        assertThrows(ResourceNotFoundException.class, () -> gameDataProviderSql.delete(gameId, digitalUserId, false));
 
-        verify(gameRepository).findById(gameId);
-        verify(gameRepository, never()).deleteById((String) any());
+        verify(gameRepository).deleteCascade(gameId, digitalUserId, false);
+        verifyNoMoreInteractions(gameRepository);
+        verify(entityManager, never()).getEntityManagerFactory();
     }
 
     @Test
     void shouldListGamesByCriteriaSuccessfully() {
         // Arrange
-        List<GameEntity> gameEntities = Collections.singletonList(gameEntity);
-
         ListByCriteriaUseCase.Input input = ListByCriteriaUseCase.Input.builder()
                 .offset(0)
                 .limit(10)
@@ -212,80 +441,400 @@ class GameDataProviderSqlTest {
                 .orderDirectionList(Collections.singletonList(OrderDirection.ASC))
                 .build();
 
-        // Setup only the mocks that are actually used in this test
-        when(entityManager.getCriteriaBuilder()).thenReturn(criteriaBuilder);
-        when(criteriaBuilder.createQuery(GameEntity.class)).thenReturn(criteriaQuery);
-        when(criteriaQuery.from(GameEntity.class)).thenReturn(root);
-        when(criteriaQuery.where(any(Predicate[].class))).thenReturn(criteriaQuery);
-        when(entityManager.createQuery(criteriaQuery)).thenReturn(typedQuery);
-        when(typedQuery.setFirstResult(anyInt())).thenReturn(typedQuery);
-        when(typedQuery.setMaxResults(anyInt())).thenReturn(typedQuery);
-        when(typedQuery.getResultList()).thenReturn(gameEntities);
-
-        // For ordering logic
-        Path<Object> pathMock = mock(Path.class);
-        when(root.get("title")).thenReturn(pathMock);
-        when(criteriaBuilder.asc(pathMock)).thenReturn(mock(Order.class));
-        when(criteriaQuery.orderBy(anyList())).thenReturn(criteriaQuery);
-
-        when(mapper.toGame(gameEntity)).thenReturn(game);
+        mockListQuery();
+        when(typedQuery.getResultList()).thenReturn(Collections.singletonList(gameRow));
+        when(mapper.toGame(gameRow)).thenReturn(game);
 
         // Act
-        List<Game> results = gameDataProviderSql.listByCriteria(input);
+        List<Game> results = gameDataProviderSql.listByCriteria(input).getGames();
 
         // Assert
         assertNotNull(results);
         assertEquals(1, results.size());
         assertEquals(game, results.get(0));
 
-        // Verify all the mocks were used
-        verify(entityManager).getCriteriaBuilder();
-        verify(criteriaBuilder).createQuery(GameEntity.class);
-        verify(criteriaQuery).from(GameEntity.class);
-        verify(criteriaQuery).where(any(Predicate[].class));
-        verify(entityManager).createQuery(criteriaQuery);
-        verify(typedQuery).setFirstResult(anyInt());
-        verify(typedQuery).setMaxResults(anyInt());
-        verify(typedQuery).getResultList();
-        verify(mapper).toGame(gameEntity);
+        String jpql = captureJpql();
+        assertFalse(jpql.contains(" WHERE "));
+        assertTrue(jpql.endsWith(" ORDER BY g.title ASC, g.dbId ASC"));
+        verify(typedQuery).setFirstResult(0);
+        verify(typedQuery).setMaxResults(11);
+        verify(typedQuery, never()).setParameter(anyString(), any());
+        verify(mapper).toGame(gameRow);
     }
 
     @Test
     void shouldReturnEmptyListWhenNoGamesMatch() {
         // Arrange
-        List<GameEntity> gameEntities = Collections.emptyList();
-
         ListByCriteriaUseCase.Input input = ListByCriteriaUseCase.Input.builder()
                 .offset(0)
                 .limit(10)
                 .build();
 
-        // Setup only the mocks that are actually used in this test
-        when(entityManager.getCriteriaBuilder()).thenReturn(criteriaBuilder);
-        when(criteriaBuilder.createQuery(GameEntity.class)).thenReturn(criteriaQuery);
-        when(criteriaQuery.from(GameEntity.class)).thenReturn(root);
-        when(criteriaQuery.where(any(Predicate[].class))).thenReturn(criteriaQuery);
-        when(entityManager.createQuery(criteriaQuery)).thenReturn(typedQuery);
-        when(typedQuery.setFirstResult(anyInt())).thenReturn(typedQuery);
-        when(typedQuery.setMaxResults(anyInt())).thenReturn(typedQuery);
-        when(typedQuery.getResultList()).thenReturn(gameEntities);
+        mockListQuery();
+        when(typedQuery.getResultList()).thenReturn(Collections.emptyList());
 
         // Act
-        List<Game> results = gameDataProviderSql.listByCriteria(input);
+        GamePage result = gameDataProviderSql.listByCriteria(input);
 
         // Assert
-        assertNotNull(results);
-        assertTrue(results.isEmpty());
-
-        // Verify all the mocks were used
-        verify(entityManager).getCriteriaBuilder();
-        verify(criteriaBuilder).createQuery(GameEntity.class);
-        verify(criteriaQuery).from(GameEntity.class);
-        verify(criteriaQuery).where(any(Predicate[].class));
-        verify(entityManager).createQuery(criteriaQuery);
-        verify(typedQuery).setFirstResult(anyInt());
-        verify(typedQuery).setMaxResults(anyInt());
-        verify(typedQuery).getResultList();
-        verify(mapper, never()).toGame(any());
+        assertTrue(result.getGames().isEmpty());
+        assertNull(result.getNextCursor());
+        verify(mapper, never()).toGame(any(GameRow.class));
+    }
+
+    @Test
+    void shouldRestrictListToGamesOwnedByDigitalUser() {
+        // Arrange
+        String digitalUserId = UUID.randomUUID().toString();
+        ListByCriteriaUseCase.Input input = ListByCriteriaUseCase.Input.builder()
+                .digitalUserId(digitalUserId)
+                .build();
+
+        mockListQuery();
+        when(typedQuery.getResultList()).thenReturn(Collections.singletonList(gameRow));
+        when(mapper.toGame(gameRow)).thenReturn(game);
+
+        // Act
+        List<Game> results = gameDataProviderSql.listByCriteria(input).getGames();
+
+        // Assert
+        assertEquals(List.of(game), results);
+        assertTrue(captureJpql().contains(" WHERE " + GameListPredicate.DIGITAL_USER_ID.getJpql() + " ORDER BY "));
+        verify(typedQuery).setParameter("digitalUserId", digitalUserId);
+    }
+
+    @Test
+    void shouldBindOwnedGameIdsAsSingleArrayParameter() {
+        // Arrange
+        Set<UUID> ownedGameIds = Set.of(gameId, UUID.randomUUID());
+        ListByCriteriaUseCase.Input input = ListByCriteriaUseCase.Input.builder()
+                .ownedGameIds(ownedGameIds)
+                .build();
+
+        mockListQuery();
+        when(typedQuery.getResultList()).thenReturn(Collections.singletonList(gameRow));
+        when(mapper.toGame(gameRow)).thenReturn(game);
+
+        // Act
+        List<Game> results = gameDataProviderSql.listByCriteria(input).getGames();
+
+        // Assert
+        assertEquals(List.of(game), results);
+        assertTrue(captureJpql().contains(" WHERE in_array(g.id, :ownedGameIds) ORDER BY "));
+
+        ArgumentCaptor<UUID[]> arrayCaptor = ArgumentCaptor.forClass(UUID[].class);
+        verify(typedQuery).setParameter(eq("ownedGameIds"), arrayCaptor.capture());
+        assertEquals(ownedGameIds, Set.of(arrayCaptor.getValue()));
+    }
+
+    @Test
+    void shouldBindFilterValuesInsteadOfRenderingThem() {
+        // Arrange
+        LocalDate releaseDate = LocalDate.of(2015, 5, 19);
+        LocalDate createdAt = LocalDate.of(2024, 1, 10);
+        UUID otherGameId = UUID.randomUUID();
+        ListByCriteriaUseCase.Input input = ListByCriteriaUseCase.Input.builder()
+                .ids(gameId + "," + otherGameId)
+                .title("Witcher")
+                .developer("CD Projekt")
+                .releaseDate(releaseDate)
+                .createdAt(createdAt)
+                .build();
+
+        mockListQuery();
+        when(typedQuery.getResultList()).thenReturn(Collections.emptyList());
+
+        // Act
+        gameDataProviderSql.listByCriteria(input);
+
+        // Assert
+        String jpql = captureJpql();
+        assertTrue(jpql.contains(
+                " WHERE in_array(g.id, :ids) AND g.title LIKE :title AND g.developer LIKE :developer AND " +
+                        "g.releaseDate = :releaseDate AND g.createdAt BETWEEN :createdAtStart AND :createdAtEnd ORDER BY "
+        ));
+        assertFalse(jpql.contains("Witcher"));
+
+        verify(typedQuery).setParameter(eq("ids"), aryEq(new UUID[]{gameId, otherGameId}));
+        verify(typedQuery).setParameter("title", "%Witcher%");
+        verify(typedQuery).setParameter("developer", "%CD Projekt%");
+        verify(typedQuery).setParameter("releaseDate", releaseDate);
+        verify(typedQuery).setParameter("createdAtStart", createdAt.atStartOfDay());
+        verify(typedQuery).setParameter("createdAtEnd", createdAt.atTime(23, 59, 59, 999999999));
+    }
+
+    @Test
+    void shouldMatchTextFiltersByPrefix() {
+        // Arrange
+        ListByCriteriaUseCase.Input input = ListByCriteriaUseCase.Input.builder()
+                .title("Witcher")
+                .platform("PC")
+                .match(TextMatch.PREFIX)
+                .build();
+
+        mockListQuery();
+        when(typedQuery.getResultList()).thenReturn(Collections.emptyList());
+
+        // Act
+        gameDataProviderSql.listByCriteria(input);
+
+        // Assert
+        assertTrue(captureJpql().contains(" WHERE g.title LIKE :title AND g.platform LIKE :platform ORDER BY "));
+        verify(typedQuery).setParameter("title", "Witcher%");
+        verify(typedQuery).setParameter("platform", "PC%");
+    }
+
+    @Test
+    void shouldMatchTextFiltersExactly() {
+        // Arrange
+        ListByCriteriaUseCase.Input input = ListByCriteriaUseCase.Input.builder()
+                .genre("RPG")
+                .developer("CD Projekt")
+                .match(TextMatch.EXACT)
+                .build();
+
+        mockListQuery();
+        when(typedQuery.getResultList()).thenReturn(Collections.emptyList());
+
+        // Act
+        gameDataProviderSql.listByCriteria(input);
+
+        // Assert
+        assertTrue(captureJpql().contains(" WHERE g.genre = :genre AND g.developer = :developer ORDER BY "));
+        verify(typedQuery).setParameter("genre", "RPG");
+        verify(typedQuery).setParameter("developer", "CD Projekt");
+    }
+
+    @Test
+    void shouldReuseQueryTextForListingsOfTheSameShape() {
+        // Arrange
+        mockListQuery();
+        when(typedQuery.getResultList()).thenReturn(Collections.emptyList());
+
+        // Act
+        gameDataProviderSql.listByCriteria(ListByCriteriaUseCase.Input.builder().title("Witcher").build());
+        gameDataProviderSql.listByCriteria(ListByCriteriaUseCase.Input.builder().title("Halo").build());
+        gameDataProviderSql.listByCriteria(ListByCriteriaUseCase.Input.builder().platform("PC").build());
+
+        // Assert
+        ArgumentCaptor<String> jpqlCaptor = ArgumentCaptor.forClass(String.class);
+        verify(entityManager, times(3)).createQuery(jpqlCaptor.capture(), eq(GameRow.class));
+        assertSame(jpqlCaptor.getAllValues().get(0), jpqlCaptor.getAllValues().get(1));
+        assertNotEquals(jpqlCaptor.getAllValues().get(0), jpqlCaptor.getAllValues().get(2));
+    }
+
+    @Test
+    void shouldReturnNextCursorAndSeekAfterItOnTheNextPage() {
+        // Arrange
+        GameRow lastGameRow = GameRow.builder()
+                .dbId(7L)
+                .id(UUID.randomUUID())
+                .title("The Witcher 3")
+                .build();
+
+        ListByCriteriaUseCase.Input input = ListByCriteriaUseCase.Input.builder()
+                .offset(0)
+                .limit(2)
+                .orderByList(List.of(OrderBy.TITLE))
+                .orderDirectionList(List.of(OrderDirection.ASC))
+                .build();
+
+        mockListQuery();
+        when(typedQuery.getResultList())
+                .thenReturn(List.of(gameRow, lastGameRow, GameRow.builder().dbId(9L).build()))
+                .thenReturn(Collections.emptyList());
+        when(mapper.toGame(any(GameRow.class))).thenReturn(game);
+
+        // Act
+        GamePage firstPage = gameDataProviderSql.listByCriteria(input);
+        input.setCursor(firstPage.getNextCursor());
+        GamePage secondPage = gameDataProviderSql.listByCriteria(input);
+
+        // Assert
+        assertEquals(2, firstPage.getGames().size());
+        assertNotNull(firstPage.getNextCursor());
+        assertTrue(secondPage.getGames().isEmpty());
+        assertNull(secondPage.getNextCursor());
+
+        ArgumentCaptor<String> jpqlCaptor = ArgumentCaptor.forClass(String.class);
+        verify(entityManager, times(2)).createQuery(jpqlCaptor.capture(), eq(GameRow.class));
+        assertTrue(jpqlCaptor.getAllValues().get(1).contains(
+                " WHERE (g.title, g.dbId) > (:cursor0, :cursorDbId) ORDER BY "
+        ));
+
+        verify(typedQuery, times(2)).setMaxResults(3);
+        verify(typedQuery, times(2)).setFirstResult(0);
+        verify(typedQuery).setParameter("cursor0", lastGameRow.getTitle());
+        verify(typedQuery).setParameter("cursorDbId", lastGameRow.getDbId());
+    }
+
+    @Test
+    void shouldCompareNullCursorValuesWithIsNull() {
+        // Arrange
+        GameRow lastGameRow = GameRow.builder()
+                .dbId(7L)
+                .title("The Witcher 3")
+                .build();
+
+        ListByCriteriaUseCase.Input input = ListByCriteriaUseCase.Input.builder()
+                .limit(1)
+                .orderByList(List.of(OrderBy.GENRE))
+                .orderDirectionList(List.of(OrderDirection.DESC))
+                .build();
+
+        mockListQuery();
+        when(typedQuery.getResultList())
+                .thenReturn(List.of(lastGameRow, gameRow))
+                .thenReturn(Collections.emptyList());
+        when(mapper.toGame(any(GameRow.class))).thenReturn(game);
+
+        // Act
+        input.setCursor(gameDataProviderSql.listByCriteria(input).getNextCursor());
+        gameDataProviderSql.listByCriteria(input);
+
+        // Assert
+        ArgumentCaptor<String> jpqlCaptor = ArgumentCaptor.forClass(String.class);
+        verify(entityManager, times(2)).createQuery(jpqlCaptor.capture(), eq(GameRow.class));
+        assertTrue(jpqlCaptor.getAllValues().get(1).contains(
+                " WHERE ((g.genre IS NOT NULL) OR (g.genre IS NULL AND g.dbId > :cursorDbId)) ORDER BY "
+        ));
+        verify(typedQuery, never()).setParameter(eq("cursor0"), any());
+    }
+
+    @Test
+    void shouldSearchTitleAndDeveloperAndRankByRelevance() {
+        // Arrange
+        ListByCriteriaUseCase.Input input = ListByCriteriaUseCase.Input.builder()
+                .search("last of us")
+                .limit(1)
+                .build();
+
+        mockListQuery();
+        when(typedQuery.getResultList()).thenReturn(List.of(gameRow, GameRow.builder().dbId(6L).build()));
+        when(mapper.toGame(gameRow)).thenReturn(game);
+
+        // Act
+        GamePage result = gameDataProviderSql.listByCriteria(input);
+
+        // Assert
+        assertEquals(List.of(game), result.getGames());
+        assertNull(result.getNextCursor());
+
+        String jpql = captureJpql();
+        assertTrue(jpql.contains(" WHERE (word_similar(:search, g.title) OR word_similar(:search, g.developer)) "));
+        assertTrue(jpql.endsWith(" ORDER BY search_rank(:search, g.title, g.developer) DESC, g.dbId ASC"));
+        verify(typedQuery).setParameter("search", "last of us");
+    }
+
+    @Test
+    void shouldRejectCursorIssuedForDifferentOrdering() {
+        // Arrange
+        ListByCriteriaUseCase.Input input = ListByCriteriaUseCase.Input.builder()
+                .limit(1)
+                .orderByList(List.of(OrderBy.TITLE))
+                .orderDirectionList(List.of(OrderDirection.ASC))
+                .build();
+
+        mockListQuery();
+        when(typedQuery.getResultList()).thenReturn(List.of(gameRow, GameRow.builder().dbId(6L).build()));
+        when(mapper.toGame(gameRow)).thenReturn(game);
+        String cursor = gameDataProviderSql.listByCriteria(input).getNextCursor();
+
+        input.setOrderDirectionList(List.of(OrderDirection.DESC));
+        input.setCursor(cursor);
+
+        // Act & Assert
+        assertThrows(ParameterValidationFailedException.class, () -> gameDataProviderSql.listByCriteria(input));
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() {
+        // Arrange
+        ListByCriteriaUseCase.Input input = ListByCriteriaUseCase.Input.builder()
+                .cursor("bm90LWEtY3Vyc29y")
+                .build();
+
+        // Act & Assert
+        assertThrows(ParameterValidationFailedException.class, () -> gameDataProviderSql.listByCriteria(input));
+        verify(entityManager, never()).createQuery(anyString(), eq(GameRow.class));
+    }
+
+    @Test
+    void shouldRejectIdsThatAreNotUuids() {
+        // Arrange
+        ListByCriteriaUseCase.Input input = ListByCriteriaUseCase.Input.builder()
+                .ids(gameId + ",other-id")
+                .build();
+        when(entityManager.createQuery(anyString(), eq(GameRow.class))).thenReturn(typedQuery);
+
+        // Act & Assert
+        assertThrows(ParameterValidationFailedException.class, () -> gameDataProviderSql.listByCriteria(input));
+        verify(typedQuery, never()).getResultList();
+    }
+
+    @Test
+    void shouldExportOwnedGamesThroughAStreamWithFetchSize() {
+        // Arrange
+        ReflectionTestUtils.setField(gameDataProviderSql, "exportFetchSize", 500);
+        GameRow otherGameRow = GameRow.builder().dbId(6L).id(UUID.randomUUID()).title("Halo").build();
+        Game otherGame = Game.builder().id(otherGameRow.getId()).title("Halo").build();
+        AtomicBoolean closed = new AtomicBoolean();
+
+        when(entityManager.createQuery(anyString(), eq(GameRow.class))).thenReturn(typedQuery);
+        when(typedQuery.setHint(HibernateHints.HINT_FETCH_SIZE, 500)).thenReturn(typedQuery);
+        when(typedQuery.getResultStream())
+                .thenReturn(Stream.of(gameRow, otherGameRow).onClose(() -> closed.set(true)));
+        when(mapper.toGame(gameRow)).thenReturn(game);
+        when(mapper.toGame(otherGameRow)).thenReturn(otherGame);
+
+        ListByCriteriaUseCase.Input input = ListByCriteriaUseCase.Input.builder()
+                .digitalUserId(digitalUserId)
+                .build();
+        List<Game> exported = new ArrayList<>();
+
+        // Act
+        gameDataProviderSql.exportByCriteria(input, exported::add);
+
+        // Assert
+        assertEquals(List.of(game, otherGame), exported);
+        assertTrue(closed.get());
+        assertTrue(captureJpql().endsWith(
+                " WHERE EXISTS (SELECT 1 FROM GameOwnershipEntity o WHERE o.gameId = g.id AND " +
+                        "o.digitalUserId = :digitalUserId) ORDER BY g.dbId ASC"
+        ));
+        verify(typedQuery).setParameter("digitalUserId", digitalUserId);
+        verify(typedQuery, never()).setMaxResults(anyInt());
+    }
+
+    private void mockListQuery() {
+        when(entityManager.createQuery(anyString(), eq(GameRow.class))).thenReturn(typedQuery);
+        when(typedQuery.setFirstResult(anyInt())).thenReturn(typedQuery);
+        when(typedQuery.setMaxResults(anyInt())).thenReturn(typedQuery);
+    }
+
+    private String captureJpql() {
+        ArgumentCaptor<String> jpqlCaptor = ArgumentCaptor.forClass(String.class);
+        verify(entityManager).createQuery(jpqlCaptor.capture(), eq(GameRow.class));
+        return jpqlCaptor.getValue();
+    }
+
+    private void mockInsertIfTitleAbsent(Optional<GameEntity> insertedGameEntity) {
+        when(gameRepository.insertIfTitleAbsent(
+                eq(gameId), eq(gameCreate.getTitle()), eq(gameCreate.getPlatform()), eq(gameCreate.getGenre()),
+                eq(gameCreate.getDeveloper()), eq(gameCreate.getReleaseDate()), any(LocalDateTime.class))
+        ).thenReturn(insertedGameEntity);
+    }
+
+    // Not a field, as a Session is also an EntityManager and would be injected instead of the entityManager mock
+    private void mockNaturalIdLoad(GameEntity loadedGameEntity) {
+        Session session = mock(Session.class);
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+        when(session.bySimpleNaturalId(GameEntity.class)).thenReturn(naturalIdLoadAccess);
+        when(naturalIdLoadAccess.load(gameId)).thenReturn(loadedGameEntity);
+    }
+
+    private void mockCache() {
+        when(entityManager.getEntityManagerFactory()).thenReturn(entityManagerFactory);
+        when(entityManagerFactory.getCache()).thenReturn(cache);
     }
 }
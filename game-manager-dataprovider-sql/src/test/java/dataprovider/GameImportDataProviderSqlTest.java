@@ -0,0 +1,230 @@
+package dataprovider;
+
+import com.tracktainment.gamemanager.dataprovider.GameImportDataProviderSql;
+import com.tracktainment.gamemanager.domain.GameImport;
+import com.tracktainment.gamemanager.domain.GameImportFormat;
+import com.tracktainment.gamemanager.domain.GameImportStatus;
+import com.tracktainment.gamemanager.exception.InternalServerErrorException;
+import com.tracktainment.gamemanager.exception.ParameterValidationFailedException;
+import com.tracktainment.gamemanager.util.Constants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GameImportDataProviderSqlTest {
+
+    private static final String DIGITAL_USER_ID = "123e4567-e89b-12d3-a456-426614174001";
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PGConnection pgConnection;
+
+    @Mock
+    private CopyManager copyManager;
+
+    @Mock
+    private CopyIn copyIn;
+
+    @Mock
+    private Statement statement;
+
+    @Mock
+    private PreparedStatement preparedStatement;
+
+    @InjectMocks
+    private GameImportDataProviderSql gameImportDataProviderSql;
+
+    private GameImport gameImport;
+    private ByteArrayOutputStream copied;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        ReflectionTestUtils.setField(gameImportDataProviderSql, "chunkSize", 2);
+        gameImport = GameImport.builder()
+                .id("123e4567-e89b-12d3-a456-426614174000")
+                .digitalUserId(DIGITAL_USER_ID)
+                .format(GameImportFormat.NDJSON)
+                .status(GameImportStatus.RUNNING)
+                .build();
+        copied = new ByteArrayOutputStream();
+
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        lenient().when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        lenient().when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+        lenient().when(copyManager.copyIn(anyString())).thenReturn(copyIn);
+        lenient().when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        lenient().doAnswer(invocation -> {
+            copied.write(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2));
+            return null;
+        }).when(copyIn).writeToCopy(any(byte[].class), anyInt(), anyInt());
+    }
+
+    @Test
+    void shouldCopyValidGamesAndMergeThemEveryChunk() throws SQLException {
+        // Arrange
+        InputStream content = content("""
+                {"title":"The Last of Us Part II","platform":"PlayStation","genre":"Action","releaseDate":"2020-06-19"}
+                {"title":"God of War","platform":"PlayStation"}
+                {"platform":"PlayStation"}
+                {"title":"Halo","platform":"Xbox","developer":"Bungie"}
+                """);
+        when(preparedStatement.executeUpdate()).thenReturn(2, 0);
+        List<GameImport> progress = new ArrayList<>();
+
+        // Act
+        GameImport result = gameImportDataProviderSql.importGames(gameImport, content, progress::add);
+
+        // Assert
+        assertEquals("""
+                1,"The Last of Us Part II","PlayStation","Action",,2020-06-19
+                2,"God of War","PlayStation",,,
+                4,"Halo","Xbox",,"Bungie",
+                """, copied.toString(StandardCharsets.UTF_8));
+
+        assertEquals(2, progress.size());
+        assertEquals(2, progress.get(0).getRead());
+        assertEquals(2, progress.get(0).getImported());
+        assertEquals(4, progress.get(1).getRead());
+
+        assertEquals(GameImportStatus.COMPLETED, result.getStatus());
+        assertEquals(4, result.getRead());
+        assertEquals(2, result.getImported());
+        assertEquals(1, result.getSkipped());
+        assertEquals(1, result.getRejected());
+        assertEquals(List.of("Record 3: " + Constants.TITLE_MANDATORY_MSG), result.getRejections());
+        assertNotNull(result.getFinishedAt());
+
+        verify(copyIn, times(2)).endCopy();
+        verify(connection, times(3)).commit();
+        verify(statement).execute(startsWith("DROP TABLE"));
+    }
+
+    @Test
+    void shouldOwnAndQueueTheRegistrationOfMergedGames() throws SQLException {
+        // Arrange
+        when(preparedStatement.executeUpdate()).thenReturn(1);
+
+        // Act
+        gameImportDataProviderSql.importGames(
+                gameImport,
+                content("{\"title\":\"Halo\",\"platform\":\"Xbox\"}"),
+                progress -> {}
+        );
+
+        // Assert
+        verify(connection).prepareStatement(argThat(sql ->
+                sql.contains("RETURNING id") &&
+                        sql.contains("INSERT INTO game_ownership") &&
+                        sql.contains("INSERT INTO asset_outbox")
+        ));
+        verify(preparedStatement).setString(3, DIGITAL_USER_ID);
+        verify(preparedStatement).setString(6, DIGITAL_USER_ID);
+        verify(preparedStatement).setString(7, "PENDING");
+    }
+
+    @Test
+    void shouldCompleteEmptyImport() throws SQLException {
+        // Act
+        GameImport result = gameImportDataProviderSql.importGames(gameImport, content(""), progress -> fail());
+
+        // Assert
+        assertEquals(GameImportStatus.COMPLETED, result.getStatus());
+        assertEquals(0, result.getRead());
+        verify(copyManager, never()).copyIn(anyString());
+    }
+
+    @Test
+    void shouldFailImportOfMalformedCsv() throws SQLException {
+        // Arrange
+        gameImport.setFormat(GameImportFormat.CSV);
+        when(copyIn.isActive()).thenReturn(true);
+
+        // Act & Assert
+        assertThrows(
+                ParameterValidationFailedException.class,
+                () -> gameImportDataProviderSql.importGames(
+                        gameImport,
+                        content("title,platform\nHalo,Xbox\n\"Doom,PC\n"),
+                        progress -> {}
+                )
+        );
+
+        verify(copyIn).cancelCopy();
+        verify(connection).rollback();
+    }
+
+    @Test
+    void shouldRollbackChunkWhenMergeFails() throws SQLException {
+        // Arrange
+        when(preparedStatement.executeUpdate()).thenThrow(new SQLException("Connection reset"));
+
+        // Act & Assert
+        InternalServerErrorException exception = assertThrows(
+                InternalServerErrorException.class,
+                () -> gameImportDataProviderSql.importGames(
+                        gameImport,
+                        content("{\"title\":\"Halo\",\"platform\":\"Xbox\"}"),
+                        progress -> fail()
+                )
+        );
+
+        assertTrue(exception.getMessage().contains("Connection reset"));
+        verify(connection).rollback();
+        verify(connection).close();
+    }
+
+    @Test
+    void shouldReportTheCauseOfTheFailureWhenTheCleanupFails() throws SQLException {
+        // Arrange
+        when(preparedStatement.executeUpdate()).thenThrow(new SQLException("Connection reset"));
+        doThrow(new SQLException("Connection closed")).when(connection).rollback();
+        lenient().doThrow(new SQLException("Connection closed")).when(connection).setAutoCommit(true);
+
+        // Act & Assert
+        InternalServerErrorException exception = assertThrows(
+                InternalServerErrorException.class,
+                () -> gameImportDataProviderSql.importGames(
+                        gameImport,
+                        content("{\"title\":\"Halo\",\"platform\":\"Xbox\"}"),
+                        progress -> fail()
+                )
+        );
+
+        assertTrue(exception.getMessage().contains("Connection reset"));
+        verify(connection).close();
+    }
+
+    private InputStream content(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,173 @@
+package dataprovider;
+
+import com.tracktainment.gamemanager.dataprovider.GameOwnershipDataProviderSql;
+import com.tracktainment.gamemanager.repository.AssetOutboxRepository;
+import com.tracktainment.gamemanager.repository.GameOwnershipReconciliationRepository;
+import com.tracktainment.gamemanager.repository.GameOwnershipRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GameOwnershipDataProviderSqlTest {
+
+    @Mock
+    private GameOwnershipRepository gameOwnershipRepository;
+
+    @Mock
+    private GameOwnershipReconciliationRepository gameOwnershipReconciliationRepository;
+
+    @Mock
+    private AssetOutboxRepository assetOutboxRepository;
+
+    @InjectMocks
+    private GameOwnershipDataProviderSql gameOwnershipDataProviderSql;
+
+    private String digitalUserId;
+    private UUID gameId;
+
+    @BeforeEach
+    void setUp() {
+        digitalUserId = UUID.randomUUID().toString();
+        gameId = UUID.randomUUID();
+    }
+
+    @Test
+    void shouldRememberReconciledDigitalUsers() {
+        // Arrange
+        when(gameOwnershipReconciliationRepository.existsByDigitalUserId(digitalUserId)).thenReturn(true);
+
+        // Act & Assert
+        assertTrue(gameOwnershipDataProviderSql.isReconciled(digitalUserId));
+        assertTrue(gameOwnershipDataProviderSql.isReconciled(digitalUserId));
+
+        verify(gameOwnershipReconciliationRepository, times(1)).existsByDigitalUserId(digitalUserId);
+    }
+
+    @Test
+    void shouldNotRememberDigitalUsersThatWereNeverReconciled() {
+        // Arrange
+        when(gameOwnershipReconciliationRepository.existsByDigitalUserId(digitalUserId)).thenReturn(false);
+
+        // Act & Assert
+        assertFalse(gameOwnershipDataProviderSql.isReconciled(digitalUserId));
+        assertFalse(gameOwnershipDataProviderSql.isReconciled(digitalUserId));
+
+        verify(gameOwnershipReconciliationRepository, times(2)).existsByDigitalUserId(digitalUserId);
+    }
+
+    @Test
+    void shouldFindDigitalUserIdsReconciledBefore() {
+        // Arrange
+        LocalDateTime reconciledBefore = LocalDateTime.now().minusHours(1);
+        when(gameOwnershipReconciliationRepository.findDigitalUserIdsByReconciledAtBefore(
+                reconciledBefore, PageRequest.of(0, 50))
+        ).thenReturn(List.of(digitalUserId));
+
+        // Act
+        List<String> results = gameOwnershipDataProviderSql.findDigitalUserIdsReconciledBefore(reconciledBefore, 50);
+
+        // Assert
+        assertEquals(List.of(digitalUserId), results);
+    }
+
+    @Test
+    void shouldAddMissingAndRemoveRevokedOwnershipsWhenReconciling() {
+        // Arrange
+        UUID keptGameId = UUID.randomUUID();
+        UUID revokedGameId = UUID.randomUUID();
+        UUID missingGameId = UUID.randomUUID();
+        LocalDateTime reconciliationStartedAt = LocalDateTime.now();
+        when(gameOwnershipRepository.findGameIdsByDigitalUserId(digitalUserId))
+                .thenReturn(List.of(keptGameId, revokedGameId));
+
+        // Act
+        gameOwnershipDataProviderSql.reconcile(
+                digitalUserId,
+                Set.of(keptGameId, missingGameId),
+                reconciliationStartedAt
+        );
+
+        // Assert
+        verify(gameOwnershipRepository).deleteByDigitalUserIdAndGameIdInAndCreatedAtBefore(
+                digitalUserId, List.of(revokedGameId), reconciliationStartedAt);
+        verify(gameOwnershipRepository).insertIfAbsent(
+                eq(digitalUserId), eq(List.of(missingGameId)), any(LocalDateTime.class));
+        verify(gameOwnershipReconciliationRepository).upsert(
+                eq(digitalUserId), eq(reconciliationStartedAt), any(LocalDateTime.class));
+
+        // Reconciled digital users no longer need to be looked up
+        assertTrue(gameOwnershipDataProviderSql.isReconciled(digitalUserId));
+        verify(gameOwnershipReconciliationRepository, never()).existsByDigitalUserId(any());
+    }
+
+    @Test
+    void shouldKeepOwnershipsWhoseAssetIsNotRegisteredYetWhenReconciling() {
+        // Arrange
+        LocalDateTime reconciliationStartedAt = LocalDateTime.now();
+        when(gameOwnershipRepository.findGameIdsByDigitalUserId(digitalUserId)).thenReturn(List.of(gameId));
+        when(assetOutboxRepository.findGameIdsByDigitalUserId(digitalUserId)).thenReturn(List.of(gameId));
+
+        // Act
+        gameOwnershipDataProviderSql.reconcile(digitalUserId, Set.of(), reconciliationStartedAt);
+
+        // Assert
+        verify(gameOwnershipRepository, never()).deleteByDigitalUserIdAndGameIdInAndCreatedAtBefore(any(), any(), any());
+        verify(gameOwnershipReconciliationRepository).upsert(
+                eq(digitalUserId), eq(reconciliationStartedAt), any(LocalDateTime.class));
+    }
+
+    @Test
+    void shouldOnlyRecordReconciliationWhenReplicaIsUpToDate() {
+        // Arrange
+        LocalDateTime reconciliationStartedAt = LocalDateTime.now();
+        when(gameOwnershipRepository.findGameIdsByDigitalUserId(digitalUserId)).thenReturn(List.of(gameId));
+
+        // Act
+        gameOwnershipDataProviderSql.reconcile(digitalUserId, Set.of(gameId), reconciliationStartedAt);
+
+        // Assert
+        verify(gameOwnershipRepository, never()).deleteByDigitalUserIdAndGameIdInAndCreatedAtBefore(any(), any(), any());
+        verify(gameOwnershipRepository, never()).insertIfAbsent(any(), any(), any());
+        verify(gameOwnershipReconciliationRepository).upsert(
+                eq(digitalUserId), eq(reconciliationStartedAt), any(LocalDateTime.class));
+    }
+
+    @Test
+    void shouldSplitLargeReconciliationsIntoSeveralStatements() {
+        // Arrange
+        Set<UUID> gameIds = IntStream.range(0, 2500)
+                .mapToObj(i -> UUID.randomUUID())
+                .collect(Collectors.toSet());
+        when(gameOwnershipRepository.findGameIdsByDigitalUserId(digitalUserId)).thenReturn(List.of());
+
+        // Act
+        gameOwnershipDataProviderSql.reconcile(digitalUserId, gameIds, LocalDateTime.now());
+
+        // Assert
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<UUID>> chunkCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(gameOwnershipRepository, times(3)).insertIfAbsent(eq(digitalUserId), chunkCaptor.capture(), any());
+
+        Set<UUID> inserted = new HashSet<>();
+        chunkCaptor.getAllValues().forEach(chunk -> {
+            assertTrue(chunk.size() <= 1000);
+            inserted.addAll(chunk);
+        });
+        assertEquals(gameIds, inserted);
+    }
+}
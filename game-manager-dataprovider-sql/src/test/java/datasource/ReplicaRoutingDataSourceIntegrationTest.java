@@ -0,0 +1,101 @@
+package datasource;
+
+import com.tracktainment.gamemanager.datasource.ReplicaLagMonitor;
+import com.tracktainment.gamemanager.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/* Routes between two local PostgreSQL databases, the second one standing in for a replica. Opt-in, as it needs both
+databases: mvn test -Dtest=ReplicaRoutingDataSourceIntegrationTest -Dit.jdbc.url=jdbc:postgresql://...
+-Dit.replica.jdbc.url=jdbc:postgresql://...
+ */
+@EnabledIfSystemProperty(named = "it.replica.jdbc.url", matches = ".+")
+class ReplicaRoutingDataSourceIntegrationTest {
+
+    private static final String DATABASE_QUERY = "SELECT current_database() || ':' || inet_server_port()";
+
+    private HikariDataSource primary;
+    private HikariDataSource replica;
+    private ReplicaRoutingDataSource replicaRoutingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        primary = hikariDataSource("primary", System.getProperty("it.jdbc.url"));
+        replica = hikariDataSource("replica-0", System.getProperty("it.replica.jdbc.url"));
+        replicaRoutingDataSource = new ReplicaRoutingDataSource(primary, List.of(replica), new SimpleMeterRegistry());
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    @AfterEach
+    void tearDown() {
+        replicaRoutingDataSource.close();
+    }
+
+    @Test
+    void shouldSendReadOnlyTransactionsToReplicaAndWritesToPrimary() {
+        // Arrange
+        String primaryDatabase = new JdbcTemplate(primary).queryForObject(DATABASE_QUERY, String.class);
+        String replicaDatabase = new JdbcTemplate(replica).queryForObject(DATABASE_QUERY, String.class);
+        assertNotEquals(primaryDatabase, replicaDatabase);
+
+        // Act
+        String writeDatabase = transactionTemplate.execute(
+                status -> jdbcTemplate.queryForObject(DATABASE_QUERY, String.class)
+        );
+        transactionTemplate.setReadOnly(true);
+        String readDatabase = transactionTemplate.execute(
+                status -> jdbcTemplate.queryForObject(DATABASE_QUERY, String.class)
+        );
+
+        // Assert
+        assertEquals(primaryDatabase, writeDatabase);
+        assertEquals(replicaDatabase, readDatabase);
+    }
+
+    @Test
+    void shouldFallBackToPrimaryWhileReplicaIsDown() {
+        // Arrange
+        String primaryDatabase = new JdbcTemplate(primary).queryForObject(DATABASE_QUERY, String.class);
+        ReplicaLagMonitor replicaLagMonitor = new ReplicaLagMonitor(replicaRoutingDataSource, Duration.ofSeconds(5));
+        replica.close();
+
+        // Act
+        replicaLagMonitor.check();
+        transactionTemplate.setReadOnly(true);
+        String readDatabase = transactionTemplate.execute(
+                status -> jdbcTemplate.queryForObject(DATABASE_QUERY, String.class)
+        );
+
+        // Assert
+        assertFalse(replicaRoutingDataSource.getReplicas().get(0).isAvailable());
+        assertEquals(primaryDatabase, readDatabase);
+    }
+
+    private HikariDataSource hikariDataSource(String poolName, String jdbcUrl) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(poolName);
+        dataSource.setJdbcUrl(jdbcUrl);
+        dataSource.setUsername(System.getProperty("it.jdbc.user", "postgres"));
+        dataSource.setPassword(System.getProperty("it.jdbc.password", ""));
+        dataSource.setMaximumPoolSize(2);
+        return dataSource;
+    }
+}
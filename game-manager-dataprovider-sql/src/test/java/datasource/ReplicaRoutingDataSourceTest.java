@@ -0,0 +1,175 @@
+package datasource;
+
+import com.tracktainment.gamemanager.datasource.ReadYourWrites;
+import com.tracktainment.gamemanager.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private HikariDataSource primary;
+
+    @Mock
+    private HikariDataSource firstReplica;
+
+    @Mock
+    private HikariDataSource secondReplica;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection firstReplicaConnection;
+
+    @Mock
+    private Connection secondReplicaConnection;
+
+    private MeterRegistry meterRegistry;
+    private ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        when(firstReplica.getPoolName()).thenReturn("replica-0");
+        when(secondReplica.getPoolName()).thenReturn("replica-1");
+        replicaRoutingDataSource = new ReplicaRoutingDataSource(
+                primary,
+                List.of(firstReplica, secondReplica),
+                meterRegistry
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void shouldSendConnectionsOutsideReadOnlyTransactionsToPrimary() throws SQLException {
+        // Arrange
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // Act & Assert
+        assertSame(primaryConnection, replicaRoutingDataSource.getConnection());
+        verify(firstReplica, never()).getConnection();
+        verify(secondReplica, never()).getConnection();
+    }
+
+    @Test
+    void shouldHandOutConnectionsForOtherCredentialsFromPrimary() throws SQLException {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(primary.getConnection("reporting", "secret")).thenReturn(primaryConnection);
+
+        // Act & Assert
+        assertSame(primaryConnection, replicaRoutingDataSource.getConnection("reporting", "secret"));
+        verify(firstReplica, never()).getConnection();
+        verify(secondReplica, never()).getConnection();
+    }
+
+    @Test
+    void shouldSendReadOnlyTransactionsToReplicasInTurn() throws SQLException {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(firstReplica.getConnection()).thenReturn(firstReplicaConnection);
+        when(secondReplica.getConnection()).thenReturn(secondReplicaConnection);
+
+        // Act & Assert
+        assertSame(firstReplicaConnection, replicaRoutingDataSource.getConnection());
+        assertSame(secondReplicaConnection, replicaRoutingDataSource.getConnection());
+        assertSame(firstReplicaConnection, replicaRoutingDataSource.getConnection());
+        verify(primary, never()).getConnection();
+    }
+
+    @Test
+    void shouldSkipReplicaThatIsDown() throws SQLException {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(firstReplica.getConnection()).thenThrow(new SQLException("Connection refused"));
+        when(secondReplica.getConnection()).thenReturn(secondReplicaConnection);
+
+        // Act
+        Connection first = replicaRoutingDataSource.getConnection();
+        Connection second = replicaRoutingDataSource.getConnection();
+
+        // Assert - the replica that is down is no longer tried
+        assertSame(secondReplicaConnection, first);
+        assertSame(secondReplicaConnection, second);
+        assertFalse(replicaRoutingDataSource.getReplicas().get(0).isAvailable());
+        verify(firstReplica, times(1)).getConnection();
+    }
+
+    @Test
+    void shouldFallBackToPrimaryWhenNoReplicaIsAvailable() throws SQLException {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(firstReplica.getConnection()).thenThrow(new SQLException("Connection refused"));
+        when(secondReplica.getConnection()).thenThrow(new SQLException("Connection refused"));
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // Act & Assert
+        assertSame(primaryConnection, replicaRoutingDataSource.getConnection());
+        assertEquals(1.0, meterRegistry.get("game.datasource.connections").tag("target", "primary-fallback")
+                .counter().count());
+    }
+
+    @Test
+    void shouldSendReadsOfRecentWritersToPrimary() throws SQLException {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        ReadYourWrites readYourWrites = new ReadYourWrites(true, Duration.ofSeconds(10), 100);
+        String digitalUserId = UUID.randomUUID().toString();
+        readYourWrites.recordWrite(digitalUserId);
+
+        // Act
+        Connection connection = readYourWrites.read(digitalUserId, this::getConnection);
+
+        // Assert
+        assertSame(primaryConnection, connection);
+        verify(firstReplica, never()).getConnection();
+        verify(secondReplica, never()).getConnection();
+    }
+
+    @Test
+    void shouldSendReadsOfOtherDigitalUsersToReplicas() throws SQLException {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(firstReplica.getConnection()).thenReturn(firstReplicaConnection);
+        ReadYourWrites readYourWrites = new ReadYourWrites(true, Duration.ofSeconds(10), 100);
+        readYourWrites.recordWrite(UUID.randomUUID().toString());
+
+        // Act
+        Connection connection = readYourWrites.read(UUID.randomUUID().toString(), this::getConnection);
+
+        // Assert
+        assertSame(firstReplicaConnection, connection);
+    }
+
+    private Connection getConnection() {
+        try {
+            return replicaRoutingDataSource.getConnection();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -16,7 +16,7 @@ class GameEntityTest {
     void shouldCreateGameEntityUsingBuilder() {
         // Arrange
         Long dbId = 1L;
-        String id = UUID.randomUUID().toString();
+        UUID id = UUID.randomUUID();
         String title = "The Last of Us Part II";
         String platform = "PlayStation 5";
         String genre = "Action";
@@ -72,7 +72,7 @@ class GameEntityTest {
         // Arrange
         GameEntity gameEntity = new GameEntity();
         Long dbId = 2L;
-        String id = UUID.randomUUID().toString();
+        UUID id = UUID.randomUUID();
         String title = "God of War";
         String platform = "PlayStation 5";
         String genre = "Action Adventure";
@@ -116,8 +116,8 @@ class GameEntityTest {
     @Test
     void shouldImplementEqualsAndHashCodeCorrectly() {
         // Arrange
-        String id1 = UUID.randomUUID().toString();
-        String id2 = UUID.randomUUID().toString();
+        UUID id1 = UUID.randomUUID();
+        UUID id2 = UUID.randomUUID();
 
         GameEntity entity1 = GameEntity.builder().id(id1).build();
         GameEntity entity2 = GameEntity.builder().id(id1).build(); // Same ID
@@ -133,7 +133,7 @@ class GameEntityTest {
     @Test
     void shouldImplementToString() {
         // Arrange
-        String id = UUID.randomUUID().toString();
+        UUID id = UUID.randomUUID();
         GameEntity gameEntity = GameEntity.builder()
                 .id(id)
                 .title("The Last of Us Part II")
@@ -146,7 +146,7 @@ class GameEntityTest {
         assertNotNull(toString);
         assertFalse(toString.isEmpty());
         assertTrue(toString.contains("GameEntity"));
-        assertTrue(toString.contains(id));
+        assertTrue(toString.contains(id.toString()));
         assertTrue(toString.contains("The Last of Us Part II"));
     }
 
@@ -154,7 +154,7 @@ class GameEntityTest {
     void shouldCreateGameEntityWithAllArgsConstructor() {
         // Arrange
         Long dbId = 3L;
-        String id = UUID.randomUUID().toString();
+        UUID id = UUID.randomUUID();
         String title = "Elden Ring";
         String platform = "PlayStation 5";
         String genre = "RPG";
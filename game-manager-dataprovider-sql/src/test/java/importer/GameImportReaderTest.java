@@ -0,0 +1,103 @@
+package importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.tracktainment.gamemanager.domain.GameImportFormat;
+import com.tracktainment.gamemanager.importer.GameImportReader;
+import com.tracktainment.gamemanager.importer.GameImportRecord;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameImportReaderTest {
+
+    @Test
+    void shouldReadNdjsonGamesAndRejectInvalidLines() throws IOException {
+        // Arrange
+        String ndjson = """
+                {"title":"The Last of Us Part II","platform":"PlayStation","releaseDate":"2020-06-19","rating":5}
+
+                not a game
+                {"title":"God of War","platform":"PlayStation","releaseDate":"2018-13-40"}
+                {"title":"Halo","platform":"Xbox","developer":"Bungie"}""";
+
+        // Act
+        List<GameImportRecord> records = readAll(GameImportFormat.NDJSON, ndjson);
+
+        // Assert
+        assertEquals(4, records.size());
+        assertEquals(1, records.get(0).number());
+        assertEquals("The Last of Us Part II", records.get(0).gameCreate().getTitle());
+        assertEquals(LocalDate.of(2020, 6, 19), records.get(0).gameCreate().getReleaseDate());
+        assertNull(records.get(0).rejection());
+
+        assertEquals(2, records.get(1).number());
+        assertNull(records.get(1).gameCreate());
+        assertTrue(records.get(1).rejection().startsWith("Invalid game: "));
+
+        assertNotNull(records.get(2).rejection());
+
+        assertEquals(4, records.get(3).number());
+        assertEquals("Bungie", records.get(3).gameCreate().getDeveloper());
+    }
+
+    @Test
+    void shouldReadCsvGamesByHeaderAndRejectInvalidRows() throws IOException {
+        // Arrange
+        String csv = """
+                platform,title,releaseDate,genre
+                PlayStation,"Uncharted 4, ""A Thief's End"" Edition",2016-05-10,
+                PlayStation,God of War,not a date,Action
+                Xbox,Halo,,Shooter
+                """;
+
+        // Act
+        List<GameImportRecord> records = readAll(GameImportFormat.CSV, csv);
+
+        // Assert
+        assertEquals(3, records.size());
+        assertEquals("Uncharted 4, \"A Thief's End\" Edition", records.get(0).gameCreate().getTitle());
+        assertEquals(LocalDate.of(2016, 5, 10), records.get(0).gameCreate().getReleaseDate());
+        assertNull(records.get(0).gameCreate().getGenre());
+
+        assertEquals(2, records.get(1).number());
+        assertNull(records.get(1).gameCreate());
+        assertTrue(records.get(1).rejection().startsWith("Invalid game: "));
+
+        assertEquals(3, records.get(2).number());
+        assertEquals("Halo", records.get(2).gameCreate().getTitle());
+        assertNull(records.get(2).gameCreate().getReleaseDate());
+    }
+
+    @Test
+    void shouldFailOnMalformedCsv() {
+        // Arrange
+        String csv = """
+                title,platform
+                "Halo,Xbox
+                """;
+
+        // Act & Assert
+        assertThrows(JsonProcessingException.class, () -> readAll(GameImportFormat.CSV, csv));
+    }
+
+    private List<GameImportRecord> readAll(GameImportFormat format, String content) throws IOException {
+        List<GameImportRecord> records = new ArrayList<>();
+        try (GameImportReader reader = GameImportReader.of(
+                format,
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8))
+        )) {
+            for (GameImportRecord record = reader.next(); record != null; record = reader.next()) {
+                records.add(record);
+            }
+        }
+
+        return records;
+    }
+}
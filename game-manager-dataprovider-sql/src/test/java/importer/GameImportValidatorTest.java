@@ -0,0 +1,42 @@
+package importer;
+
+import com.tracktainment.gamemanager.dto.GameCreate;
+import com.tracktainment.gamemanager.importer.GameImportValidator;
+import com.tracktainment.gamemanager.util.Constants;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameImportValidatorTest {
+
+    @Test
+    void shouldAcceptValidGame() {
+        // Arrange
+        GameCreate gameCreate = GameCreate.builder()
+                .title("The Last of Us Part II")
+                .platform("PlayStation")
+                .genre("Action")
+                .developer("Naughty Dog")
+                .build();
+
+        // Act & Assert
+        assertNull(GameImportValidator.validate(gameCreate));
+    }
+
+    @Test
+    void shouldRejectGameWithTheMessagesOfTheApiValidation() {
+        // Act & Assert
+        assertEquals(Constants.TITLE_MANDATORY_MSG, GameImportValidator.validate(
+                GameCreate.builder().platform("PlayStation").build()));
+        assertEquals(Constants.TITLE_INVALID_MSG, GameImportValidator.validate(
+                GameCreate.builder().title("Halo <3>").platform("Xbox").build()));
+        assertEquals(Constants.PLATFORM_MANDATORY_MSG, GameImportValidator.validate(
+                GameCreate.builder().title("Halo").build()));
+        assertEquals(Constants.PLATFORM_INVALID_MSG, GameImportValidator.validate(
+                GameCreate.builder().title("Halo").platform("Xbox/360").build()));
+        assertEquals(Constants.GENRE_INVALID_MSG, GameImportValidator.validate(
+                GameCreate.builder().title("Halo").platform("Xbox").genre("Shooter 1").build()));
+        assertEquals(Constants.DEVELOPER_INVALID_MSG, GameImportValidator.validate(
+                GameCreate.builder().title("Halo").platform("Xbox").developer("Bungie!").build()));
+    }
+}
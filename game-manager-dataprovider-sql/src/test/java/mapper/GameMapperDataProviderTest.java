@@ -5,6 +5,7 @@ import com.tracktainment.gamemanager.dto.GameCreate;
 import com.tracktainment.gamemanager.dto.GameUpdate;
 import com.tracktainment.gamemanager.entity.GameEntity;
 import com.tracktainment.gamemanager.mapper.GameMapperDataProvider;
+import com.tracktainment.gamemanager.projection.GameRow;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mapstruct.factory.Mappers;
@@ -30,7 +31,7 @@ class GameMapperDataProviderTest {
     @Test
     void shouldMapGameEntityToGame() {
         // Arrange
-        String id = UUID.randomUUID().toString();
+        UUID id = UUID.randomUUID();
         LocalDateTime createdAt = LocalDateTime.now();
         LocalDateTime updatedAt = LocalDateTime.now().plusDays(1);
         LocalDate releaseDate = LocalDate.of(2020, 6, 19);
@@ -72,7 +73,7 @@ class GameMapperDataProviderTest {
         // Assert
         assertNotNull(result);
         assertNotNull(result.getId());
-        assertTrue(UUID_PATTERN.matcher(result.getId()).matches(), "ID should be a valid UUID");
+        assertTrue(UUID_PATTERN.matcher(result.getId().toString()).matches(), "ID should be a valid UUID");
         assertEquals(gameCreate.getTitle(), result.getTitle());
         assertEquals(gameCreate.getPlatform(), result.getPlatform());
         assertEquals(gameCreate.getGenre(), result.getGenre());
@@ -88,7 +89,7 @@ class GameMapperDataProviderTest {
     @Test
     void shouldUpdateGameEntityFromGameUpdate() {
         // Arrange
-        String id = UUID.randomUUID().toString();
+        UUID id = UUID.randomUUID();
         GameEntity gameEntity = GameEntity.builder()
                 .id(id)
                 .title("The Last of Us Part II")
@@ -120,7 +121,7 @@ class GameMapperDataProviderTest {
     @Test
     void shouldHandleNullGameUpdateValues() {
         // Arrange
-        String id = UUID.randomUUID().toString();
+        UUID id = UUID.randomUUID();
         LocalDate releaseDate = LocalDate.of(2020, 6, 19);
         GameEntity gameEntity = GameEntity.builder()
                 .id(id)
@@ -148,10 +149,40 @@ class GameMapperDataProviderTest {
         assertEquals(releaseDate, gameEntity.getReleaseDate()); // Should not change
     }
 
+    @Test
+    void shouldMapGameRowToGame() {
+        // Arrange
+        GameRow gameRow = GameRow.builder()
+                .dbId(42L)
+                .id(UUID.randomUUID())
+                .title("The Last of Us Part II")
+                .platform("PlayStation 5")
+                .genre("Action")
+                .developer("Naughty Dog")
+                .releaseDate(LocalDate.of(2020, 6, 19))
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now().plusDays(1))
+                .build();
+
+        // Act
+        Game result = mapper.toGame(gameRow);
+
+        // Assert
+        assertEquals(gameRow.getId(), result.getId());
+        assertEquals(gameRow.getTitle(), result.getTitle());
+        assertEquals(gameRow.getPlatform(), result.getPlatform());
+        assertEquals(gameRow.getGenre(), result.getGenre());
+        assertEquals(gameRow.getDeveloper(), result.getDeveloper());
+        assertEquals(gameRow.getReleaseDate(), result.getReleaseDate());
+        assertEquals(gameRow.getCreatedAt(), result.getCreatedAt());
+        assertEquals(gameRow.getUpdatedAt(), result.getUpdatedAt());
+    }
+
     @Test
     void shouldHandleNullInput() {
         // Act & Assert
-        assertNull(mapper.toGame(null));
+        assertNull(mapper.toGame((GameEntity) null));
+        assertNull(mapper.toGame((GameRow) null));
     }
 
     @Test
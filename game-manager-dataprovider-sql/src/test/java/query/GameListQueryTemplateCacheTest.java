@@ -0,0 +1,167 @@
+package query;
+
+import com.tracktainment.gamemanager.domain.OrderBy;
+import com.tracktainment.gamemanager.domain.OrderDirection;
+import com.tracktainment.gamemanager.query.GameListPredicate;
+import com.tracktainment.gamemanager.query.GameListQueryShape;
+import com.tracktainment.gamemanager.query.GameListQueryShape.SortKey;
+import com.tracktainment.gamemanager.query.GameListQueryTemplateCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameListQueryTemplateCacheTest {
+
+    private MeterRegistry meterRegistry;
+    private GameListQueryTemplateCache gameListQueryTemplateCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        gameListQueryTemplateCache = new GameListQueryTemplateCache(meterRegistry, 100);
+    }
+
+    @Test
+    void shouldBuildTemplateOnceAndServeSubsequentLookupsFromCache() {
+        // Arrange
+        GameListQueryShape shape = new GameListQueryShape(
+                GameListPredicate.DIGITAL_USER_ID.bit() | GameListPredicate.TITLE.bit(),
+                List.of(new SortKey(OrderBy.TITLE, OrderDirection.ASC)),
+                0
+        );
+
+        // Act
+        String firstJpql = gameListQueryTemplateCache.getJpql(shape);
+        String secondJpql = gameListQueryTemplateCache.getJpql(
+                new GameListQueryShape(shape.predicates(), shape.sortKeys(), shape.nullCursorValues())
+        );
+
+        // Assert
+        assertSame(firstJpql, secondJpql);
+        assertEquals(1.0, functionCounter("miss"));
+        assertEquals(1.0, functionCounter("hit"));
+    }
+
+    @Test
+    void shouldRenderPresentPredicatesAndSortKeysOnly() {
+        // Arrange
+        GameListQueryShape shape = new GameListQueryShape(
+                GameListPredicate.PLATFORM.bit() | GameListPredicate.TO.bit(),
+                List.of(
+                        new SortKey(OrderBy.CREATED_AT, OrderDirection.DESC),
+                        new SortKey(OrderBy.TITLE, OrderDirection.ASC)
+                ),
+                0
+        );
+
+        // Act
+        String jpql = gameListQueryTemplateCache.getJpql(shape);
+
+        // Assert
+        assertTrue(jpql.startsWith("SELECT new com.tracktainment.gamemanager.projection.GameRow("));
+        assertTrue(jpql.endsWith(
+                " WHERE g.platform LIKE :platform AND g.createdAt <= :to " +
+                        "ORDER BY g.createdAt DESC, g.title ASC, g.dbId ASC"
+        ));
+    }
+
+    @Test
+    void shouldSeekAfterCursorIncludingNullsOfNullableSortKeys() {
+        // Arrange
+        GameListQueryShape shape = new GameListQueryShape(
+                GameListPredicate.CURSOR.bit(),
+                List.of(
+                        new SortKey(OrderBy.GENRE, OrderDirection.ASC),
+                        new SortKey(OrderBy.PLATFORM, OrderDirection.DESC)
+                ),
+                0
+        );
+
+        // Act
+        String jpql = gameListQueryTemplateCache.getJpql(shape);
+
+        // Assert
+        assertTrue(jpql.contains(
+                " WHERE ((g.genre >= :cursor0 OR g.genre IS NULL) AND " +
+                        "(((g.genre > :cursor0 OR g.genre IS NULL)) OR " +
+                        "(g.genre = :cursor0 AND g.platform < :cursor1) OR " +
+                        "(g.genre = :cursor0 AND g.platform = :cursor1 AND g.dbId > :cursorDbId))) ORDER BY "
+        ));
+    }
+
+    @Test
+    void shouldLeadTheKeysetConditionWithARangeBoundOnTheFirstKey() {
+        // Arrange
+        GameListQueryShape shape = new GameListQueryShape(
+                GameListPredicate.CURSOR.bit(),
+                List.of(new SortKey(OrderBy.CREATED_AT, OrderDirection.DESC)),
+                0
+        );
+
+        // Act
+        String jpql = gameListQueryTemplateCache.getJpql(shape);
+
+        // Assert
+        assertTrue(jpql.contains(
+                " WHERE (g.createdAt <= :cursor0 AND " +
+                        "((g.createdAt < :cursor0) OR (g.createdAt = :cursor0 AND g.dbId > :cursorDbId))) ORDER BY "
+        ));
+    }
+
+    @Test
+    void shouldCompareRowValuesWhenEveryKeySortsAscending() {
+        // Arrange
+        GameListQueryShape shape = new GameListQueryShape(
+                GameListPredicate.PLATFORM.bit() | GameListPredicate.CURSOR.bit(),
+                List.of(
+                        new SortKey(OrderBy.TITLE, OrderDirection.ASC),
+                        new SortKey(OrderBy.PLATFORM, OrderDirection.ASC)
+                ),
+                0
+        );
+
+        // Act
+        String jpql = gameListQueryTemplateCache.getJpql(shape);
+
+        // Assert
+        assertTrue(jpql.endsWith(
+                " WHERE g.platform LIKE :platform AND " +
+                        "(g.title, g.platform, g.dbId) > (:cursor0, :cursor1, :cursorDbId) " +
+                        "ORDER BY g.title ASC, g.platform ASC, g.dbId ASC"
+        ));
+    }
+
+    @Test
+    void shouldBuildDistinctTemplatesForNullCursorValues() {
+        // Arrange
+        List<SortKey> sortKeys = List.of(new SortKey(OrderBy.GENRE, OrderDirection.ASC));
+
+        // Act
+        String jpql = gameListQueryTemplateCache.getJpql(
+                new GameListQueryShape(GameListPredicate.CURSOR.bit(), sortKeys, 0)
+        );
+        String nullValueJpql = gameListQueryTemplateCache.getJpql(
+                new GameListQueryShape(GameListPredicate.CURSOR.bit(), sortKeys, 1)
+        );
+
+        // Assert
+        assertNotEquals(jpql, nullValueJpql);
+        assertTrue(nullValueJpql.contains(
+                " WHERE (g.genre IS NULL AND ((g.genre IS NULL AND g.dbId > :cursorDbId))) ORDER BY "
+        ));
+        assertEquals(2.0, functionCounter("miss"));
+    }
+
+    private double functionCounter(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", GameListQueryTemplateCache.CACHE_NAME)
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+}
@@ -32,7 +32,7 @@ public class TestGameDataUtil {
 
     public static Game createTestGame() {
         return Game.builder()
-                .id(UUID.randomUUID().toString())
+                .id(UUID.randomUUID())
                 .title("The Last of Us Part II")
                 .platform("PlayStation 5")
                 .genre("Action")
@@ -0,0 +1,70 @@
+package com.tracktainment.gamemanager.api;
+
+import com.tracktainment.gamemanager.domain.Game;
+import com.tracktainment.gamemanager.dto.GameCreate;
+import com.tracktainment.gamemanager.util.Constants;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.util.List;
+
+// Custom methods on the games collection (i.e. games:batch, games:export), which cannot be mapped under the games path
+@RequestMapping("api/v1")
+@Validated
+@Tag(name = "Games", description = "Game management APIs")
+public interface GameBatchRestApi {
+
+    @PostMapping(
+            path = "/games:batch",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(
+            summary = "Create many games",
+            description = "Creates all the provided games, or none of them if any is invalid or already exists"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Games created successfully",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = Game.class)))),
+            @ApiResponse(responseCode = "400", description = "Invalid input"),
+            @ApiResponse(responseCode = "409", description = "A game already exists")
+    })
+    ResponseEntity<List<Game>> createMany(
+            @Parameter(description = "Creation data of each game", required = true)
+            @RequestBody
+            @Size(min = Constants.MIN_BATCH_SIZE, max = Constants.MAX_BATCH_SIZE, message = Constants.BATCH_SIZE_INVALID_MSG)
+            List<@Valid GameCreate> gameCreates
+    );
+
+    @GetMapping(
+            path = "/games:export",
+            produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    @Operation(
+            summary = "Export games",
+            description = "Streams every game owned by the user, one JSON game per line"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Games exported",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = Game.class)))
+    })
+    WebAsyncTask<Void> export(@Parameter(hidden = true) HttpServletResponse httpServletResponse);
+}
@@ -0,0 +1,75 @@
+package com.tracktainment.gamemanager.api;
+
+import com.tracktainment.gamemanager.domain.GameImport;
+import com.tracktainment.gamemanager.util.Constants;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Pattern;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.io.InputStream;
+import java.util.List;
+
+@RequestMapping("api/v1/admin/game-imports")
+@Validated
+@Tag(name = "Game imports", description = "Bulk import of the games catalog (admin only)")
+public interface GameImportRestApi {
+
+    @PostMapping(
+            consumes = {"application/x-ndjson", "text/csv"},
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(
+            summary = "Import games",
+            description = "Imports the games of an NDJSON or CSV file, which is streamed (i.e. a chunked upload) " +
+                    "rather than loaded in memory, as games owned by the given digital user. Invalid records are " +
+                    "rejected and games whose title already exists are skipped, without failing the import",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    required = true,
+                    content = {
+                            @Content(mediaType = "application/x-ndjson"),
+                            @Content(mediaType = "text/csv")
+                    }
+            )
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Games imported",
+                    content = @Content(schema = @Schema(implementation = GameImport.class))),
+            @ApiResponse(responseCode = "400", description = "Malformed file"),
+            @ApiResponse(responseCode = "403", description = "Client not authorized")
+    })
+    ResponseEntity<GameImport> importGames(
+            @Parameter(description = "Digital user owning the imported games", required = true)
+            @RequestParam
+            @Pattern(regexp = Constants.ID_REGEX, message = Constants.DIGITAL_USER_ID_INVALID_MSG) String digitalUserId,
+
+            @Parameter(hidden = true) @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            @Parameter(hidden = true) InputStream content
+    );
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "List game imports",
+            description = "Returns the progress of the running and latest game imports"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "List of game imports",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = GameImport.class)))),
+            @ApiResponse(responseCode = "403", description = "Client not authorized")
+    })
+    ResponseEntity<List<GameImport>> listGameImports();
+}
@@ -3,11 +3,13 @@ package com.tracktainment.gamemanager.api;
 import com.tracktainment.gamemanager.domain.Game;
 import com.tracktainment.gamemanager.domain.OrderBy;
 import com.tracktainment.gamemanager.domain.OrderDirection;
+import com.tracktainment.gamemanager.domain.TextMatch;
 import com.tracktainment.gamemanager.dto.GameCreate;
 import com.tracktainment.gamemanager.dto.GameUpdate;
 import com.tracktainment.gamemanager.util.Constants;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -25,6 +27,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.UUID;
 
 @RequestMapping("api/v1/games")
 @Validated
@@ -65,7 +68,7 @@ public interface GameRestApi {
     })
     ResponseEntity<Game> findById(
             @Parameter(description = "Game ID", required = true)
-            @PathVariable @Pattern(regexp = Constants.ID_REGEX, message = Constants.ID_INVALID_MSG) String id
+            @PathVariable UUID id
     );
 
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
@@ -75,7 +78,9 @@ public interface GameRestApi {
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "List of games",
-                    content = @Content(schema = @Schema(implementation = Game.class)))
+                    content = @Content(schema = @Schema(implementation = Game.class)),
+                    headers = @Header(name = Constants.NEXT_CURSOR_HEADER,
+                            description = "Cursor of the next page, absent on the last page"))
     })
     ResponseEntity<List<Game>> listByCriteria(
             @Parameter(description = "Result offset (pagination)")
@@ -87,10 +92,20 @@ public interface GameRestApi {
             @Min(value = Constants.MIN_LIMIT, message = Constants.LIMIT_INVALID_MSG)
             @Max(value = Constants.MAX_LIMIT, message = Constants.LIMIT_INVALID_MSG) Integer limit,
 
+            @Parameter(description = "Cursor of the page to return, taken from the previous page (pagination). " +
+                    "Replaces 'offset' and requires the same ordering as the previous page")
+            @RequestParam(required = false)
+            @Pattern(regexp = Constants.CURSOR_REGEX, message = Constants.CURSOR_INVALID_MSG) String cursor,
+
             @Parameter(description = "Filter by IDs (comma-separated)")
             @RequestParam(required = false)
             @Pattern(regexp = Constants.ID_LIST_REGEX, message = Constants.IDS_INVALID_MSG) String ids,
 
+            @Parameter(description = "Free text search over title and developer, tolerant to typos. " +
+                    "Results are ranked by relevance before the requested ordering and cannot be paged with 'cursor'")
+            @RequestParam(required = false)
+            @Pattern(regexp = Constants.SEARCH_REGEX, message = Constants.SEARCH_INVALID_MSG) String search,
+
             @Parameter(description = "Filter by title")
             @RequestParam(required = false)
             @Pattern(regexp = Constants.TITLE_REGEX, message = Constants.TITLE_INVALID_MSG) String title,
@@ -107,6 +122,10 @@ public interface GameRestApi {
             @RequestParam(required = false)
             @Pattern(regexp = Constants.DEVELOPER_REGEX, message = Constants.DEVELOPER_INVALID_MSG) String developer,
 
+            @Parameter(description = "How the title, platform, genre and developer filters match: " +
+                    "CONTAINS (substring), PREFIX or EXACT")
+            @RequestParam(required = false, defaultValue = Constants.DEFAULT_MATCH) TextMatch match,
+
             @Parameter(description = "Filter by release date")
             @RequestParam(required = false)
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate releaseDate,
@@ -147,7 +166,7 @@ public interface GameRestApi {
     })
     ResponseEntity<Game> update(
             @Parameter(description = "Game ID", required = true)
-            @PathVariable @Pattern(regexp = Constants.ID_REGEX, message = Constants.ID_INVALID_MSG) String id,
+            @PathVariable UUID id,
 
             @Parameter(description = "Game update data", required = true)
             @RequestBody @Valid GameUpdate gameUpdate
@@ -164,6 +183,6 @@ public interface GameRestApi {
     })
     ResponseEntity<Void> delete(
             @Parameter(description = "Game ID", required = true)
-            @PathVariable @Pattern(regexp = Constants.ID_REGEX, message = Constants.ID_INVALID_MSG) String id
+            @PathVariable UUID id
     );
 }
@@ -0,0 +1,121 @@
+package com.tracktainment.gamemanager.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.tracktainment.gamemanager.api.GameBatchRestApi;
+import com.tracktainment.gamemanager.domain.Game;
+import com.tracktainment.gamemanager.dto.GameCreate;
+import com.tracktainment.gamemanager.exception.ParameterValidationFailedException;
+import com.tracktainment.gamemanager.usecases.CreateManyUseCase;
+import com.tracktainment.gamemanager.usecases.ExportUseCase;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@RestController
+@RequiredArgsConstructor
+@Validated
+@Slf4j
+public class GameBatchController implements GameBatchRestApi {
+
+    private final CreateManyUseCase createManyUseCase;
+    private final ExportUseCase exportUseCase;
+    private final HttpServletRequest httpServletRequest;
+    private final ObjectMapper objectMapper;
+
+    // Exports hold a database connection while they stream, so they are bounded by their own pool
+    @Qualifier("gameExportExecutor")
+    private final AsyncTaskExecutor gameExportExecutor;
+
+    @Value("${game-export.timeout:1h}")
+    private Duration gameExportTimeout;
+
+    @Override
+    public ResponseEntity<List<Game>> createMany(List<GameCreate> gameCreates) {
+        log.info("Creating {} games", gameCreates.size());
+
+        // Input validation
+        Set<String> titles = new HashSet<>();
+        for (GameCreate gameCreate : gameCreates) {
+            if (!titles.add(gameCreate.getTitle())) {
+                throw new ParameterValidationFailedException(
+                        String.format("Invalid games input: title '%s' is repeated.", gameCreate.getTitle())
+                );
+            }
+        }
+
+        String jwt = httpServletRequest.getHeader("Authorization");
+
+        CreateManyUseCase.Input input = CreateManyUseCase.Input.builder()
+                .jwt(jwt)
+                .gameCreates(gameCreates)
+                .build();
+
+        CreateManyUseCase.Output output = createManyUseCase.execute(input);
+        return new ResponseEntity<>(output.getGames(), HttpStatus.CREATED);
+    }
+
+    @Override
+    public WebAsyncTask<Void> export(HttpServletResponse httpServletResponse) {
+        log.info("Exporting games");
+        String jwt = httpServletRequest.getHeader("Authorization");
+
+        /* Each game is written as soon as it is read, one per line. The response is flushed as its buffers fill up
+        rather than after every game
+         */
+        ObjectWriter objectWriter = objectMapper.writerFor(Game.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        /* Written on the export executor and with the export timeout rather than MVC's defaults, as an export may take
+        as long as the client takes to read the whole library
+         */
+        return new WebAsyncTask<>(gameExportTimeout.toMillis(), gameExportExecutor, () -> {
+            httpServletResponse.setStatus(HttpStatus.OK.value());
+            httpServletResponse.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+
+            OutputStream outputStream = httpServletResponse.getOutputStream();
+            try (JsonGenerator jsonGenerator = objectMapper.getFactory().createGenerator(outputStream)) {
+                jsonGenerator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                jsonGenerator.setRootValueSeparator(null);
+
+                ExportUseCase.Input input = ExportUseCase.Input.builder()
+                        .jwt(jwt)
+                        .gameConsumer(game -> {
+                            try {
+                                objectWriter.writeValue(jsonGenerator, game);
+                                jsonGenerator.writeRaw('\n');
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                        })
+                        .build();
+
+                exportUseCase.execute(input);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+
+            return null;
+        });
+    }
+}
@@ -4,13 +4,16 @@ import com.tracktainment.gamemanager.api.GameRestApi;
 import com.tracktainment.gamemanager.domain.Game;
 import com.tracktainment.gamemanager.domain.OrderBy;
 import com.tracktainment.gamemanager.domain.OrderDirection;
+import com.tracktainment.gamemanager.domain.TextMatch;
 import com.tracktainment.gamemanager.dto.GameCreate;
 import com.tracktainment.gamemanager.dto.GameUpdate;
 import com.tracktainment.gamemanager.exception.ParameterValidationFailedException;
 import com.tracktainment.gamemanager.usecases.*;
+import com.tracktainment.gamemanager.util.Constants;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -18,6 +21,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.UUID;
 
 @RestController
 @RequiredArgsConstructor
@@ -47,7 +51,7 @@ public class GameController implements GameRestApi {
     }
 
     @Override
-    public ResponseEntity<Game> findById(String id) {
+    public ResponseEntity<Game> findById(UUID id) {
         log.info("Finding game by ID: {}", id);
         String jwt = httpServletRequest.getHeader("Authorization");
 
@@ -64,11 +68,14 @@ public class GameController implements GameRestApi {
     public ResponseEntity<List<Game>> listByCriteria(
             Integer offset,
             Integer limit,
+            String cursor,
             String ids,
+            String search,
             String title,
             String platform,
             String genre,
             String developer,
+            TextMatch match,
             LocalDate releaseDate,
             LocalDate createdAt,
             LocalDate from,
@@ -87,6 +94,14 @@ public class GameController implements GameRestApi {
             throw new ParameterValidationFailedException("Invalid dates input: 'to' must be later than 'from'.");
         }
 
+        if (cursor != null && offset != null && offset != Constants.MIN_OFFSET) {
+            throw new ParameterValidationFailedException("Invalid pagination input: 'offset' cannot be combined with 'cursor'.");
+        }
+
+        if (cursor != null && search != null) {
+            throw new ParameterValidationFailedException("Invalid pagination input: 'cursor' cannot be combined with 'search'.");
+        }
+
         if (orderByList.size() != orderDirectionList.size()) {
             throw new ParameterValidationFailedException(
                     String.format(
@@ -105,11 +120,14 @@ public class GameController implements GameRestApi {
                 .jwt(jwt)
                 .offset(offset)
                 .limit(limit)
+                .cursor(cursor)
                 .ids(ids)
+                .search(search)
                 .title(title)
                 .platform(platform)
                 .genre(genre)
                 .developer(developer)
+                .match(match)
                 .releaseDate(releaseDate)
                 .createdAt(createdAt)
                 .from(from)
@@ -120,11 +138,17 @@ public class GameController implements GameRestApi {
 
         log.info("Listing games by criteria: {}", input);
         ListByCriteriaUseCase.Output output = listByCriteriaUseCase.execute(input);
-        return new ResponseEntity<>(output.getGames(), HttpStatus.OK);
+
+        HttpHeaders headers = new HttpHeaders();
+        if (output.getNextCursor() != null) {
+            headers.set(Constants.NEXT_CURSOR_HEADER, output.getNextCursor());
+        }
+
+        return new ResponseEntity<>(output.getGames(), headers, HttpStatus.OK);
     }
 
     @Override
-    public ResponseEntity<Game> update(String id, GameUpdate gameUpdate) {
+    public ResponseEntity<Game> update(UUID id, GameUpdate gameUpdate) {
         log.info("Updating game by ID: {}. Updating to: {}", id, gameUpdate);
         String jwt = httpServletRequest.getHeader("Authorization");
 
@@ -139,7 +163,7 @@ public class GameController implements GameRestApi {
     }
 
     @Override
-    public ResponseEntity<Void> delete(String id) {
+    public ResponseEntity<Void> delete(UUID id) {
         log.info("Deleting game by ID: {}", id);
         String jwt = httpServletRequest.getHeader("Authorization");
 
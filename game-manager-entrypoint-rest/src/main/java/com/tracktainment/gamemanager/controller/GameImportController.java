@@ -0,0 +1,58 @@
+package com.tracktainment.gamemanager.controller;
+
+import com.tracktainment.gamemanager.api.GameImportRestApi;
+import com.tracktainment.gamemanager.domain.GameImport;
+import com.tracktainment.gamemanager.domain.GameImportFormat;
+import com.tracktainment.gamemanager.exception.ParameterValidationFailedException;
+import com.tracktainment.gamemanager.usecases.ImportGamesUseCase;
+import com.tracktainment.gamemanager.usecases.ListGameImportsUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@Validated
+@Slf4j
+public class GameImportController implements GameImportRestApi {
+
+    private final ImportGamesUseCase importGamesUseCase;
+    private final ListGameImportsUseCase listGameImportsUseCase;
+
+    @Override
+    public ResponseEntity<GameImport> importGames(String digitalUserId, String contentType, InputStream content) {
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        GameImportFormat format = Arrays.stream(GameImportFormat.values())
+                .filter(gameImportFormat ->
+                        mediaType.equalsTypeAndSubtype(MediaType.parseMediaType(gameImportFormat.getMediaType())))
+                .findFirst()
+                .orElseThrow(() -> new ParameterValidationFailedException(
+                        String.format("Invalid content type: '%s'.", contentType)
+                ));
+
+        log.info("Importing games of digital user {} from {} file", digitalUserId, format);
+        ImportGamesUseCase.Input input = ImportGamesUseCase.Input.builder()
+                .digitalUserId(digitalUserId)
+                .format(format)
+                .content(content)
+                .build();
+
+        ImportGamesUseCase.Output output = importGamesUseCase.execute(input);
+        return new ResponseEntity<>(output.getGameImport(), HttpStatus.CREATED);
+    }
+
+    @Override
+    public ResponseEntity<List<GameImport>> listGameImports() {
+        log.info("Listing game imports");
+        ListGameImportsUseCase.Output output = listGameImportsUseCase.execute();
+        return new ResponseEntity<>(output.getGameImports(), HttpStatus.OK);
+    }
+}
@@ -1,5 +1,6 @@
 package com.tracktainment.gamemanager.security.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.Customizer;
@@ -11,6 +12,10 @@ import org.springframework.security.web.SecurityFilterChain;
 @EnableWebSecurity
 public class SecurityConfig {
 
+    // Authority granted from the scopes of the JWT (i.e. SCOPE_<scope>) that admin endpoints require
+    @Value("${security.admin-authority:SCOPE_game-manager.admin}")
+    private String adminAuthority;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http.authorizeHttpRequests(auth -> auth
@@ -22,6 +27,8 @@ public class SecurityConfig {
                                 "/api-docs/**"
                         )
                         .permitAll()
+                        .requestMatchers("/api/v1/admin/**")
+                        .hasAuthority(adminAuthority)
                         .anyRequest()
                         .authenticated())
                 .oauth2ResourceServer(oauth2 -> oauth2.jwt(Customizer.withDefaults()));
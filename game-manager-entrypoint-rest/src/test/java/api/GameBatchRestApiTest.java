@@ -0,0 +1,234 @@
+package api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tracktainment.gamemanager.controller.GameBatchController;
+import com.tracktainment.gamemanager.domain.Game;
+import com.tracktainment.gamemanager.dto.GameCreate;
+import com.tracktainment.gamemanager.exception.ExceptionDto;
+import com.tracktainment.gamemanager.exception.ResourceAlreadyExistsException;
+import com.tracktainment.gamemanager.exception.RestExceptionHandler;
+import com.tracktainment.gamemanager.mapper.ExceptionMapperEntryPoint;
+import com.tracktainment.gamemanager.usecases.CreateManyUseCase;
+import com.tracktainment.gamemanager.usecases.ExportUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import testutil.TestGameDataUtil;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+import static org.springframework.security.config.Customizer.withDefaults;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(SpringExtension.class)
+@WebMvcTest(controllers = GameBatchController.class)
+@AutoConfigureMockMvc
+@ContextConfiguration(classes = {
+        GameBatchRestApiTest.TestSecurityConfig.class,
+        GameBatchController.class,
+        RestExceptionHandler.class
+})
+class GameBatchRestApiTest {
+
+    @Configuration
+    @EnableWebSecurity
+    static class TestSecurityConfig {
+
+        @Bean
+        public JwtDecoder jwtDecoder() {
+            return mock(JwtDecoder.class);
+        }
+
+        @Bean
+        public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+            http.authorizeHttpRequests(auth -> auth
+                            .anyRequest().authenticated())
+                    .oauth2ResourceServer(oauth2 -> oauth2.jwt(withDefaults()))
+                    .csrf(AbstractHttpConfigurer::disable);
+            return http.build();
+        }
+
+        @Bean("gameExportExecutor")
+        public AsyncTaskExecutor gameExportExecutor() {
+            return new SimpleAsyncTaskExecutor("game-export-");
+        }
+
+        @Bean
+        public ExceptionMapperEntryPoint exceptionMapperEntryPoint() {
+            return new ExceptionMapperEntryPoint() {
+                @Override
+                public ExceptionDto toExceptionDto(com.tracktainment.gamemanager.exception.BusinessException e) {
+                    return ExceptionDto.builder()
+                            .code(e.getCode())
+                            .httpStatusCode(e.getHttpStatusCode())
+                            .reason(e.getReason())
+                            .message(e.getMessage())
+                            .build();
+                }
+            };
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private CreateManyUseCase createManyUseCase;
+
+    @MockBean
+    private ExportUseCase exportUseCase;
+
+    private GameCreate gameCreate;
+    private GameCreate otherGameCreate;
+    private Game game;
+
+    @BeforeEach
+    void setUp() {
+        gameCreate = TestGameDataUtil.createTestGameCreate();
+        otherGameCreate = GameCreate.builder()
+                .title("God of War")
+                .platform("PlayStation")
+                .build();
+        game = TestGameDataUtil.createTestGame();
+    }
+
+    @Test
+    @WithMockUser
+    void shouldCreateManyGamesSuccessfully() throws Exception {
+        // Arrange
+        when(createManyUseCase.execute(any(CreateManyUseCase.Input.class)))
+                .thenReturn(CreateManyUseCase.Output.builder().games(List.of(game)).build());
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/games:batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(gameCreate, otherGameCreate))))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].id").value(game.getId().toString()))
+                .andExpect(jsonPath("$[0].title").value(game.getTitle()));
+
+        verify(createManyUseCase).execute(argThat(input -> input.getGameCreates().size() == 2));
+    }
+
+    @Test
+    @WithMockUser
+    void shouldRejectRepeatedTitles() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/games:batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(gameCreate, gameCreate))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.httpStatusCode").value(400));
+
+        verify(createManyUseCase, never()).execute(any());
+    }
+
+    @Test
+    @WithMockUser
+    void shouldReturnConflictWhenAGameAlreadyExists() throws Exception {
+        // Arrange
+        when(createManyUseCase.execute(any(CreateManyUseCase.Input.class)))
+                .thenThrow(new ResourceAlreadyExistsException(Game.class, gameCreate.getTitle()));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/games:batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(gameCreate))))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @WithMockUser
+    void shouldHandleValidationErrors() throws Exception {
+        // Arrange - an empty batch and a game with an invalid title
+        GameCreate invalidGame = GameCreate.builder()
+                .title("")
+                .platform("PlayStation 5")
+                .build();
+
+        // Act & Assert - validation errors are returned as 500 by the current implementation
+        mockMvc.perform(post("/api/v1/games:batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().is5xxServerError());
+        mockMvc.perform(post("/api/v1/games:batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(gameCreate, invalidGame))))
+                .andExpect(status().is5xxServerError());
+
+        verify(createManyUseCase, never()).execute(any());
+    }
+
+    @Test
+    void shouldReturnUnauthorizedWithoutAuthentication() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/games:batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(gameCreate))))
+                .andExpect(status().isUnauthorized());
+
+        verify(createManyUseCase, never()).execute(any());
+    }
+
+    @Test
+    @WithMockUser
+    void shouldStreamExportedGames() throws Exception {
+        // Arrange
+        doAnswer(invocation -> {
+            ExportUseCase.Input input = invocation.getArgument(0);
+            input.getGameConsumer().accept(game);
+            input.getGameConsumer().accept(game);
+            return null;
+        }).when(exportUseCase).execute(any(ExportUseCase.Input.class));
+
+        // Act
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/games:export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        String expectedLine = objectMapper.writeValueAsString(game) + "\n";
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(expectedLine + expectedLine));
+    }
+
+    @Test
+    void shouldReturnUnauthorizedForExportWithoutAuthentication() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/games:export"))
+                .andExpect(status().isUnauthorized());
+
+        verify(exportUseCase, never()).execute(any());
+    }
+}
@@ -0,0 +1,194 @@
+package api;
+
+import com.tracktainment.gamemanager.controller.GameImportController;
+import com.tracktainment.gamemanager.domain.GameImport;
+import com.tracktainment.gamemanager.domain.GameImportFormat;
+import com.tracktainment.gamemanager.domain.GameImportStatus;
+import com.tracktainment.gamemanager.exception.ExceptionDto;
+import com.tracktainment.gamemanager.exception.RestExceptionHandler;
+import com.tracktainment.gamemanager.mapper.ExceptionMapperEntryPoint;
+import com.tracktainment.gamemanager.security.config.SecurityConfig;
+import com.tracktainment.gamemanager.usecases.ImportGamesUseCase;
+import com.tracktainment.gamemanager.usecases.ListGameImportsUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(SpringExtension.class)
+@WebMvcTest(controllers = GameImportController.class)
+@AutoConfigureMockMvc
+@ContextConfiguration(classes = {
+        GameImportRestApiTest.TestConfig.class,
+        SecurityConfig.class,
+        GameImportController.class,
+        RestExceptionHandler.class
+})
+class GameImportRestApiTest {
+
+    private static final String ADMIN_AUTHORITY = "SCOPE_game-manager.admin";
+    private static final String DIGITAL_USER_ID = "123e4567-e89b-12d3-a456-426614174001";
+
+    @Configuration
+    static class TestConfig {
+
+        @Bean
+        public JwtDecoder jwtDecoder() {
+            return mock(JwtDecoder.class);
+        }
+
+        @Bean
+        public ExceptionMapperEntryPoint exceptionMapperEntryPoint() {
+            return new ExceptionMapperEntryPoint() {
+                @Override
+                public ExceptionDto toExceptionDto(com.tracktainment.gamemanager.exception.BusinessException e) {
+                    return ExceptionDto.builder()
+                            .code(e.getCode())
+                            .httpStatusCode(e.getHttpStatusCode())
+                            .reason(e.getReason())
+                            .message(e.getMessage())
+                            .build();
+                }
+            };
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ImportGamesUseCase importGamesUseCase;
+
+    @MockBean
+    private ListGameImportsUseCase listGameImportsUseCase;
+
+    private GameImport gameImport;
+
+    @BeforeEach
+    void setUp() {
+        gameImport = GameImport.builder()
+                .id("123e4567-e89b-12d3-a456-426614174000")
+                .format(GameImportFormat.NDJSON)
+                .status(GameImportStatus.COMPLETED)
+                .read(2)
+                .imported(1)
+                .rejected(1)
+                .rejections(List.of("Record 2: 'title' is mandatory."))
+                .startedAt(LocalDateTime.now())
+                .finishedAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    void shouldImportGamesStreamedFromTheRequestBody() throws Exception {
+        // Arrange
+        String ndjson = """
+                {"title":"The Last of Us Part II","platform":"PlayStation"}
+                {"platform":"PlayStation"}
+                """;
+        ByteArrayOutputStream received = new ByteArrayOutputStream();
+        when(importGamesUseCase.execute(any(ImportGamesUseCase.Input.class))).thenAnswer(invocation -> {
+            ImportGamesUseCase.Input input = invocation.getArgument(0);
+            input.getContent().transferTo(received);
+            return ImportGamesUseCase.Output.builder().gameImport(gameImport).build();
+        });
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/admin/game-imports")
+                        .param("digitalUserId", DIGITAL_USER_ID)
+                        .with(jwt().authorities(() -> ADMIN_AUTHORITY))
+                        .with(csrf())
+                        .contentType("application/x-ndjson")
+                        .content(ndjson))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.rejections[0]").value("Record 2: 'title' is mandatory."));
+
+        verify(importGamesUseCase).execute(argThat(input ->
+                input.getFormat() == GameImportFormat.NDJSON && DIGITAL_USER_ID.equals(input.getDigitalUserId())));
+        assertEquals(ndjson, received.toString());
+    }
+
+    @Test
+    void shouldImportCsvGames() throws Exception {
+        // Arrange
+        when(importGamesUseCase.execute(any(ImportGamesUseCase.Input.class)))
+                .thenReturn(ImportGamesUseCase.Output.builder().gameImport(gameImport).build());
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/admin/game-imports")
+                        .param("digitalUserId", DIGITAL_USER_ID)
+                        .with(jwt().authorities(() -> ADMIN_AUTHORITY))
+                        .with(csrf())
+                        .contentType("text/csv; charset=UTF-8")
+                        .content("title,platform\nGod of War,PlayStation\n"))
+                .andExpect(status().isCreated());
+
+        verify(importGamesUseCase).execute(argThat(input -> input.getFormat() == GameImportFormat.CSV));
+    }
+
+    @Test
+    void shouldListGameImports() throws Exception {
+        // Arrange
+        when(listGameImportsUseCase.execute())
+                .thenReturn(ListGameImportsUseCase.Output.builder().gameImports(List.of(gameImport)).build());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/admin/game-imports")
+                        .with(jwt().authorities(() -> ADMIN_AUTHORITY)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(gameImport.getId()))
+                .andExpect(jsonPath("$[0].read").value(2));
+    }
+
+    @Test
+    void shouldReturnForbiddenWithoutAdminAuthority() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/admin/game-imports")
+                        .param("digitalUserId", DIGITAL_USER_ID)
+                        .with(jwt())
+                        .with(csrf())
+                        .contentType("application/x-ndjson")
+                        .content("{}"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/v1/admin/game-imports")
+                        .with(jwt()))
+                .andExpect(status().isForbidden());
+
+        verify(importGamesUseCase, never()).execute(any());
+    }
+
+    @Test
+    void shouldReturnUnauthorizedWithoutAuthentication() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/admin/game-imports"))
+                .andExpect(status().isUnauthorized());
+
+        verify(listGameImportsUseCase, never()).execute();
+    }
+}
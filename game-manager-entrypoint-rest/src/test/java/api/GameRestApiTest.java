@@ -10,6 +10,7 @@ import com.tracktainment.gamemanager.exception.ResourceNotFoundException;
 import com.tracktainment.gamemanager.exception.RestExceptionHandler;
 import com.tracktainment.gamemanager.mapper.ExceptionMapperEntryPoint;
 import com.tracktainment.gamemanager.usecases.*;
+import com.tracktainment.gamemanager.util.Constants;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -38,6 +39,7 @@ import java.util.List;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.config.Customizer.withDefaults;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -120,7 +122,7 @@ class GameRestApiTest {
         game = TestGameDataUtil.createTestGame();
 
         Game anotherGame = Game.builder()
-                .id(UUID.randomUUID().toString())
+                .id(UUID.randomUUID())
                 .title("God of War")
                 .platform("PlayStation 5")
                 .genre("Action Adventure")
@@ -148,7 +150,7 @@ class GameRestApiTest {
                         .content(objectMapper.writeValueAsString(gameCreate)))
                 .andExpect(status().isCreated())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$.id").value(game.getId()))
+                .andExpect(jsonPath("$.id").value(game.getId().toString()))
                 .andExpect(jsonPath("$.title").value(game.getTitle()))
                 .andExpect(jsonPath("$.platform").value(game.getPlatform()))
                 .andExpect(jsonPath("$.genre").value(game.getGenre()))
@@ -172,7 +174,7 @@ class GameRestApiTest {
         mockMvc.perform(get("/api/v1/games/{id}", game.getId()))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$.id").value(game.getId()))
+                .andExpect(jsonPath("$.id").value(game.getId().toString()))
                 .andExpect(jsonPath("$.title").value(game.getTitle()))
                 .andExpect(jsonPath("$.platform").value(game.getPlatform()))
                 .andExpect(jsonPath("$.genre").value(game.getGenre()))
@@ -186,7 +188,7 @@ class GameRestApiTest {
     void shouldReturnNotFoundWhenGameDoesNotExist() throws Exception {
         // Arrange
         when(findByIdUseCase.execute(any(FindByIdUseCase.Input.class)))
-                .thenThrow(new ResourceNotFoundException(Game.class, game.getId()));
+                .thenThrow(new ResourceNotFoundException(Game.class, game.getId().toString()));
 
         // Act & Assert
         mockMvc.perform(get("/api/v1/games/{id}", game.getId()))
@@ -198,6 +200,18 @@ class GameRestApiTest {
         verify(findByIdUseCase).execute(any(FindByIdUseCase.Input.class));
     }
 
+    @Test
+    @WithMockUser
+    void shouldReturnBadRequestWhenIdIsNotAUuid() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/games/{id}", "not-a-uuid"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.httpStatusCode").value(400))
+                .andExpect(jsonPath("$.message").value("'id' is invalid."));
+
+        verify(findByIdUseCase, never()).execute(any());
+    }
+
     @Test
     @WithMockUser
     void shouldListGamesByCriteriaSuccessfully() throws Exception {
@@ -217,13 +231,36 @@ class GameRestApiTest {
                         .param("orderDirectionList", "ASC"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$[0].id").value(game.getId()))
+                .andExpect(jsonPath("$[0].id").value(game.getId().toString()))
                 .andExpect(jsonPath("$[0].title").value(game.getTitle()))
                 .andExpect(jsonPath("$[1].title").value("God of War"));
 
         verify(listByCriteriaUseCase).execute(any(ListByCriteriaUseCase.Input.class));
     }
 
+    @Test
+    @WithMockUser
+    void shouldPassCursorAndReturnNextCursorHeader() throws Exception {
+        // Arrange
+        ListByCriteriaUseCase.Output output = ListByCriteriaUseCase.Output.builder()
+                .games(games)
+                .nextCursor("eyJpIjo4fQ")
+                .build();
+
+        when(listByCriteriaUseCase.execute(any(ListByCriteriaUseCase.Input.class)))
+                .thenReturn(output);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/games")
+                        .param("limit", "2")
+                        .param("cursor", "eyJpIjo3fQ"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(Constants.NEXT_CURSOR_HEADER, "eyJpIjo4fQ"))
+                .andExpect(jsonPath("$[0].id").value(game.getId().toString()));
+
+        verify(listByCriteriaUseCase).execute(argThat(input -> "eyJpIjo3fQ".equals(input.getCursor())));
+    }
+
     @Test
     @WithMockUser
     void shouldUpdateGameSuccessfully() throws Exception {
@@ -250,7 +287,7 @@ class GameRestApiTest {
                         .content(objectMapper.writeValueAsString(gameUpdate)))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$.id").value(game.getId()))
+                .andExpect(jsonPath("$.id").value(game.getId().toString()))
                 .andExpect(jsonPath("$.title").value(gameUpdate.getTitle()))
                 .andExpect(jsonPath("$.genre").value(gameUpdate.getGenre()));
 
@@ -315,7 +352,7 @@ class GameRestApiTest {
                         .param("title", "Last of Us"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$[0].id").value(game.getId()))
+                .andExpect(jsonPath("$[0].id").value(game.getId().toString()))
                 .andExpect(jsonPath("$[0].title").value(game.getTitle()));
 
         verify(listByCriteriaUseCase).execute(any(ListByCriteriaUseCase.Input.class));
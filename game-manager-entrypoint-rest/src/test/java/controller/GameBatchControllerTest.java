@@ -0,0 +1,202 @@
+package controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.tracktainment.gamemanager.controller.GameBatchController;
+import com.tracktainment.gamemanager.domain.Game;
+import com.tracktainment.gamemanager.dto.GameCreate;
+import com.tracktainment.gamemanager.exception.ParameterValidationFailedException;
+import com.tracktainment.gamemanager.usecases.CreateManyUseCase;
+import com.tracktainment.gamemanager.usecases.ExportUseCase;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import testutil.TestGameDataUtil;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GameBatchControllerTest {
+
+    @Mock
+    private CreateManyUseCase createManyUseCase;
+
+    @Mock
+    private ExportUseCase exportUseCase;
+
+    @Mock
+    private HttpServletRequest httpServletRequest;
+
+    @Mock
+    private AsyncTaskExecutor gameExportExecutor;
+
+    @Spy
+    private ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    @InjectMocks
+    private GameBatchController gameBatchController;
+
+    private GameCreate gameCreate;
+    private Game game;
+    private String jwt;
+
+    @BeforeEach
+    void setUp() {
+        gameCreate = TestGameDataUtil.createTestGameCreate();
+        game = TestGameDataUtil.createTestGame();
+        jwt = "Bearer token";
+
+        lenient().when(httpServletRequest.getHeader("Authorization")).thenReturn(jwt);
+        ReflectionTestUtils.setField(gameBatchController, "gameExportTimeout", Duration.ofHours(1));
+    }
+
+    @Test
+    void shouldCreateManyGamesSuccessfully() {
+        // Arrange
+        GameCreate otherGameCreate = GameCreate.builder()
+                .title("God of War")
+                .platform("PlayStation 5")
+                .build();
+        List<GameCreate> gameCreates = List.of(gameCreate, otherGameCreate);
+
+        when(createManyUseCase.execute(any(CreateManyUseCase.Input.class)))
+                .thenReturn(CreateManyUseCase.Output.builder().games(List.of(game)).build());
+
+        // Act
+        ResponseEntity<List<Game>> response = gameBatchController.createMany(gameCreates);
+
+        // Assert
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertEquals(List.of(game), response.getBody());
+
+        verify(createManyUseCase).execute(
+                CreateManyUseCase.Input.builder()
+                        .jwt(jwt)
+                        .gameCreates(gameCreates)
+                        .build()
+        );
+    }
+
+    @Test
+    void shouldThrowParameterValidationFailedExceptionWhenTitleIsRepeated() {
+        // Arrange
+        List<GameCreate> gameCreates = List.of(gameCreate, gameCreate);
+
+        // Act & Assert
+        ParameterValidationFailedException exception = assertThrows(
+                ParameterValidationFailedException.class,
+                () -> gameBatchController.createMany(gameCreates)
+        );
+
+        assertTrue(exception.getMessage().contains(gameCreate.getTitle()));
+        verifyNoInteractions(createManyUseCase);
+    }
+
+    @Test
+    void shouldExportOnTheExportExecutorWithTheExportTimeout() {
+        // Act
+        WebAsyncTask<Void> webAsyncTask = gameBatchController.export(new MockHttpServletResponse());
+
+        // Assert
+        assertSame(gameExportExecutor, webAsyncTask.getExecutor());
+        assertEquals(Duration.ofHours(1).toMillis(), webAsyncTask.getTimeout());
+        verifyNoInteractions(exportUseCase);
+    }
+
+    @Test
+    void shouldExportGamesAsOneJsonGamePerLine() throws Exception {
+        // Arrange
+        Game otherGame = Game.builder()
+                .id(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"))
+                .title("God of War")
+                .platform("PlayStation 5")
+                .build();
+
+        doAnswer(invocation -> {
+            ExportUseCase.Input input = invocation.getArgument(0);
+            input.getGameConsumer().accept(game);
+            input.getGameConsumer().accept(otherGame);
+            return null;
+        }).when(exportUseCase).execute(any(ExportUseCase.Input.class));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        gameBatchController.export(response).getCallable().call();
+
+        // Assert
+        assertEquals(HttpStatus.OK.value(), response.getStatus());
+        assertEquals(MediaType.APPLICATION_NDJSON_VALUE, response.getContentType());
+
+        String[] lines = response.getContentAsString(StandardCharsets.UTF_8).split("\n", -1);
+        assertEquals(3, lines.length);
+        assertEquals(game, objectMapper.readValue(lines[0], Game.class));
+        assertEquals(otherGame, objectMapper.readValue(lines[1], Game.class));
+        assertEquals("", lines[2]);
+
+        verify(exportUseCase).execute(argThat(input -> jwt.equals(input.getJwt())));
+    }
+
+    @Test
+    void shouldStopExportWhenTheClientGoesAway() {
+        // Arrange
+        doAnswer(invocation -> {
+            ExportUseCase.Input input = invocation.getArgument(0);
+            input.getGameConsumer().accept(game);
+            return null;
+        }).when(exportUseCase).execute(any(ExportUseCase.Input.class));
+
+        MockHttpServletResponse closedResponse = new MockHttpServletResponse() {
+            @Override
+            public ServletOutputStream getOutputStream() {
+                return new ServletOutputStream() {
+                    @Override
+                    public boolean isReady() {
+                        return true;
+                    }
+
+                    @Override
+                    public void setWriteListener(WriteListener writeListener) {
+                    }
+
+                    @Override
+                    public void write(int b) throws IOException {
+                        throw new IOException("Broken pipe");
+                    }
+                };
+            }
+        };
+
+        // Act & Assert
+        Callable<Void> export = gameBatchController.export(closedResponse).getCallable();
+        IOException exception = assertThrows(IOException.class, export::call);
+        assertEquals("Broken pipe", exception.getMessage());
+    }
+}
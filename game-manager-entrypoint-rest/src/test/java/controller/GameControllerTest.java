@@ -4,9 +4,11 @@ import com.tracktainment.gamemanager.controller.GameController;
 import com.tracktainment.gamemanager.domain.Game;
 import com.tracktainment.gamemanager.domain.OrderBy;
 import com.tracktainment.gamemanager.domain.OrderDirection;
+import com.tracktainment.gamemanager.domain.TextMatch;
 import com.tracktainment.gamemanager.dto.GameCreate;
 import com.tracktainment.gamemanager.dto.GameUpdate;
 import com.tracktainment.gamemanager.exception.ParameterValidationFailedException;
+import com.tracktainment.gamemanager.util.Constants;
 import com.tracktainment.gamemanager.usecases.*;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
@@ -57,11 +59,11 @@ class GameControllerTest {
     private GameUpdate gameUpdate;
     private Game game;
     private String jwt;
-    private String gameId;
+    private UUID gameId;
 
     @BeforeEach
     void setUp() {
-        gameId = UUID.randomUUID().toString();
+        gameId = UUID.randomUUID();
         gameCreate = TestGameDataUtil.createTestGameCreate();
         gameUpdate = TestGameDataUtil.createTestGameUpdate();
         game = TestGameDataUtil.createTestGame();
@@ -125,8 +127,8 @@ class GameControllerTest {
 
         // Act
         ResponseEntity<List<Game>> response = gameController.listByCriteria(
-                0, 10, null, null, null, null, null,
-                null, null, null, null,
+                0, 10, null, null, null, null, null, null, null,
+                null, null, null, null, null,
                 Collections.singletonList(OrderBy.TITLE),
                 Collections.singletonList(OrderDirection.ASC)
         );
@@ -155,8 +157,8 @@ class GameControllerTest {
 
         // Act
         ResponseEntity<List<Game>> response = gameController.listByCriteria(
-                0, 10, null, null, null, null, null,
-                null, createdAt, LocalDate.now().minusDays(7), LocalDate.now(),
+                0, 10, null, null, null, null, null, null, null,
+                null, null, createdAt, LocalDate.now().minusDays(7), LocalDate.now(),
                 Collections.singletonList(OrderBy.TITLE),
                 Collections.singletonList(OrderDirection.ASC)
         );
@@ -195,8 +197,8 @@ class GameControllerTest {
 
         // Act
         ResponseEntity<List<Game>> response = gameController.listByCriteria(
-                0, 10, null, title, platform, genre, developer,
-                releaseDate, null, from, to,
+                0, 10, null, null, null, title, platform, genre, developer,
+                TextMatch.PREFIX, releaseDate, null, from, to,
                 Collections.singletonList(OrderBy.TITLE),
                 Collections.singletonList(OrderDirection.ASC)
         );
@@ -212,6 +214,7 @@ class GameControllerTest {
                         input.getPlatform().equals(platform) &&
                         input.getGenre().equals(genre) &&
                         input.getDeveloper().equals(developer) &&
+                        input.getMatch() == TextMatch.PREFIX &&
                         input.getReleaseDate().equals(releaseDate) &&
                         input.getFrom().equals(from) &&
                         input.getTo().equals(to)
@@ -232,8 +235,8 @@ class GameControllerTest {
 
         // Act
         ResponseEntity<List<Game>> response = gameController.listByCriteria(
-                0, 10, ids, null, null, null, null,
-                null, null, null, null,
+                0, 10, null, ids, null, null, null, null, null,
+                null, null, null, null, null,
                 Collections.singletonList(OrderBy.TITLE),
                 Collections.singletonList(OrderDirection.ASC)
         );
@@ -265,8 +268,8 @@ class GameControllerTest {
 
         // Act
         ResponseEntity<List<Game>> response = gameController.listByCriteria(
-                0, 10, null, null, null, null, null,
-                null, null, null, null,
+                0, 10, null, null, null, null, null, null, null,
+                null, null, null, null, null,
                 orderByList,
                 orderDirectionList
         );
@@ -292,8 +295,8 @@ class GameControllerTest {
         // Act & Assert
         assertThrows(ParameterValidationFailedException.class, () ->
                 gameController.listByCriteria(
-                        0, 10, null, null, null, null, null,
-                        null, null, null, null,
+                        0, 10, null, null, null, null, null, null, null,
+                        null, null, null, null, null,
                         orderByList, orderDirectionList
                 )
         );
@@ -310,8 +313,8 @@ class GameControllerTest {
         // Act & Assert
         assertThrows(ParameterValidationFailedException.class, () ->
                 gameController.listByCriteria(
-                        0, 10, null, null, null, null, null,
-                        null, null, from, to,
+                        0, 10, null, null, null, null, null, null, null,
+                        null, null, null, from, to,
                         Collections.singletonList(OrderBy.TITLE),
                         Collections.singletonList(OrderDirection.ASC)
                 )
@@ -336,8 +339,8 @@ class GameControllerTest {
 
         // Act
         ResponseEntity<List<Game>> response = gameController.listByCriteria(
-                0, 10, null, null, null, null, null,
-                null, createdAt, from, to,
+                0, 10, null, null, null, null, null, null, null,
+                null, null, createdAt, from, to,
                 Collections.singletonList(OrderBy.TITLE),
                 Collections.singletonList(OrderDirection.ASC)
         );
@@ -354,6 +357,85 @@ class GameControllerTest {
         ));
     }
 
+    @Test
+    void shouldReturnNextCursorHeaderWhenThereAreMoreGames() {
+        // Arrange
+        String cursor = "eyJpIjo3fQ";
+        ListByCriteriaUseCase.Output output = ListByCriteriaUseCase.Output.builder()
+                .games(Collections.singletonList(game))
+                .nextCursor("eyJpIjo4fQ")
+                .build();
+
+        when(listByCriteriaUseCase.execute(any(ListByCriteriaUseCase.Input.class)))
+                .thenReturn(output);
+
+        // Act
+        ResponseEntity<List<Game>> response = gameController.listByCriteria(
+                0, 1, cursor, null, null, null, null, null, null,
+                null, null, null, null, null,
+                Collections.singletonList(OrderBy.TITLE),
+                Collections.singletonList(OrderDirection.ASC)
+        );
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("eyJpIjo4fQ", response.getHeaders().getFirst(Constants.NEXT_CURSOR_HEADER));
+        verify(listByCriteriaUseCase).execute(argThat(input -> cursor.equals(input.getCursor())));
+    }
+
+    @Test
+    void shouldThrowExceptionWhenOffsetIsCombinedWithCursor() {
+        // Act & Assert
+        assertThrows(ParameterValidationFailedException.class, () ->
+                gameController.listByCriteria(
+                        10, 10, "eyJpIjo3fQ", null, null, null, null, null, null,
+                        null, null, null, null, null,
+                        Collections.singletonList(OrderBy.TITLE),
+                        Collections.singletonList(OrderDirection.ASC)
+                )
+        );
+
+        verify(listByCriteriaUseCase, never()).execute(any());
+    }
+
+    @Test
+    void shouldPassSearchToUseCase() {
+        // Arrange
+        ListByCriteriaUseCase.Output output = ListByCriteriaUseCase.Output.builder()
+                .games(Collections.singletonList(game))
+                .build();
+
+        when(listByCriteriaUseCase.execute(any(ListByCriteriaUseCase.Input.class)))
+                .thenReturn(output);
+
+        // Act
+        ResponseEntity<List<Game>> response = gameController.listByCriteria(
+                0, 10, null, null, "last of us", null, null, null, null,
+                null, null, null, null, null,
+                Collections.singletonList(OrderBy.TITLE),
+                Collections.singletonList(OrderDirection.ASC)
+        );
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(listByCriteriaUseCase).execute(argThat(input -> "last of us".equals(input.getSearch())));
+    }
+
+    @Test
+    void shouldThrowExceptionWhenSearchIsCombinedWithCursor() {
+        // Act & Assert
+        assertThrows(ParameterValidationFailedException.class, () ->
+                gameController.listByCriteria(
+                        0, 10, "eyJpIjo3fQ", null, "last of us", null, null, null, null,
+                        null, null, null, null, null,
+                        Collections.singletonList(OrderBy.TITLE),
+                        Collections.singletonList(OrderDirection.ASC)
+                )
+        );
+
+        verify(listByCriteriaUseCase, never()).execute(any());
+    }
+
     @Test
     void shouldUpdateGameSuccessfully() {
         // Arrange
@@ -0,0 +1,100 @@
+package controller;
+
+import com.tracktainment.gamemanager.controller.GameImportController;
+import com.tracktainment.gamemanager.domain.GameImport;
+import com.tracktainment.gamemanager.domain.GameImportFormat;
+import com.tracktainment.gamemanager.domain.GameImportStatus;
+import com.tracktainment.gamemanager.exception.ParameterValidationFailedException;
+import com.tracktainment.gamemanager.usecases.ImportGamesUseCase;
+import com.tracktainment.gamemanager.usecases.ListGameImportsUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GameImportControllerTest {
+
+    private static final String DIGITAL_USER_ID = "123e4567-e89b-12d3-a456-426614174001";
+
+    @Mock
+    private ImportGamesUseCase importGamesUseCase;
+
+    @Mock
+    private ListGameImportsUseCase listGameImportsUseCase;
+
+    @InjectMocks
+    private GameImportController gameImportController;
+
+    private GameImport gameImport;
+    private InputStream content;
+
+    @BeforeEach
+    void setUp() {
+        gameImport = GameImport.builder()
+                .id("123e4567-e89b-12d3-a456-426614174000")
+                .format(GameImportFormat.NDJSON)
+                .status(GameImportStatus.COMPLETED)
+                .build();
+        content = new ByteArrayInputStream(new byte[0]);
+    }
+
+    @Test
+    void shouldImportGamesInTheFormatOfTheContentType() {
+        // Arrange
+        when(importGamesUseCase.execute(any(ImportGamesUseCase.Input.class)))
+                .thenReturn(ImportGamesUseCase.Output.builder().gameImport(gameImport).build());
+
+        // Act
+        ResponseEntity<GameImport> response =
+                gameImportController.importGames(DIGITAL_USER_ID, "application/x-ndjson; charset=UTF-8", content);
+
+        // Assert
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertEquals(gameImport, response.getBody());
+
+        ArgumentCaptor<ImportGamesUseCase.Input> inputCaptor = ArgumentCaptor.forClass(ImportGamesUseCase.Input.class);
+        verify(importGamesUseCase).execute(inputCaptor.capture());
+        assertEquals(DIGITAL_USER_ID, inputCaptor.getValue().getDigitalUserId());
+        assertEquals(GameImportFormat.NDJSON, inputCaptor.getValue().getFormat());
+        assertSame(content, inputCaptor.getValue().getContent());
+    }
+
+    @Test
+    void shouldRejectUnsupportedContentType() {
+        // Act & Assert
+        assertThrows(
+                ParameterValidationFailedException.class,
+                () -> gameImportController.importGames(DIGITAL_USER_ID, "application/json", content)
+        );
+
+        verify(importGamesUseCase, never()).execute(any());
+    }
+
+    @Test
+    void shouldListGameImports() {
+        // Arrange
+        when(listGameImportsUseCase.execute())
+                .thenReturn(ListGameImportsUseCase.Output.builder().gameImports(List.of(gameImport)).build());
+
+        // Act
+        ResponseEntity<List<GameImport>> response = gameImportController.listGameImports();
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(List.of(gameImport), response.getBody());
+    }
+}